@@ -0,0 +1,164 @@
+package com.omori.taskmanagement.benchmark;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+/**
+ * Insert throughput of the two id strategies against a real PostgreSQL database: {@code IDENTITY},
+ * which makes Hibernate insert each row on persist to learn its id, and the pooled-lo sequences
+ * the entities use now, which let the inserts go out as JDBC batches on flush.
+ *
+ * <p>Both strategies run through Hibernate with the application's batching settings
+ * ({@code batch_size} 50, ordered inserts, pooled-lo optimizer) on two scratch tables that are
+ * created at setup and dropped at teardown. Every invocation is rolled back.</p>
+ *
+ * <p>The rows stand in for the subtasks written by {@code addSubtasksToTask} and for activity-log
+ * entries. The real {@code Subtask} and {@code ActivityLog} mappings only exist with the sequence
+ * strategy now, so the IDENTITY baseline cannot be taken through them; the scratch tables keep the
+ * two strategies comparable on identical rows.</p>
+ *
+ * <p>Needs a database: run with {@code DB_URL}, {@code DB_USERNAME} and {@code DB_PASSWORD} set as
+ * for the dev profile, e.g. {@code mvn -Pbenchmark compile exec:exec -Djmh.args=InsertThroughput}.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InsertThroughputBenchmark {
+
+    @Param({"100", "1000"})
+    private int rows;
+
+    private SessionFactory sessionFactory;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(IdentityRow.class)
+                .addAnnotatedClass(SequenceRow.class)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL, env("DB_URL"))
+                .setProperty(AvailableSettings.JAKARTA_JDBC_USER, env("DB_USERNAME"))
+                .setProperty(AvailableSettings.JAKARTA_JDBC_PASSWORD, env("DB_PASSWORD"))
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, "50")
+                .setProperty(AvailableSettings.ORDER_INSERTS, "true")
+                .setProperty(AvailableSettings.PREFERRED_POOLED_OPTIMIZER, "pooled-lo")
+                .buildSessionFactory();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public int identity() {
+        return insertRolledBack(i -> new IdentityRow("row " + i, i, LocalDateTime.now()));
+    }
+
+    @Benchmark
+    public int pooledSequence() {
+        return insertRolledBack(i -> new SequenceRow("row " + i, i, LocalDateTime.now()));
+    }
+
+    private int insertRolledBack(IntFunction<Object> row) {
+        try (Session session = sessionFactory.openSession()) {
+            session.beginTransaction();
+            for (int i = 0; i < rows; i++) {
+                session.persist(row.apply(i));
+            }
+            session.flush();
+            session.getTransaction().rollback();
+        }
+        return rows;
+    }
+
+    private static String env(String name) {
+        String value = System.getProperty(name, System.getenv(name));
+        if (value == null) {
+            throw new IllegalStateException(name + " must be set to run " + InsertThroughputBenchmark.class.getSimpleName());
+        }
+        return value;
+    }
+
+    @Entity
+    @Table(name = "jmh_identity_rows")
+    public static class IdentityRow {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Long id;
+
+        @Column(nullable = false)
+        private String title;
+
+        @Column(name = "entity_id")
+        private long entityId;
+
+        @Column(name = "created_at")
+        private LocalDateTime createdAt;
+
+        protected IdentityRow() {
+        }
+
+        IdentityRow(String title, long entityId, LocalDateTime createdAt) {
+            this.title = title;
+            this.entityId = entityId;
+            this.createdAt = createdAt;
+        }
+    }
+
+    @Entity
+    @Table(name = "jmh_sequence_rows")
+    public static class SequenceRow {
+        @Id
+        @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "jmh_sequence_rows_seq")
+        @SequenceGenerator(name = "jmh_sequence_rows_seq", sequenceName = "jmh_sequence_rows_seq", allocationSize = 50)
+        private Long id;
+
+        @Column(nullable = false)
+        private String title;
+
+        @Column(name = "entity_id")
+        private long entityId;
+
+        @Column(name = "created_at")
+        private LocalDateTime createdAt;
+
+        protected SequenceRow() {
+        }
+
+        SequenceRow(String title, long entityId, LocalDateTime createdAt) {
+            this.title = title;
+            this.entityId = entityId;
+            this.createdAt = createdAt;
+        }
+    }
+}
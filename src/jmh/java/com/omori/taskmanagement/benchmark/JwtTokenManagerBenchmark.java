@@ -0,0 +1,99 @@
+package com.omori.taskmanagement.benchmark;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.omori.taskmanagement.model.usermgmt.Role;
+import com.omori.taskmanagement.model.usermgmt.User;
+import com.omori.taskmanagement.security.jwt.JwtProperties;
+import com.omori.taskmanagement.security.jwt.JwtTokenManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token signing and verification throughput: the previous per-call verifier construction
+ * against the reusable verifier, with and without the verified-token cache.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class JwtTokenManagerBenchmark {
+
+	private static final String SECRET = "benchmark-secret-key-with-enough-entropy-for-hs256";
+
+	private JwtTokenManager tokenManager;
+
+	private JwtTokenManager uncachedTokenManager;
+
+	private User user;
+
+	private String token;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+
+		final JwtProperties properties = properties(10_000);
+		tokenManager = new JwtTokenManager(properties);
+		// Cache size 0 disables the verified-token cache, so every call verifies the HMAC
+		uncachedTokenManager = new JwtTokenManager(properties(0));
+
+		final Role role = new Role();
+		role.setName("USER");
+		user = User.builder().username("benchmark-user").role(role).build();
+		token = tokenManager.generateToken(user);
+	}
+
+	@Benchmark
+	public String generateToken() {
+
+		return tokenManager.generateToken(user);
+	}
+
+	@Benchmark
+	public DecodedJWT verifyWithNewVerifierPerCall() {
+
+		final JWTVerifier verifier = JWT.require(Algorithm.HMAC256(SECRET.getBytes())).build();
+		return verifier.verify(token);
+	}
+
+	@Benchmark
+	public DecodedJWT verifyWithReusedVerifier() {
+
+		return uncachedTokenManager.verifyToken(token);
+	}
+
+	@Benchmark
+	public DecodedJWT verifyWithVerifiedTokenCache() {
+
+		return tokenManager.verifyToken(token);
+	}
+
+	private static JwtProperties properties(int verifiedTokenCacheSize) {
+
+		final JwtProperties properties = new JwtProperties();
+		properties.setIssuer("benchmark");
+		properties.setSecretKey(SECRET);
+		properties.setExpirationMinute(60);
+		properties.setVerificationKeys(Map.of());
+		properties.setVerifiedTokenCacheSize(verifiedTokenCacheSize);
+		return properties;
+	}
+}
@@ -0,0 +1,64 @@
+package com.omori.taskmanagement.benchmark;
+
+import com.omori.taskmanagement.model.project.Task;
+import com.omori.taskmanagement.utils.diff.ChangeSet;
+import com.omori.taskmanagement.utils.diff.ObjectDiffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Field diff of a task before and after a typical update (title, status and progress changed),
+ * as done for every audited update: the change set and the snapshot-based path used by the
+ * update audit.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ObjectDiffBenchmark {
+
+    private Task before;
+
+    private Task after;
+
+    private Object[] beforeImage;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Fixtures are deterministic, so two fresh instances build equal tasks
+        before = new TaskFixtures().task(Task.TaskType.STORY, null, 0);
+        after = new TaskFixtures().task(Task.TaskType.STORY, null, 0);
+        after.setTitle(before.getTitle() + " (renamed)");
+        after.setStatus(Task.TaskStatus.completed);
+        after.setProgress(100);
+        beforeImage = ObjectDiffer.snapshot(before);
+    }
+
+    @Benchmark
+    public ChangeSet diff() {
+        return ObjectDiffer.diff(before, after);
+    }
+
+    @Benchmark
+    public ChangeSet diffSnapshot() {
+        return ObjectDiffer.diffSnapshot(beforeImage, after);
+    }
+
+    @Benchmark
+    public Object[] snapshot() {
+        return ObjectDiffer.snapshot(before);
+    }
+}
@@ -0,0 +1,84 @@
+package com.omori.taskmanagement.benchmark;
+
+import com.omori.taskmanagement.config.RedisConfig;
+import com.omori.taskmanagement.dto.project.subtask.SubtaskResponse;
+import com.omori.taskmanagement.dto.project.task.TaskResponse;
+import com.omori.taskmanagement.model.project.Task;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Round trip of cached values through the value serializer configured in {@link RedisConfig}:
+ * a single task with its subtasks (task-details) and a list of tasks (tasks).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RedisSerializerBenchmark {
+
+    @Param({"20", "100"})
+    private int listSize;
+
+    private RedisSerializationContext.SerializationPair<Object> values;
+
+    private TaskResponse taskDetails;
+
+    private List<TaskResponse> taskList;
+
+    private ByteBuffer taskDetailsBytes;
+
+    private ByteBuffer taskListBytes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        values = new RedisConfig().cacheConfiguration().getValueSerializationPair();
+
+        TaskFixtures fixtures = new TaskFixtures();
+        TaskFixtures.EpicTree tree = fixtures.epicTree(1, listSize, 0);
+        taskDetails = TaskResponse.from(tree.epic());
+        taskDetails.setSubtasks(fixtures.subtasks(tree.epic(), 10).stream().map(SubtaskResponse::from).toList());
+        taskList = new ArrayList<>(tree.tasks().stream().map(TaskResponse::from).toList());
+
+        taskDetailsBytes = values.write(taskDetails);
+        taskListBytes = values.write(taskList);
+    }
+
+    @Benchmark
+    public ByteBuffer writeTaskDetails() {
+        return values.write(taskDetails);
+    }
+
+    @Benchmark
+    public Object readTaskDetails() {
+        return values.read(taskDetailsBytes.duplicate());
+    }
+
+    @Benchmark
+    public ByteBuffer writeTaskList() {
+        return values.write(taskList);
+    }
+
+    @Benchmark
+    public Object readTaskList() {
+        return values.read(taskListBytes.duplicate());
+    }
+}
@@ -0,0 +1,58 @@
+package com.omori.taskmanagement.benchmark;
+
+import com.omori.taskmanagement.dto.project.subtask.SubtaskResponse;
+import com.omori.taskmanagement.dto.project.task.TaskResponse;
+import com.omori.taskmanagement.model.project.Subtask;
+import com.omori.taskmanagement.model.project.Task;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to response mapping for a page of tasks and a task's subtasks.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseMappingBenchmark {
+
+    @Param({"20", "200"})
+    private int size;
+
+    private List<Task> tasks;
+
+    private List<Subtask> subtasks;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        TaskFixtures fixtures = new TaskFixtures();
+        TaskFixtures.EpicTree tree = fixtures.epicTree(1, size, 0);
+        tasks = tree.tasks();
+        subtasks = fixtures.subtasks(tree.epic(), size);
+    }
+
+    @Benchmark
+    public List<TaskResponse> taskResponseFrom() {
+        return tasks.stream().map(TaskResponse::from).toList();
+    }
+
+    @Benchmark
+    public List<SubtaskResponse> subtaskResponseFrom() {
+        return subtasks.stream().map(SubtaskResponse::from).toList();
+    }
+}
@@ -0,0 +1,100 @@
+package com.omori.taskmanagement.benchmark;
+
+import com.omori.taskmanagement.model.project.Category;
+import com.omori.taskmanagement.model.project.Subtask;
+import com.omori.taskmanagement.model.project.Task;
+import com.omori.taskmanagement.model.project.Workspace;
+import com.omori.taskmanagement.model.usermgmt.User;
+import com.omori.taskmanagement.utils.SortKeyUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Deterministic in-memory task trees for the benchmarks; nothing here touches a database.
+ */
+final class TaskFixtures {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+    private final User user = User.builder().id(1L).username("benchmark-user").build();
+    private final Category category = Category.builder().id(1L).name("Backlog").build();
+    private final Workspace workspace = Workspace.builder().id(1L).name("Benchmark").build();
+
+    private long nextTaskId = 1;
+    private long nextSubtaskId = 1;
+
+    /**
+     * An epic with {@code stories} stories of {@code tasksPerStory} tasks each; every node has
+     * {@code subtasksPerTask} subtasks, half of them completed.
+     */
+    EpicTree epicTree(int stories, int tasksPerStory, int subtasksPerTask) {
+        Task epic = task(Task.TaskType.EPIC, null, 0);
+        List<Task> all = new ArrayList<>();
+        List<Subtask> subtasks = new ArrayList<>();
+        all.add(epic);
+        subtasks.addAll(subtasks(epic, subtasksPerTask));
+        for (int i = 0; i < stories; i++) {
+            Task story = task(Task.TaskType.STORY, epic, i);
+            all.add(story);
+            subtasks.addAll(subtasks(story, subtasksPerTask));
+            for (int j = 0; j < tasksPerStory; j++) {
+                Task task = task(Task.TaskType.TASK, story, j);
+                all.add(task);
+                subtasks.addAll(subtasks(task, subtasksPerTask));
+            }
+        }
+        return new EpicTree(epic, all, subtasks);
+    }
+
+    Task task(Task.TaskType type, Task parent, int position) {
+        long id = nextTaskId++;
+        return Task.builder()
+                .id(id)
+                .uuid(new UUID(0L, id))
+                .title(type + " " + id)
+                .description("Description of " + type + " " + id)
+                .startDate(NOW)
+                .dueDate(NOW.plusDays(14))
+                .priority(Task.TaskPriority.medium)
+                .status(Task.TaskStatus.in_progress)
+                .estimatedHours(8.0)
+                .progress((int) (id % 101))
+                .category(category)
+                .user(user)
+                .assignedTo(user)
+                .workspace(workspace)
+                .parentTask(parent)
+                .taskType(type)
+                .sortOrder((position + 1) * SortKeyUtils.GAP)
+                .isRecurring(false)
+                .metadata(Map.of("source", "benchmark", "points", 3))
+                .createdAt(NOW)
+                .updatedAt(NOW)
+                .build();
+    }
+
+    List<Subtask> subtasks(Task task, int count) {
+        List<Subtask> subtasks = new ArrayList<>(count);
+        for (int k = 0; k < count; k++) {
+            subtasks.add(Subtask.builder()
+                    .id(nextSubtaskId++)
+                    .task(task)
+                    .title("Subtask " + k + " of " + task.getId())
+                    .description("")
+                    .isCompleted(k % 2 == 0)
+                    .completedAt(k % 2 == 0 ? NOW : null)
+                    .sortOrder((k + 1) * SortKeyUtils.GAP)
+                    .createdAt(NOW)
+                    .updatedAt(NOW)
+                    .build());
+        }
+        return subtasks;
+    }
+
+    record EpicTree(Task epic, List<Task> tasks, List<Subtask> subtasks) {
+    }
+}
@@ -0,0 +1,79 @@
+package com.omori.taskmanagement.benchmark;
+
+import com.omori.taskmanagement.dto.project.task.HierarchyEpicDto;
+import com.omori.taskmanagement.repository.project.SubtaskRepository;
+import com.omori.taskmanagement.repository.project.TaskRepository;
+import com.omori.taskmanagement.service.task.hierarchy.TaskHierarchyServiceImpl;
+import com.omori.taskmanagement.service.task.hierarchy.TaskHierarchyValidationService;
+import com.omori.taskmanagement.service.task.update.TaskProgressService;
+import com.omori.taskmanagement.service.task.utils.SortOrderService;
+import com.omori.taskmanagement.service.task.utils.TaskAccessControlService;
+import org.mockito.ArgumentMatchers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * In-memory assembly of {@link HierarchyEpicDto} by {@code getFullHierarchy}: grouping the
+ * flat task list by parent, mapping every node and attaching subtasks. Repositories are
+ * stub-only mocks returning prebuilt entities, so the numbers exclude the database.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskHierarchyBenchmark {
+
+    @Param({"5", "20"})
+    private int stories;
+
+    @Param({"10"})
+    private int tasksPerStory;
+
+    @Param({"5"})
+    private int subtasksPerTask;
+
+    private TaskHierarchyServiceImpl hierarchyService;
+
+    private Long epicId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        TaskFixtures.EpicTree tree = new TaskFixtures().epicTree(stories, tasksPerStory, subtasksPerTask);
+        epicId = tree.epic().getId();
+
+        TaskRepository taskRepository = mock(TaskRepository.class, withSettings().stubOnly());
+        SubtaskRepository subtaskRepository = mock(SubtaskRepository.class, withSettings().stubOnly());
+        when(taskRepository.findAllTasksUnderEpic(epicId)).thenReturn(tree.tasks());
+        when(subtaskRepository.findByTaskIdInAndDeletedAtIsNull(ArgumentMatchers.anyList()))
+                .thenReturn(tree.subtasks());
+
+        hierarchyService = new TaskHierarchyServiceImpl(taskRepository, subtaskRepository,
+                mock(TaskHierarchyValidationService.class, withSettings().stubOnly()),
+                mock(TaskProgressService.class, withSettings().stubOnly()),
+                mock(SortOrderService.class, withSettings().stubOnly()),
+                mock(TaskAccessControlService.class, withSettings().stubOnly()));
+    }
+
+    @Benchmark
+    public HierarchyEpicDto getFullHierarchy() {
+        return hierarchyService.getFullHierarchy(epicId, 1L);
+    }
+}
@@ -0,0 +1,105 @@
+package com.omori.taskmanagement.benchmark;
+
+import com.omori.taskmanagement.model.project.Subtask;
+import com.omori.taskmanagement.model.project.Task;
+import com.omori.taskmanagement.repository.project.TaskRepository;
+import com.omori.taskmanagement.service.subtask.SubTaskService;
+import com.omori.taskmanagement.service.task.update.TaskProgressServiceImpl;
+import com.omori.taskmanagement.service.task.utils.OptimisticLockSupport;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Progress calculation in {@link TaskProgressServiceImpl}: a task from its subtasks, and the
+ * epic roll-up from its own subtasks and its stories. Repositories are stub-only mocks, so
+ * the numbers cover the calculation and the service's call pattern, not the database.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskProgressBenchmark {
+
+    @Param({"10", "50"})
+    private int stories;
+
+    @Param({"20"})
+    private int subtasksPerTask;
+
+    private TaskProgressServiceImpl progressService;
+
+    private Task epic;
+
+    private Long epicId;
+
+    private Long taskId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        TaskFixtures.EpicTree tree = new TaskFixtures().epicTree(stories, 1, subtasksPerTask);
+        epic = tree.epic();
+        epicId = epic.getId();
+        taskId = tree.tasks().get(tree.tasks().size() - 1).getId();
+
+        Map<Long, List<Subtask>> subtasksByTask = tree.subtasks().stream()
+                .collect(Collectors.groupingBy(subtask -> subtask.getTask().getId()));
+        List<Task> storyList = tree.tasks().stream()
+                .filter(task -> task.getTaskType() == Task.TaskType.STORY)
+                .toList();
+
+        TaskRepository taskRepository = mock(TaskRepository.class, withSettings().stubOnly());
+        SubTaskService subTaskService = mock(SubTaskService.class, withSettings().stubOnly());
+        when(taskRepository.findById(epicId)).thenReturn(Optional.of(epic));
+        when(taskRepository.findByParentTaskIdAndTaskTypeAndDeletedAtIsNull(epicId, Task.TaskType.STORY))
+                .thenReturn(storyList);
+        when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        subtasksByTask.forEach((id, subtasks) -> when(subTaskService.getSubtasksByTaskId(id)).thenReturn(subtasks));
+
+        // Progress events have no listeners here; only their construction is measured
+        ApplicationEventPublisher eventPublisher = event -> { };
+
+        // The measured paths run in the caller's transaction; the rollup retry is not exercised
+        OptimisticLockSupport optimisticLockSupport = new OptimisticLockSupport(
+                mock(PlatformTransactionManager.class, withSettings().stubOnly()), new SimpleMeterRegistry());
+
+        progressService = new TaskProgressServiceImpl(taskRepository, subTaskService, eventPublisher,
+                optimisticLockSupport);
+    }
+
+    @Benchmark
+    public int calculateTaskProgress() {
+        return progressService.calculateTaskProgress(taskId);
+    }
+
+    @Benchmark
+    public Integer updateHierarchyProgress() {
+        progressService.updateHierarchyProgress(epicId);
+        return epic.getProgress();
+    }
+}
@@ -0,0 +1,72 @@
+package com.omori.taskmanagement.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Latencies of one scenario as recorded by one worker; not thread-safe. Workers keep their own
+ * recorders and the results are merged once the run is over, so recording never contends.
+ */
+final class LatencyRecorder {
+
+    private long[] nanos = new long[1_024];
+    private int count;
+    private long errors;
+    private long statements;
+    private long statementSamples;
+
+    void record(long elapsedNanos) {
+        if (count == nanos.length) {
+            nanos = Arrays.copyOf(nanos, count * 2);
+        }
+        nanos[count++] = elapsedNanos;
+    }
+
+    void recordError() {
+        errors++;
+    }
+
+    void recordStatements(long statementCount) {
+        statements += statementCount;
+        statementSamples++;
+    }
+
+    void merge(LatencyRecorder other) {
+        for (int i = 0; i < other.count; i++) {
+            record(other.nanos[i]);
+        }
+        errors += other.errors;
+        statements += other.statements;
+        statementSamples += other.statementSamples;
+    }
+
+    int count() {
+        return count;
+    }
+
+    long errors() {
+        return errors;
+    }
+
+    /**
+     * @return mean SQL statements per request, or -1 when the server did not report them
+     */
+    double meanStatements() {
+        return statementSamples == 0 ? -1 : (double) statements / statementSamples;
+    }
+
+    /**
+     * Percentiles in milliseconds (nearest rank); sorts the recorded values in place.
+     */
+    double[] percentilesMillis(double... percentiles) {
+        Arrays.sort(nanos, 0, count);
+        double[] result = new double[percentiles.length];
+        for (int i = 0; i < percentiles.length; i++) {
+            if (count == 0) {
+                continue;
+            }
+            int rank = (int) Math.ceil(percentiles[i] / 100.0 * count);
+            result[i] = nanos[Math.max(0, Math.min(count - 1, rank - 1))] / 1_000_000.0;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,297 @@
+package com.omori.taskmanagement.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Closed-loop HTTP load test against a running instance started with the {@code loadtest}
+ * profile. Logs in the users listed in the seeder's manifest, then runs {@code concurrency}
+ * workers on virtual threads for {@code duration}, each picking a user and a weighted scenario
+ * per request. Requests in the warm-up window are not recorded.
+ *
+ * <p>Prints throughput and p50/p90/p99 per scenario and writes the same figures as JSON.
+ * Settings are system properties: {@code loadtest.base-url}, {@code loadtest.manifest},
+ * {@code loadtest.concurrency}, {@code loadtest.duration}, {@code loadtest.warmup},
+ * {@code loadtest.result}.</p>
+ */
+public final class LoadTestClient {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final String[] SEARCH_KEYWORDS = {"billing", "login", "search", "report", "notification",
+            "onboarding", "dashboard", "audit", "cache", "sync"};
+
+    enum Scenario {
+        MY_TASKS("GET /api/v1/tasks/my", 35),
+        SEARCH("GET /api/v1/tasks/search", 20),
+        HIERARCHY("GET /api/v1/tasks/hierarchy/{taskId}", 20),
+        SUBTASK_TOGGLE("PATCH /api/v1/subtasks/{subtaskId}/toggle", 20),
+        CREATE_EPIC("POST /api/v1/tasks/createEpicWithInitStories", 5);
+
+        private final String route;
+        private final int weight;
+
+        Scenario(String route, int weight) {
+            this.route = route;
+            this.weight = weight;
+        }
+    }
+
+    private record SeededUser(String username, String token, List<Long> epicIds, List<Long> subtaskIds) {
+    }
+
+    private final HttpClient http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final String baseUrl;
+    private final int concurrency;
+    private final Duration duration;
+    private final Duration warmup;
+
+    private LoadTestClient(String baseUrl, int concurrency, Duration duration, Duration warmup) {
+        this.baseUrl = baseUrl;
+        this.concurrency = concurrency;
+        this.duration = duration;
+        this.warmup = warmup;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestClient client = new LoadTestClient(
+                System.getProperty("loadtest.base-url", "http://localhost:8080"),
+                Integer.getInteger("loadtest.concurrency", 32),
+                Duration.parse(System.getProperty("loadtest.duration", "PT60S")),
+                Duration.parse(System.getProperty("loadtest.warmup", "PT10S")));
+        File manifest = new File(System.getProperty("loadtest.manifest", "target/loadtest-dataset.json"));
+        File result = new File(System.getProperty("loadtest.result", "target/loadtest-result.json"));
+
+        List<SeededUser> users = client.login(MAPPER.readTree(manifest));
+        Map<Scenario, LatencyRecorder> recorders = client.run(users);
+        client.report(recorders, result);
+    }
+
+    private List<SeededUser> login(JsonNode manifest) throws IOException, InterruptedException {
+        String password = manifest.path("password").asText();
+        List<SeededUser> users = new ArrayList<>();
+        for (JsonNode user : manifest.path("users")) {
+            String username = user.path("username").asText();
+            String body = MAPPER.writeValueAsString(Map.of("username", username, "password", password));
+            HttpResponse<String> response = http.send(json(HttpRequest.newBuilder(uri("/api/v1/auth/login")))
+                    .POST(HttpRequest.BodyPublishers.ofString(body)).build(), HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Login failed for " + username + ": HTTP " + response.statusCode());
+            }
+            String token = MAPPER.readTree(response.body()).path("data").path("token").asText();
+            users.add(new SeededUser(username, token, longs(user.path("epicIds")), longs(user.path("subtaskIds"))));
+        }
+        System.out.printf("Logged in %d users%n", users.size());
+        return users;
+    }
+
+    private Map<Scenario, LatencyRecorder> run(List<SeededUser> users) throws Exception {
+        long start = System.nanoTime();
+        long recordFrom = start + warmup.toNanos();
+        long deadline = recordFrom + duration.toNanos();
+
+        List<Future<Map<Scenario, LatencyRecorder>>> workers = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                workers.add(executor.submit(() -> work(users, recordFrom, deadline)));
+            }
+        }
+
+        Map<Scenario, LatencyRecorder> merged = new EnumMap<>(Scenario.class);
+        for (Scenario scenario : Scenario.values()) {
+            merged.put(scenario, new LatencyRecorder());
+        }
+        for (Future<Map<Scenario, LatencyRecorder>> worker : workers) {
+            worker.get().forEach((scenario, recorder) -> merged.get(scenario).merge(recorder));
+        }
+        return merged;
+    }
+
+    private Map<Scenario, LatencyRecorder> work(List<SeededUser> users, long recordFrom, long deadline) {
+        Map<Scenario, LatencyRecorder> recorders = new EnumMap<>(Scenario.class);
+        for (Scenario scenario : Scenario.values()) {
+            recorders.put(scenario, new LatencyRecorder());
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (System.nanoTime() < deadline) {
+            SeededUser user = users.get(random.nextInt(users.size()));
+            Scenario scenario = pick(random);
+            HttpRequest request = request(scenario, user, random);
+            if (request == null) {
+                continue;
+            }
+            long sent = System.nanoTime();
+            boolean ok;
+            HttpResponse<Void> response = null;
+            try {
+                response = http.send(request, HttpResponse.BodyHandlers.discarding());
+                ok = response.statusCode() < 400;
+            } catch (IOException e) {
+                ok = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            long elapsed = System.nanoTime() - sent;
+            if (sent < recordFrom) {
+                continue;
+            }
+            LatencyRecorder recorder = recorders.get(scenario);
+            if (!ok) {
+                recorder.recordError();
+                continue;
+            }
+            recorder.record(elapsed);
+            response.headers().firstValueAsLong("X-Query-Count").ifPresent(recorder::recordStatements);
+        }
+        return recorders;
+    }
+
+    private HttpRequest request(Scenario scenario, SeededUser user, ThreadLocalRandom random) {
+        HttpRequest.Builder builder;
+        switch (scenario) {
+            case MY_TASKS -> builder = HttpRequest.newBuilder(uri("/api/v1/tasks/my?page="
+                    + random.nextInt(5) + "&size=20")).GET();
+            case SEARCH -> builder = HttpRequest.newBuilder(uri("/api/v1/tasks/search?keyword="
+                    + URLEncoder.encode(SEARCH_KEYWORDS[random.nextInt(SEARCH_KEYWORDS.length)],
+                    StandardCharsets.UTF_8) + "&size=20")).GET();
+            case HIERARCHY -> {
+                if (user.epicIds().isEmpty()) {
+                    return null;
+                }
+                builder = HttpRequest.newBuilder(uri("/api/v1/tasks/hierarchy/"
+                        + user.epicIds().get(random.nextInt(user.epicIds().size())))).GET();
+            }
+            case SUBTASK_TOGGLE -> {
+                if (user.subtaskIds().isEmpty()) {
+                    return null;
+                }
+                builder = HttpRequest.newBuilder(uri("/api/v1/subtasks/"
+                        + user.subtaskIds().get(random.nextInt(user.subtaskIds().size())) + "/toggle"))
+                        .method("PATCH", HttpRequest.BodyPublishers.noBody());
+            }
+            case CREATE_EPIC -> builder = json(HttpRequest.newBuilder(uri("/api/v1/tasks/createEpicWithInitStories")))
+                    .POST(HttpRequest.BodyPublishers.ofString(epicWithStories(random)));
+            default -> throw new IllegalStateException("Unknown scenario " + scenario);
+        }
+        return builder.header("Authorization", "Bearer " + user.token())
+                .timeout(Duration.ofSeconds(30))
+                .build();
+    }
+
+    private static String epicWithStories(ThreadLocalRandom random) {
+        LocalDateTime start = LocalDateTime.now().withNano(0);
+        List<Map<String, Object>> stories = new ArrayList<>();
+        for (int s = 0; s < 3; s++) {
+            List<Map<String, Object>> tasks = new ArrayList<>();
+            for (int t = 0; t < 2; t++) {
+                tasks.add(Map.of("title", "Load task " + s + "." + t,
+                        "subtasks", List.of("Step 1", "Step 2")));
+            }
+            stories.add(Map.of("title", "Load story " + s, "tasks", tasks));
+        }
+        Map<String, Object> epic = new LinkedHashMap<>();
+        epic.put("title", "Load epic " + random.nextInt(1_000_000));
+        epic.put("description", "Created by the load test");
+        epic.put("startDate", start.toString());
+        epic.put("dueDate", start.plusDays(30).toString());
+        epic.put("initialStories", stories);
+        try {
+            return MAPPER.writeValueAsString(epic);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void report(Map<Scenario, LatencyRecorder> recorders, File result) throws IOException {
+        double seconds = duration.toMillis() / 1000.0;
+        List<Map<String, Object>> rows = new ArrayList<>();
+        System.out.printf("%n%-48s %9s %7s %9s %9s %9s %9s %9s%n",
+                "scenario", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "stmts");
+        for (Scenario scenario : Scenario.values()) {
+            LatencyRecorder recorder = recorders.get(scenario);
+            double[] p = recorder.percentilesMillis(50, 90, 99, 100);
+            double throughput = recorder.count() / seconds;
+            System.out.printf("%-48s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.1f%n", scenario.route,
+                    recorder.count(), recorder.errors(), throughput, p[0], p[1], p[2], recorder.meanStatements());
+
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("scenario", scenario.name());
+            row.put("route", scenario.route);
+            row.put("requests", recorder.count());
+            row.put("errors", recorder.errors());
+            row.put("throughputPerSecond", throughput);
+            row.put("p50Millis", p[0]);
+            row.put("p90Millis", p[1]);
+            row.put("p99Millis", p[2]);
+            row.put("maxMillis", p[3]);
+            row.put("meanStatements", recorder.meanStatements());
+            rows.add(row);
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("baseUrl", baseUrl);
+        report.put("concurrency", concurrency);
+        report.put("durationSeconds", seconds);
+        report.put("scenarios", rows);
+        if (result.getParentFile() != null) {
+            result.getParentFile().mkdirs();
+        }
+        MAPPER.writer(SerializationFeature.INDENT_OUTPUT).writeValue(result, report);
+        System.out.printf("%nWrote %s%n", result.getAbsolutePath());
+    }
+
+    private Scenario pick(ThreadLocalRandom random) {
+        int total = 0;
+        for (Scenario scenario : Scenario.values()) {
+            total += scenario.weight;
+        }
+        int roll = random.nextInt(total);
+        for (Scenario scenario : Scenario.values()) {
+            roll -= scenario.weight;
+            if (roll < 0) {
+                return scenario;
+            }
+        }
+        return Scenario.MY_TASKS;
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    private static HttpRequest.Builder json(HttpRequest.Builder builder) {
+        return builder.header("Content-Type", "application/json");
+    }
+
+    private static List<Long> longs(JsonNode array) {
+        List<Long> values = new ArrayList<>();
+        array.forEach(node -> values.add(node.asLong()));
+        return values;
+    }
+}
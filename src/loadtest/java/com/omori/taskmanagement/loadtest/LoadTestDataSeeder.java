@@ -0,0 +1,275 @@
+package com.omori.taskmanagement.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.omori.taskmanagement.model.project.Task;
+import com.omori.taskmanagement.repository.project.TaskRepository;
+import com.omori.taskmanagement.utils.SortKeyUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Seeds Postgres with a production-shaped dataset for load tests and writes a manifest of the
+ * ids the load-test client needs.
+ *
+ * <p>Rows go through the real schema with plain JDBC batches: ids are taken from the tables' own
+ * sequences in pooled-lo blocks (the same allocation Hibernate uses), parents are written before
+ * children, and the per-parent sort counters are reset afterwards. Users that already exist are
+ * not seeded again, so restarting the app against the same database only rewrites the manifest.</p>
+ *
+ * <p>Compiled only by the Maven {@code loadtest} profile, which adds {@code src/loadtest} to the build, and
+ * active with the {@code loadtest} Spring profile; set {@code loadtest.seed.enabled=false} to skip.</p>
+ */
+@Slf4j
+@Component
+@Profile("loadtest")
+@ConditionalOnProperty(prefix = "loadtest.seed", name = "enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class LoadTestDataSeeder implements ApplicationRunner {
+
+    private static final short USER_ROLE_ID = 1;
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 6, 9, 0);
+
+    private static final String INSERT_PROFILE = "INSERT INTO user_mgmt.profiles "
+            + "(profile_id, first_name, last_name, timezone, status, created_at, updated_at) "
+            + "VALUES (?, ?, ?, 'UTC', 'offline'::user_mgmt.user_status, ?, ?)";
+    private static final String INSERT_USER = "INSERT INTO user_mgmt.users "
+            + "(user_id, uuid, username, email, password_hash, role_id, profile_id, is_active, is_verified, "
+            + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, true, true, ?, ?)";
+    private static final String INSERT_TASK = "INSERT INTO project.tasks "
+            + "(task_id, uuid, title, description, due_date, start_date, completed_at, priority, status, "
+            + "estimated_hours, progress, user_id, assigned_to, parent_task_id, sort_order, is_recurring, "
+            + "metadata, task_type, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?::project.task_priority, ?::project.task_status, ?, ?, ?, ?, ?, ?, "
+            + "false, '{}'::jsonb, ?, ?, ?)";
+    private static final String INSERT_SUBTASK = "INSERT INTO project.subtasks "
+            + "(subtask_id, task_id, title, description, is_completed, completed_at, sort_order, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String[] TITLE_WORDS = {"Refactor", "Implement", "Review", "Migrate", "Document",
+            "Optimize", "Design", "Deploy", "Investigate", "Test"};
+    private static final String[] TITLE_SUBJECTS = {"billing API", "login flow", "search index", "report export",
+            "notification service", "onboarding", "dashboard", "audit trail", "cache layer", "mobile sync"};
+
+    private final LoadTestProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final TaskRepository taskRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        long started = System.nanoTime();
+        int existing = countSeededUsers();
+        if (existing >= properties.getUsers()) {
+            log.info("Load-test dataset already present ({} users), skipping seeding", existing);
+        } else {
+            seed(existing);
+            log.info("Seeded load-test dataset in {}ms", (System.nanoTime() - started) / 1_000_000);
+        }
+        writeManifest();
+    }
+
+    /*
+    ========== SEEDING ==========
+    */
+
+    private void seed(int firstUser) {
+        String passwordHash = passwordEncoder.encode(properties.getPassword());
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        for (int u = firstUser; u < properties.getUsers(); u++) {
+            // Per-user generator, so adding users never changes the data of existing ones
+            Random userRandom = new Random(properties.getRandomSeed() * 31 + u);
+            int userIndex = u;
+            transaction.executeWithoutResult(status -> seedUser(userIndex, passwordHash, userRandom));
+            if ((u + 1) % 10 == 0) {
+                log.info("Seeded {}/{} load-test users", u + 1, properties.getUsers());
+            }
+        }
+    }
+
+    private void seedUser(int index, String passwordHash, Random random) {
+        IdAllocator profileIds = new IdAllocator("user_mgmt.profiles", "profile_id");
+        IdAllocator userIds = new IdAllocator("user_mgmt.users", "user_id");
+        IdAllocator taskIds = new IdAllocator("project.tasks", "task_id");
+        IdAllocator subtaskIds = new IdAllocator("project.subtasks", "subtask_id");
+
+        Timestamp now = Timestamp.valueOf(BASE_TIME);
+        long profileId = profileIds.next();
+        long userId = userIds.next();
+        String username = properties.getUsernamePrefix() + index;
+        jdbcTemplate.update(INSERT_PROFILE, profileId, "Load", "Test " + index, now, now);
+        jdbcTemplate.update(INSERT_USER, userId, new UUID(random.nextLong(), random.nextLong()), username, username + "@loadtest.local",
+                passwordHash, USER_ROLE_ID, profileId, now, now);
+
+        List<Object[]> tasks = new ArrayList<>();
+        List<Object[]> subtasks = new ArrayList<>();
+        List<Long> parentIds = new ArrayList<>();
+
+        for (int e = 0; e < properties.getEpicsPerUser(); e++) {
+            long epicId = taskIds.next();
+            parentIds.add(epicId);
+            tasks.add(taskRow(epicId, userId, null, Task.TaskType.EPIC, e, random));
+            for (int s = 0; s < properties.getStoriesPerEpic(); s++) {
+                long storyId = taskIds.next();
+                parentIds.add(storyId);
+                tasks.add(taskRow(storyId, userId, epicId, Task.TaskType.STORY, s, random));
+                for (int t = 0; t < properties.getTasksPerStory(); t++) {
+                    long taskId = taskIds.next();
+                    parentIds.add(taskId);
+                    tasks.add(taskRow(taskId, userId, storyId, Task.TaskType.TASK, t, random));
+                    addSubtasks(subtasks, subtaskIds, taskId, random);
+                }
+            }
+        }
+        for (int t = 0; t < properties.getStandaloneTasksPerUser(); t++) {
+            long taskId = taskIds.next();
+            parentIds.add(taskId);
+            tasks.add(taskRow(taskId, userId, null, Task.TaskType.TASK, t, random));
+            addSubtasks(subtasks, subtaskIds, taskId, random);
+        }
+
+        // Parents precede their children in the list, so batches satisfy the foreign keys in order
+        batchInsert(INSERT_TASK, tasks);
+        batchInsert(INSERT_SUBTASK, subtasks);
+        for (int from = 0; from < parentIds.size(); from += properties.getBatchSize()) {
+            taskRepository.resetSortSeqIn(parentIds.subList(from, Math.min(parentIds.size(), from + properties.getBatchSize())));
+        }
+    }
+
+    private Object[] taskRow(long id, long userId, Long parentId, Task.TaskType type, int position, Random random) {
+        LocalDateTime start = BASE_TIME.plusDays(random.nextInt(90));
+        LocalDateTime due = start.plusDays(1 + random.nextInt(30));
+        Task.TaskStatus status = pick(random, Task.TaskStatus.values());
+        Task.TaskPriority priority = pick(random, Task.TaskPriority.values());
+        int progress = status == Task.TaskStatus.completed ? 100 : random.nextInt(100);
+        String title = pick(random, TITLE_WORDS) + " " + pick(random, TITLE_SUBJECTS) + " #" + id;
+        Timestamp created = Timestamp.valueOf(start.minusDays(random.nextInt(14)));
+        return new Object[]{
+                id, new UUID(random.nextLong(), random.nextLong()), title, type + " generated for load testing",
+                Timestamp.valueOf(due), Timestamp.valueOf(start),
+                status == Task.TaskStatus.completed ? Timestamp.valueOf(due) : null,
+                priority.name(), status.name(), (double) (1 + random.nextInt(16)), progress,
+                userId, userId, parentId, (position + 1) * SortKeyUtils.GAP, type.name(), created, created
+        };
+    }
+
+    private void addSubtasks(List<Object[]> subtasks, IdAllocator subtaskIds, long taskId, Random random) {
+        Timestamp now = Timestamp.valueOf(BASE_TIME);
+        for (int k = 0; k < properties.getSubtasksPerTask(); k++) {
+            boolean completed = random.nextBoolean();
+            subtasks.add(new Object[]{
+                    subtaskIds.next(), taskId, "Step " + (k + 1) + " of task " + taskId, "",
+                    completed, completed ? now : null, (k + 1) * SortKeyUtils.GAP, now, now
+            });
+        }
+    }
+
+    private void batchInsert(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += properties.getBatchSize()) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(rows.size(), from + properties.getBatchSize())));
+        }
+    }
+
+    private static <T> T pick(Random random, T[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    /*
+    ========== MANIFEST ==========
+    */
+
+    private int countSeededUsers() {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM user_mgmt.users WHERE username LIKE ? AND deleted_at IS NULL",
+                Integer.class, properties.getUsernamePrefix() + "%");
+        return count != null ? count : 0;
+    }
+
+    private void writeManifest() throws IOException {
+        List<Map<String, Object>> users = new ArrayList<>();
+        jdbcTemplate.query("SELECT user_id, username FROM user_mgmt.users WHERE username LIKE ? "
+                        + "AND deleted_at IS NULL ORDER BY user_id",
+                rs -> {
+                    Map<String, Object> user = new LinkedHashMap<>();
+                    user.put("userId", rs.getLong("user_id"));
+                    user.put("username", rs.getString("username"));
+                    users.add(user);
+                },
+                properties.getUsernamePrefix() + "%");
+
+        for (Map<String, Object> user : users) {
+            Long userId = (Long) user.get("userId");
+            user.put("epicIds", jdbcTemplate.queryForList("SELECT task_id FROM project.tasks WHERE user_id = ? "
+                    + "AND task_type = 'EPIC' AND deleted_at IS NULL ORDER BY task_id", Long.class, userId));
+            user.put("subtaskIds", jdbcTemplate.queryForList("SELECT s.subtask_id FROM project.subtasks s "
+                            + "JOIN project.tasks t ON t.task_id = s.task_id WHERE t.user_id = ? "
+                            + "AND s.deleted_at IS NULL ORDER BY s.subtask_id LIMIT ?",
+                    Long.class, userId, properties.getManifestSubtasksPerUser()));
+        }
+
+        Map<String, Object> manifest = new LinkedHashMap<>();
+        manifest.put("password", properties.getPassword());
+        manifest.put("users", users);
+
+        Path path = Path.of(properties.getManifestPath());
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        objectMapper.writer(SerializationFeature.INDENT_OUTPUT).writeValue(path.toFile(), manifest);
+        log.info("Wrote load-test manifest for {} users to {}", users.size(), path.toAbsolutePath());
+    }
+
+    /**
+     * Hands out ids from a table's sequence in pooled-lo blocks: each {@code nextval} reserves
+     * {@code [value, value + increment - 1]}, matching the entity mappings.
+     */
+    private final class IdAllocator {
+
+        private final String sequence;
+        private final long increment;
+        private long next;
+        private long remaining;
+
+        IdAllocator(String table, String column) {
+            this.sequence = jdbcTemplate.queryForObject("SELECT pg_get_serial_sequence(?, ?)",
+                    String.class, table, column);
+            Long seqIncrement = jdbcTemplate.queryForObject(
+                    "SELECT seqincrement FROM pg_sequence WHERE seqrelid = ?::regclass", Long.class, sequence);
+            this.increment = seqIncrement != null ? seqIncrement : 1L;
+        }
+
+        long next() {
+            if (remaining == 0) {
+                Long blockStart = jdbcTemplate.queryForObject("SELECT nextval(?::regclass)", Long.class, sequence);
+                next = blockStart != null ? blockStart : 0L;
+                remaining = increment;
+            }
+            remaining--;
+            return next++;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.omori.taskmanagement.loadtest;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Shape of the dataset seeded by {@link LoadTestDataSeeder}. The defaults give 100 users with
+ * roughly 1,000 tasks and 3,000 subtasks each.
+ */
+@Getter
+@Setter
+@Configuration
+@Profile("loadtest")
+@ConfigurationProperties(prefix = "loadtest.seed")
+public class LoadTestProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Seed for the random generator; the same seed and sizes always produce the same data.
+     */
+    private long randomSeed = 42L;
+
+    private String usernamePrefix = "loadtest-user-";
+
+    /**
+     * Password of every seeded user; it is hashed once and shared.
+     */
+    private String password = "LoadTest@123";
+
+    private int users = 100;
+
+    private int epicsPerUser = 5;
+
+    private int storiesPerEpic = 5;
+
+    private int tasksPerStory = 6;
+
+    private int subtasksPerTask = 4;
+
+    /**
+     * Top-level TASK rows per user outside any epic, as created through the plain create endpoint.
+     */
+    private int standaloneTasksPerUser = 800;
+
+    /**
+     * Rows per JDBC batch and per transaction.
+     */
+    private int batchSize = 5_000;
+
+    /**
+     * Where the ids the load-test client needs (users, epics, subtasks) are written.
+     */
+    private String manifestPath = "target/loadtest-dataset.json";
+
+    /**
+     * Subtask ids per user listed in the manifest for the toggle scenario.
+     */
+    private int manifestSubtasksPerUser = 50;
+}
@@ -0,0 +1,103 @@
+package com.omori.taskmanagement.aspect;
+
+import com.omori.taskmanagement.utils.QueryStats;
+import com.omori.taskmanagement.utils.RequestContext;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Accumulates the time a request spends in controllers, services and repositories into the
+ * current {@link RequestContext}; RequestTimingFilter publishes the totals as phase timers.
+ *
+ * <p>Only the outermost call of each layer is timed, so a service calling another service is
+ * not counted twice. Phases are inclusive: controller time contains service time, which
+ * contains repository time.</p>
+ */
+@Aspect
+@Component
+@Slf4j
+public class PhaseTimingAspect {
+
+    public static final String CONTROLLER = "controller";
+    public static final String SERVICE = "service";
+    public static final String REPOSITORY = "repository";
+
+    private static final ThreadLocal<Map<String, Integer>> DEPTH = ThreadLocal.withInitial(HashMap::new);
+
+    @Pointcut("within(@org.springframework.web.bind.annotation.RestController *)")
+    public void controllerMethods() {}
+
+    @Pointcut("within(@org.springframework.stereotype.Service *) "
+            + "&& !within(com.omori.taskmanagement.security..*) && !within(jakarta.servlet.Filter+)")
+    public void serviceMethods() {}
+
+    @Pointcut("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public void repositoryMethods() {}
+
+    @Around("controllerMethods()")
+    public Object timeController(ProceedingJoinPoint joinPoint) throws Throwable {
+        try {
+            return time(CONTROLLER, joinPoint);
+        } finally {
+            RequestContext context = RequestContext.current();
+            if (context != null) {
+                context.handlerReturned();
+            }
+        }
+    }
+
+    @Around("serviceMethods()")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(SERVICE, joinPoint);
+    }
+
+    @Around("repositoryMethods()")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (RequestContext.current() == null) {
+            return joinPoint.proceed();
+        }
+        // Statements executed inside are attributed to the innermost repository method
+        String previous = QueryStats.enterRepository(repositoryMethodOf(joinPoint));
+        try {
+            return time(REPOSITORY, joinPoint);
+        } finally {
+            QueryStats.exitRepository(previous);
+        }
+    }
+
+    private static String repositoryMethodOf(ProceedingJoinPoint joinPoint) {
+        Class<?>[] interfaces = AopProxyUtils.proxiedUserInterfaces(joinPoint.getThis());
+        String repository = interfaces.length > 0
+                ? interfaces[0].getSimpleName()
+                : joinPoint.getSignature().getDeclaringType().getSimpleName();
+        return repository + "." + joinPoint.getSignature().getName();
+    }
+
+    private Object time(String phase, ProceedingJoinPoint joinPoint) throws Throwable {
+        RequestContext context = RequestContext.current();
+        if (context == null) {
+            return joinPoint.proceed();
+        }
+        Map<String, Integer> depth = DEPTH.get();
+        boolean outermost = depth.merge(phase, 1, Integer::sum) == 1;
+        long start = outermost ? System.nanoTime() : 0L;
+        try {
+            return joinPoint.proceed();
+        } finally {
+            if (depth.merge(phase, -1, Integer::sum) == 0) {
+                depth.remove(phase);
+            }
+            if (outermost) {
+                context.recordPhase(phase, System.nanoTime() - start);
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.omori.taskmanagement.config;
+
+import com.omori.taskmanagement.utils.RequestContext;
+import org.slf4j.MDC;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Map;
+
+/**
+ * Enables {@code @Async} and carries the caller's thread-bound state into async tasks.
+ *
+ * <p>Spring Boot applies the {@link TaskDecorator} bean to the application task executor in
+ * both platform- and virtual-thread mode. The {@link RequestContext}, security context and MDC are
+ * captured on submit and restored (then cleared) around the task, because each task runs on
+ * a different thread than the request that scheduled it.</p>
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfiguration {
+
+    @Bean
+    public TaskDecorator requestContextTaskDecorator() {
+        return task -> {
+            RequestContext requestContext = RequestContext.current();
+            SecurityContext securityContext = SecurityContextHolder.getContext();
+            Map<String, String> mdc = MDC.getCopyOfContextMap();
+            return () -> {
+                SecurityContextHolder.setContext(securityContext);
+                if (mdc != null) {
+                    MDC.setContextMap(mdc);
+                }
+                try (RequestContext.Scope ignored = RequestContext.open(requestContext)) {
+                    task.run();
+                } finally {
+                    SecurityContextHolder.clearContext();
+                    MDC.clear();
+                }
+            };
+        };
+    }
+}
@@ -0,0 +1,35 @@
+package com.omori.taskmanagement.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.attachments")
+public class AttachmentProperties {
+
+    /**
+     * Attachment store implementation; {@code local} keeps files under {@link #root}.
+     */
+    private String store = "local";
+
+    /**
+     * Directory of the local store. Uploads are staged in its {@code tmp} subdirectory so they
+     * can be moved into place atomically.
+     */
+    private String root = "./data/attachments";
+
+    /**
+     * Uploads larger than this are rejected, before reading when the request declares its length.
+     */
+    private DataSize maxFileSize = DataSize.ofMegabytes(100);
+
+    /**
+     * Direct buffer used per upload; uploads never hold more than this in memory.
+     */
+    private DataSize bufferSize = DataSize.ofKilobytes(64);
+}
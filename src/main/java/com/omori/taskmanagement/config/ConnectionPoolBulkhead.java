@@ -0,0 +1,101 @@
+package com.omori.taskmanagement.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Caps the number of threads that can hold or wait inside the connection pool.
+ *
+ * <p>With virtual threads there is no request-thread limit any more, so thousands of requests
+ * can reach Hikari at once. A fair {@link Semaphore} sized to the pool lets the surplus wait
+ * here instead, where a blocked virtual thread unmounts from its carrier, and hands out
+ * connections in arrival order. A permit is held from {@code getConnection()} until the
+ * connection is closed (returned to the pool).</p>
+ */
+public class ConnectionPoolBulkhead extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final long acquireTimeoutMillis;
+
+    public ConnectionPoolBulkhead(DataSource targetDataSource, int maxConnections, long acquireTimeoutMillis) {
+        super(targetDataSource);
+        this.permits = new Semaphore(maxConnections, true);
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return releasingOnClose(obtainTargetDataSource().getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return releasingOnClose(obtainTargetDataSource().getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    public int getWaitingThreads() {
+        return permits.getQueueLength();
+    }
+
+    private void acquire() throws SQLException {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException("Connection bulkhead timed out after "
+                        + acquireTimeoutMillis + "ms with " + permits.getQueueLength() + " threads waiting");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database connection", e);
+        }
+    }
+
+    private Connection releasingOnClose(Connection target) {
+        AtomicBoolean released = new AtomicBoolean();
+        InvocationHandler handler = (proxy, method, args) -> {
+            if ("close".equals(method.getName()) && method.getParameterCount() == 0) {
+                try {
+                    return method.invoke(target, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                } finally {
+                    if (released.compareAndSet(false, true)) {
+                        permits.release();
+                    }
+                }
+            }
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        };
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(), new Class<?>[]{Connection.class}, handler);
+    }
+}
@@ -0,0 +1,47 @@
+package com.omori.taskmanagement.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+/**
+ * Statement counting per request, used to catch N+1 access patterns and statement-count
+ * regressions: the DataSource is wrapped in a {@link StatementInspectingDataSource}, and
+ * {@link QueryStatsRecorder} publishes each request's totals when it ends.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "app.query-inspection.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryInspectionConfiguration {
+
+    @Bean
+    public static BeanPostProcessor statementInspectingDataSourcePostProcessor() {
+        return new StatementInspectingPostProcessor();
+    }
+
+    /**
+     * Runs before the other DataSource post-processors, so pool-level wrappers such as the
+     * connection bulkhead sit outside and the timings cover statement execution only.
+     */
+    private static class StatementInspectingPostProcessor implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof DataSource dataSource && !(bean instanceof StatementInspectingDataSource)) {
+                log.info("Counting SQL statements per request on DataSource '{}'", beanName);
+                return new StatementInspectingDataSource(dataSource);
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.omori.taskmanagement.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.query-inspection")
+public class QueryInspectionProperties {
+
+    /**
+     * Wraps the DataSource so statements are counted per request; disable to remove the proxies.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Requests issuing more statements than this are logged and counted as over budget.
+     */
+    private int statementBudget = 50;
+
+    /**
+     * A statement shape executed this many times in one request is reported as a likely N+1.
+     */
+    private int repeatThreshold = 5;
+
+    /**
+     * Adds X-Query-* headers to responses; meant for dev and CI load tests, not production.
+     */
+    private boolean exposeHeaders = false;
+}
@@ -0,0 +1,48 @@
+package com.omori.taskmanagement.config;
+
+import com.omori.taskmanagement.utils.QueryStats;
+import com.omori.taskmanagement.utils.RequestContext;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exposes the request's statement count, statement time and highest repeat count as response
+ * headers, so CI load tests can assert on them. Headers are written just before the body is
+ * serialized, after the controller has run all of its queries.
+ */
+@RestControllerAdvice
+@ConditionalOnProperty(name = "app.query-inspection.expose-headers", havingValue = "true")
+public class QueryStatsHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+    public static final String QUERY_TIME_HEADER = "X-Query-Time-Ms";
+    public static final String QUERY_MAX_REPEAT_HEADER = "X-Query-Max-Repeat";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        RequestContext context = RequestContext.current();
+        if (context != null) {
+            QueryStats stats = context.queryStats();
+            response.getHeaders().set(QUERY_COUNT_HEADER, String.valueOf(stats.getStatementCount()));
+            response.getHeaders().set(QUERY_TIME_HEADER,
+                    String.valueOf(TimeUnit.NANOSECONDS.toMillis(stats.getTotalNanos())));
+            response.getHeaders().set(QUERY_MAX_REPEAT_HEADER, String.valueOf(stats.maxRepeat()));
+        }
+        return body;
+    }
+}
@@ -0,0 +1,77 @@
+package com.omori.taskmanagement.config;
+
+import com.omori.taskmanagement.utils.QueryStats;
+import com.omori.taskmanagement.utils.RequestContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Turns the {@link QueryStats} of a finished request into metrics, and logs requests that
+ * exceed the statement budget or execute one statement shape too often.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.query-inspection.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryStatsRecorder {
+
+    private final QueryInspectionProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Records the statements of a finished request under its route template.
+     */
+    public void record(String route, RequestContext context) {
+        QueryStats stats = context.queryStats();
+        long statements = stats.getStatementCount();
+
+        DistributionSummary.builder("db.statements.per.request")
+                .description("SQL statements executed per request")
+                .tag("uri", route)
+                .register(meterRegistry)
+                .record(statements);
+        if (statements == 0) {
+            return;
+        }
+        Timer.builder("db.statements.time.per.request")
+                .description("Time spent executing SQL statements per request")
+                .tag("uri", route)
+                .register(meterRegistry)
+                .record(stats.getTotalNanos(), TimeUnit.NANOSECONDS);
+        stats.byRepositoryMethod().forEach((method, count) -> Counter.builder("db.statements")
+                .description("SQL statements executed, by repository method")
+                .tag("repository", method)
+                .register(meterRegistry)
+                .increment(count));
+
+        if (statements > properties.getStatementBudget()) {
+            Counter.builder("db.statements.budget.exceeded")
+                    .description("Requests that issued more statements than the budget")
+                    .tag("uri", route)
+                    .register(meterRegistry)
+                    .increment();
+            log.warn("Request {} [{}] issued {} statements (budget {}), by repository method: {}",
+                    route, context.getTraceId(), statements, properties.getStatementBudget(),
+                    stats.byRepositoryMethod());
+        }
+        Map<String, Long> repeated = stats.repeatedShapes(properties.getRepeatThreshold());
+        if (!repeated.isEmpty()) {
+            Counter.builder("db.statements.repeated")
+                    .description("Requests that executed one statement shape repeatedly (likely N+1)")
+                    .tag("uri", route)
+                    .register(meterRegistry)
+                    .increment();
+            log.warn("Request {} [{}] repeated statements (likely N+1): {}",
+                    route, context.getTraceId(), repeated);
+        }
+    }
+}
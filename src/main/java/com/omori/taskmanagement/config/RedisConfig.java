@@ -18,6 +18,7 @@ import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
@@ -62,6 +63,13 @@ public class RedisConfig {
                 return new LettuceConnectionFactory(config, clientConfig);
         }
 
+        @Bean
+        public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory) {
+                RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+                container.setConnectionFactory(redisConnectionFactory);
+                return container;
+        }
+
         @Bean
         public RedisCacheConfiguration cacheConfiguration() {
                 ObjectMapper redisObjectMapper = JsonMapper.builder()
@@ -128,13 +136,22 @@ public class RedisConfig {
                                 .serializeValuesWith(RedisSerializationContext.SerializationPair
                                                 .fromSerializer(serializer)));
 
+                // Values here are DTOs cached as a whole (e.g. the workspace board), so the root
+                // object needs its type recorded too, which OBJECT_AND_NON_CONCRETE leaves out
+                ObjectMapper countsObjectMapper = redisObjectMapper.copy();
+                countsObjectMapper.activateDefaultTyping(
+                                countsObjectMapper.getPolymorphicTypeValidator(),
+                                ObjectMapper.DefaultTyping.NON_FINAL,
+                                JsonTypeInfo.As.PROPERTY);
+
                 // Configuration for task counts (frequently accessed, can be stale)
                 cacheConfigurations.put("task-counts", RedisCacheConfiguration.defaultCacheConfig()
                                 .entryTtl(Duration.ofMinutes(5))
                                 .serializeKeysWith(RedisSerializationContext.SerializationPair
                                                 .fromSerializer(new StringRedisSerializer()))
                                 .serializeValuesWith(RedisSerializationContext.SerializationPair
-                                                .fromSerializer(serializer)));
+                                                .fromSerializer(new GenericJackson2JsonRedisSerializer(
+                                                                countsObjectMapper))));
 
                 // Configuration for user sessions (longer TTL)
                 cacheConfigurations.put("user-sessions", RedisCacheConfiguration.defaultCacheConfig()
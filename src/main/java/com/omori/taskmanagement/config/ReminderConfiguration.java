@@ -0,0 +1,32 @@
+package com.omori.taskmanagement.config;
+
+import com.omori.taskmanagement.model.notification.Reminder;
+import com.omori.taskmanagement.service.reminder.LocalReminderSender;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Local stand-ins for the reminder channels, until real email, push and SMS senders exist.
+ * Disable with {@code app.reminders.local-senders=false} once real
+ * {@link com.omori.taskmanagement.service.reminder.ReminderSender} beans are registered.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.reminders.local-senders", havingValue = "true", matchIfMissing = true)
+public class ReminderConfiguration {
+
+    @Bean
+    public LocalReminderSender localEmailReminderSender() {
+        return new LocalReminderSender(Reminder.NotificationType.EMAIL);
+    }
+
+    @Bean
+    public LocalReminderSender localPushReminderSender() {
+        return new LocalReminderSender(Reminder.NotificationType.PUSH);
+    }
+
+    @Bean
+    public LocalReminderSender localSmsReminderSender() {
+        return new LocalReminderSender(Reminder.NotificationType.SMS);
+    }
+}
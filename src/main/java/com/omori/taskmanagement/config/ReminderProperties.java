@@ -0,0 +1,71 @@
+package com.omori.taskmanagement.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.reminders")
+public class ReminderProperties {
+
+    /**
+     * Runs the reminder scheduler on this node; any number of nodes may run it at once.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Precision of the in-memory timing wheel, and how often it is advanced.
+     */
+    private long tickMs = 1000;
+
+    /**
+     * Slots per timing wheel level.
+     */
+    private int wheelSize = 64;
+
+    /**
+     * Reminders due within this window are claimed and held in the timing wheel.
+     */
+    private Duration lookahead = Duration.ofMinutes(2);
+
+    /**
+     * How often due reminders are claimed from the database.
+     */
+    private Duration pollInterval = Duration.ofSeconds(10);
+
+    /**
+     * Reminders claimed per statement.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Upper bound on claim statements per poll, so a large backlog is drained over several polls.
+     */
+    private int maxBatchesPerPoll = 20;
+
+    /**
+     * How long a claim keeps other nodes away; must exceed the lookahead. Claims of a node that
+     * stops without releasing them are picked up again after this.
+     */
+    private Duration lease = Duration.ofMinutes(10);
+
+    /**
+     * Reminders being sent at the same time; fired reminders beyond this wait for the next tick.
+     */
+    private int maxInFlight = 64;
+
+    /**
+     * Identifies this node's claims; defaults to host name plus a random suffix.
+     */
+    private String nodeId;
+
+    /**
+     * Registers logging stand-ins for the EMAIL, PUSH and SMS channels.
+     */
+    private boolean localSenders = true;
+}
@@ -1,14 +1,10 @@
 package com.omori.taskmanagement.config;
 
-import java.util.UUID;
-
-import org.slf4j.MDC;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
 
-import com.omori.taskmanagement.dto.common.RequestMetadata;
-import com.omori.taskmanagement.utils.RequestMetadataUtil;
-import com.omori.taskmanagement.utils.RequestMetadataHolder;
+import com.omori.taskmanagement.utils.RequestContext;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -18,8 +14,9 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class RequestMetadataInterceptor implements HandlerInterceptor {
     /**
-     * Intercept the request to extract metadata and store it in the context
-     * 
+     * Marks the point where the request reaches its handler; the context itself is bound
+     * earlier by RequestTimingFilter.
+     *
      * @param request  The incoming HTTP request
      * @param response The HTTP response
      * @param handler  The handler for the request
@@ -28,33 +25,33 @@ public class RequestMetadataInterceptor implements HandlerInterceptor {
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
             throws Exception {
-        // Genarate or extract trace ID from the request
-        String traceId = UUID.randomUUID().toString();
-
-        // Put trace ID into SLF4J MDC for logging
-        MDC.put("traceId", traceId);
-
-        // Extract metadata from the request
-        RequestMetadata metadata = RequestMetadataUtil.from(request);
-        metadata.setTraceId(traceId); // Ensure your RequestMetadata class has a traceId field
-
-        // Store the metadata in the context
-        RequestMetadataHolder.setMetadata(metadata);
-
-        // Continue with the request processing
+        RequestContext context = RequestContext.current();
+        if (context != null) {
+            context.mark("handler");
+        }
         return true;
     }
 
+    /**
+     * For {@code @ResponseBody} handlers the body has been written by now, so the time since the
+     * controller returned is the serialization phase.
+     */
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
+            ModelAndView modelAndView) throws Exception {
+        RequestContext context = RequestContext.current();
+        if (context != null && context.getHandlerReturnedNanos() > 0) {
+            context.recordPhase("serialization", System.nanoTime() - context.getHandlerReturnedNanos());
+        }
+    }
+
+    @Override
     public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex)
             throws Exception {
-        // Retrieve the metadata from the context
-        RequestMetadata metadata = RequestMetadataHolder.getMetadata();
-        if (metadata != null) {
-            log.info("Request completed for traceId={}", metadata.getTraceId());
+        RequestContext context = RequestContext.current();
+        if (context != null) {
+            context.mark("completed");
+            log.debug("Request completed for traceId={}", context.getTraceId());
         }
-        // Clear the metadata after the request is completed avoid memory leaks
-        RequestMetadataHolder.clear();
-
-    MDC.remove("traceId"); // Clear the MDC to avoid memory leaks
     }
 }
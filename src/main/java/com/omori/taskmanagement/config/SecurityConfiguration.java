@@ -1,5 +1,6 @@
 package com.omori.taskmanagement.config;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -36,7 +37,10 @@ public class SecurityConfiguration {
 				.csrf(CsrfConfigurer::disable)
 				.cors(CorsConfigurer::disable)
 				.addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
-				.authorizeHttpRequests(request -> request.requestMatchers("/api/v1/auth/register",
+				// Completion of long-lived async responses (task streams) is re-dispatched without a token
+				.authorizeHttpRequests(request -> request.dispatcherTypeMatchers(DispatcherType.ASYNC)
+													   .permitAll()
+													   .requestMatchers("/api/v1/auth/register",
 																	      "/api/v1/auth/login",
 																	      "/v3/api-docs/**",
 																          "/swagger-ui/**",
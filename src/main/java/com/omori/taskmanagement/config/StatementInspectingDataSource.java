@@ -0,0 +1,81 @@
+package com.omori.taskmanagement.config;
+
+import com.omori.taskmanagement.utils.RequestContext;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Counts and times every statement executed through the pool and adds it to the
+ * {@link com.omori.taskmanagement.utils.QueryStats} of the current {@link RequestContext}.
+ *
+ * <p>Connections and statements are wrapped in JDK proxies; only the {@code execute*} calls
+ * are timed, everything else is passed straight through. A batch counts as one statement.
+ * Statements executed outside any request or task context are not recorded.</p>
+ */
+public class StatementInspectingDataSource extends DelegatingDataSource {
+
+    public StatementInspectingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return inspecting(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return inspecting(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection inspecting(Connection target) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            Object result = invoke(target, method, args);
+            if (result instanceof Statement statement) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+                return inspecting(statement, sql);
+            }
+            return result;
+        };
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(), new Class<?>[]{Connection.class}, handler);
+    }
+
+    private Statement inspecting(Statement target, String preparedSql) {
+        Class<?> type = target instanceof CallableStatement ? CallableStatement.class
+                : target instanceof PreparedStatement ? PreparedStatement.class
+                : Statement.class;
+        InvocationHandler handler = (proxy, method, args) -> {
+            RequestContext context = RequestContext.current();
+            if (context == null || !method.getName().startsWith("execute")) {
+                return invoke(target, method, args);
+            }
+            String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : preparedSql;
+            long start = System.nanoTime();
+            try {
+                return invoke(target, method, args);
+            } finally {
+                context.queryStats().record(sql, System.nanoTime() - start);
+            }
+        };
+        return (Statement) Proxy.newProxyInstance(Statement.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.omori.taskmanagement.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * Extra wiring for {@code spring.threads.virtual.enabled=true}.
+ *
+ * <p>Spring Boot already runs Tomcat requests, {@code @Async} methods and {@code @Scheduled}
+ * jobs on virtual threads in this mode. This configuration puts a {@link ConnectionPoolBulkhead}
+ * in front of Hikari so the unbounded number of request threads queues outside the pool,
+ * and publishes the bulkhead's state as metrics.</p>
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfiguration {
+
+    @Bean
+    public static BeanPostProcessor connectionPoolBulkheadPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                // The pool may already be wrapped (statement inspection), so look through wrappers
+                if (bean instanceof DataSource dataSource && !(bean instanceof ConnectionPoolBulkhead)) {
+                    HikariDataSource hikari = unwrapHikari(dataSource);
+                    if (hikari != null) {
+                        log.info("Limiting virtual threads in '{}' to {} concurrent connections",
+                                hikari.getPoolName(), hikari.getMaximumPoolSize());
+                        return new ConnectionPoolBulkhead(dataSource, hikari.getMaximumPoolSize(),
+                                hikari.getConnectionTimeout());
+                    }
+                }
+                return bean;
+            }
+        };
+    }
+
+    private static HikariDataSource unwrapHikari(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+
+    @Bean
+    public MeterBinder connectionPoolBulkheadMetrics(DataSource dataSource) {
+        return registry -> {
+            if (dataSource instanceof ConnectionPoolBulkhead bulkhead) {
+                Gauge.builder("db.connection.bulkhead.waiting", bulkhead, ConnectionPoolBulkhead::getWaitingThreads)
+                        .description("Threads waiting for a database connection permit")
+                        .register(registry);
+                Gauge.builder("db.connection.bulkhead.available", bulkhead, ConnectionPoolBulkhead::getAvailablePermits)
+                        .description("Unused database connection permits")
+                        .register(registry);
+            }
+        };
+    }
+}
@@ -0,0 +1,76 @@
+package com.omori.taskmanagement.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Reports virtual threads that stay pinned to their carrier thread (blocking inside
+ * {@code synchronized} or native code) for longer than {@code app.virtual-threads.pinned-threshold}.
+ *
+ * <p>Pinned events are read from an in-process JFR stream, recorded in the
+ * {@code jvm.threads.virtual.pinned} timer (see {@code /actuator/metrics}) and logged with
+ * the top stack frame so the offending lock can be found.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.virtual-threads.pinned-threshold:20ms}")
+    private Duration pinnedThreshold;
+
+    private RecordingStream recordingStream;
+
+    @Override
+    public void start() {
+        Timer pinned = Timer.builder("jvm.threads.virtual.pinned")
+                .description("Time virtual threads spent pinned to a carrier thread")
+                .register(meterRegistry);
+
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(pinnedThreshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, event -> {
+            pinned.record(event.getDuration());
+            log.warn("Virtual thread pinned for {} ms at {}", event.getDuration().toMillis(), topFrame(event));
+        });
+        recordingStream.startAsync();
+        log.info("Virtual thread pinning monitor started (threshold {})", pinnedThreshold);
+    }
+
+    @Override
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+            recordingStream = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return recordingStream != null;
+    }
+
+    private static String topFrame(RecordedEvent event) {
+        if (event.getStackTrace() == null || event.getStackTrace().getFrames().isEmpty()) {
+            return "unknown";
+        }
+        RecordedFrame frame = event.getStackTrace().getFrames().get(0);
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+}
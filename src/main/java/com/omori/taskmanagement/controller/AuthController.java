@@ -2,12 +2,15 @@ package com.omori.taskmanagement.controller;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.apache.logging.log4j.util.Strings;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -20,6 +23,7 @@ import com.omori.taskmanagement.dto.usermgmt.RegistrationResponse;
 import com.omori.taskmanagement.model.audit.ActionType;
 import com.omori.taskmanagement.security.jwt.JwtTokenService;
 import com.omori.taskmanagement.security.service.UserDetailsServiceImpl;
+import com.omori.taskmanagement.security.utils.SecurityConstants;
 import com.omori.taskmanagement.service.user.UserService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -72,5 +76,22 @@ public class AuthController {
         final RegistrationResponse registrationResponse = userService.registration(registrationRequest);
         return ResponseEntity.status(HttpStatus.CREATED).body(ApiResult.success(registrationResponse));
     }
-    
+
+    @PostMapping("/logout")
+    @Operation(summary = "Logout", description = "Revoke the session of the presented token")
+    public ResponseEntity<ApiResult<Void>> logoutRequest(
+        @RequestHeader(SecurityConstants.HEADER_STRING) String authorization) {
+
+        jwtTokenService.logout(authorization.replace(SecurityConstants.TOKEN_PREFIX, Strings.EMPTY));
+        return ResponseEntity.ok(ApiResult.success(null));
+    }
+
+    @PostMapping("/logout-all")
+    @Operation(summary = "Logout everywhere", description = "Revoke every token issued to the current user")
+    public ResponseEntity<ApiResult<Void>> logoutAllRequest(Authentication authentication) {
+
+        jwtTokenService.logoutEverywhere(authentication.getName());
+        return ResponseEntity.ok(ApiResult.success(null));
+    }
+
 }
@@ -2,10 +2,13 @@ package com.omori.taskmanagement.controller;
 
 import com.omori.taskmanagement.dto.common.ApiResult;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.Arrays;
+import java.util.Optional;
 import java.util.function.Supplier;
 
 @Slf4j
@@ -68,4 +71,25 @@ public abstract class BaseController {
             throw e;
         }
     }
+
+    // Wrapper for conditional GETs: answers 304 when If-None-Match matches, without running the query.
+    // The tag is read before the body, so a concurrent update can only make it older than the body, never newer.
+    protected <T> ResponseEntity<ApiResult<T>> executeConditional(
+            Long userId,
+            String operation,
+            WebRequest request,
+            Optional<String> eTag,
+            Supplier<T> querySupplier) {
+
+        if (eTag.isEmpty()) {
+            return executeMethod(userId, operation, querySupplier);
+        }
+        CacheControl revalidate = CacheControl.noCache().cachePrivate();
+        if (request.checkNotModified(eTag.get())) {
+            log.debug("User {} {} not modified", userId, operation);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag.get()).cacheControl(revalidate).build();
+        }
+        ResponseEntity<ApiResult<T>> response = executeMethod(userId, operation, querySupplier);
+        return ResponseEntity.ok().eTag(eTag.get()).cacheControl(revalidate).body(response.getBody());
+    }
 }
@@ -6,6 +6,7 @@ import org.springframework.http.HttpStatus;
 // import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -13,6 +14,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.RequestBody;
 
@@ -24,6 +26,7 @@ import com.omori.taskmanagement.dto.project.subtask.SubtaskResponse;
 import com.omori.taskmanagement.dto.project.subtask.SubtaskUpdateRequest;
 import com.omori.taskmanagement.model.audit.ActionType;
 import com.omori.taskmanagement.model.project.Subtask;
+import com.omori.taskmanagement.security.service.CustomUserDetails;
 import com.omori.taskmanagement.service.subtask.SubTaskService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -46,9 +49,10 @@ public class SubTaskController {
     @Operation(summary = "Create subtask", description = "Create new subtask for a specific task id")
     public ResponseEntity<ApiResult<SubtaskResponse>> createSubtask(
             @Valid @RequestBody SubtaskRequest request,
-            @PathVariable @NotNull Long taskId) {
+            @PathVariable @NotNull Long taskId,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
         request.setTaskId(taskId);
-        Subtask subtask = subtaskService.createSubtask(request);
+        Subtask subtask = subtaskService.createSubtask(request, userDetails.getId());
         SubtaskResponse response = SubtaskResponse.from(subtask);
 
         return ResponseEntity.status(HttpStatus.CREATED).body(ApiResult.success(response));
@@ -59,9 +63,10 @@ public class SubTaskController {
     @GetMapping("/task/{taskId}")
     @Operation(summary = "List subtask", description = "Get all subtasks of task by task id")
     public ResponseEntity<ApiResult<List<SubtaskResponse>>> getAllSubtaskByTaskId(
-            @PathVariable @NotNull Long taskId) {
+            @PathVariable @NotNull Long taskId,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
 
-        List<Subtask> subtask = subtaskService.getSubtasksByTaskId(taskId);
+        List<Subtask> subtask = subtaskService.getSubtasksByTaskId(taskId, userDetails.getId());
         List<SubtaskResponse> response = subtask.stream()
                 .map(SubtaskResponse::from)
                 .toList();
@@ -75,8 +80,9 @@ public class SubTaskController {
     @Operation(summary = "Update Subtask", description = "Update subtask by specific taskId")
     public ResponseEntity<ApiResult<SubtaskResponse>> updateSubtaskById(
             @PathVariable @NotNull Long subtaskId,
-            @Valid @RequestBody SubtaskUpdateRequest request) {
-        Subtask subtask = subtaskService.updateSubtask(subtaskId, request);
+            @Valid @RequestBody SubtaskUpdateRequest request,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        Subtask subtask = subtaskService.updateSubtask(subtaskId, userDetails.getId(), request);
         SubtaskResponse response = SubtaskResponse.from(subtask);
         return ResponseEntity.status(HttpStatus.OK).body(ApiResult.success(response));
     }
@@ -85,8 +91,9 @@ public class SubTaskController {
     @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
     @PatchMapping("/{subtaskId}/toggle")
     public ResponseEntity<ApiResult<SubtaskResponse>> toggleCompletion(
-            @PathVariable @NotNull Long subtaskId) {
-        Subtask subtask = subtaskService.toggleSubtaskCompletion(subtaskId);
+            @PathVariable @NotNull Long subtaskId,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        Subtask subtask = subtaskService.toggleSubtaskCompletion(subtaskId, userDetails.getId());
         SubtaskResponse response = SubtaskResponse.from(subtask);
         return ResponseEntity.status(HttpStatus.OK).body(ApiResult.success(response));
     }
@@ -94,19 +101,35 @@ public class SubTaskController {
     @PutMapping("/task/{taskId}/reorder")
     public ResponseEntity<Void> reorderSubtasks (
         @PathVariable @NotNull Long taskId,
-        @RequestBody SubtaskReorderDTO dto
+        @RequestBody SubtaskReorderDTO dto,
+        @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
-        subtaskService.reorderSubtasks(taskId, dto.getSubtaskIds());
+        subtaskService.reorderSubtasks(taskId, userDetails.getId(), dto.getSubtaskIds());
         return ResponseEntity.ok().build();
     }
 
+    @LogActivity(ActionType.UPDATE)
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    @PatchMapping("/{subtaskId}/move")
+    @Operation(summary = "Move subtask",
+            description = "Place a subtask directly after another subtask of the same task (omit afterSubtaskId to move it first). Only the moved subtask is updated.")
+    public ResponseEntity<ApiResult<SubtaskResponse>> moveSubtask(
+            @PathVariable @NotNull Long subtaskId,
+            @RequestParam(required = false) Long afterSubtaskId,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        Subtask subtask = subtaskService.moveSubtask(subtaskId, userDetails.getId(), afterSubtaskId);
+        SubtaskResponse response = SubtaskResponse.from(subtask);
+        return ResponseEntity.status(HttpStatus.OK).body(ApiResult.success(response));
+    }
+
     @LogActivity(ActionType.DELETE)
     @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
     @DeleteMapping("/{subtaskId}")
     @Operation(summary = "Delete Subtask", description = "Delete subtask by id")
     public ResponseEntity<Void> deleteSubtaskById(
-            @PathVariable @NotNull Long subtaskId) {
-        subtaskService.deleteSubtask(subtaskId);
+            @PathVariable @NotNull Long subtaskId,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        subtaskService.deleteSubtask(subtaskId, userDetails.getId());
         return ResponseEntity.noContent().build();
     }
 
@@ -115,8 +138,9 @@ public class SubTaskController {
     @DeleteMapping("/{subtaskId}/soft")
     @Operation(summary = "Soft delete Subtask", description = "Soft delete subtask by id")
     public ResponseEntity<Void> softDeleteSubtaskById(
-            @PathVariable @NotNull Long subtaskId) {
-        subtaskService.softDeleteSubtask(subtaskId);
+            @PathVariable @NotNull Long subtaskId,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        subtaskService.softDeleteSubtask(subtaskId, userDetails.getId());
         return ResponseEntity.noContent().build();
     }
 
@@ -0,0 +1,185 @@
+package com.omori.taskmanagement.controller.collaboration;
+
+import com.omori.taskmanagement.controller.BaseController;
+import com.omori.taskmanagement.dto.collaboration.AttachmentResponse;
+import com.omori.taskmanagement.dto.common.ApiResult;
+import com.omori.taskmanagement.security.service.CustomUserDetails;
+import com.omori.taskmanagement.service.attachment.AttachmentService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1")
+@Slf4j
+@Tag(name = "Attachments", description = "Files attached to tasks and comments")
+public class AttachmentController extends BaseController {
+
+    private final AttachmentService attachmentService;
+
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    @PostMapping(value = "/tasks/{taskId}/attachments", consumes = MediaType.ALL_VALUE)
+    @Operation(
+            summary = "Upload an attachment",
+            description = """
+                    Uploads the raw request body as a file attached to the task, or to one of its
+                    comments when commentId is set. Send the file's type as Content-Type and its
+                    name as the filename parameter; multipart bodies are not parsed.
+
+                    The body is streamed to storage off the request thread and never held in
+                    memory. Identical files are stored once.
+                    """
+    )
+    public Callable<ResponseEntity<ApiResult<AttachmentResponse>>> upload(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable Long taskId,
+            @Parameter(description = "Original file name", required = true)
+            @RequestParam String filename,
+            @Parameter(description = "Comment of the task to attach the file to")
+            @RequestParam(required = false) Long commentId,
+            HttpServletRequest request) {
+        Long userId = userDetails.getId();
+        return () -> {
+            logTaskRequest(userId, "uploadAttachment");
+            AttachmentResponse attachment = attachmentService.upload(taskId, commentId, userId, filename,
+                    request.getContentType(), request.getContentLengthLong(), request.getInputStream());
+            logTaskSuccess(userId, "uploadAttachment");
+            return created(attachment);
+        };
+    }
+
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    @GetMapping("/tasks/{taskId}/attachments")
+    @Operation(summary = "List a task's attachments", description = "Metadata of the task's attachments, newest first")
+    public ResponseEntity<ApiResult<List<AttachmentResponse>>> getTaskAttachments(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable Long taskId) {
+        Long userId = userDetails.getId();
+        return executeMethod(userId, "getTaskAttachments", () -> attachmentService.getTaskAttachments(taskId, userId));
+    }
+
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    @GetMapping("/attachments/{attachmentId}/content")
+    @Operation(
+            summary = "Download an attachment",
+            description = """
+                    Streams the file with its Content-Length. A single byte range (Range: bytes=start-end)
+                    is answered with 206 Partial Content, so interrupted downloads can resume; other
+                    range requests get the whole file. The ETag is the content hash.
+                    """
+    )
+    public ResponseEntity<StreamingResponseBody> download(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable Long attachmentId,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+            WebRequest request) {
+        Long userId = userDetails.getId();
+        AttachmentService.AttachmentContent content = attachmentService.getContent(attachmentId, userId);
+        AttachmentResponse attachment = content.attachment();
+        String eTag = "\"" + attachment.contentHash() + "\"";
+        if (attachment.contentHash() != null && request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+
+        long size = attachment.fileSize();
+        ByteRange bytes = byteRange(range, size);
+        if (bytes == null) {
+            return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                    .header(HttpHeaders.CONTENT_RANGE, "bytes */" + size)
+                    .build();
+        }
+
+        HttpStatus status = bytes.partial() ? HttpStatus.PARTIAL_CONTENT : HttpStatus.OK;
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(status)
+                .contentType(MediaType.parseMediaType(attachment.mimeType()))
+                .contentLength(bytes.length())
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(attachment.originalFilename(), StandardCharsets.UTF_8)
+                        .build()
+                        .toString())
+                .cacheControl(CacheControl.noCache().cachePrivate());
+        if (attachment.contentHash() != null) {
+            response.eTag(eTag);
+        }
+        if (bytes.partial()) {
+            response.header(HttpHeaders.CONTENT_RANGE, "bytes " + bytes.start() + "-" + bytes.end() + "/" + size);
+        }
+        // Written on the async executor, so the request thread is free while the file is sent
+        return response.body(out -> attachmentService.writeContent(content, bytes.start(), bytes.length(), out));
+    }
+
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    @DeleteMapping("/attachments/{attachmentId}")
+    @Operation(summary = "Delete an attachment", description = "Soft-deletes an attachment. Allowed for the uploader and the task owner")
+    public ResponseEntity<ApiResult<Void>> deleteAttachment(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable Long attachmentId) {
+        Long userId = userDetails.getId();
+        return executeMethod(userId, "deleteAttachment", () -> {
+            attachmentService.deleteAttachment(attachmentId, userId);
+            return null;
+        });
+    }
+
+    /**
+     * Resolves the Range header of a download against a file of {@code size} bytes. A single
+     * range is served as partial content; no range, several ranges or a malformed header get the
+     * whole file.
+     *
+     * @return the bytes to send, or null if the range starts past the end of the file
+     */
+    static ByteRange byteRange(String range, long size) {
+        List<HttpRange> ranges = parseRanges(range);
+        if (ranges.size() != 1 || size <= 0) {
+            return new ByteRange(0, size - 1, false);
+        }
+        long start = ranges.get(0).getRangeStart(size);
+        if (start >= size) {
+            return null;
+        }
+        return new ByteRange(start, ranges.get(0).getRangeEnd(size), true);
+    }
+
+    private static List<HttpRange> parseRanges(String range) {
+        if (range == null || range.isBlank()) {
+            return List.of();
+        }
+        try {
+            return HttpRange.parseRanges(range);
+        } catch (IllegalArgumentException e) {
+            // A malformed Range header is ignored and the whole file sent
+            return List.of();
+        }
+    }
+
+    /**
+     * Inclusive byte positions of a download.
+     */
+    record ByteRange(long start, long end, boolean partial) {
+
+        long length() {
+            return end - start + 1;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.omori.taskmanagement.controller.collaboration;
+
+import com.omori.taskmanagement.controller.BaseController;
+import com.omori.taskmanagement.dto.collaboration.CommentPageResponse;
+import com.omori.taskmanagement.dto.collaboration.CommentRequest;
+import com.omori.taskmanagement.dto.collaboration.CommentResponse;
+import com.omori.taskmanagement.dto.common.ApiResult;
+import com.omori.taskmanagement.security.service.CustomUserDetails;
+import com.omori.taskmanagement.service.collaboration.CommentService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1")
+@Slf4j
+@Tag(name = "Comments", description = "Comment threads on tasks")
+public class CommentController extends BaseController {
+
+    private final CommentService commentService;
+
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    @GetMapping("/tasks/{taskId}/comments")
+    @Operation(
+            summary = "List a task's comments",
+            description = """
+                    Returns the task's top-level comments, newest first, one page at a time, with the
+                    number of replies of each and the task's total comment count.
+
+                    Replies are not included; fetch them per comment from
+                    GET /comments/{commentId}/replies when a thread is expanded.
+                    Paging is by cursor: pass the nextCursor of a response to get the following page;
+                    nextCursor is null on the last page.
+                    """
+    )
+    public ResponseEntity<ApiResult<CommentPageResponse>> getTaskComments(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable Long taskId,
+            @Parameter(description = "nextCursor of the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size, at most 100")
+            @RequestParam(defaultValue = "20") int limit) {
+        Long userId = userDetails.getId();
+        return executeMethod(userId, "getTaskComments",
+                () -> commentService.getTaskComments(taskId, userId, cursor, limit));
+    }
+
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    @GetMapping("/comments/{commentId}/replies")
+    @Operation(summary = "List replies", description = "Replies of a top-level comment, oldest first, paged by cursor")
+    public ResponseEntity<ApiResult<CommentPageResponse>> getReplies(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable Long commentId,
+            @Parameter(description = "nextCursor of the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size, at most 100")
+            @RequestParam(defaultValue = "20") int limit) {
+        Long userId = userDetails.getId();
+        return executeMethod(userId, "getCommentReplies",
+                () -> commentService.getReplies(commentId, userId, cursor, limit));
+    }
+
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    @GetMapping("/comments/mentions")
+    @Operation(summary = "Comments mentioning me", description = "Comments that mention the current user, newest first, paged by cursor")
+    public ResponseEntity<ApiResult<CommentPageResponse>> getMentions(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @Parameter(description = "nextCursor of the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size, at most 100")
+            @RequestParam(defaultValue = "20") int limit) {
+        Long userId = userDetails.getId();
+        return executeMethod(userId, "getCommentMentions",
+                () -> commentService.getMentions(userId, cursor, limit));
+    }
+
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    @PostMapping("/tasks/{taskId}/comments")
+    @Operation(
+            summary = "Add a comment",
+            description = """
+                    Adds a comment to the task, or a reply when parentCommentId is set. Replying to a
+                    reply adds to the thread of its top-level comment.
+
+                    @username in the content mentions that user if they can see the task.
+                    """
+    )
+    public ResponseEntity<ApiResult<CommentResponse>> addComment(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable Long taskId,
+            @Valid @RequestBody CommentRequest request) {
+        Long userId = userDetails.getId();
+        return executeMethod(userId, "addComment", () -> commentService.addComment(taskId, userId, request));
+    }
+
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    @PutMapping("/comments/{commentId}")
+    @Operation(summary = "Edit a comment", description = "Changes the content of the current user's own comment; mentions are re-read from it")
+    public ResponseEntity<ApiResult<CommentResponse>> updateComment(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable Long commentId,
+            @Valid @RequestBody CommentRequest request) {
+        Long userId = userDetails.getId();
+        return executeMethod(userId, "updateComment", () -> commentService.updateComment(commentId, userId, request));
+    }
+
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    @DeleteMapping("/comments/{commentId}")
+    @Operation(summary = "Delete a comment", description = "Soft-deletes a comment and, for a top-level comment, its replies. Allowed for the author and the task owner")
+    public ResponseEntity<ApiResult<Void>> deleteComment(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable Long commentId) {
+        Long userId = userDetails.getId();
+        return executeMethod(userId, "deleteComment", () -> {
+            commentService.deleteComment(commentId, userId);
+            return null;
+        });
+    }
+}
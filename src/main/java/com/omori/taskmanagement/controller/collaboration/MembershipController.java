@@ -0,0 +1,119 @@
+package com.omori.taskmanagement.controller.collaboration;
+
+import com.omori.taskmanagement.controller.BaseController;
+import com.omori.taskmanagement.dto.collaboration.MemberRequest;
+import com.omori.taskmanagement.dto.collaboration.MemberResponse;
+import com.omori.taskmanagement.dto.common.ApiResult;
+import com.omori.taskmanagement.security.service.CustomUserDetails;
+import com.omori.taskmanagement.service.collaboration.MembershipService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1")
+@Slf4j
+@Tag(name = "Members", description = "Task collaborators and workspace members")
+public class MembershipController extends BaseController {
+
+    private final MembershipService membershipService;
+
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    @GetMapping("/tasks/{taskId}/collaborators")
+    @Operation(summary = "List a task's collaborators", description = "Users the task is shared with and their roles")
+    public ResponseEntity<ApiResult<List<MemberResponse>>> getTaskCollaborators(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable Long taskId) {
+        Long userId = userDetails.getId();
+        return executeMethod(userId, "getTaskCollaborators",
+                () -> membershipService.getTaskCollaborators(taskId, userId));
+    }
+
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    @PutMapping("/tasks/{taskId}/collaborators/{collaboratorId}")
+    @Operation(
+            summary = "Share a task",
+            description = """
+                    Shares the task with a user or changes their role. A viewer can read the task and
+                    comment on it; an editor can also update it and upload attachments.
+                    Only the task owner can share.
+                    """
+    )
+    public ResponseEntity<ApiResult<MemberResponse>> shareTask(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable Long taskId,
+            @PathVariable Long collaboratorId,
+            @Valid @RequestBody MemberRequest request) {
+        Long userId = userDetails.getId();
+        return executeMethod(userId, "shareTask",
+                () -> membershipService.shareTask(taskId, userId, collaboratorId, request.getRole()));
+    }
+
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    @DeleteMapping("/tasks/{taskId}/collaborators/{collaboratorId}")
+    @Operation(summary = "Stop sharing a task", description = "Removes a collaborator. Allowed for the task owner and for collaborators leaving the task")
+    public ResponseEntity<ApiResult<Void>> unshareTask(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable Long taskId,
+            @PathVariable Long collaboratorId) {
+        Long userId = userDetails.getId();
+        return executeMethod(userId, "unshareTask", () -> {
+            membershipService.unshareTask(taskId, userId, collaboratorId);
+            return null;
+        });
+    }
+
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    @GetMapping("/workspaces/{workspaceId}/members")
+    @Operation(summary = "List a workspace's members", description = "Members of the workspace and their roles; visible to the owner and members")
+    public ResponseEntity<ApiResult<List<MemberResponse>>> getWorkspaceMembers(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable Long workspaceId) {
+        Long userId = userDetails.getId();
+        return executeMethod(userId, "getWorkspaceMembers",
+                () -> membershipService.getWorkspaceMembers(workspaceId, userId));
+    }
+
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    @PutMapping("/workspaces/{workspaceId}/members/{memberId}")
+    @Operation(
+            summary = "Add a workspace member",
+            description = """
+                    Adds a user to the workspace or changes their role. Viewers can read the
+                    workspace's tasks; members and admins can also edit them, and admins can manage
+                    members. Requires the workspace owner or an admin.
+                    """
+    )
+    public ResponseEntity<ApiResult<MemberResponse>> putWorkspaceMember(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable Long workspaceId,
+            @PathVariable Long memberId,
+            @Valid @RequestBody MemberRequest request) {
+        Long userId = userDetails.getId();
+        return executeMethod(userId, "putWorkspaceMember",
+                () -> membershipService.putWorkspaceMember(workspaceId, userId, memberId, request.getRole()));
+    }
+
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    @DeleteMapping("/workspaces/{workspaceId}/members/{memberId}")
+    @Operation(summary = "Remove a workspace member", description = "Requires the workspace owner or an admin, except for members leaving the workspace")
+    public ResponseEntity<ApiResult<Void>> removeWorkspaceMember(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable Long workspaceId,
+            @PathVariable Long memberId) {
+        Long userId = userDetails.getId();
+        return executeMethod(userId, "removeWorkspaceMember", () -> {
+            membershipService.removeWorkspaceMember(workspaceId, userId, memberId);
+            return null;
+        });
+    }
+}
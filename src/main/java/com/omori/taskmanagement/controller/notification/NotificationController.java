@@ -0,0 +1,81 @@
+package com.omori.taskmanagement.controller.notification;
+
+import com.omori.taskmanagement.controller.BaseController;
+import com.omori.taskmanagement.dto.common.ApiResult;
+import com.omori.taskmanagement.dto.notification.MarkNotificationsReadRequest;
+import com.omori.taskmanagement.dto.notification.NotificationPageResponse;
+import com.omori.taskmanagement.security.service.CustomUserDetails;
+import com.omori.taskmanagement.service.notification.NotificationInboxService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/notifications")
+@Slf4j
+@Tag(name = "Notifications", description = "Notification inbox")
+public class NotificationController extends BaseController {
+
+    private final NotificationInboxService inboxService;
+
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    @GetMapping
+    @Operation(
+            summary = "List notifications",
+            description = """
+                    Returns the current user's notifications, newest first, one page at a time.
+
+                    Paging is by cursor: pass the nextCursor of a response to get the following page;
+                    nextCursor is null on the last page. Pages stay stable while new notifications
+                    arrive. The response also carries the unread count.
+                    """
+    )
+    public ResponseEntity<ApiResult<NotificationPageResponse>> getNotifications(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @Parameter(description = "nextCursor of the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size, at most 100")
+            @RequestParam(defaultValue = "20") int limit,
+            @Parameter(description = "Only unread notifications")
+            @RequestParam(defaultValue = "true") boolean unreadOnly) {
+        Long userId = userDetails.getId();
+        return executeMethod(userId, "getNotifications",
+                () -> inboxService.getNotifications(userId, unreadOnly, cursor, limit));
+    }
+
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    @GetMapping("/unread-count")
+    @Operation(summary = "Unread count", description = "Number of unread notifications of the current user, served from cache")
+    public ResponseEntity<ApiResult<Long>> getUnreadCount(
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        Long userId = userDetails.getId();
+        return executeMethod(userId, "getUnreadCount", () -> inboxService.getUnreadCount(userId));
+    }
+
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    @PostMapping("/read")
+    @Operation(summary = "Mark notifications read", description = "Marks the given notifications as read and returns how many were unread")
+    public ResponseEntity<ApiResult<Integer>> markRead(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @Valid @RequestBody MarkNotificationsReadRequest request) {
+        Long userId = userDetails.getId();
+        return executeMethod(userId, "markNotificationsRead", () -> inboxService.markRead(userId, request.getIds()));
+    }
+
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    @PostMapping("/read-all")
+    @Operation(summary = "Mark all notifications read", description = "Marks every unread notification as read and returns how many there were")
+    public ResponseEntity<ApiResult<Integer>> markAllRead(
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        Long userId = userDetails.getId();
+        return executeMethod(userId, "markAllNotificationsRead", () -> inboxService.markAllRead(userId));
+    }
+}
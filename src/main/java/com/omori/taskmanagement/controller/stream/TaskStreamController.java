@@ -0,0 +1,57 @@
+package com.omori.taskmanagement.controller.stream;
+
+import com.omori.taskmanagement.controller.BaseController;
+import com.omori.taskmanagement.security.service.CustomUserDetails;
+import com.omori.taskmanagement.service.stream.TaskStreamService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/stream")
+@Slf4j
+@Tag(name = "Task Stream", description = "Server-sent events of task changes")
+public class TaskStreamController extends BaseController {
+
+    private final TaskStreamService taskStreamService;
+
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    @GetMapping(value = "/tasks", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+            summary = "Stream task changes",
+            description = """
+                    Opens a server-sent event stream instead of polling /hierarchy/{taskId} or /progress/{taskId}.
+
+                    Events:
+                    - TASK_UPDATED: fields of a task changed (changedFields lists them)
+                    - PROGRESS_CHANGED: the computed progress of a task, story or epic changed
+
+                    The stream carries changes to tasks the user owns or is assigned to, plus the watched
+                    tasks and everything below them (watch an epic to follow its stories and tasks).
+                    Each event's data holds taskId, ancestorIds, progress, status, changedFields and occurredAt.
+                    A comment is sent periodically to keep the connection open; clients should reconnect
+                    when the stream ends and re-read the current state.
+                    """
+    )
+    public SseEmitter streamTaskChanges(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @Parameter(description = "IDs of tasks to watch, typically epics")
+            @RequestParam(name = "watch", required = false) List<Long> watchedTaskIds) {
+        Long userId = userDetails.getId();
+        logOperationStart(userId, "streamTaskChanges", watchedTaskIds);
+        return taskStreamService.subscribe(userId, watchedTaskIds);
+    }
+}
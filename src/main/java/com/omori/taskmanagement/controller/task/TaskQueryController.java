@@ -11,6 +11,7 @@ import com.omori.taskmanagement.model.project.Task;
 import com.omori.taskmanagement.security.service.CustomUserDetails;
 import com.omori.taskmanagement.service.task.hierarchy.TaskHierarchyService;
 import com.omori.taskmanagement.service.task.query.TaskQueryService;
+import com.omori.taskmanagement.service.task.query.TaskVersionService;
 import com.omori.taskmanagement.service.task.update.TaskProgressService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -26,9 +27,11 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @RestController
@@ -41,6 +44,7 @@ public class TaskQueryController extends BaseController {
     private final TaskQueryService taskQueryService;
     private final TaskProgressService progressService;
     private final TaskHierarchyService hierarchyService;
+    private final TaskVersionService taskVersionService;
 
     @LogActivity(ActionType.VIEW)
     @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
@@ -100,12 +104,16 @@ public class TaskQueryController extends BaseController {
                     example = "17",
                     required = true)
             @PathVariable @Positive Long taskId,
-            @AuthenticationPrincipal CustomUserDetails userDetails
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            WebRequest webRequest
     ) {
-        return executeMethod(
+        Optional<String> eTag = taskVersionService.taskETag(taskId, userDetails.getId());
+        return executeConditional(
                 userDetails.getId(),
                 "GET_TASK_BY_ID",
-                () -> taskQueryService.getTaskById(taskId, userDetails.getId())
+                webRequest,
+                eTag,
+                () -> taskQueryService.getTaskById(taskId, userDetails.getId(), eTag.orElse(null))
         );
     }
 
@@ -169,12 +177,16 @@ public class TaskQueryController extends BaseController {
                     example = "8ee41f14-6bc0-48b9-b07a-1d7971528009",
                     required = true)
             @PathVariable UUID uuid,
-            @AuthenticationPrincipal CustomUserDetails userDetails
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            WebRequest webRequest
     ) {
-        return executeMethod(
+        Optional<String> eTag = taskVersionService.taskETag(uuid, userDetails.getId());
+        return executeConditional(
                 userDetails.getId(),
                 "GET_TASK_BY_UUID",
-                () -> taskQueryService.getTaskByUuid(uuid, userDetails.getId())
+                webRequest,
+                eTag,
+                () -> taskQueryService.getTaskByUuid(uuid, userDetails.getId(), eTag.orElse(null))
         );
     }
 
@@ -257,14 +269,50 @@ public class TaskQueryController extends BaseController {
     })
     public ResponseEntity<ApiResult<Page<TaskResponse>>> getMyTasks(
             @AuthenticationPrincipal CustomUserDetails userDetails,
-            @ModelAttribute TaskFilterRequest filter) {
-        return executeMethod(
+            @ModelAttribute TaskFilterRequest filter,
+            WebRequest webRequest) {
+        return executeConditional(
                 userDetails.getId(),
                 "GET_MY_TASKS",
+                webRequest,
+                Optional.of(taskVersionService.ownedTasksETag(userDetails.getId())),
                 () -> taskQueryService.getTasksByUserId(userDetails.getId(), filter)
         );
     }
 
+    @LogActivity(ActionType.VIEW)
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    @GetMapping("/shared")
+    @Operation(summary = "Get every task the user can access",
+            description = """
+                    Returns owned and assigned tasks together with tasks shared with the user as a
+                    collaborator and tasks in workspaces the user is a member or owner of.
+
+                    Accepts the same filtering, sorting and pagination parameters as /my.
+                    Access is resolved with indexed EXISTS probes per task, so the page query
+                    does not join the membership tables.
+
+                    Example Request:
+                    GET /api/v1/tasks/shared?page=0&size=20&sort=updatedAt,desc
+                    """)
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Tasks retrieved successfully"),
+            @ApiResponse(responseCode = "400",
+                    description = "Invalid filter or pagination parameters"),
+            @ApiResponse(responseCode = "403",
+                    description = "Forbidden - authentication required")
+    })
+    public ResponseEntity<ApiResult<Page<TaskResponse>>> getAccessibleTasks(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @ModelAttribute TaskFilterRequest filter) {
+        return executeMethod(
+                userDetails.getId(),
+                "GET_ACCESSIBLE_TASKS",
+                () -> taskQueryService.getAccessibleTasks(userDetails.getId(), filter)
+        );
+    }
+
     @LogActivity(ActionType.VIEW)
     @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
     @GetMapping("/overdue")
@@ -376,11 +424,14 @@ public class TaskQueryController extends BaseController {
     public ResponseEntity<ApiResult<Page<TaskResponse>>> searchTasks(
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @RequestParam @NotBlank String keyword,
-            @ModelAttribute TaskFilterRequest filter
+            @ModelAttribute TaskFilterRequest filter,
+            WebRequest webRequest
     ){
-        return executeMethod(
+        return executeConditional(
                 userDetails.getId(),
                 "SEARCH_TASK",
+                webRequest,
+                Optional.of(taskVersionService.ownedTasksETag(userDetails.getId())),
                 () -> taskQueryService.searchTasks(userDetails.getId(), keyword, filter)
         );
     }
@@ -429,11 +480,14 @@ public class TaskQueryController extends BaseController {
     public ResponseEntity<ApiResult<Page<TaskResponse>>> getTasksByStatus(
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @RequestParam Task.TaskStatus status,
-            @ModelAttribute TaskFilterRequest filter
+            @ModelAttribute TaskFilterRequest filter,
+            WebRequest webRequest
             ){
-        return executeMethod(
+        return executeConditional(
                 userDetails.getId(),
                 "GET_TASKS_BY_STATUS",
+                webRequest,
+                Optional.of(taskVersionService.ownedTasksETag(userDetails.getId())),
                 () -> taskQueryService.getTasksByStatus(userDetails.getId(), status, filter)
         );
     }
@@ -481,11 +535,14 @@ public class TaskQueryController extends BaseController {
     public ResponseEntity<ApiResult<Page<TaskResponse>>> getTasksByPriority(
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @RequestParam Task.TaskPriority priority,
-            @ModelAttribute TaskFilterRequest filter
+            @ModelAttribute TaskFilterRequest filter,
+            WebRequest webRequest
             ){
-        return executeMethod(
+        return executeConditional(
                 userDetails.getId(),
                 "GET_TASKS_BY_PRIORITY",
+                webRequest,
+                Optional.of(taskVersionService.ownedTasksETag(userDetails.getId())),
                 () -> taskQueryService.getTasksByPriority(userDetails.getId(), priority, filter)
         );
     }
@@ -810,12 +867,15 @@ public class TaskQueryController extends BaseController {
                     example = "17",
                     required = true)
             @PathVariable Long taskId,
-            @AuthenticationPrincipal CustomUserDetails userDetails
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            WebRequest webRequest
     ) {
-        return executeMethod(
+        return executeConditional(
                 userDetails.getId(),
                 "GET_FULL_HIERARCHY_EPIC",
-                () -> hierarchyService.getFullHierarchy(taskId)
+                webRequest,
+                taskVersionService.hierarchyETag(taskId, userDetails.getId()),
+                () -> hierarchyService.getFullHierarchy(taskId, userDetails.getId())
         );
     }
 
@@ -890,10 +950,17 @@ public class TaskQueryController extends BaseController {
             @Parameter(description = "UUID of the Epic task",
                     example = "8ee41f14-6bc0-48b9-b07a-1d7971528009",
                     required = true)
-            @PathVariable String uuid
+            @PathVariable String uuid,
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            WebRequest webRequest
             ) {
-        HierarchyEpicDto tasks = hierarchyService.getFullHierarchyByUuid(uuid);
-        return ResponseEntity.ok(ApiResult.success(tasks));
+        return executeConditional(
+                userDetails.getId(),
+                "GET_FULL_HIERARCHY_EPIC_BY_UUID",
+                webRequest,
+                hierarchyETag(uuid, userDetails.getId()),
+                () -> hierarchyService.getFullHierarchyByUuid(uuid, userDetails.getId())
+        );
     }
 
     @LogActivity(ActionType.VIEW)
@@ -986,12 +1053,15 @@ public class TaskQueryController extends BaseController {
                     example = "17",
                     required = true)
             @PathVariable Long parentTaskId,
-            @AuthenticationPrincipal CustomUserDetails userDetails
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            WebRequest webRequest
     ) {
-        return executeMethod(
+        return executeConditional(
                 userDetails.getId(),
                 "GET_CHILD_TASKS",
-                () -> hierarchyService.getChildTasks(parentTaskId)
+                webRequest,
+                taskVersionService.hierarchyETag(parentTaskId, userDetails.getId()),
+                () -> hierarchyService.getChildTasks(parentTaskId, userDetails.getId())
         );
     }
 
@@ -1100,12 +1170,15 @@ public class TaskQueryController extends BaseController {
                     example = "17",
                     required = true)
             @PathVariable Long parentTaskId,
-            @AuthenticationPrincipal CustomUserDetails userDetails
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            WebRequest webRequest
     ) {
-        return executeMethod(
+        return executeConditional(
                 userDetails.getId(),
                 "GET_ALL_CHILD_TASKS",
-                () -> hierarchyService.getAllChildTasks(parentTaskId)
+                webRequest,
+                taskVersionService.hierarchyETag(parentTaskId, userDetails.getId()),
+                () -> hierarchyService.getAllChildTasks(parentTaskId, userDetails.getId())
         );
     }
 
@@ -1213,7 +1286,7 @@ public class TaskQueryController extends BaseController {
         return executeMethod(
                 userDetails.getId(),
                 "GET_PARENT_TASK",
-                () -> hierarchyService.getParentTask(taskId)
+                () -> hierarchyService.getParentTask(taskId, userDetails.getId())
         );
     }
 
@@ -1323,7 +1396,7 @@ public class TaskQueryController extends BaseController {
         return executeMethod(
                 userDetails.getId(),
                 "GET_HIERARCHY_DEPTH",
-                () -> hierarchyService.getHierarchyDepth(taskId)
+                () -> hierarchyService.getHierarchyDepth(taskId, userDetails.getId())
         );
     }
 
@@ -1342,21 +1415,16 @@ public class TaskQueryController extends BaseController {
             - Independent per parent (each parent has own sort sequence)
 
             Calculation Method:
-            Returns the maximum existing sort order among current children plus 1.
-            Formula: max(existing_sort_orders) + 1
+            Sort orders are sparse keys spaced 1024 apart. Each parent keeps a counter of
+            the last key handed out; this endpoint returns that counter plus the gap.
+            Formula: last_allocated_key + 1024
 
             Sort Order Examples:
-            1. Parent has 3 children with sort orders [0, 1, 2]:
-               Returns: 3 (next available)
+            1. Parent has 3 children with sort orders [1024, 2048, 3072]:
+               Returns: 4096 (next available)
 
-            2. Parent has children with sort orders [0, 5, 10]:
-               Returns: 11 (max is 10, so next is 11)
-
-            3. Parent has no children:
-               Returns: 0 (first child)
-
-            4. Parent has children with sort orders [5, 2, 8]:
-               Returns: 9 (max is 8, so next is 9)
+            2. Parent has no children:
+               Returns: 1024 (first child)
 
             Use Cases:
             - Task creation forms (pre-calculate sort order)
@@ -1377,7 +1445,7 @@ public class TaskQueryController extends BaseController {
             - Works for any parent with children
 
             Performance:
-            - Single database query (SELECT MAX)
+            - Single primary-key lookup on the parent (no aggregate over children)
             - Typical response time: 20 to 50 milliseconds
             - Efficient for any number of children
 
@@ -1387,20 +1455,17 @@ public class TaskQueryController extends BaseController {
             when clients need to know the sort order before creating the task.
 
             Return Value:
-            Integer representing next available sort order:
-            - 0: Parent has no children (first child)
-            - N+1: Parent has children, max sort order is N
+            Integer preview of the sort order the next appended child would receive.
 
             Thread Safety:
-            This endpoint provides the next sort order based on current state.
-            If multiple concurrent requests create tasks, sort order conflicts may occur.
-            The system handles this gracefully by accepting any integer sort order.
+            This endpoint only previews the counter. Keys are reserved atomically when a
+            child is created without an explicit sortOrder, so concurrent creates never
+            receive the same key.
 
             Gaps in Sort Order:
-            Sort orders do not need to be sequential. Gaps are allowed:
-            - [0, 1, 2] is valid
-            - [0, 5, 10] is also valid
-            This allows for manual reordering without updating all siblings.
+            Sort orders are intentionally sparse. A task is moved between two siblings by
+            giving it the midpoint key (see PATCH /hierarchy/{taskId}/position), so
+            reordering never rewrites the other siblings.
 
             Error Handling:
             - 404 Not Found: Parent task with given ID does not exist
@@ -1410,12 +1475,12 @@ public class TaskQueryController extends BaseController {
             GET /api/v1/tasks/hierarchy/20/nextSortOrder
 
             Example Response:
-            3
+            4096
 
             Usage Example:
-            1. GET /api/v1/tasks/hierarchy/20/nextSortOrder → returns 3
-            2. POST /api/v1/tasks/createTask with sortOrder: 3
-            3. New task created with sortOrder 3 under parent 20
+            1. GET /api/v1/tasks/hierarchy/20/nextSortOrder → returns 4096
+            2. POST /api/v1/tasks/createTask under parent 20 (sortOrder omitted)
+            3. New task created with the next reserved key under parent 20
 
             Note:
             This is a utility endpoint. Most task creation endpoints automatically assign
@@ -1437,8 +1502,16 @@ public class TaskQueryController extends BaseController {
         return executeMethod(
                 userDetails.getId(),
                 "GET_NEXT_SORT_ORDER_FOR_PARENT",
-                () -> hierarchyService.getNextSortOrderForParent(parentTaskId)
+                () -> hierarchyService.getNextSortOrderForParent(parentTaskId, userDetails.getId())
         );
     }
 
+    private Optional<String> hierarchyETag(String uuid, Long userId) {
+        try {
+            return taskVersionService.hierarchyETag(UUID.fromString(uuid), userId);
+        } catch (IllegalArgumentException e) {
+            // Not a UUID: no tag, the service reports the invalid value
+            return Optional.empty();
+        }
+    }
 }
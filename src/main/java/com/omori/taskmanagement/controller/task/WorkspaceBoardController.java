@@ -0,0 +1,73 @@
+package com.omori.taskmanagement.controller.task;
+
+import com.omori.taskmanagement.annotations.LogActivity;
+import com.omori.taskmanagement.controller.BaseController;
+import com.omori.taskmanagement.dto.common.ApiResult;
+import com.omori.taskmanagement.dto.project.task.WorkspaceBoardResponse;
+import com.omori.taskmanagement.model.audit.ActionType;
+import com.omori.taskmanagement.security.service.CustomUserDetails;
+import com.omori.taskmanagement.service.task.query.WorkspaceBoardService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Optional;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/workspaces")
+@Slf4j
+@Tag(name = "Task Management")
+public class WorkspaceBoardController extends BaseController {
+
+    private final WorkspaceBoardService workspaceBoardService;
+
+    @LogActivity(ActionType.VIEW)
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    @GetMapping("/{workspaceId}/board")
+    @Operation(summary = "Get a workspace's task board",
+            description = """
+                    Returns the workspace's active tasks as board columns, one per status, each with
+                    the number of tasks in it and its 25 most recently updated tasks.
+
+                    Available to the workspace owner and members. The whole board comes from a
+                    single query and is cached until a task in the workspace changes; the response
+                    carries an ETag, so If-None-Match revalidation returns 304 when nothing changed.
+
+                    Example Request:
+                    GET /api/v1/workspaces/42/board
+                    """)
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Board retrieved successfully"),
+            @ApiResponse(responseCode = "304",
+                    description = "Board unchanged since the given ETag"),
+            @ApiResponse(responseCode = "403",
+                    description = "Forbidden - not the owner or a member of the workspace")
+    })
+    public ResponseEntity<ApiResult<WorkspaceBoardResponse>> getBoard(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable Long workspaceId,
+            WebRequest webRequest) {
+        Long userId = userDetails.getId();
+        String eTag = workspaceBoardService.boardETag(workspaceId, userId);
+        return executeConditional(
+                userId,
+                "GET_WORKSPACE_BOARD",
+                webRequest,
+                Optional.of(eTag),
+                () -> workspaceBoardService.getBoard(workspaceId, userId, eTag)
+        );
+    }
+}
@@ -0,0 +1,32 @@
+package com.omori.taskmanagement.dto.collaboration;
+
+import com.omori.taskmanagement.model.collaboration.Attachment;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+public record AttachmentResponse(
+        Long id,
+        Long taskId,
+        Long commentId,
+        Long uploaderId,
+        String originalFilename,
+        Long fileSize,
+        String mimeType,
+        @Schema(description = "Hex SHA-256 of the content, also the ETag of the download")
+        String contentHash,
+        LocalDateTime createdAt) {
+
+    public static AttachmentResponse from(Attachment attachment) {
+        return new AttachmentResponse(
+                attachment.getId(),
+                attachment.getTask() != null ? attachment.getTask().getId() : null,
+                attachment.getComment() != null ? attachment.getComment().getId() : null,
+                attachment.getUser() != null ? attachment.getUser().getId() : null,
+                attachment.getOriginalFilename(),
+                attachment.getFileSize(),
+                attachment.getMimeType(),
+                attachment.getContentHash(),
+                attachment.getCreatedAt());
+    }
+}
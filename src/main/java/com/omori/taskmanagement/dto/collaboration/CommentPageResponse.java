@@ -0,0 +1,26 @@
+package com.omori.taskmanagement.dto.collaboration;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class CommentPageResponse {
+
+    private List<CommentResponse> items;
+
+    @Schema(description = "Pass as 'cursor' to fetch the next page; null on the last page")
+    private String nextCursor;
+
+    @Schema(description = "Comments and replies on the task; only set when listing a task's comments")
+    private Integer commentCount;
+}
@@ -0,0 +1,18 @@
+package com.omori.taskmanagement.dto.collaboration;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+@Data
+public class CommentRequest {
+
+    @NotBlank(message = "Content is required")
+    @Size(max = 255, message = "Content must be less than 255 characters")
+    @Schema(description = "Comment text; @username mentions users who can see the task", example = "@john.doe can you review this?")
+    private String content;
+
+    @Schema(description = "Comment to reply to; ignored when editing")
+    private Long parentCommentId;
+}
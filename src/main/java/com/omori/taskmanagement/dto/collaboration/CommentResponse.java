@@ -0,0 +1,33 @@
+package com.omori.taskmanagement.dto.collaboration;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+public record CommentResponse(
+        Long id,
+        Long taskId,
+        Long parentCommentId,
+        Long authorId,
+        String authorUsername,
+        String content,
+        List<Long> mentionedUserIds,
+        Boolean isEdited,
+        LocalDateTime editedAt,
+        LocalDateTime createdAt,
+        @Schema(description = "Replies of a top-level comment; fetch them from its replies endpoint")
+        Integer replyCount) {
+
+    /**
+     * Used by the constructor expressions of {@code CommentRepository}, which read mentions as an array.
+     */
+    public CommentResponse(Long id, Long taskId, Long parentCommentId, Long authorId, String authorUsername,
+                           String content, Long[] mentionIndex, Boolean isEdited, LocalDateTime editedAt,
+                           LocalDateTime createdAt, Integer replyCount) {
+        this(id, taskId, parentCommentId, authorId, authorUsername, content,
+                mentionIndex != null ? Arrays.asList(mentionIndex) : List.of(),
+                isEdited, editedAt, createdAt, replyCount);
+    }
+}
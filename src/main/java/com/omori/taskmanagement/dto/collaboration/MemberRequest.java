@@ -0,0 +1,14 @@
+package com.omori.taskmanagement.dto.collaboration;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+
+@Data
+public class MemberRequest {
+
+    @NotBlank(message = "Role is required")
+    @Schema(description = "viewer or editor for task collaborators; viewer, member or admin for workspace members",
+            example = "editor")
+    private String role;
+}
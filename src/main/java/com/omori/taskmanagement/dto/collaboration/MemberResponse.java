@@ -0,0 +1,23 @@
+package com.omori.taskmanagement.dto.collaboration;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * A task collaborator or workspace member.
+ */
+public record MemberResponse(
+        Long userId,
+        String username,
+        @Schema(description = "viewer or editor for collaborators; viewer, member or admin for workspace members")
+        String role,
+        @Schema(description = "When the user was invited or joined")
+        LocalDateTime since) {
+
+    // JPQL constructor expressions cannot convert Timestamp, which workspace_members.joined_at maps to
+    public MemberResponse(Long userId, String username, String role, Timestamp since) {
+        this(userId, username, role, since != null ? since.toLocalDateTime() : null);
+    }
+}
@@ -0,0 +1,21 @@
+package com.omori.taskmanagement.dto.notification;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class MarkNotificationsReadRequest {
+
+    @NotEmpty(message = "At least one notification ID is required")
+    @Size(max = 500, message = "At most 500 notifications can be marked at once")
+    private List<Long> ids;
+}
@@ -0,0 +1,42 @@
+package com.omori.taskmanagement.dto.notification;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.omori.taskmanagement.model.notification.Notification;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class NotificationResponse {
+
+    private Long id;
+    private String type;
+    private String title;
+    private String message;
+    @JsonRawValue
+    private String data;
+    private Boolean isRead;
+    private LocalDateTime readAt;
+    private LocalDateTime createdAt;
+
+    public static NotificationResponse from(Notification notification) {
+        return NotificationResponse.builder()
+                .id(notification.getId())
+                .type(notification.getType())
+                .title(notification.getTitle())
+                .message(notification.getMessage())
+                .data(notification.getData())
+                .isRead(notification.getIsRead())
+                .readAt(notification.getReadAt())
+                .createdAt(notification.getCreatedAt())
+                .build();
+    }
+}
@@ -28,6 +28,7 @@ public class SubtaskResponse implements Serializable {
     private LocalDateTime completedAt;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 
     public static SubtaskResponse from(Subtask subtask) {
         return SubtaskResponse.builder()
@@ -41,6 +42,7 @@ public class SubtaskResponse implements Serializable {
                 .completedAt(subtask.getCompletedAt())
                 .createdAt(subtask.getCreatedAt())
                 .updatedAt(subtask.getUpdatedAt())
+                .version(subtask.getVersion())
                 .build();
     }
 
@@ -12,4 +12,5 @@ public class SubtaskUpdateRequest {
     private String title;
     private String description;
     private Integer sortOrder;
+    private Long version;
 }
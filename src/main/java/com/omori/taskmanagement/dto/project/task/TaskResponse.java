@@ -45,6 +45,7 @@ public class TaskResponse implements Serializable {
     private Map<String, Object> metadata;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 
     @Builder.Default
     private List<SubtaskResponse> subtasks = new ArrayList<>();
@@ -76,6 +77,7 @@ public class TaskResponse implements Serializable {
                 .metadata(task.getMetadata())
                 .createdAt(task.getCreatedAt())
                 .updatedAt(task.getUpdatedAt())
+                .version(task.getVersion())
                 .taskType(task.getTaskType())
                 .parentTaskId(task.getParentTask() != null ? task.getParentTask().getId() : null)
                 .parentTaskTitle(task.getParentTask() != null ? task.getParentTask().getTitle() : null)
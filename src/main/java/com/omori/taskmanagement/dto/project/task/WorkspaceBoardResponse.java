@@ -0,0 +1,61 @@
+package com.omori.taskmanagement.dto.project.task;
+
+import com.omori.taskmanagement.model.project.Task;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A workspace's tasks as board columns, one per status.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class WorkspaceBoardResponse {
+
+    private Long workspaceId;
+
+    @Schema(description = "Active tasks in the workspace")
+    private long totalCount;
+
+    @Schema(description = "One column per task status, in status order, including empty ones")
+    private List<Column> columns;
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Getter
+    @Setter
+    public static class Column {
+
+        private Task.TaskStatus status;
+
+        @Schema(description = "Tasks with this status; more than the cards shown when the column is truncated")
+        private long count;
+
+        @Schema(description = "Most recently updated tasks first")
+        private List<Card> tasks;
+    }
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Getter
+    @Setter
+    public static class Card {
+        private Long id;
+        private UUID uuid;
+        private String title;
+        private Task.TaskPriority priority;
+        private Task.TaskType taskType;
+        private Integer progress;
+        private LocalDateTime dueDate;
+        private Long assignedToId;
+        private LocalDateTime updatedAt;
+    }
+}
@@ -14,7 +14,7 @@ public class EpicWithStoriesRequest extends EpicCreateRequest {
 
     @Valid
     @ToString.Exclude
-    @Size(max = 10, message = "Cannot create more than 10 initial stories")
+    @Size(max = 100, message = "Cannot create more than 100 initial stories")
     @Schema(description = "Initial stories under this epic task (simplified format)",
             example = "[{\"title\":\"story 1\",\n\"description\":\"Do task A\"},{\"title\":\"story 2\",\n\"description\":\"Do task B\"}]")
     private List<InitialStoryRequest> initialStories; // for createEpicWithInitialStories
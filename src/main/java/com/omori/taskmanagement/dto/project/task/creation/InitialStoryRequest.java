@@ -2,11 +2,14 @@ package com.omori.taskmanagement.dto.project.task.creation;
 
 import com.omori.taskmanagement.model.project.Task;
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Future;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.*;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Builder
 @Setter
@@ -34,6 +37,17 @@ public class InitialStoryRequest {
     @Builder.Default
     private Task.TaskPriority priority = Task.TaskPriority.medium;
 
+    @Schema(description = "Category of the story, defaults to the epic's", example = "1")
+    private Long categoryId;
+
+    @Schema(description = "Workspace of the story, defaults to the epic's", example = "1")
+    private Long workspaceId;
+
+    @Valid
+    @Size(max = 50, message = "Cannot create more than 50 tasks per story")
+    @Schema(description = "Tasks to create under this story, each with optional subtasks")
+    private List<InitialTaskRequest> tasks;
+
     public BaseTaskCreateRequest toTaskCreateRequest() {
         BaseTaskCreateRequest baseTaskCreateRequest = new BaseTaskCreateRequest();
         baseTaskCreateRequest.setTitle(title);
@@ -42,6 +56,8 @@ public class InitialStoryRequest {
         baseTaskCreateRequest.setStartDate(effectiveStartDate);
         baseTaskCreateRequest.setDueDate(dueDate != null ? dueDate : defaultDueDate(effectiveStartDate));
         baseTaskCreateRequest.setPriority(priority == null ? Task.TaskPriority.medium : priority);
+        baseTaskCreateRequest.setCategoryId(categoryId);
+        baseTaskCreateRequest.setWorkspaceId(workspaceId);
         baseTaskCreateRequest.setType(Task.TaskType.STORY);
         return baseTaskCreateRequest;
     }
@@ -0,0 +1,62 @@
+package com.omori.taskmanagement.dto.project.task.creation;
+
+import com.omori.taskmanagement.model.project.Task;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Builder
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class InitialTaskRequest {
+
+    @NotBlank(message = "Task Title is required")
+    @Schema(description = "Title of the task (task level 2)", example = "Task 1.1.1")
+    private String title;
+
+    @Schema(description = "Description of the task", example = "Do the things 1.1.1")
+    private String description;
+
+    @Future(message = "Due date must be in the future")
+    @Schema(description = "Task due date, defaults to the story due date", example = "2025-12-31T23:59:59")
+    private LocalDateTime dueDate;
+
+    @Builder.Default
+    private Task.TaskPriority priority = Task.TaskPriority.medium;
+
+    @Schema(description = "Category of the task, defaults to the story's", example = "1")
+    private Long categoryId;
+
+    @Schema(description = "Workspace of the task, defaults to the story's", example = "1")
+    private Long workspaceId;
+
+    @PositiveOrZero(message = "Estimated hours must not be negative")
+    @Schema(description = "Estimated completion time", example = "3.5")
+    private Double estimatedHours;
+
+    @Size(max = 50, message = "Cannot create more than 50 subtasks per task")
+    @Schema(description = "Titles of the subtasks to create under this task", example = "[\"Write tests\",\"Review\"]")
+    private List<@NotBlank(message = "Subtask title is required") String> subtasks;
+
+    public BaseTaskCreateRequest toTaskCreateRequest(LocalDateTime storyStartDate, LocalDateTime storyDueDate) {
+        BaseTaskCreateRequest baseTaskCreateRequest = new BaseTaskCreateRequest();
+        baseTaskCreateRequest.setTitle(title);
+        baseTaskCreateRequest.setDescription(description);
+        baseTaskCreateRequest.setStartDate(storyStartDate);
+        baseTaskCreateRequest.setDueDate(dueDate != null ? dueDate : storyDueDate);
+        baseTaskCreateRequest.setPriority(priority == null ? Task.TaskPriority.medium : priority);
+        baseTaskCreateRequest.setCategoryId(categoryId);
+        baseTaskCreateRequest.setWorkspaceId(workspaceId);
+        baseTaskCreateRequest.setEstimatedHours(estimatedHours);
+        baseTaskCreateRequest.setType(Task.TaskType.TASK);
+        return baseTaskCreateRequest;
+    }
+}
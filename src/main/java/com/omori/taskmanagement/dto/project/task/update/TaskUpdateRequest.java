@@ -42,4 +42,7 @@ public class TaskUpdateRequest {
     private Boolean isRecurring;
     private Map<String, Object> recurrencePattern;
     private Map<String, Object> metadata;
+
+    // Version the client last read; when set, the update is rejected with 409 if the task changed since
+    private Long version;
 }
\ No newline at end of file
@@ -20,6 +20,7 @@ public class ErrorResponse {
     private String message;
     private String path;
     private Map<String, String> validationErrors;
+    private Object currentState; // for conflicts: the resource as it is now
     private String traceId; // for debugging
 
 }
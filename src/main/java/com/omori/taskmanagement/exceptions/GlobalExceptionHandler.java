@@ -1,10 +1,15 @@
 package com.omori.taskmanagement.exceptions;
 
+import com.omori.taskmanagement.exceptions.collaboration.AttachmentNotFoundException;
+import com.omori.taskmanagement.exceptions.collaboration.AttachmentTooLargeException;
+import com.omori.taskmanagement.exceptions.collaboration.CommentNotFoundException;
 import com.omori.taskmanagement.exceptions.task.*;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -20,6 +25,9 @@ import java.util.Map;
 public class GlobalExceptionHandler {
 
     private static final String API_TASK_PATH = "/api/v1/tasks";
+    private static final String API_COMMENT_PATH = "/api/v1/comments";
+    private static final String API_ATTACHMENT_PATH = "/api/v1/attachments";
+    private static final String API_WORKSPACE_PATH = "/api/v1/workspaces";
 
     @ExceptionHandler(UserNotFoundException.class)
     @ResponseStatus(HttpStatus.NOT_FOUND)
@@ -113,6 +121,38 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
     }
 
+    @ExceptionHandler(TaskConflictException.class)
+    public ResponseEntity<ErrorResponse> handleTaskConflictException(TaskConflictException ex) {
+        log.warn("Task conflict: {}", ex.getMessage());
+
+        ErrorResponse error = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.CONFLICT.value())
+                .error("Conflict")
+                .message(ex.getMessage())
+                .currentState(ex.getCurrentState())
+                .path(API_TASK_PATH)
+                .build();
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
+    // Version conflicts not translated by a service, e.g. from the progress recalculation endpoints
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailure(ObjectOptimisticLockingFailureException ex) {
+        log.warn("Concurrent modification of {} {}", ex.getPersistentClassName(), ex.getIdentifier());
+
+        ErrorResponse error = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.CONFLICT.value())
+                .error("Conflict")
+                .message("The resource was modified concurrently, reload it and retry")
+                .path(API_TASK_PATH)
+                .build();
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
     @ExceptionHandler(TaskBusinessException.class)
     public ResponseEntity<ErrorResponse> handleTaskBusinessException(TaskBusinessException ex) {
         log.error("Business logic error: {}", ex.getMessage());
@@ -157,5 +197,69 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
     }
 
-    
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidCursor(InvalidCursorException ex, HttpServletRequest request) {
+        log.warn("Invalid cursor: {}", ex.getMessage());
+        // Cursors are used by several APIs, so report the actual request path
+        ErrorResponse error = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.BAD_REQUEST.value())
+                .error("Invalid Cursor")
+                .message(ex.getMessage())
+                .path(request.getRequestURI())
+                .build();
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+
+    @ExceptionHandler(CommentNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleCommentNotFound(CommentNotFoundException ex) {
+        log.warn("Comment not found: {}", ex.getMessage());
+        ErrorResponse error = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.NOT_FOUND.value())
+                .error("Comment Not Found")
+                .message(ex.getMessage())
+                .path(API_COMMENT_PATH)
+                .build();
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+    }
+
+    @ExceptionHandler(WorkspaceNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleWorkspaceNotFound(WorkspaceNotFoundException ex) {
+        log.warn("Workspace not found: {}", ex.getMessage());
+        ErrorResponse error = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.NOT_FOUND.value())
+                .error("Workspace Not Found")
+                .message(ex.getMessage())
+                .path(API_WORKSPACE_PATH)
+                .build();
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+    }
+
+    @ExceptionHandler(AttachmentNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleAttachmentNotFound(AttachmentNotFoundException ex) {
+        log.warn("Attachment not found: {}", ex.getMessage());
+        ErrorResponse error = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.NOT_FOUND.value())
+                .error("Attachment Not Found")
+                .message(ex.getMessage())
+                .path(API_ATTACHMENT_PATH)
+                .build();
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+    }
+
+    @ExceptionHandler(AttachmentTooLargeException.class)
+    public ResponseEntity<ErrorResponse> handleAttachmentTooLarge(AttachmentTooLargeException ex) {
+        log.warn("Attachment rejected: {}", ex.getMessage());
+        ErrorResponse error = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.PAYLOAD_TOO_LARGE.value())
+                .error("Payload Too Large")
+                .message(ex.getMessage())
+                .path(API_ATTACHMENT_PATH)
+                .build();
+        return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(error);
+    }
 }
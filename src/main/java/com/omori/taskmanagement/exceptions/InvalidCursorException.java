@@ -0,0 +1,7 @@
+package com.omori.taskmanagement.exceptions;
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
@@ -1,5 +1,6 @@
 package com.omori.taskmanagement.exceptions;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -21,4 +22,12 @@ public class LoginControllerAdvice {
 		return ResponseEntity.status(response.getStatus()).body(response);
 	}
 
+	@ExceptionHandler(TokenIssuanceException.class)
+	ResponseEntity<ApiExceptionResponse> handleTokenIssuanceException(TokenIssuanceException exception) {
+
+		final ApiExceptionResponse response = new ApiExceptionResponse(exception.getMessage(), HttpStatus.SERVICE_UNAVAILABLE, LocalDateTime.now());
+
+		return ResponseEntity.status(response.getStatus()).header(HttpHeaders.RETRY_AFTER, "5").body(response);
+	}
+
 }
@@ -0,0 +1,13 @@
+package com.omori.taskmanagement.exceptions;
+
+/**
+ * Thrown when a token cannot be issued safely, e.g. because the revocation store is unreachable.
+ */
+public class TokenIssuanceException extends RuntimeException {
+
+	public TokenIssuanceException(String message, Throwable cause) {
+
+		super(message, cause);
+	}
+
+}
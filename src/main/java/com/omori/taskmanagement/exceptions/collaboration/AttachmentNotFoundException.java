@@ -0,0 +1,7 @@
+package com.omori.taskmanagement.exceptions.collaboration;
+
+public class AttachmentNotFoundException extends RuntimeException {
+    public AttachmentNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.omori.taskmanagement.exceptions.collaboration;
+
+public class AttachmentTooLargeException extends RuntimeException {
+    public AttachmentTooLargeException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.omori.taskmanagement.exceptions.collaboration;
+
+public class CommentNotFoundException extends RuntimeException {
+    public CommentNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,23 @@
+package com.omori.taskmanagement.exceptions.task;
+
+import lombok.Getter;
+
+/**
+ * A task or subtask was changed by someone else since the client read it. Carries the current
+ * state so the client can merge its change and retry with the new version.
+ */
+@Getter
+public class TaskConflictException extends RuntimeException {
+
+    private final Object currentState;
+
+    public TaskConflictException(String message, Object currentState) {
+        super(message);
+        this.currentState = currentState;
+    }
+
+    public TaskConflictException(String message, Object currentState, Throwable cause) {
+        super(message, cause);
+        this.currentState = currentState;
+    }
+}
@@ -19,7 +19,8 @@ import java.util.Map;
 @Table(name = "activity_logs", schema = "audit")
 public class ActivityLog {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "activity_log_id_seq")
+    @SequenceGenerator(name = "activity_log_id_seq", schema = "audit", sequenceName = "activity_logs_log_id_seq", allocationSize = 100)
     @Column(name = "log_id")
     private Long id;
 
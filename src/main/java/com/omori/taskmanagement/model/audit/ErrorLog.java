@@ -15,7 +15,8 @@ import java.util.Map;
 @Table(name = "error_logs", schema = "audit")
 public class ErrorLog {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "error_log_id_seq")
+    @SequenceGenerator(name = "error_log_id_seq", schema = "audit", sequenceName = "error_logs_error_id_seq", allocationSize = 20)
     @Column(name = "error_id")
     private Long id;
 
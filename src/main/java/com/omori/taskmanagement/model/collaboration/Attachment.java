@@ -15,19 +15,20 @@ import java.time.LocalDateTime;
 @Table(name = "attachments", schema = "collaboration")
 public class Attachment {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "attachment_id_seq")
+    @SequenceGenerator(name = "attachment_id_seq", schema = "collaboration", sequenceName = "attachments_attachment_id_seq", allocationSize = 20)
     @Column(name = "attachment_id")
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "task_id")
     private Task task;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "comment_id")
     private Comment comment;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
@@ -55,4 +56,8 @@ public class Attachment {
     @Column(nullable = false, name = "mime_type")
     private String mimeType;
 
+    // Hex SHA-256 of the content; attachments with the same hash share one stored file
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
 }
@@ -6,6 +6,9 @@ import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -16,19 +19,20 @@ import java.util.List;
 @Table(name = "comments", schema = "collaboration")
 public class Comment {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comment_id_seq")
+    @SequenceGenerator(name = "comment_id_seq", schema = "collaboration", sequenceName = "comments_comment_id_seq", allocationSize = 50)
     @Column(name = "comment_id")
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "task_id", nullable = false)
     private Task task;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "parent_comment_id")
     private Comment parentComment;
 
@@ -44,9 +48,19 @@ public class Comment {
     @Column(name = "user_id")
     private List<Long> mentions;
 
+    // Same users as mentions, as an array for the GIN index behind "comments mentioning me"
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "mentions", columnDefinition = "bigint[]")
+    private Long[] mentionIndex;
+
+    @JdbcTypeCode(SqlTypes.JSON)
     @Column(columnDefinition = "JSONB")
     private String attachments;
 
+    // Maintained by CommentRepository#adjustReplyCount, never written from the entity
+    @Column(name = "reply_count", insertable = false, updatable = false)
+    private Integer replyCount;
+
     @Column(nullable = false, name = "is_edited")
     private Boolean isEdited;
 
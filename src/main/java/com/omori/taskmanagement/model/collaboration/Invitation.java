@@ -16,7 +16,8 @@ import org.hibernate.annotations.ColumnDefault;
 @Table(name = "invitations", schema = "collaboration")
 public class Invitation {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "invitation_id_seq")
+    @SequenceGenerator(name = "invitation_id_seq", schema = "collaboration", sequenceName = "invitations_invitation_id_seq", allocationSize = 10)
     @Column(name = "invitation_id")
     private Long id;
 
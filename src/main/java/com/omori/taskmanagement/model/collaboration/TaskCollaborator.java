@@ -18,14 +18,15 @@ import org.hibernate.annotations.ColumnDefault;
 })
 public class TaskCollaborator {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_collaborator_id_seq")
+    @SequenceGenerator(name = "task_collaborator_id_seq", schema = "collaboration", sequenceName = "task_collaborators_id_seq", allocationSize = 20)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "task_id", nullable = false)
     private Task task;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
@@ -33,7 +34,7 @@ public class TaskCollaborator {
     @ColumnDefault("'viewer'")
     private String role;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "invited_by")
     private User inviter;
 
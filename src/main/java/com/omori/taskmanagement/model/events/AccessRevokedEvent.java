@@ -0,0 +1,19 @@
+package com.omori.taskmanagement.model.events;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Event published after a user lost access granted through sharing or workspace membership,
+ * so state derived from the old grants (open task streams) can be dropped.
+ */
+@Getter
+public class AccessRevokedEvent extends ApplicationEvent {
+
+    private final Long userId;
+
+    public AccessRevokedEvent(Object source, Long userId) {
+        super(source);
+        this.userId = userId;
+    }
+}
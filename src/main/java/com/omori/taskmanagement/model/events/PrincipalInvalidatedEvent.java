@@ -0,0 +1,22 @@
+package com.omori.taskmanagement.model.events;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Event published when a user's cached authentication data must no longer be trusted
+ * (role or password change, deactivation, token revocation).
+ * A null username invalidates every cached principal.
+ */
+@Getter
+public class PrincipalInvalidatedEvent extends ApplicationEvent {
+
+    private final String username;
+    private final String reason;
+
+    public PrincipalInvalidatedEvent(Object source, String username, String reason) {
+        super(source);
+        this.username = username;
+        this.reason = reason;
+    }
+}
@@ -0,0 +1,75 @@
+package com.omori.taskmanagement.model.events;
+
+import com.omori.taskmanagement.model.project.Task;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Event published when a task's fields or its computed progress change, used to push the change
+ * to connected clients. Recipients (owner and assignee) and ancestors (story, epic) are captured
+ * from the entity when the event is created, so listeners need no further queries.
+ */
+@Getter
+public class TaskChangedEvent extends ApplicationEvent {
+
+    // Epic > story > task; the bound only guards against a corrupt parent cycle
+    private static final int MAX_ANCESTORS = 8;
+
+    public enum Kind {
+        TASK_UPDATED, PROGRESS_CHANGED
+    }
+
+    private final Kind kind;
+    private final Long taskId;
+    private final List<Long> ancestorIds;
+    private final Set<Long> recipientIds;
+    private final Integer progress;
+    private final String status;
+    private final Set<String> changedFields;
+
+    private TaskChangedEvent(Object source, Kind kind, Task task, Set<String> changedFields) {
+        super(source);
+        this.kind = kind;
+        this.taskId = task.getId();
+        this.ancestorIds = ancestorIds(task);
+        this.recipientIds = recipientIds(task);
+        this.progress = task.getProgress();
+        this.status = task.getStatus() != null ? task.getStatus().name() : null;
+        this.changedFields = Collections.unmodifiableSet(new LinkedHashSet<>(changedFields));
+    }
+
+    public static TaskChangedEvent updated(Object source, Task task, Set<String> changedFields) {
+        return new TaskChangedEvent(source, Kind.TASK_UPDATED, task, changedFields);
+    }
+
+    public static TaskChangedEvent progressChanged(Object source, Task task) {
+        return new TaskChangedEvent(source, Kind.PROGRESS_CHANGED, task, Set.of("progress"));
+    }
+
+    private static List<Long> ancestorIds(Task task) {
+        List<Long> ancestors = new ArrayList<>(2);
+        Task parent = task.getParentTask();
+        while (parent != null && ancestors.size() < MAX_ANCESTORS) {
+            ancestors.add(parent.getId());
+            parent = parent.getParentTask();
+        }
+        return Collections.unmodifiableList(ancestors);
+    }
+
+    private static Set<Long> recipientIds(Task task) {
+        Set<Long> recipients = new LinkedHashSet<>(2);
+        if (task.getUser() != null) {
+            recipients.add(task.getUser().getId());
+        }
+        if (task.getAssignedTo() != null) {
+            recipients.add(task.getAssignedTo().getId());
+        }
+        return Collections.unmodifiableSet(recipients);
+    }
+}
@@ -14,7 +14,8 @@ import java.time.LocalDateTime;
 @Table(name = "notifications", schema = "notification")
 public class Notification {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_id_seq")
+    @SequenceGenerator(name = "notification_id_seq", schema = "notification", sequenceName = "notifications_notification_id_seq", allocationSize = 50)
     @Column(name = "notification_id")
     private Long id;
 
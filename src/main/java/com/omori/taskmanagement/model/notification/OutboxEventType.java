@@ -0,0 +1,19 @@
+package com.omori.taskmanagement.model.notification;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Task events written to {@code notification.outbox}, with the template that renders them and
+ * the {@link NotificationType} of the resulting notifications.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum OutboxEventType {
+    TASK_COMPLETED("task_completed", NotificationType.TASK_UPDATE),
+    TASK_ASSIGNED("task_assigned", NotificationType.TASK_ASSIGNMENT),
+    TASK_DUE_SOON("task_due_soon", NotificationType.DEADLINE_APPROACHING);
+
+    private final String templateName;
+    private final NotificationType notificationType;
+}
@@ -16,7 +16,8 @@ import java.util.Set;
 @Table(name = "reminders", schema = "notification")
 public class Reminder {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reminder_id_seq")
+    @SequenceGenerator(name = "reminder_id_seq", schema = "notification", sequenceName = "reminders_reminder_id_seq", allocationSize = 20)
     @Column(name = "reminder_id")
     private Long id;
 
@@ -35,6 +36,10 @@ public class Reminder {
     @Column(nullable = false, name = "repeat_interval", columnDefinition = "repeat_interval DEFAULT 'none'")
     private RepeatInterval repeatInterval;
 
+    // First occurrence of a repeating reminder, set on its first repeat; remindAt until then
+    @Column(name = "repeat_anchor")
+    private LocalDateTime repeatAnchor;
+
     @ElementCollection
     @CollectionTable(
         name = "reminder_notification_types",
@@ -56,6 +61,12 @@ public class Reminder {
     @Column(columnDefinition = "JSONB")
     private String metadata;
 
+    @Column(name = "claimed_by")
+    private String claimedBy;
+
+    @Column(name = "claim_expires_at")
+    private LocalDateTime claimExpiresAt;
+
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
@@ -13,7 +13,8 @@ import java.time.LocalDateTime;
 @Table(name = "templates", schema = "notification")
 public class Template {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "template_id_seq")
+    @SequenceGenerator(name = "template_id_seq", schema = "notification", sequenceName = "templates_template_id_seq", allocationSize = 10)
     @Column(name = "template_id")
     private Long id;
 
@@ -15,7 +15,8 @@ import org.hibernate.annotations.ColumnDefault;
 @Table(name = "categories", schema = "project")
 public class Category {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "category_id_seq")
+    @SequenceGenerator(name = "category_id_seq", schema = "project", sequenceName = "categories_category_id_seq", allocationSize = 10)
     @Column(name = "category_id")
     private Long id;
 
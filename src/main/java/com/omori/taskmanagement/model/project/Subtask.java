@@ -1,5 +1,6 @@
 package com.omori.taskmanagement.model.project;
 
+import com.omori.taskmanagement.utils.diff.Diffable;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -10,10 +11,12 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @SuperBuilder
 @Entity
+@Diffable(exclude = {"createdAt", "updatedAt", "deletedAt", "version"})
 @Table(name = "subtasks", schema = "project")
 public class Subtask {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "subtask_id_seq")
+    @SequenceGenerator(name = "subtask_id_seq", schema = "project", sequenceName = "subtasks_subtask_id_seq", allocationSize = 50)
     @Column(name = "subtask_id")
     private Long id;
 
@@ -43,4 +46,8 @@ public class Subtask {
 
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
 }
@@ -18,7 +18,8 @@ import com.omori.taskmanagement.model.usermgmt.User;
 })
 public class Tag {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tag_id_seq")
+    @SequenceGenerator(name = "tag_id_seq", schema = "project", sequenceName = "tags_tag_id_seq", allocationSize = 10)
     @Column(name = "tag_id")
     private Long id;
 
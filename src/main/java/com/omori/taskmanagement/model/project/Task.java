@@ -3,6 +3,7 @@ package com.omori.taskmanagement.model.project;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.omori.taskmanagement.model.audit.JsonbConverter;
 import com.omori.taskmanagement.model.usermgmt.User;
+import com.omori.taskmanagement.utils.diff.Diffable;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
@@ -18,10 +19,12 @@ import java.util.*;
 @NoArgsConstructor
 @SuperBuilder
 @Entity
+@Diffable(exclude = {"createdAt", "updatedAt", "deletedAt", "version"})
 @Table(name = "tasks", schema = "project")
 public class Task {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_id_seq")
+    @SequenceGenerator(name = "task_id_seq", schema = "project", sequenceName = "tasks_task_id_seq", allocationSize = 50)
     @Column(name = "task_id")
     private Long id;
 
@@ -117,6 +120,10 @@ public class Task {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     public enum TaskPriority {
         low, medium, high, urgent
     }
@@ -15,7 +15,8 @@ import java.time.LocalDateTime;
 })
 public class TaskTag {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_tag_id_seq")
+    @SequenceGenerator(name = "task_tag_id_seq", schema = "project", sequenceName = "task_tags_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne
@@ -14,7 +14,8 @@ import java.time.LocalDateTime;
 @Table(name = "workspaces", schema = "project")
 public class Workspace {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "workspace_id_seq")
+    @SequenceGenerator(name = "workspace_id_seq", schema = "project", sequenceName = "workspaces_workspace_id_seq", allocationSize = 10)
     @Column(name = "workspace_id")
     private Long id;
 
@@ -16,14 +16,15 @@ import org.hibernate.annotations.ColumnDefault;
 })
 public class WorkspaceMember {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "workspace_member_id_seq")
+    @SequenceGenerator(name = "workspace_member_id_seq", schema = "project", sequenceName = "workspace_members_id_seq", allocationSize = 20)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "workspace_id", nullable = false)
     private Workspace workspace;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
@@ -31,7 +32,7 @@ public class WorkspaceMember {
     @ColumnDefault("'member'")
     private String role;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "invited_by")
     private User inviter;
 
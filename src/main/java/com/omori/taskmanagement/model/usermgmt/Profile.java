@@ -17,7 +17,8 @@ import org.hibernate.annotations.Type;
 @Table(name = "profiles", schema = "user_mgmt")
 public class Profile {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "profile_id_seq")
+    @SequenceGenerator(name = "profile_id_seq", schema = "user_mgmt", sequenceName = "profiles_profile_id_seq", allocationSize = 10)
     @Column(name = "profile_id")
     private Long id;
 
@@ -1,5 +1,6 @@
 package com.omori.taskmanagement.model.usermgmt;
 
+import com.omori.taskmanagement.utils.diff.DiffIgnore;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -13,7 +14,8 @@ import java.time.LocalDateTime;
 @Table(name = "users", schema = "user_mgmt")
 public class User {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_id_seq")
+    @SequenceGenerator(name = "user_id_seq", schema = "user_mgmt", sequenceName = "users_user_id_seq", allocationSize = 10)
     @Column(name = "user_id")
     private Long id;
 
@@ -35,6 +37,7 @@ public class User {
     @Column(name = "mobile_verified_at")
     private LocalDateTime mobileVerifiedAt;
 
+    @DiffIgnore
     @Column(nullable = false, name = "password_hash")
     private String passwordHash;
 
@@ -0,0 +1,30 @@
+package com.omori.taskmanagement.repository.collaboration;
+
+import com.omori.taskmanagement.dto.collaboration.AttachmentResponse;
+import com.omori.taskmanagement.model.collaboration.Attachment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface AttachmentRepository extends JpaRepository<Attachment, Long> {
+
+    Optional<Attachment> findByIdAndDeletedAtIsNull(Long id);
+
+    /**
+     * Lists the live attachments of a task, newest first, without loading entities.
+     *
+     * @param taskId the ID of the task
+     * @return attachment metadata ordered by creation time and ID, descending
+     */
+    @Query("SELECT new com.omori.taskmanagement.dto.collaboration.AttachmentResponse("
+            + "a.id, a.task.id, a.comment.id, a.user.id, a.originalFilename, a.fileSize, a.mimeType, "
+            + "a.contentHash, a.createdAt) "
+            + "FROM Attachment a WHERE a.task.id = :taskId AND a.deletedAt IS NULL "
+            + "ORDER BY a.createdAt DESC, a.id DESC")
+    List<AttachmentResponse> findTaskAttachments(@Param("taskId") Long taskId);
+}
@@ -0,0 +1,120 @@
+package com.omori.taskmanagement.repository.collaboration;
+
+import com.omori.taskmanagement.dto.collaboration.CommentResponse;
+import com.omori.taskmanagement.model.collaboration.Comment;
+import com.omori.taskmanagement.repository.project.TaskRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface CommentRepository extends JpaRepository<Comment, Long> {
+
+    // Comment rows with their author's username in one query, without loading entities
+    String COMMENT_VIEW = "SELECT new com.omori.taskmanagement.dto.collaboration.CommentResponse("
+            + "c.id, c.task.id, c.parentComment.id, u.id, u.username, c.content, c.mentionIndex, "
+            + "c.isEdited, c.editedAt, c.createdAt, c.replyCount) "
+            + "FROM Comment c JOIN c.user u ";
+
+    Optional<Comment> findByIdAndDeletedAtIsNull(Long id);
+
+    @Query(COMMENT_VIEW + "WHERE c.id = :id")
+    Optional<CommentResponse> findViewById(@Param("id") Long id);
+
+    /**
+     * Finds the top-level comments of a task older than the cursor, newest first.
+     *
+     * @param taskId    the ID of the task
+     * @param createdAt creation time of the last comment on the previous page
+     * @param id        ID of the last comment on the previous page
+     * @param limit     page size
+     * @return comments without a parent, ordered by creation time and ID, descending
+     */
+    @Query(COMMENT_VIEW + "WHERE c.task.id = :taskId AND c.parentComment IS NULL AND c.deletedAt IS NULL "
+            + "AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id)) "
+            + "ORDER BY c.createdAt DESC, c.id DESC")
+    List<CommentResponse> findTopLevelBefore(@Param("taskId") Long taskId,
+                                             @Param("createdAt") LocalDateTime createdAt,
+                                             @Param("id") Long id,
+                                             Limit limit);
+
+    /**
+     * Finds the replies of a comment newer than the cursor, oldest first.
+     *
+     * @param parentId  the ID of the replied-to comment
+     * @param createdAt creation time of the last reply on the previous page
+     * @param id        ID of the last reply on the previous page
+     * @param limit     page size
+     * @return replies ordered by creation time and ID, ascending
+     */
+    @Query(COMMENT_VIEW + "WHERE c.parentComment.id = :parentId AND c.deletedAt IS NULL "
+            + "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)) "
+            + "ORDER BY c.createdAt ASC, c.id ASC")
+    List<CommentResponse> findRepliesAfter(@Param("parentId") Long parentId,
+                                           @Param("createdAt") LocalDateTime createdAt,
+                                           @Param("id") Long id,
+                                           Limit limit);
+
+    /**
+     * Finds comments mentioning a user older than the cursor, newest first. Served by the GIN
+     * index on {@code comments.mentions}; access to each comment's task is re-checked, so a
+     * mention on a task the user has since lost access to is not returned.
+     *
+     * @param userId    the ID of the mentioned user
+     * @param createdAt creation time of the last comment on the previous page
+     * @param id        ID of the last comment on the previous page
+     * @param limit     page size
+     * @return comments on live tasks the user can access, ordered by creation time and ID, descending
+     */
+    @Query(COMMENT_VIEW + "JOIN c.task t WHERE array_contains(c.mentionIndex, :userId) "
+            + "AND c.deletedAt IS NULL AND t.deletedAt IS NULL "
+            + "AND " + TaskRepository.ACCESSIBLE_BY_USER + " "
+            + "AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id)) "
+            + "ORDER BY c.createdAt DESC, c.id DESC")
+    List<CommentResponse> findMentioningBefore(@Param("userId") Long userId,
+                                               @Param("createdAt") LocalDateTime createdAt,
+                                               @Param("id") Long id,
+                                               Limit limit);
+
+    /**
+     * Soft-deletes the live replies of a comment.
+     *
+     * @return the number of replies deleted
+     */
+    @Modifying
+    @Query("UPDATE Comment c SET c.deletedAt = :deletedAt "
+            + "WHERE c.parentComment.id = :parentId AND c.deletedAt IS NULL")
+    int softDeleteReplies(@Param("parentId") Long parentId, @Param("deletedAt") LocalDateTime deletedAt);
+
+    /**
+     * Adds {@code delta} to a comment's reply count in the database, never going below zero.
+     */
+    @Modifying
+    @Query(value = "UPDATE collaboration.comments SET reply_count = GREATEST(reply_count + :delta, 0) "
+            + "WHERE comment_id = :commentId", nativeQuery = true)
+    void adjustReplyCount(@Param("commentId") Long commentId, @Param("delta") int delta);
+
+    /**
+     * Adds {@code delta} to a task's comment count, creating the counter row on the first comment.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO collaboration.task_comment_counts AS tc (task_id, comment_count) "
+            + "VALUES (:taskId, GREATEST(:delta, 0)) "
+            + "ON CONFLICT (task_id) DO UPDATE SET comment_count = GREATEST(tc.comment_count + :delta, 0)",
+            nativeQuery = true)
+    void adjustTaskCommentCount(@Param("taskId") Long taskId, @Param("delta") int delta);
+
+    /**
+     * @return live comments and replies on the task, empty if it never had a comment
+     */
+    @Query(value = "SELECT comment_count FROM collaboration.task_comment_counts WHERE task_id = :taskId",
+            nativeQuery = true)
+    Optional<Integer> findTaskCommentCount(@Param("taskId") Long taskId);
+}
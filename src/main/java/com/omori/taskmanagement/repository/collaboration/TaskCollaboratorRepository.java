@@ -0,0 +1,28 @@
+package com.omori.taskmanagement.repository.collaboration;
+
+import com.omori.taskmanagement.dto.collaboration.MemberResponse;
+import com.omori.taskmanagement.model.collaboration.TaskCollaborator;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TaskCollaboratorRepository extends JpaRepository<TaskCollaborator, Long> {
+
+    /**
+     * Finds the collaborator row of a user on a task, including a removed one so re-sharing can revive it.
+     */
+    @Query("SELECT c FROM TaskCollaborator c WHERE c.task.id = :taskId AND c.user.id = :userId")
+    Optional<TaskCollaborator> findByTaskIdAndUserId(@Param("taskId") Long taskId, @Param("userId") Long userId);
+
+    @Query("SELECT new com.omori.taskmanagement.dto.collaboration.MemberResponse("
+            + "u.id, u.username, c.role, c.invitedAt) "
+            + "FROM TaskCollaborator c JOIN c.user u "
+            + "WHERE c.task.id = :taskId AND c.deletedAt IS NULL "
+            + "ORDER BY c.invitedAt, u.id")
+    List<MemberResponse> findTaskCollaborators(@Param("taskId") Long taskId);
+}
@@ -0,0 +1,88 @@
+package com.omori.taskmanagement.repository.notification;
+
+import com.omori.taskmanagement.model.notification.Notification;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface NotificationRepository extends JpaRepository<Notification, Long> {
+
+    /**
+     * Finds a user's unread notifications older than the cursor, newest first.
+     *
+     * @param userId    the ID of the user
+     * @param createdAt creation time of the last notification on the previous page
+     * @param id        ID of the last notification on the previous page
+     * @param limit     page size
+     * @return unread notifications ordered by creation time and ID, descending
+     */
+    @Query("SELECT n FROM Notification n WHERE n.user.id = :userId AND n.isRead = false "
+            + "AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id)) "
+            + "ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findUnreadBefore(@Param("userId") Long userId,
+                                        @Param("createdAt") LocalDateTime createdAt,
+                                        @Param("id") Long id,
+                                        Limit limit);
+
+    /**
+     * Finds a user's notifications older than the cursor, newest first.
+     *
+     * @param userId    the ID of the user
+     * @param createdAt creation time of the last notification on the previous page
+     * @param id        ID of the last notification on the previous page
+     * @param limit     page size
+     * @return notifications ordered by creation time and ID, descending
+     */
+    @Query("SELECT n FROM Notification n WHERE n.user.id = :userId "
+            + "AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id)) "
+            + "ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findBefore(@Param("userId") Long userId,
+                                  @Param("createdAt") LocalDateTime createdAt,
+                                  @Param("id") Long id,
+                                  Limit limit);
+
+    /**
+     * Counts a user's unread notifications. Only used to seed the cached counter.
+     *
+     * @param userId the ID of the user
+     * @return the number of unread notifications
+     */
+    @Query("SELECT COUNT(n) FROM Notification n WHERE n.user.id = :userId AND n.isRead = false")
+    long countUnread(@Param("userId") Long userId);
+
+    /**
+     * Marks some of a user's notifications as read; IDs of other users' or already read
+     * notifications are ignored.
+     *
+     * @param userId the ID of the user
+     * @param ids    the notification IDs
+     * @param readAt read timestamp
+     * @return the number of notifications that changed from unread to read
+     */
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true, n.readAt = :readAt "
+            + "WHERE n.user.id = :userId AND n.id IN :ids AND n.isRead = false")
+    int markRead(@Param("userId") Long userId,
+                 @Param("ids") Collection<Long> ids,
+                 @Param("readAt") LocalDateTime readAt);
+
+    /**
+     * Marks every unread notification of a user as read in one statement.
+     *
+     * @param userId the ID of the user
+     * @param readAt read timestamp
+     * @return the number of notifications that changed from unread to read
+     */
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true, n.readAt = :readAt "
+            + "WHERE n.user.id = :userId AND n.isRead = false")
+    int markAllRead(@Param("userId") Long userId, @Param("readAt") LocalDateTime readAt);
+}
@@ -0,0 +1,31 @@
+package com.omori.taskmanagement.repository.notification;
+
+import com.omori.taskmanagement.model.notification.Reminder;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Reminder CRUD. Claiming and completing due reminders is done in bulk by
+ * {@link com.omori.taskmanagement.service.reminder.ReminderStore}.
+ */
+@Repository
+public interface ReminderRepository extends JpaRepository<Reminder, Long> {
+
+    /**
+     * Finds the active reminders of a task.
+     *
+     * @param taskId the ID of the task
+     * @return non-deleted, active reminders ordered by due time
+     */
+    List<Reminder> findByTaskIdAndIsActiveTrueAndDeletedAtIsNullOrderByRemindAt(Long taskId);
+
+    /**
+     * Finds the pending reminders of a user.
+     *
+     * @param userId the ID of the user
+     * @return non-deleted, active, unsent reminders ordered by due time
+     */
+    List<Reminder> findByUserIdAndIsActiveTrueAndIsSentFalseAndDeletedAtIsNullOrderByRemindAt(Long userId);
+}
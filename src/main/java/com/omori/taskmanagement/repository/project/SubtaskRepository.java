@@ -1,9 +1,11 @@
 package com.omori.taskmanagement.repository.project;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -52,14 +54,52 @@ public interface SubtaskRepository extends JpaRepository<Subtask, Long> {
     Long countSubtaskByTaskId(@Param("taskId") Long taskId);
 
     /**
-     * Finds the maximum sort order of subtasks for a given task ID.
+     * Finds the sort key of a subtask under the given task.
      *
-     * @param taskId the ID of the task
-     * @return the maximum sort order of non-deleted subtasks associated with the
-     *         given task ID, or null if no subtasks exist
+     * @param subtaskId the ID of the subtask
+     * @param taskId    the ID of the owning task
+     * @return the sort key, or empty if the subtask is not an active subtask of the task
+     */
+    @Query("SELECT s.sortOrder FROM Subtask s WHERE s.id = :subtaskId AND s.task.id = :taskId AND s.deletedAt IS NULL")
+    Optional<Integer> findSortOrderByIdAndTaskId(@Param("subtaskId") Long subtaskId, @Param("taskId") Long taskId);
+
+    /**
+     * Finds the smallest sibling sort key strictly after the given key.
+     *
+     * @param taskId            the ID of the owning task
+     * @param sortOrder         the key to search after
+     * @param excludedSubtaskId the subtask being moved, ignored as a neighbour
+     * @return the next sibling key, or null if there is none
+     */
+    @Query("SELECT MIN(s.sortOrder) FROM Subtask s WHERE s.task.id = :taskId AND s.sortOrder > :sortOrder "
+            + "AND s.id <> :excludedSubtaskId AND s.deletedAt IS NULL")
+    Integer findNextSortOrderAfter(@Param("taskId") Long taskId,
+                                   @Param("sortOrder") int sortOrder,
+                                   @Param("excludedSubtaskId") Long excludedSubtaskId);
+
+    /**
+     * Finds the owning task ID of a subtask without loading the entity.
+     *
+     * @param subtaskId the ID of the subtask
+     * @return the owning task ID, or empty if the subtask does not exist or is deleted
+     */
+    @Query("SELECT s.task.id FROM Subtask s WHERE s.id = :subtaskId AND s.deletedAt IS NULL")
+    Optional<Long> findTaskIdById(@Param("subtaskId") Long subtaskId);
+
+    /**
+     * Writes a single subtask's sort key.
+     *
+     * @param subtaskId the ID of the subtask
+     * @param sortOrder the new sort key
+     * @param updatedAt modification timestamp
+     * @return the number of updated rows
      */
-    @Query("SELECT MAX(s.sortOrder) FROM Subtask s WHERE s.task.id = :taskId AND s.deletedAt IS NULL")
-    Long findMaxSortOrderByTaskId(@Param("taskId") Long taskId);
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Subtask s SET s.sortOrder = :sortOrder, s.updatedAt = :updatedAt, s.version = s.version + 1 " +
+            "WHERE s.id = :subtaskId")
+    int updateSortOrder(@Param("subtaskId") Long subtaskId,
+                        @Param("sortOrder") int sortOrder,
+                        @Param("updatedAt") LocalDateTime updatedAt);
 
     /**
      * Finds all completed subtasks by task ID and filters out deleted subtasks.
@@ -5,6 +5,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -15,6 +16,20 @@ import java.util.UUID;
 
 public interface TaskRepository extends JpaRepository<Task, Long> {
 
+        /**
+         * Tasks a user can see: owned, assigned, shared with the user, or in a workspace the user
+         * belongs to or owns. Each branch is a probe on an indexed membership table rather than a
+         * join, so it adds no rows and combines with any other condition on {@code t}. Subquery
+         * aliases are prefixed so other repositories can reuse it next to their own.
+         */
+        String ACCESSIBLE_BY_USER = "(t.user.id = :userId OR t.assignedTo.id = :userId " +
+                "OR EXISTS (SELECT 1 FROM TaskCollaborator tc " +
+                "WHERE tc.task.id = t.id AND tc.user.id = :userId AND tc.deletedAt IS NULL) " +
+                "OR EXISTS (SELECT 1 FROM WorkspaceMember wm " +
+                "WHERE wm.workspace.id = t.workspace.id AND wm.user.id = :userId) " +
+                "OR EXISTS (SELECT 1 FROM Workspace ws " +
+                "WHERE ws.id = t.workspace.id AND ws.owner.id = :userId AND ws.deletedAt IS NULL))";
+
         /**
          * Finds a task by UUID.
          * Performance: O(1) lookup using unique UUID index
@@ -47,6 +62,21 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
         @Query("SELECT t FROM Task t WHERE t.user.id = :userId AND t.deletedAt IS NULL")
         Page<Task> findByUserIdAndNotDeleted(@Param("userId") Long userId, Pageable pageable);
 
+        /**
+         * Retrieves every task the user can access with pagination.
+         * Performance: Index probes on collaborators (user_id, task_id) and workspace members
+         * (user_id, workspace_id) per candidate task, see {@link #ACCESSIBLE_BY_USER}
+         * Use case: Shared task list, tasks visible across the user's workspaces
+         *
+         * @param userId the user identifier
+         * @param pageable pagination and sorting parameters
+         * @return paginated list of active tasks the user can access
+         */
+        @EntityGraph(attributePaths = {"user", "workspace", "category", "assignedTo"})
+        @Query(value = "SELECT t FROM Task t WHERE t.deletedAt IS NULL AND " + ACCESSIBLE_BY_USER,
+                countQuery = "SELECT COUNT(t) FROM Task t WHERE t.deletedAt IS NULL AND " + ACCESSIBLE_BY_USER)
+        Page<Task> findAccessibleByUserId(@Param("userId") Long userId, Pageable pageable);
+
         /**
          * Finds user's tasks by status.
          * Performance: Composite index on (user_id, status, deleted_at)
@@ -189,15 +219,182 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
         List<Task> findAllTasksUnderEpic(@Param("epicId") Long epicId);
 
         /**
-         * Finds maximum sort order for new task positioning.
-         * Performance: MAX() aggregate with proper indexing is very fast
-         * Use case: Adding new tasks to the end of a list, maintaining sort order
+         * Atomically reserves a span of child sort keys under a parent task.
+         * Performance: Single-row UPDATE ... RETURNING on the parent (PK lookup), only that row is locked
+         * Use case: Appending child tasks without a MAX() read; concurrent creates always get distinct keys
+         *
+         * @param parentTaskId the parent task identifier
+         * @param span total key span to reserve (gap * number of keys)
+         * @param limit highest counter value that still leaves room for the span
+         * @return the last key of the reserved span, null if the parent is missing or the key space is exhausted
+         */
+        @Query(value = "UPDATE project.tasks SET child_sort_seq = child_sort_seq + :span " +
+                "WHERE task_id = :parentTaskId AND child_sort_seq <= :limit RETURNING child_sort_seq",
+                nativeQuery = true)
+        Integer reserveChildSortKeys(@Param("parentTaskId") Long parentTaskId,
+                                     @Param("span") int span,
+                                     @Param("limit") int limit);
+
+        /**
+         * Atomically reserves a span of subtask sort keys under a task.
+         * Performance: Single-row UPDATE ... RETURNING on the task (PK lookup), only that row is locked
+         * Use case: Appending subtasks without a MAX() read; concurrent creates always get distinct keys
+         *
+         * @param taskId the owning task identifier
+         * @param span total key span to reserve (gap * number of keys)
+         * @param limit highest counter value that still leaves room for the span
+         * @return the last key of the reserved span, null if the task is missing or the key space is exhausted
+         */
+        @Query(value = "UPDATE project.tasks SET subtask_sort_seq = subtask_sort_seq + :span " +
+                "WHERE task_id = :taskId AND subtask_sort_seq <= :limit RETURNING subtask_sort_seq",
+                nativeQuery = true)
+        Integer reserveSubtaskSortKeys(@Param("taskId") Long taskId,
+                                       @Param("span") int span,
+                                       @Param("limit") int limit);
+
+        /**
+         * Reads the child sort key counter without advancing it.
+         * Performance: PK lookup, no aggregate over siblings
+         * Use case: Previewing the key the next appended child would receive
+         *
+         * @param parentTaskId the parent task identifier
+         * @return last allocated child sort key, empty if the parent does not exist
+         */
+        @Query(value = "SELECT child_sort_seq FROM project.tasks WHERE task_id = :parentTaskId", nativeQuery = true)
+        Optional<Integer> findChildSortSeq(@Param("parentTaskId") Long parentTaskId);
+
+        /**
+         * Takes a row lock on a parent task to serialize ordering changes among its children.
+         * Performance: PK lookup, row-level lock only (siblings of other parents are unaffected)
+         * Use case: Moving a child between neighbours or rebalancing keys under one parent
+         *
+         * @param taskId the parent task identifier
+         * @return the task id if the row exists, null otherwise
+         */
+        @Query(value = "SELECT task_id FROM project.tasks WHERE task_id = :taskId FOR UPDATE", nativeQuery = true)
+        Long lockForSortOrdering(@Param("taskId") Long taskId);
+
+        /**
+         * Finds the sort key of a child task under the given parent.
+         * Performance: PK lookup
+         * Use case: Resolving the "previous sibling" anchor of a move
          *
+         * @param taskId the child task identifier
          * @param parentTaskId the parent task identifier
-         * @return highest sort_order value, empty if no children exist
+         * @return sort key, empty if the task is not an active child of the parent
+         */
+        @Query("SELECT t.sortOrder FROM Task t WHERE t.id = :taskId AND t.parentTask.id = :parentTaskId AND t.deletedAt IS NULL")
+        Optional<Integer> findSortOrderByIdAndParentTaskId(@Param("taskId") Long taskId,
+                                                           @Param("parentTaskId") Long parentTaskId);
+
+        /**
+         * Finds the smallest sibling key strictly after the given key.
+         * Performance: Index range scan on (parent_task_id, sort_order), first row only
+         * Use case: Resolving the "next sibling" anchor of a move
+         *
+         * @param parentTaskId the parent task identifier
+         * @param sortOrder the key to search after
+         * @param excludedTaskId the task being moved, ignored as a neighbour
+         * @return next sibling key, null if the anchor is the last sibling
+         */
+        @Query("SELECT MIN(t.sortOrder) FROM Task t WHERE t.parentTask.id = :parentTaskId " +
+                "AND t.sortOrder > :sortOrder AND t.id <> :excludedTaskId AND t.deletedAt IS NULL")
+        Integer findNextChildSortOrderAfter(@Param("parentTaskId") Long parentTaskId,
+                                            @Param("sortOrder") int sortOrder,
+                                            @Param("excludedTaskId") Long excludedTaskId);
+
+        /**
+         * Writes a single task's sort key.
+         * Performance: Single-row UPDATE by PK
+         * Use case: O(1) move of a task between two siblings
+         *
+         * @param taskId the task identifier
+         * @param sortOrder the new sort key
+         * @param updatedAt modification timestamp
+         * @return number of updated rows
+         */
+        @Modifying(flushAutomatically = true)
+        @Query("UPDATE Task t SET t.sortOrder = :sortOrder, t.updatedAt = :updatedAt, t.version = t.version + 1 " +
+                "WHERE t.id = :taskId")
+        int updateSortOrder(@Param("taskId") Long taskId,
+                            @Param("sortOrder") int sortOrder,
+                            @Param("updatedAt") LocalDateTime updatedAt);
+
+        /**
+         * Re-spaces all active children of a parent to evenly gapped keys, keeping their order.
+         * Performance: One window-function UPDATE over the parent's children
+         * Use case: Rebalancing when two neighbours have no free key between them
+         *
+         * @param parentTaskId the parent task identifier
+         * @param gap distance between consecutive keys
+         * @param updatedAt update timestamp of the children whose key changed
+         * @return number of re-spaced children
+         */
+        @Modifying(flushAutomatically = true, clearAutomatically = true)
+        @Query(value = "UPDATE project.tasks t SET sort_order = r.rn * :gap, updated_at = :updatedAt, version = t.version + 1 FROM (" +
+                "SELECT task_id, ROW_NUMBER() OVER (ORDER BY sort_order, task_id) AS rn FROM project.tasks " +
+                "WHERE parent_task_id = :parentTaskId AND deleted_at IS NULL) r " +
+                "WHERE t.task_id = r.task_id AND t.sort_order IS DISTINCT FROM r.rn * :gap",
+                nativeQuery = true)
+        int respaceChildSortKeys(@Param("parentTaskId") Long parentTaskId,
+                                 @Param("gap") int gap,
+                                 @Param("updatedAt") LocalDateTime updatedAt);
+
+        /**
+         * Re-spaces all active subtasks of a task to evenly gapped keys, keeping their order.
+         * Performance: One window-function UPDATE over the task's subtasks
+         * Use case: Rebalancing when two neighbours have no free key between them
+         *
+         * @param taskId the owning task identifier
+         * @param gap distance between consecutive keys
+         * @param updatedAt update timestamp of the subtasks whose key changed
+         * @return number of re-spaced subtasks
+         */
+        @Modifying(flushAutomatically = true, clearAutomatically = true)
+        @Query(value = "UPDATE project.subtasks s SET sort_order = r.rn * :gap, updated_at = :updatedAt, version = s.version + 1 FROM (" +
+                "SELECT subtask_id, ROW_NUMBER() OVER (ORDER BY sort_order, subtask_id) AS rn FROM project.subtasks " +
+                "WHERE task_id = :taskId AND deleted_at IS NULL) r " +
+                "WHERE s.subtask_id = r.subtask_id AND s.sort_order IS DISTINCT FROM r.rn * :gap",
+                nativeQuery = true)
+        int respaceSubtaskSortKeys(@Param("taskId") Long taskId,
+                                   @Param("gap") int gap,
+                                   @Param("updatedAt") LocalDateTime updatedAt);
+
+        /**
+         * Resets both sort key counters of a task to the highest key currently in use.
+         * Performance: PK UPDATE with two index-backed MAX() subqueries, run only after a rebalance
+         * Use case: Keeping allocation counters consistent after keys were re-spaced
+         *
+         * @param taskId the task identifier
+         * @return number of updated rows
+         */
+        @Modifying(flushAutomatically = true)
+        @Query(value = "UPDATE project.tasks p SET " +
+                "child_sort_seq = COALESCE((SELECT MAX(c.sort_order) FROM project.tasks c " +
+                "WHERE c.parent_task_id = p.task_id AND c.deleted_at IS NULL), 0), " +
+                "subtask_sort_seq = COALESCE((SELECT MAX(s.sort_order) FROM project.subtasks s " +
+                "WHERE s.task_id = p.task_id AND s.deleted_at IS NULL), 0) " +
+                "WHERE p.task_id = :taskId",
+                nativeQuery = true)
+        int resetSortSeq(@Param("taskId") Long taskId);
+
+        /**
+         * Resets the sort key counters of several tasks in one statement.
+         * Performance: One UPDATE for the whole set instead of one per task
+         * Use case: Seeding counters after a task tree was inserted in bulk with in-memory sort keys
+         *
+         * @param taskIds the task identifiers
+         * @return number of updated rows
          */
-        @Query("SELECT MAX(t.sortOrder) FROM Task t WHERE t.parentTask.id = :parentTaskId AND t.deletedAt IS NULL")
-        Optional<Integer> findMaxSortOrderByParentTaskId(@Param("parentTaskId") Long parentTaskId);
+        @Modifying(flushAutomatically = true)
+        @Query(value = "UPDATE project.tasks p SET " +
+                "child_sort_seq = COALESCE((SELECT MAX(c.sort_order) FROM project.tasks c " +
+                "WHERE c.parent_task_id = p.task_id AND c.deleted_at IS NULL), 0), " +
+                "subtask_sort_seq = COALESCE((SELECT MAX(s.sort_order) FROM project.subtasks s " +
+                "WHERE s.task_id = p.task_id AND s.deleted_at IS NULL), 0) " +
+                "WHERE p.task_id IN (:taskIds)",
+                nativeQuery = true)
+        int resetSortSeqIn(@Param("taskIds") List<Long> taskIds);
 
         /**
          * Counts the total number of active subtasks for a given task.
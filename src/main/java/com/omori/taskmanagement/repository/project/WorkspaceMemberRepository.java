@@ -0,0 +1,29 @@
+package com.omori.taskmanagement.repository.project;
+
+import com.omori.taskmanagement.dto.collaboration.MemberResponse;
+import com.omori.taskmanagement.model.project.WorkspaceMember;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface WorkspaceMemberRepository extends JpaRepository<WorkspaceMember, Long> {
+
+    @Query("SELECT m FROM WorkspaceMember m WHERE m.workspace.id = :workspaceId AND m.user.id = :userId")
+    Optional<WorkspaceMember> findByWorkspaceIdAndUserId(@Param("workspaceId") Long workspaceId,
+                                                         @Param("userId") Long userId);
+
+    @Query("SELECT new com.omori.taskmanagement.dto.collaboration.MemberResponse("
+            + "u.id, u.username, m.role, m.joinedAt) "
+            + "FROM WorkspaceMember m JOIN m.user u "
+            + "WHERE m.workspace.id = :workspaceId "
+            + "ORDER BY m.joinedAt, u.id")
+    List<MemberResponse> findWorkspaceMembers(@Param("workspaceId") Long workspaceId);
+
+    @Modifying
+    @Query("DELETE FROM WorkspaceMember m WHERE m.workspace.id = :workspaceId AND m.user.id = :userId")
+    int deleteByWorkspaceIdAndUserId(@Param("workspaceId") Long workspaceId, @Param("userId") Long userId);
+}
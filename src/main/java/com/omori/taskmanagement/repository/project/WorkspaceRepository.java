@@ -3,5 +3,9 @@ package com.omori.taskmanagement.repository.project;
 import com.omori.taskmanagement.model.project.Workspace;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Optional;
+
 public interface WorkspaceRepository extends JpaRepository<Workspace, Long> {
+
+    Optional<Workspace> findByIdAndDeletedAtIsNull(Long id);
 }
@@ -1,8 +1,12 @@
 package com.omori.taskmanagement.repository.usermgmt;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.omori.taskmanagement.model.usermgmt.User;
 
@@ -14,4 +18,13 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
 	boolean existsByUsername(String username);
 
+	/**
+	 * Resolves usernames to user IDs in one query, without loading the users.
+	 *
+	 * @param usernames the usernames
+	 * @return IDs of the active users with one of the usernames
+	 */
+	@Query("SELECT u.id FROM User u WHERE u.username IN :usernames AND u.deletedAt IS NULL")
+	List<Long> findIdsByUsernameIn(@Param("usernames") Collection<String> usernames);
+
 }
@@ -11,12 +11,18 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Service;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import com.omori.taskmanagement.security.service.UserDetailsServiceImpl;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.omori.taskmanagement.security.service.CustomUserDetails;
+import com.omori.taskmanagement.security.service.PrincipalCache;
+import com.omori.taskmanagement.security.service.SessionService;
+import com.omori.taskmanagement.security.service.TokenRevocationService;
 import com.omori.taskmanagement.security.utils.SecurityConstants;
+import com.omori.taskmanagement.utils.RequestContext;
 
 import java.io.IOException;
 import java.util.Objects;
@@ -28,53 +34,84 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
 	private final JwtTokenManager jwtTokenManager;
 
-	private final UserDetailsServiceImpl userDetailsService;
+	private final PrincipalCache principalCache;
+
+	private final TokenRevocationService tokenRevocationService;
+
+	private final SessionService sessionService;
 
 	@Override
 	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
 			throws IOException, ServletException {
 
+		final long authStart = System.nanoTime();
+		try {
+			authenticate(request);
+		}
+		finally {
+			final RequestContext requestContext = RequestContext.current();
+			if (Objects.nonNull(requestContext)) {
+				requestContext.recordPhase("auth", System.nanoTime() - authStart);
+			}
+		}
+		chain.doFilter(request, response);
+	}
+
+	private void authenticate(HttpServletRequest request) {
+
 		final String header = request.getHeader(SecurityConstants.HEADER_STRING);
 
-		String username = null;
-		String authToken = null;
+		DecodedJWT decodedJWT = null;
 		if (Objects.nonNull(header) && header.startsWith(SecurityConstants.TOKEN_PREFIX)) {
 
-			authToken = header.replace(SecurityConstants.TOKEN_PREFIX, Strings.EMPTY);
+			final String authToken = header.replace(SecurityConstants.TOKEN_PREFIX, Strings.EMPTY);
 
 			try {
-				username = jwtTokenManager.getUsernameFromToken(authToken);
+				// Signature and expiry are verified once here; the claims below are trusted from now on
+				decodedJWT = jwtTokenManager.verifyToken(authToken);
 			}
 			catch (Exception e) {
 				log.error("Authentication Exception : {}", e.getMessage());
-				chain.doFilter(request, response);
 				return;
 			}
 		}
 
 		final SecurityContext securityContext = SecurityContextHolder.getContext();
 
+		final String username = Objects.nonNull(decodedJWT) ? decodedJWT.getSubject() : null;
+
 		final boolean canBeStartTokenValidation = Objects.nonNull(username) && Objects.isNull(securityContext.getAuthentication());
 
 		if (!canBeStartTokenValidation) {
-			chain.doFilter(request, response);
 			return;
 		}
 
-		final UserDetails user = userDetailsService.loadUserByUsername(username);
-		final boolean validToken = jwtTokenManager.validateToken(authToken, user.getUsername());
+		if (tokenRevocationService.isRevoked(decodedJWT)) {
+			log.warn("Rejected revoked token for username : {}", username);
+			return;
+		}
 
-		if (!validToken) {
-			chain.doFilter(request, response);
+		final UserDetails user;
+		try {
+			user = principalCache.get(username, decodedJWT.getClaim(JwtTokenManager.ROLE_CLAIM).asString());
+		}
+		catch (UsernameNotFoundException e) {
+			log.error("Authentication Exception : {}", e.getMessage());
 			return;
 		}
 
 		final UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
 		authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 		securityContext.setAuthentication(authentication);
+		sessionService.touch(decodedJWT.getClaim(JwtTokenManager.SESSION_CLAIM).asString());
 
-		log.info("Authentication successful. Logged in username : {} ", username);
+		final RequestContext requestContext = RequestContext.current();
+		if (Objects.nonNull(requestContext)) {
+			final Long userId = user instanceof CustomUserDetails customUser ? customUser.getId() : null;
+			requestContext.authenticated(userId, username);
+			requestContext.mark("authenticated");
+		}
 
-		chain.doFilter(request, response);
+		log.info("Authentication successful. Logged in username : {} ", username);
 	}
 }
@@ -5,6 +5,9 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.HashMap;
+import java.util.Map;
+
 @Getter
 @Setter
 @Configuration
@@ -15,6 +18,33 @@ public class JwtProperties {
 
 	private String secretKey;
 
+	/**
+	 * Key id written to the {@code kid} header of newly signed tokens; {@code secretKey} is its secret.
+	 */
+	private String keyId = "primary";
+
+	/**
+	 * Retired keys (kid to secret) still accepted when verifying tokens signed before a rotation.
+	 */
+	private Map<String, String> verificationKeys = new HashMap<>();
+
+	/**
+	 * Maximum number of verified tokens remembered until expiry; 0 disables the cache.
+	 */
+	private int verifiedTokenCacheSize = 10_000;
+
 	private long expirationMinute;
 
+	/**
+	 * How long an authenticated principal is reused before it is reloaded from the database.
+	 */
+	private long principalCacheTtlSeconds = 60;
+
+	private int principalCacheMaxEntries = 10_000;
+
+	/**
+	 * Number of revoked sessions/users the local revocation Bloom filter is sized for.
+	 */
+	private int revocationFilterExpectedEntries = 100_000;
+
 }
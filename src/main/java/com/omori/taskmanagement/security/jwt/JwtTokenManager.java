@@ -1,37 +1,119 @@
 package com.omori.taskmanagement.security.jwt;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTCreator;
 import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import com.omori.taskmanagement.model.usermgmt.Role;
 import com.omori.taskmanagement.model.usermgmt.User;
 
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Date;
-
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Signs and verifies access tokens.
+ *
+ * <p>{@link Algorithm} and {@link JWTVerifier} instances are immutable and thread-safe, so they are
+ * built once per key at startup. Tokens are signed with the active key and carry its id in the
+ * {@code kid} header; retired keys listed in {@code jwt.verification-keys} stay valid for
+ * verification until the tokens they signed expire. Tokens issued without a {@code kid} are
+ * verified with the active key.</p>
+ *
+ * <p>Successfully verified tokens are remembered until they expire, keyed by their signature
+ * segment (already a MAC of header and payload), so repeated requests with the same token skip
+ * the HMAC and claim checks.</p>
+ */
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtTokenManager {
 
+	public static final String ROLE_CLAIM = "role";
+
+	public static final String SESSION_CLAIM = "sid";
+
+	public static final String GENERATION_CLAIM = "gen";
+
 	private final JwtProperties jwtProperties;
 
+	private final String signingKeyId;
+
+	private final Algorithm signingAlgorithm;
+
+	private final Map<String, JWTVerifier> verifiers;
+
+	private final Map<String, DecodedJWT> verifiedTokens = new ConcurrentHashMap<>();
+
+	public JwtTokenManager(JwtProperties jwtProperties) {
+
+		this.jwtProperties = jwtProperties;
+		this.signingKeyId = jwtProperties.getKeyId();
+		this.signingAlgorithm = hmac(jwtProperties.getSecretKey());
+
+		final Map<String, JWTVerifier> byKeyId = new HashMap<>();
+		jwtProperties.getVerificationKeys().forEach((keyId, secret) -> byKeyId.put(keyId, JWT.require(hmac(secret)).build()));
+		byKeyId.put(signingKeyId, JWT.require(signingAlgorithm).build());
+		this.verifiers = Map.copyOf(byKeyId);
+
+		log.info("JWT signing key '{}' active, {} key(s) accepted for verification", signingKeyId, verifiers.size());
+	}
+
 	public String generateToken(User user) {
 
+		return generateToken(user, null, 0, nextExpiry());
+	}
+
+	/**
+	 * Signs a token bound to a login session.
+	 *
+	 * @param sessionId  id of the {@code user_mgmt.sessions} row, written as the {@code sid} claim
+	 * @param generation the user's token generation at login, written as the {@code gen} claim
+	 * @param expiresAt  token expiry, also used as the session expiry
+	 */
+	public String generateToken(User user, String sessionId, long generation, Date expiresAt) {
+
 		final String username = user.getUsername();
 		final Role userRole = user.getRole();
 
 		//@formatter:off
-		return JWT.create()
+		final JWTCreator.Builder builder = JWT.create()
+				.withKeyId(signingKeyId)
 				.withSubject(username)
 				.withIssuer(jwtProperties.getIssuer())
-				.withClaim("role", userRole.getName())
+				.withClaim(ROLE_CLAIM, userRole.getName())
+				.withClaim(GENERATION_CLAIM, generation)
 				.withIssuedAt(new Date())
-				.withExpiresAt(new Date(System.currentTimeMillis() + jwtProperties.getExpirationMinute() * 60 * 1000))
-				.sign(Algorithm.HMAC256(jwtProperties.getSecretKey().getBytes()));
+				.withExpiresAt(expiresAt);
 		//@formatter:on
+
+		if (Objects.nonNull(sessionId)) {
+			builder.withClaim(SESSION_CLAIM, sessionId);
+		}
+		return builder.sign(signingAlgorithm);
+	}
+
+	public Date nextExpiry() {
+
+		return new Date(System.currentTimeMillis() + jwtProperties.getExpirationMinute() * 60 * 1000);
+	}
+
+	/**
+	 * Verifies signature and expiry once and returns the decoded token, so callers can read
+	 * every claim they need without verifying again.
+	 *
+	 * @throws com.auth0.jwt.exceptions.JWTVerificationException if the token is invalid or expired
+	 */
+	public DecodedJWT verifyToken(String token) {
+
+		return getDecodedJWT(token);
 	}
 
 	public String getUsernameFromToken(String token) {
@@ -43,32 +125,64 @@ public class JwtTokenManager {
 
 	public boolean validateToken(String token, String authenticatedUsername) {
 
-		final String usernameFromToken = getUsernameFromToken(token);
+		final DecodedJWT decodedJWT = getDecodedJWT(token);
 
-		final boolean equalsUsername = usernameFromToken.equals(authenticatedUsername);
-		final boolean tokenExpired = isTokenExpired(token);
+		final boolean equalsUsername = decodedJWT.getSubject().equals(authenticatedUsername);
+		final boolean tokenExpired = decodedJWT.getExpiresAt().before(new Date());
 
 		return equalsUsername && !tokenExpired;
 	}
 
-	private boolean isTokenExpired(String token) {
+	private DecodedJWT getDecodedJWT(String token) {
 
-		final Date expirationDateFromToken = getExpirationDateFromToken(token);
-		return expirationDateFromToken.before(new Date());
+		final long now = System.currentTimeMillis();
+		final String signature = signatureOf(token);
+
+		final DecodedJWT cached = Objects.nonNull(signature) ? verifiedTokens.get(signature) : null;
+		if (Objects.nonNull(cached) && cached.getToken().equals(token) && isUnexpired(cached, now)) {
+			return cached;
+		}
+
+		final DecodedJWT decoded = JWT.decode(token);
+		final JWTVerifier jwtVerifier = Objects.isNull(decoded.getKeyId())
+				? verifiers.get(signingKeyId)
+				: verifiers.get(decoded.getKeyId());
+		if (Objects.isNull(jwtVerifier)) {
+			throw new JWTVerificationException("Unknown signing key: " + decoded.getKeyId());
+		}
+
+		final DecodedJWT verified = jwtVerifier.verify(decoded);
+		if (Objects.nonNull(verified.getExpiresAt()) && jwtProperties.getVerifiedTokenCacheSize() > 0) {
+			remember(signature, verified, now);
+		}
+		return verified;
 	}
 
-	private Date getExpirationDateFromToken(String token) {
+	private void remember(String signature, DecodedJWT verified, long now) {
 
-		final DecodedJWT decodedJWT = getDecodedJWT(token);
+		if (verifiedTokens.size() >= jwtProperties.getVerifiedTokenCacheSize()) {
+			verifiedTokens.values().removeIf(entry -> !isUnexpired(entry, now));
+			if (verifiedTokens.size() >= jwtProperties.getVerifiedTokenCacheSize()) {
+				verifiedTokens.clear();
+			}
+		}
+		verifiedTokens.put(signature, verified);
+	}
+
+	private static boolean isUnexpired(DecodedJWT decodedJWT, long now) {
 
-		return decodedJWT.getExpiresAt();
+		return decodedJWT.getExpiresAt().getTime() > now;
 	}
 
-	private DecodedJWT getDecodedJWT(String token) {
+	private static String signatureOf(String token) {
+
+		final int lastDot = token.lastIndexOf('.');
+		return lastDot >= 0 && lastDot < token.length() - 1 ? token.substring(lastDot + 1) : null;
+	}
 
-		final JWTVerifier jwtVerifier = JWT.require(Algorithm.HMAC256(jwtProperties.getSecretKey().getBytes())).build();
+	private static Algorithm hmac(String secret) {
 
-		return jwtVerifier.verify(token);
+		return Algorithm.HMAC256(secret.getBytes(StandardCharsets.UTF_8));
 	}
 
 }
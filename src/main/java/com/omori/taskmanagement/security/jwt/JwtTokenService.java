@@ -1,19 +1,22 @@
 package com.omori.taskmanagement.security.jwt;
 
+import com.auth0.jwt.interfaces.DecodedJWT;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.omori.taskmanagement.model.usermgmt.User;
-import com.omori.taskmanagement.security.dto.AuthenticatedUserDto;
 import com.omori.taskmanagement.dto.usermgmt.LoginRequest;
 import com.omori.taskmanagement.dto.usermgmt.LoginResponse;
-import com.omori.taskmanagement.security.mapper.UserMapper;
+import com.omori.taskmanagement.security.service.SessionService;
+import com.omori.taskmanagement.security.service.TokenRevocationService;
 import com.omori.taskmanagement.service.user.UserService;
 
+import java.util.Date;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -24,10 +27,12 @@ public class JwtTokenService {
 	private final JwtTokenManager jwtTokenManager;
 
 	private final AuthenticationManager authenticationManager;
-	
-	@Autowired
-	private UserMapper userMapper;
 
+	private final SessionService sessionService;
+
+	private final TokenRevocationService tokenRevocationService;
+
+	@Transactional
 	public LoginResponse getLoginResponse(LoginRequest loginRequest) {
 
 		final String username = loginRequest.getUsername();
@@ -37,14 +42,37 @@ public class JwtTokenService {
 
 		authenticationManager.authenticate(usernamePasswordAuthenticationToken);
 
-		final AuthenticatedUserDto authenticatedUserDto = userService.findAuthenticatedUserByUsername(username);
+		final User user = userService.findByUsername(username);
 
-		final User user = userMapper.convertToUser(authenticatedUserDto);
-		final String token = jwtTokenManager.generateToken(user);
+		// Read first: if Redis is down the login fails before a session is opened
+		final long generation = tokenRevocationService.currentGeneration(username);
+		final Date expiresAt = jwtTokenManager.nextExpiry();
+		final String sessionId = sessionService.openSession(user, expiresAt);
+		final String token = jwtTokenManager.generateToken(user, sessionId, generation, expiresAt);
 
 		log.info("{} has successfully logged in!", user.getUsername());
 
 		return new LoginResponse(token);
 	}
 
+	/**
+	 * Revokes the session the given token belongs to.
+	 */
+	public void logout(String token) {
+
+		final DecodedJWT decodedJWT = jwtTokenManager.verifyToken(token);
+		tokenRevocationService.revokeSession(decodedJWT.getClaim(JwtTokenManager.SESSION_CLAIM).asString(),
+				decodedJWT.getExpiresAt());
+
+		log.info("{} has logged out", decodedJWT.getSubject());
+	}
+
+	/**
+	 * Revokes every token issued to the user so far.
+	 */
+	public void logoutEverywhere(String username) {
+
+		tokenRevocationService.revokeAllSessions(username);
+	}
+
 }
@@ -0,0 +1,101 @@
+package com.omori.taskmanagement.security.service;
+
+import com.omori.taskmanagement.model.events.PrincipalInvalidatedEvent;
+import com.omori.taskmanagement.security.jwt.JwtProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Short-lived local cache of authenticated principals, keyed by username.
+ *
+ * <p>The JWT already proves who the caller is; the database is only consulted to pick up
+ * state that the token does not carry (user id, account flags). Entries live for
+ * {@code jwt.principal-cache-ttl-seconds}, are reloaded when the token's role claim no longer
+ * matches the cached authorities, and are dropped on {@link PrincipalInvalidatedEvent}.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PrincipalCache {
+
+	private final UserDetailsServiceImpl userDetailsService;
+
+	private final JwtProperties jwtProperties;
+
+	private final Map<String, CachedPrincipal> principals = new ConcurrentHashMap<>();
+
+	private record CachedPrincipal(UserDetails user, long expiresAt) {
+
+		boolean isExpired(long now) {
+			return now >= expiresAt;
+		}
+	}
+
+	/**
+	 * Returns the principal for a verified token subject, loading it from the database on a miss.
+	 *
+	 * @param username  the token subject
+	 * @param roleClaim the token's role claim, or null if the token carries none
+	 * @return the principal
+	 */
+	public UserDetails get(String username, String roleClaim) {
+
+		final long now = System.currentTimeMillis();
+		final CachedPrincipal cached = principals.get(username);
+
+		if (Objects.nonNull(cached) && !cached.isExpired(now) && hasRole(cached.user(), roleClaim)) {
+			return cached.user();
+		}
+
+		final UserDetails user = userDetailsService.loadUserByUsername(username);
+		evictExpiredIfFull(now);
+		principals.put(username, new CachedPrincipal(user, now + jwtProperties.getPrincipalCacheTtlSeconds() * 1000));
+		log.debug("Principal cache miss for {}", username);
+		return user;
+	}
+
+	public void evict(String username) {
+		principals.remove(username);
+	}
+
+	public void evictAll() {
+		principals.clear();
+	}
+
+	@EventListener
+	public void handlePrincipalInvalidatedEvent(PrincipalInvalidatedEvent event) {
+
+		if (Objects.isNull(event.getUsername())) {
+			evictAll();
+		}
+		else {
+			evict(event.getUsername());
+		}
+		log.debug("Principal cache invalidated for {}: {}",
+				Objects.requireNonNullElse(event.getUsername(), "all users"), event.getReason());
+	}
+
+	private boolean hasRole(UserDetails user, String roleClaim) {
+
+		return Objects.isNull(roleClaim)
+				|| user.getAuthorities().stream().anyMatch(authority -> roleClaim.equals(authority.getAuthority()));
+	}
+
+	private void evictExpiredIfFull(long now) {
+
+		if (principals.size() < jwtProperties.getPrincipalCacheMaxEntries()) {
+			return;
+		}
+		principals.values().removeIf(cached -> cached.isExpired(now));
+		if (principals.size() >= jwtProperties.getPrincipalCacheMaxEntries()) {
+			principals.clear();
+		}
+	}
+}
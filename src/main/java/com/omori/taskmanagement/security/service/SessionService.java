@@ -0,0 +1,97 @@
+package com.omori.taskmanagement.security.service;
+
+import com.omori.taskmanagement.dto.common.RequestMetadata;
+import com.omori.taskmanagement.model.usermgmt.Session;
+import com.omori.taskmanagement.model.usermgmt.User;
+import com.omori.taskmanagement.repository.usermgmt.UserSessionRepository;
+import com.omori.taskmanagement.utils.RequestMetadataHolder;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Login sessions in {@code user_mgmt.sessions}.
+ *
+ * <p>A row is written once per login; its id travels in the token's {@code sid} claim.
+ * Request activity is only recorded in memory and written to {@code last_accessed} in one
+ * JDBC batch every {@code jwt.session-activity-flush-ms}, so authenticated requests never
+ * wait on the database.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SessionService {
+
+	private static final String UPDATE_LAST_ACCESSED = "UPDATE user_mgmt.sessions SET last_accessed = ? "
+			+ "WHERE session_id = ? AND (last_accessed IS NULL OR last_accessed < ?)";
+
+	private final UserSessionRepository sessionRepository;
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private final Map<String, LocalDateTime> pendingActivity = new ConcurrentHashMap<>();
+
+	public String openSession(User user, Date expiresAt) {
+
+		final RequestMetadata metadata = RequestMetadataHolder.getMetadata();
+		final LocalDateTime now = LocalDateTime.now();
+
+		final Session session = Session.builder()
+				.sessionId(UUID.randomUUID().toString())
+				.user(user)
+				.ipAddress(Objects.nonNull(metadata) ? metadata.getIpAddress() : null)
+				.userAgent(Objects.nonNull(metadata) ? metadata.getUserAgent() : null)
+				.expiresAt(LocalDateTime.ofInstant(expiresAt.toInstant(), ZoneId.systemDefault()))
+				.createdAt(now)
+				.lastAccessed(now)
+				.build();
+		sessionRepository.save(session);
+		return session.getSessionId();
+	}
+
+	public void touch(String sessionId) {
+
+		if (Objects.nonNull(sessionId)) {
+			pendingActivity.put(sessionId, LocalDateTime.now());
+		}
+	}
+
+	@PreDestroy
+	@Scheduled(fixedDelayString = "${jwt.session-activity-flush-ms:30000}")
+	public void flushActivity() {
+
+		if (pendingActivity.isEmpty()) {
+			return;
+		}
+		final List<Object[]> batch = new ArrayList<>(pendingActivity.size());
+		for (String sessionId : List.copyOf(pendingActivity.keySet())) {
+			final LocalDateTime lastAccessed = pendingActivity.remove(sessionId);
+			if (Objects.nonNull(lastAccessed)) {
+				final Timestamp timestamp = Timestamp.valueOf(lastAccessed);
+				batch.add(new Object[] { timestamp, sessionId, timestamp });
+			}
+		}
+		try {
+			jdbcTemplate.batchUpdate(UPDATE_LAST_ACCESSED, batch);
+			log.debug("Recorded activity for {} sessions", batch.size());
+		}
+		catch (DataAccessException e) {
+			log.warn("Could not record session activity for {} sessions: {}", batch.size(), e.getMessage());
+		}
+	}
+}
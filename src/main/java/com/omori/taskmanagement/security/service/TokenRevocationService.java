@@ -0,0 +1,233 @@
+package com.omori.taskmanagement.security.service;
+
+import com.auth0.jwt.interfaces.Claim;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.omori.taskmanagement.exceptions.TokenIssuanceException;
+import com.omori.taskmanagement.model.events.PrincipalInvalidatedEvent;
+import com.omori.taskmanagement.security.jwt.JwtProperties;
+import com.omori.taskmanagement.security.jwt.JwtTokenManager;
+import com.omori.taskmanagement.utils.BloomFilter;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Objects;
+
+/**
+ * Token revocation backed by Redis.
+ *
+ * <p>Two kinds of state are kept, each with a TTL equal to the token lifetime so nothing
+ * outlives the tokens it refers to:</p>
+ * <ul>
+ *     <li>{@code auth:revoked-session:<sid>} - a single logged-out session (denylist entry)</li>
+ *     <li>{@code auth:token-generation:<username>} - a per-user counter; tokens whose {@code gen}
+ *     claim is below it were issued before a "log out everywhere" and are rejected. Its TTL is
+ *     renewed whenever a token is issued with it, so the counter cannot expire and restart at 0
+ *     while a token carrying it is still valid</li>
+ * </ul>
+ *
+ * <p>Every instance keeps a local {@link BloomFilter} of revoked sessions and of users with a
+ * bumped generation, fed by a Redis pub/sub channel and rebuilt periodically from Redis so
+ * expired entries drop out. A request only reaches Redis when the filter reports a possible
+ * match; all other requests are checked in memory. If Redis cannot be reached for a possible
+ * match the token is treated as revoked.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenRevocationService {
+
+	private static final String REVOKED_SESSION_KEY = "auth:revoked-session:";
+
+	private static final String USER_GENERATION_KEY = "auth:token-generation:";
+
+	private static final String REVOCATION_CHANNEL = "auth:revocations";
+
+	private static final String SESSION_MEMBER = "session:";
+
+	private static final String USER_MEMBER = "user:";
+
+	private final StringRedisTemplate redisTemplate;
+
+	private final RedisMessageListenerContainer listenerContainer;
+
+	private final JwtProperties jwtProperties;
+
+	private final ApplicationEventPublisher eventPublisher;
+
+	private volatile BloomFilter revocations;
+
+	private volatile BloomFilter rebuilding;
+
+	@PostConstruct
+	void subscribe() {
+
+		revocations = newFilter();
+		listenerContainer.addMessageListener(
+				(message, pattern) -> remember(new String(message.getBody(), StandardCharsets.UTF_8)),
+				new ChannelTopic(REVOCATION_CHANNEL));
+	}
+
+	/**
+	 * O(1) revocation check for an already verified token.
+	 */
+	public boolean isRevoked(DecodedJWT decodedJWT) {
+
+		final String sessionId = decodedJWT.getClaim(JwtTokenManager.SESSION_CLAIM).asString();
+		final String username = decodedJWT.getSubject();
+
+		final boolean sessionSuspect = Objects.nonNull(sessionId) && revocations.mightContain(SESSION_MEMBER + sessionId);
+		final boolean userSuspect = revocations.mightContain(USER_MEMBER + username);
+		if (!sessionSuspect && !userSuspect) {
+			return false;
+		}
+
+		try {
+			if (sessionSuspect && Boolean.TRUE.equals(redisTemplate.hasKey(REVOKED_SESSION_KEY + sessionId))) {
+				return true;
+			}
+			if (userSuspect) {
+				final Claim generation = decodedJWT.getClaim(JwtTokenManager.GENERATION_CLAIM);
+				final long tokenGeneration = generation.isMissing() || generation.isNull() ? 0 : generation.asLong();
+				return tokenGeneration < readGeneration(username);
+			}
+			return false;
+		}
+		catch (DataAccessException e) {
+			log.warn("Revocation lookup failed for {}, rejecting token: {}", username, e.getMessage());
+			return true;
+		}
+	}
+
+	/**
+	 * Current token generation of a user, written into newly issued tokens.
+	 *
+	 * <p>Without it a token would carry generation 0 and be rejected as soon as Redis is back
+	 * for any user who ever logged out everywhere, so login fails instead.</p>
+	 *
+	 * <p>The counter's TTL is extended to the lifetime of the token being issued. Otherwise it
+	 * could expire while that token is valid, and the next "log out everywhere" would restart
+	 * at 1 and leave the token's generation 1 accepted.</p>
+	 *
+	 * @throws TokenIssuanceException if Redis cannot be reached
+	 */
+	public long currentGeneration(String username) {
+
+		try {
+			final String value = redisTemplate.opsForValue().getAndExpire(USER_GENERATION_KEY + username, tokenLifetime());
+			return Objects.nonNull(value) ? Long.parseLong(value) : 0;
+		}
+		catch (DataAccessException e) {
+			log.warn("Could not read token generation for {}: {}", username, e.getMessage());
+			throw new TokenIssuanceException("Login is temporarily unavailable, please retry", e);
+		}
+	}
+
+	/**
+	 * Revokes a single session until its token would have expired anyway.
+	 */
+	public void revokeSession(String sessionId, Date expiresAt) {
+
+		final long remainingMillis = expiresAt.getTime() - System.currentTimeMillis();
+		if (Objects.isNull(sessionId) || remainingMillis <= 0) {
+			return;
+		}
+		redisTemplate.opsForValue().set(REVOKED_SESSION_KEY + sessionId, "1", Duration.ofMillis(remainingMillis));
+		announce(SESSION_MEMBER + sessionId);
+		log.info("Session {} revoked", sessionId);
+	}
+
+	/**
+	 * Revokes every token issued to a user so far.
+	 */
+	public void revokeAllSessions(String username) {
+
+		final String key = USER_GENERATION_KEY + username;
+		redisTemplate.opsForValue().increment(key);
+		redisTemplate.expire(key, tokenLifetime());
+		announce(USER_MEMBER + username);
+		eventPublisher.publishEvent(new PrincipalInvalidatedEvent(this, username, "All sessions revoked"));
+		log.info("All sessions of {} revoked", username);
+	}
+
+	/**
+	 * Rebuilds the local filter from Redis so that expired revocations stop costing lookups.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	@Scheduled(fixedDelayString = "${jwt.revocation-filter-rebuild-ms:300000}", initialDelayString = "${jwt.revocation-filter-rebuild-ms:300000}")
+	public void rebuildFilter() {
+
+		final BloomFilter fresh = newFilter();
+		rebuilding = fresh;
+		try {
+			final int sessions = scanInto(fresh, REVOKED_SESSION_KEY, SESSION_MEMBER);
+			final int users = scanInto(fresh, USER_GENERATION_KEY, USER_MEMBER);
+			revocations = fresh;
+			log.debug("Revocation filter rebuilt with {} sessions and {} users", sessions, users);
+		}
+		catch (DataAccessException e) {
+			log.warn("Could not rebuild revocation filter, keeping the current one: {}", e.getMessage());
+		}
+		finally {
+			rebuilding = null;
+		}
+	}
+
+	private long readGeneration(String username) {
+
+		final String value = redisTemplate.opsForValue().get(USER_GENERATION_KEY + username);
+		return Objects.nonNull(value) ? Long.parseLong(value) : 0;
+	}
+
+	private void announce(String member) {
+
+		remember(member);
+		redisTemplate.convertAndSend(REVOCATION_CHANNEL, member);
+	}
+
+	private void remember(String member) {
+
+		revocations.put(member);
+		final BloomFilter pending = rebuilding;
+		if (Objects.nonNull(pending)) {
+			pending.put(member);
+		}
+	}
+
+	private int scanInto(BloomFilter filter, String keyPrefix, String memberPrefix) {
+
+		int count = 0;
+		final ScanOptions options = ScanOptions.scanOptions().match(keyPrefix + "*").count(1000).build();
+		try (Cursor<String> keys = redisTemplate.scan(options)) {
+			while (keys.hasNext()) {
+				filter.put(memberPrefix + keys.next().substring(keyPrefix.length()));
+				count++;
+			}
+		}
+		return count;
+	}
+
+	private BloomFilter newFilter() {
+
+		return new BloomFilter(jwtProperties.getRevocationFilterExpectedEntries(), 0.001);
+	}
+
+	private Duration tokenLifetime() {
+
+		return Duration.ofMinutes(jwtProperties.getExpirationMinute());
+	}
+}
@@ -0,0 +1,57 @@
+package com.omori.taskmanagement.service.attachment;
+
+import com.omori.taskmanagement.dto.collaboration.AttachmentResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Files attached to tasks and their comments. Content is streamed to and from the
+ * {@link AttachmentStore}; only metadata goes through the database.
+ */
+public interface AttachmentService {
+
+    /**
+     * Streams an upload into the store and records it. No transaction is open while the content
+     * is read.
+     *
+     * @param taskId        the task
+     * @param commentId     comment of the task to attach to, or null
+     * @param userId        the uploader, who must have access to the task
+     * @param filename      the client's file name
+     * @param mimeType      the declared content type, or null
+     * @param contentLength the declared length, or -1 if unknown
+     * @param content       the request body
+     * @return the recorded attachment
+     */
+    AttachmentResponse upload(Long taskId, Long commentId, Long userId, String filename, String mimeType,
+                              long contentLength, InputStream content) throws IOException;
+
+    /**
+     * @return the task's attachments, newest first
+     */
+    List<AttachmentResponse> getTaskAttachments(Long taskId, Long userId);
+
+    /**
+     * Looks up an attachment for download, checking the user's access to its task.
+     */
+    AttachmentContent getContent(Long attachmentId, Long userId);
+
+    /**
+     * Copies {@code count} bytes of the content from {@code position} to {@code out}.
+     */
+    void writeContent(AttachmentContent content, long position, long count, OutputStream out) throws IOException;
+
+    /**
+     * Soft-deletes an attachment. Allowed for the uploader and the task owner.
+     */
+    void deleteAttachment(Long attachmentId, Long userId);
+
+    /**
+     * An attachment and where its content is stored.
+     */
+    record AttachmentContent(AttachmentResponse attachment, String storeKey) {
+    }
+}
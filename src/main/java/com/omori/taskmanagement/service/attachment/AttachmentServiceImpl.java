@@ -0,0 +1,199 @@
+package com.omori.taskmanagement.service.attachment;
+
+import com.omori.taskmanagement.config.AttachmentProperties;
+import com.omori.taskmanagement.dto.collaboration.AttachmentResponse;
+import com.omori.taskmanagement.exceptions.collaboration.AttachmentNotFoundException;
+import com.omori.taskmanagement.exceptions.collaboration.AttachmentTooLargeException;
+import com.omori.taskmanagement.exceptions.collaboration.CommentNotFoundException;
+import com.omori.taskmanagement.exceptions.task.TaskAccessDeniedException;
+import com.omori.taskmanagement.exceptions.task.TaskNotFoundException;
+import com.omori.taskmanagement.model.collaboration.Attachment;
+import com.omori.taskmanagement.model.project.Task;
+import com.omori.taskmanagement.repository.collaboration.AttachmentRepository;
+import com.omori.taskmanagement.repository.collaboration.CommentRepository;
+import com.omori.taskmanagement.repository.project.TaskRepository;
+import com.omori.taskmanagement.repository.usermgmt.UserRepository;
+import com.omori.taskmanagement.service.task.utils.AccessLevel;
+import com.omori.taskmanagement.service.task.utils.TaskAccessControlService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@Service
+public class AttachmentServiceImpl implements AttachmentService {
+
+    private static final int MAX_VARCHAR = 255;
+
+    private static final String DEFAULT_MIME_TYPE = "application/octet-stream";
+
+    private final AttachmentStore attachmentStore;
+    private final AttachmentRepository attachmentRepository;
+    private final TaskRepository taskRepository;
+    private final CommentRepository commentRepository;
+    private final UserRepository userRepository;
+    private final TaskAccessControlService taskAccessControlService;
+    private final AttachmentProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Counter uploadedBytes;
+    private final Counter deduplicated;
+
+    public AttachmentServiceImpl(AttachmentStore attachmentStore,
+                                 AttachmentRepository attachmentRepository,
+                                 TaskRepository taskRepository,
+                                 CommentRepository commentRepository,
+                                 UserRepository userRepository,
+                                 TaskAccessControlService taskAccessControlService,
+                                 AttachmentProperties properties,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry) {
+        this.attachmentStore = attachmentStore;
+        this.attachmentRepository = attachmentRepository;
+        this.taskRepository = taskRepository;
+        this.commentRepository = commentRepository;
+        this.userRepository = userRepository;
+        this.taskAccessControlService = taskAccessControlService;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.uploadedBytes = Counter.builder("attachments.uploaded.bytes")
+                .description("Bytes received in attachment uploads")
+                .register(meterRegistry);
+        this.deduplicated = Counter.builder("attachments.deduplicated")
+                .description("Uploads whose content was already stored")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public AttachmentResponse upload(Long taskId, Long commentId, Long userId, String filename, String mimeType,
+                                     long contentLength, InputStream content) throws IOException {
+        // Checked before reading, so a rejected upload costs nothing
+        loadAccessibleTask(taskId, userId, AccessLevel.EDIT);
+        if (commentId != null && commentRepository.findByIdAndDeletedAtIsNull(commentId)
+                .filter(comment -> comment.getTask().getId().equals(taskId))
+                .isEmpty()) {
+            throw new CommentNotFoundException("Comment " + commentId + " not found on task " + taskId);
+        }
+        long maxBytes = properties.getMaxFileSize().toBytes();
+        if (contentLength > maxBytes) {
+            throw new AttachmentTooLargeException("Attachment exceeds the limit of " + maxBytes + " bytes");
+        }
+
+        AttachmentStore.StoredBlob blob = attachmentStore.store(Channels.newChannel(content), maxBytes);
+        uploadedBytes.increment(blob.size());
+        if (blob.deduplicated()) {
+            deduplicated.increment();
+        }
+
+        String originalFilename = sanitizeFilename(filename);
+        Attachment saved = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            Attachment attachment = Attachment.builder()
+                    .task(taskRepository.getReferenceById(taskId))
+                    .comment(commentId != null ? commentRepository.getReferenceById(commentId) : null)
+                    .user(userRepository.getReferenceById(userId))
+                    .filename(blob.sha256())
+                    .originalFilename(originalFilename)
+                    .filePath(blob.key())
+                    .fileSize(blob.size())
+                    .mimeType(normalizeMimeType(mimeType))
+                    .contentHash(blob.sha256())
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build();
+            return attachmentRepository.save(attachment);
+        });
+        log.info("User {} attached {} ({} bytes{}) to task {}", userId, originalFilename, blob.size(),
+                blob.deduplicated() ? ", deduplicated" : "", taskId);
+        return AttachmentResponse.from(saved);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AttachmentResponse> getTaskAttachments(Long taskId, Long userId) {
+        loadAccessibleTask(taskId, userId, AccessLevel.VIEW);
+        return attachmentRepository.findTaskAttachments(taskId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public AttachmentContent getContent(Long attachmentId, Long userId) {
+        Attachment attachment = loadAttachment(attachmentId);
+        loadAccessibleTask(attachment.getTask().getId(), userId, AccessLevel.VIEW);
+        return new AttachmentContent(AttachmentResponse.from(attachment), attachment.getFilePath());
+    }
+
+    @Override
+    public void writeContent(AttachmentContent content, long position, long count, OutputStream out) throws IOException {
+        attachmentStore.transferTo(content.storeKey(), position, count, Channels.newChannel(out));
+    }
+
+    @Override
+    @Transactional
+    public void deleteAttachment(Long attachmentId, Long userId) {
+        Attachment attachment = loadAttachment(attachmentId);
+        if (!attachment.getUser().getId().equals(userId)) {
+            Task task = loadAccessibleTask(attachment.getTask().getId(), userId, AccessLevel.VIEW);
+            if (task.getUser() == null || !task.getUser().getId().equals(userId)) {
+                throw new TaskAccessDeniedException("Only the uploader or the task owner can delete attachment " + attachmentId);
+            }
+        }
+        // The stored file stays: other attachments may share it, and deletion is soft
+        attachment.setDeletedAt(LocalDateTime.now());
+        attachmentRepository.save(attachment);
+    }
+
+    private Task loadAccessibleTask(Long taskId, Long userId, AccessLevel required) {
+        Task task = taskRepository.findByIdAndDeletedAtIsNull(taskId)
+                .orElseThrow(() -> new TaskNotFoundException("Task not found with id: " + taskId));
+        taskAccessControlService.validateTaskAccess(task, userId, required);
+        return task;
+    }
+
+    private Attachment loadAttachment(Long attachmentId) {
+        return attachmentRepository.findByIdAndDeletedAtIsNull(attachmentId)
+                .orElseThrow(() -> new AttachmentNotFoundException("Attachment not found with id: " + attachmentId));
+    }
+
+    /**
+     * Keeps only the last path segment of a client file name.
+     */
+    private static String sanitizeFilename(String filename) {
+        if (filename == null) {
+            return "file";
+        }
+        String name = filename.substring(Math.max(filename.lastIndexOf('/'), filename.lastIndexOf('\\')) + 1).strip();
+        return name.isEmpty() ? "file" : truncate(name);
+    }
+
+    /**
+     * Keeps the declared type if it is a valid media type, so it can be served back as-is.
+     */
+    private static String normalizeMimeType(String mimeType) {
+        if (mimeType == null || mimeType.isBlank() || mimeType.length() > MAX_VARCHAR) {
+            return DEFAULT_MIME_TYPE;
+        }
+        try {
+            return MediaType.parseMediaType(mimeType).toString();
+        } catch (InvalidMediaTypeException e) {
+            return DEFAULT_MIME_TYPE;
+        }
+    }
+
+    private static String truncate(String value) {
+        return value.length() > MAX_VARCHAR ? value.substring(0, MAX_VARCHAR) : value;
+    }
+}
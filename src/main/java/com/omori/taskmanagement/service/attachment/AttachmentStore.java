@@ -0,0 +1,39 @@
+package com.omori.taskmanagement.service.attachment;
+
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Content-addressed storage of attachment files. Files are keyed by their SHA-256, so identical
+ * uploads are stored once.
+ */
+public interface AttachmentStore {
+
+    /**
+     * Streams {@code source} into the store, hashing it on the way.
+     *
+     * @param source   the upload; read to its end but never closed
+     * @param maxBytes uploads longer than this are discarded
+     * @return where the content is stored
+     * @throws com.omori.taskmanagement.exceptions.collaboration.AttachmentTooLargeException if the
+     *         content exceeds {@code maxBytes}
+     */
+    StoredBlob store(ReadableByteChannel source, long maxBytes) throws IOException;
+
+    /**
+     * Copies {@code count} bytes of stored content starting at {@code position} to {@code target}.
+     *
+     * @return the number of bytes copied
+     */
+    long transferTo(String key, long position, long count, WritableByteChannel target) throws IOException;
+
+    /**
+     * @param key           location of the content within the store
+     * @param sha256        hex SHA-256 of the content
+     * @param size          content length in bytes
+     * @param deduplicated  whether the content was already stored
+     */
+    record StoredBlob(String key, String sha256, long size, boolean deduplicated) {
+    }
+}
@@ -0,0 +1,118 @@
+package com.omori.taskmanagement.service.attachment;
+
+import com.omori.taskmanagement.config.AttachmentProperties;
+import com.omori.taskmanagement.exceptions.collaboration.AttachmentTooLargeException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Keeps attachments under {@code app.attachments.root} as {@code sha256/ab/cd/<hash>}.
+ *
+ * <p>An upload is copied through one direct buffer into a staging file while its SHA-256 is
+ * computed, then renamed to its content path; if that path already exists the staged copy is
+ * dropped. Reads go through {@link FileChannel#transferTo}, so no file is ever held in the
+ * heap.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.attachments.store", havingValue = "local", matchIfMissing = true)
+public class LocalFileSystemAttachmentStore implements AttachmentStore {
+
+    private static final String KEY_PREFIX = "sha256/";
+
+    private final Path root;
+    private final Path staging;
+    private final int bufferSize;
+
+    public LocalFileSystemAttachmentStore(AttachmentProperties properties) throws IOException {
+        this.root = Path.of(properties.getRoot()).toAbsolutePath().normalize();
+        this.staging = root.resolve("tmp");
+        this.bufferSize = Math.toIntExact(properties.getBufferSize().toBytes());
+        Files.createDirectories(staging);
+        log.info("Storing attachments under {}", root);
+    }
+
+    @Override
+    public StoredBlob store(ReadableByteChannel source, long maxBytes) throws IOException {
+        MessageDigest digest = sha256();
+        Path staged = Files.createTempFile(staging, "upload-", ".part");
+        try {
+            long size = 0;
+            ByteBuffer buffer = ByteBuffer.allocateDirect(bufferSize);
+            try (FileChannel out = FileChannel.open(staged, StandardOpenOption.WRITE)) {
+                while (source.read(buffer) != -1) {
+                    buffer.flip();
+                    size += buffer.remaining();
+                    if (size > maxBytes) {
+                        throw new AttachmentTooLargeException("Attachment exceeds the limit of " + maxBytes + " bytes");
+                    }
+                    digest.update(buffer.duplicate());
+                    while (buffer.hasRemaining()) {
+                        out.write(buffer);
+                    }
+                    buffer.clear();
+                }
+                out.force(true);
+            }
+
+            String sha256 = HexFormat.of().formatHex(digest.digest());
+            String key = KEY_PREFIX + sha256.substring(0, 2) + "/" + sha256.substring(2, 4) + "/" + sha256;
+            Path target = root.resolve(key);
+            if (Files.exists(target)) {
+                return new StoredBlob(key, sha256, size, true);
+            }
+            Files.createDirectories(target.getParent());
+            // A concurrent upload of the same content may win the rename; its file is identical
+            Files.move(staged, target, StandardCopyOption.ATOMIC_MOVE);
+            return new StoredBlob(key, sha256, size, false);
+        } finally {
+            Files.deleteIfExists(staged);
+        }
+    }
+
+    @Override
+    public long transferTo(String key, long position, long count, WritableByteChannel target) throws IOException {
+        try (FileChannel in = FileChannel.open(resolve(key), StandardOpenOption.READ)) {
+            long end = Math.min(position + count, in.size());
+            long next = position;
+            while (next < end) {
+                long transferred = in.transferTo(next, end - next, target);
+                if (transferred <= 0) {
+                    break;
+                }
+                next += transferred;
+            }
+            return next - position;
+        }
+    }
+
+    private Path resolve(String key) {
+        Path file = root.resolve(key).normalize();
+        if (!key.startsWith(KEY_PREFIX) || !file.startsWith(root)) {
+            throw new IllegalArgumentException("Not an attachment key: " + key);
+        }
+        return file;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
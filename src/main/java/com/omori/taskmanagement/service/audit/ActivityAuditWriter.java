@@ -0,0 +1,151 @@
+package com.omori.taskmanagement.service.audit;
+
+import com.omori.taskmanagement.model.audit.JsonbConverter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Write-behind persistence of {@link TaskChangeEvent}s into {@code audit.activity_logs}.
+ *
+ * <p>Services only {@link #enqueue} an event after their transaction commits; the events are
+ * written in JDBC batches of {@code app.audit.batch-size} every {@code app.audit.flush-interval-ms},
+ * so an update never waits on the audit insert. At most {@code app.audit.queue-capacity} events
+ * are held in memory; beyond that new events are dropped and counted in
+ * {@code audit.events.dropped} rather than slowing down the request.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ActivityAuditWriter {
+
+    private static final String INSERT_ACTIVITY_LOG = "INSERT INTO audit.activity_logs "
+            + "(user_id, task_id, workspace_id, action, entity_type, entity_id, old_values, new_values, "
+            + "ip_address, user_agent, created_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, CAST(? AS jsonb), CAST(? AS jsonb), ?, ?, ?)";
+
+    private static final String TASK_ENTITY_TYPE = "Task";
+
+    private static final int MAX_VARCHAR = 255;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final JsonbConverter jsonbConverter = new JsonbConverter();
+    private final Queue<TaskChangeEvent> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+
+    @Value("${app.audit.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${app.audit.batch-size:200}")
+    private int batchSize;
+
+    private Counter written;
+    private Counter dropped;
+
+    @PostConstruct
+    void registerMeters() {
+        meterRegistry.gauge("audit.events.pending", pendingCount);
+        written = Counter.builder("audit.events.written")
+                .description("Audit events written to audit.activity_logs")
+                .register(meterRegistry);
+        dropped = Counter.builder("audit.events.dropped")
+                .description("Audit events discarded because the queue was full or the insert failed")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queues an event for the next flush. Never blocks; drops the event when the queue is full.
+     */
+    public void enqueue(TaskChangeEvent event) {
+        if (pendingCount.incrementAndGet() > queueCapacity) {
+            pendingCount.decrementAndGet();
+            dropped.increment();
+            log.warn("Audit queue full ({} events), dropping change of task {}", queueCapacity, event.taskId());
+            return;
+        }
+        pending.add(event);
+    }
+
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${app.audit.flush-interval-ms:1000}")
+    public void flush() {
+        List<TaskChangeEvent> batch = new ArrayList<>(Math.min(batchSize, pendingCount.get()));
+        TaskChangeEvent event;
+        while ((event = pending.poll()) != null) {
+            pendingCount.decrementAndGet();
+            batch.add(event);
+            if (batch.size() == batchSize) {
+                write(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            write(batch);
+        }
+    }
+
+    private void write(List<TaskChangeEvent> batch) {
+        List<Object[]> rows = new ArrayList<>(batch.size());
+        for (TaskChangeEvent event : batch) {
+            Object[] row = toRow(event);
+            if (row != null) {
+                rows.add(row);
+            }
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+        try {
+            jdbcTemplate.batchUpdate(INSERT_ACTIVITY_LOG, rows);
+            written.increment(rows.size());
+            log.debug("Wrote {} task change events", rows.size());
+        } catch (DataAccessException e) {
+            dropped.increment(rows.size());
+            log.warn("Could not write {} task change events: {}", rows.size(), e.getMessage());
+        }
+    }
+
+    private Object[] toRow(TaskChangeEvent event) {
+        try {
+            return new Object[] {
+                    event.userId(),
+                    event.taskId(),
+                    event.workspaceId(),
+                    event.action().name(),
+                    TASK_ENTITY_TYPE,
+                    event.taskId(),
+                    jsonbConverter.convertToDatabaseColumn(event.changes().oldValues()),
+                    jsonbConverter.convertToDatabaseColumn(event.changes().newValues()),
+                    truncate(event.ipAddress()),
+                    truncate(event.userAgent()),
+                    Timestamp.valueOf(event.occurredAt())
+            };
+        } catch (RuntimeException e) {
+            // A value that cannot be rendered as JSON must not take the rest of the batch down
+            dropped.increment();
+            log.warn("Could not serialize change of task {}: {}", event.taskId(), e.getMessage());
+            return null;
+        }
+    }
+
+    private static String truncate(String value) {
+        return value != null && value.length() > MAX_VARCHAR ? value.substring(0, MAX_VARCHAR) : value;
+    }
+}
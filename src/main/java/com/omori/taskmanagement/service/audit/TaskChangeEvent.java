@@ -0,0 +1,38 @@
+package com.omori.taskmanagement.service.audit;
+
+import com.omori.taskmanagement.dto.common.RequestMetadata;
+import com.omori.taskmanagement.model.audit.ActionType;
+import com.omori.taskmanagement.utils.diff.ChangeSet;
+
+import java.time.LocalDateTime;
+
+/**
+ * One audited change to a task, queued by the writing service and persisted later by
+ * {@link ActivityAuditWriter} as a row of {@code audit.activity_logs}.
+ *
+ * @param userId      the user who made the change
+ * @param taskId      the changed task, stored as both {@code task_id} and {@code entity_id}
+ * @param workspaceId the task's workspace, may be null
+ * @param action      the audited action
+ * @param changes     changed fields with their old and new values
+ * @param ipAddress   client address of the originating request, may be null
+ * @param userAgent   user agent of the originating request, may be null
+ * @param occurredAt  when the change was made
+ */
+public record TaskChangeEvent(Long userId,
+                              Long taskId,
+                              Long workspaceId,
+                              ActionType action,
+                              ChangeSet changes,
+                              String ipAddress,
+                              String userAgent,
+                              LocalDateTime occurredAt) {
+
+    public static TaskChangeEvent of(Long userId, Long taskId, Long workspaceId, ActionType action,
+                                     ChangeSet changes, RequestMetadata metadata) {
+        return new TaskChangeEvent(userId, taskId, workspaceId, action, changes,
+                metadata != null ? metadata.getIpAddress() : null,
+                metadata != null ? metadata.getUserAgent() : null,
+                LocalDateTime.now());
+    }
+}
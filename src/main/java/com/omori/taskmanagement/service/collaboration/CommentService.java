@@ -0,0 +1,74 @@
+package com.omori.taskmanagement.service.collaboration;
+
+import com.omori.taskmanagement.dto.collaboration.CommentPageResponse;
+import com.omori.taskmanagement.dto.collaboration.CommentRequest;
+import com.omori.taskmanagement.dto.collaboration.CommentResponse;
+
+/**
+ * Comment threads on tasks: keyset-paginated top-level comments with replies fetched per
+ * comment on demand, {@code @username} mentions, and comment counts kept as counters.
+ */
+public interface CommentService {
+
+    /**
+     * Lists a task's top-level comments newest first, with their reply counts.
+     *
+     * @param taskId the task
+     * @param userId the current user, who must have access to the task
+     * @param cursor {@code nextCursor} of the previous page, or null for the first page
+     * @param limit  page size
+     * @return one page, the cursor of the next one and the task's comment count
+     */
+    CommentPageResponse getTaskComments(Long taskId, Long userId, String cursor, int limit);
+
+    /**
+     * Lists the replies of a top-level comment oldest first.
+     *
+     * @param commentId the replied-to comment
+     * @param userId    the current user, who must have access to the comment's task
+     * @param cursor    {@code nextCursor} of the previous page, or null for the first page
+     * @param limit     page size
+     * @return one page and the cursor of the next one
+     */
+    CommentPageResponse getReplies(Long commentId, Long userId, String cursor, int limit);
+
+    /**
+     * Lists comments mentioning the user newest first.
+     *
+     * @param userId the mentioned user
+     * @param cursor {@code nextCursor} of the previous page, or null for the first page
+     * @param limit  page size
+     * @return one page and the cursor of the next one
+     */
+    CommentPageResponse getMentions(Long userId, String cursor, int limit);
+
+    /**
+     * Adds a comment, or a reply when {@code parentCommentId} is set. Replies to a reply join the
+     * thread of its top-level comment.
+     *
+     * @param taskId  the task
+     * @param userId  the author, who must have access to the task
+     * @param request content and optional parent
+     * @return the created comment
+     */
+    CommentResponse addComment(Long taskId, Long userId, CommentRequest request);
+
+    /**
+     * Changes the content of the user's own comment and re-indexes its mentions.
+     *
+     * @param commentId the comment
+     * @param userId    the author
+     * @param request   new content
+     * @return the edited comment
+     */
+    CommentResponse updateComment(Long commentId, Long userId, CommentRequest request);
+
+    /**
+     * Soft-deletes a comment, together with its replies if it is a top-level comment. Allowed for
+     * the author and the task owner.
+     *
+     * @param commentId the comment
+     * @param userId    the current user
+     */
+    void deleteComment(Long commentId, Long userId);
+}
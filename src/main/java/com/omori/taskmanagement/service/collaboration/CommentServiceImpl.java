@@ -0,0 +1,213 @@
+package com.omori.taskmanagement.service.collaboration;
+
+import com.omori.taskmanagement.dto.collaboration.CommentPageResponse;
+import com.omori.taskmanagement.dto.collaboration.CommentRequest;
+import com.omori.taskmanagement.dto.collaboration.CommentResponse;
+import com.omori.taskmanagement.exceptions.collaboration.CommentNotFoundException;
+import com.omori.taskmanagement.exceptions.task.TaskAccessDeniedException;
+import com.omori.taskmanagement.exceptions.task.TaskNotFoundException;
+import com.omori.taskmanagement.model.collaboration.Comment;
+import com.omori.taskmanagement.model.project.Task;
+import com.omori.taskmanagement.repository.collaboration.CommentRepository;
+import com.omori.taskmanagement.repository.project.TaskRepository;
+import com.omori.taskmanagement.repository.usermgmt.UserRepository;
+import com.omori.taskmanagement.service.task.utils.TaskAccessControlService;
+import com.omori.taskmanagement.utils.KeysetCursor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class CommentServiceImpl implements CommentService {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private final CommentRepository commentRepository;
+    private final TaskRepository taskRepository;
+    private final UserRepository userRepository;
+    private final TaskAccessControlService taskAccessControlService;
+
+    @Override
+    @Transactional(readOnly = true)
+    public CommentPageResponse getTaskComments(Long taskId, Long userId, String cursor, int limit) {
+        loadAccessibleTask(taskId, userId);
+        int pageSize = Math.clamp(limit, 1, MAX_PAGE_SIZE);
+        KeysetCursor position = KeysetCursor.decode(cursor, false);
+        List<CommentResponse> rows = commentRepository.findTopLevelBefore(taskId, position.createdAt(),
+                position.id(), Limit.of(pageSize + 1));
+        CommentPageResponse page = page(rows, pageSize);
+        page.setCommentCount(commentRepository.findTaskCommentCount(taskId).orElse(0));
+        return page;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CommentPageResponse getReplies(Long commentId, Long userId, String cursor, int limit) {
+        Comment parent = loadComment(commentId);
+        loadAccessibleTask(parent.getTask().getId(), userId);
+        int pageSize = Math.clamp(limit, 1, MAX_PAGE_SIZE);
+        KeysetCursor position = KeysetCursor.decode(cursor, true);
+        return page(commentRepository.findRepliesAfter(commentId, position.createdAt(), position.id(),
+                Limit.of(pageSize + 1)), pageSize);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CommentPageResponse getMentions(Long userId, String cursor, int limit) {
+        int pageSize = Math.clamp(limit, 1, MAX_PAGE_SIZE);
+        KeysetCursor position = KeysetCursor.decode(cursor, false);
+        return page(commentRepository.findMentioningBefore(userId, position.createdAt(), position.id(),
+                Limit.of(pageSize + 1)), pageSize);
+    }
+
+    @Override
+    @Transactional
+    public CommentResponse addComment(Long taskId, Long userId, CommentRequest request) {
+        Task task = loadAccessibleTask(taskId, userId);
+        Comment parent = null;
+        if (request.getParentCommentId() != null) {
+            parent = loadComment(request.getParentCommentId());
+            if (!parent.getTask().getId().equals(taskId)) {
+                throw new CommentNotFoundException("Comment " + request.getParentCommentId()
+                        + " not found on task " + taskId);
+            }
+            // Threads are one level deep
+            if (parent.getParentComment() != null) {
+                parent = parent.getParentComment();
+            }
+        }
+
+        List<Long> mentions = resolveMentions(request.getContent(), task, userId);
+        LocalDateTime now = LocalDateTime.now();
+        Comment comment = Comment.builder()
+                .task(task)
+                .user(userRepository.getReferenceById(userId))
+                .parentComment(parent)
+                .content(request.getContent())
+                .mentions(new ArrayList<>(mentions))
+                .mentionIndex(mentions.toArray(Long[]::new))
+                .attachments("[]")
+                .isEdited(false)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+        Comment saved = commentRepository.save(comment);
+
+        if (parent != null) {
+            commentRepository.adjustReplyCount(parent.getId(), 1);
+        }
+        commentRepository.adjustTaskCommentCount(taskId, 1);
+        log.debug("User {} commented on task {} mentioning {}", userId, taskId, mentions);
+        return view(saved.getId());
+    }
+
+    @Override
+    @Transactional
+    public CommentResponse updateComment(Long commentId, Long userId, CommentRequest request) {
+        Comment comment = loadComment(commentId);
+        if (!comment.getUser().getId().equals(userId)) {
+            throw new TaskAccessDeniedException("Only the author can edit comment " + commentId);
+        }
+        Task task = loadAccessibleTask(comment.getTask().getId(), userId);
+
+        List<Long> mentions = resolveMentions(request.getContent(), task, userId);
+        LocalDateTime now = LocalDateTime.now();
+        comment.setContent(request.getContent());
+        // Rewrites the comment's comment_mentions rows as one batch
+        comment.getMentions().clear();
+        comment.getMentions().addAll(mentions);
+        comment.setMentionIndex(mentions.toArray(Long[]::new));
+        comment.setIsEdited(true);
+        comment.setEditedAt(now);
+        comment.setUpdatedAt(now);
+        commentRepository.save(comment);
+        return view(commentId);
+    }
+
+    @Override
+    @Transactional
+    public void deleteComment(Long commentId, Long userId) {
+        Comment comment = loadComment(commentId);
+        Long taskId = comment.getTask().getId();
+        if (!comment.getUser().getId().equals(userId)) {
+            Task task = loadAccessibleTask(taskId, userId);
+            if (task.getUser() == null || !task.getUser().getId().equals(userId)) {
+                throw new TaskAccessDeniedException("Only the author or the task owner can delete comment " + commentId);
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        comment.setDeletedAt(now);
+        commentRepository.save(comment);
+
+        int deleted = 1;
+        if (comment.getParentComment() == null) {
+            deleted += commentRepository.softDeleteReplies(commentId, now);
+        } else {
+            commentRepository.adjustReplyCount(comment.getParentComment().getId(), -1);
+        }
+        commentRepository.adjustTaskCommentCount(taskId, -deleted);
+        log.debug("User {} deleted comment {} of task {} ({} comments including replies)",
+                userId, commentId, taskId, deleted);
+    }
+
+    private Task loadAccessibleTask(Long taskId, Long userId) {
+        Task task = taskRepository.findByIdAndDeletedAtIsNull(taskId)
+                .orElseThrow(() -> new TaskNotFoundException("Task not found with id: " + taskId));
+        taskAccessControlService.validateTaskAccess(task, userId);
+        return task;
+    }
+
+    private Comment loadComment(Long commentId) {
+        return commentRepository.findByIdAndDeletedAtIsNull(commentId)
+                .orElseThrow(() -> new CommentNotFoundException("Comment not found with id: " + commentId));
+    }
+
+    private CommentResponse view(Long commentId) {
+        return commentRepository.findViewById(commentId)
+                .orElseThrow(() -> new CommentNotFoundException("Comment not found with id: " + commentId));
+    }
+
+    /**
+     * Resolves the mentioned usernames with one query. Only users who can see the task are
+     * mentioned, and never the author.
+     */
+    private List<Long> resolveMentions(String content, Task task, Long authorId) {
+        Set<String> usernames = MentionParser.usernames(content);
+        if (usernames.isEmpty()) {
+            return List.of();
+        }
+        return userRepository.findIdsByUsernameIn(usernames).stream()
+                .filter(id -> !Objects.equals(id, authorId))
+                .filter(id -> taskAccessControlService.canAccess(task, id))
+                .distinct()
+                .toList();
+    }
+
+    /**
+     * Cuts the extra row fetched to detect a next page and derives the next cursor.
+     */
+    private static CommentPageResponse page(List<CommentResponse> rows, int pageSize) {
+        boolean hasMore = rows.size() > pageSize;
+        List<CommentResponse> items = hasMore ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            CommentResponse last = items.get(items.size() - 1);
+            nextCursor = new KeysetCursor(last.createdAt(), last.id()).encode();
+        }
+        return CommentPageResponse.builder()
+                .items(items)
+                .nextCursor(nextCursor)
+                .build();
+    }
+}
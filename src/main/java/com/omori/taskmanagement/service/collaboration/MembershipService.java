@@ -0,0 +1,39 @@
+package com.omori.taskmanagement.service.collaboration;
+
+import com.omori.taskmanagement.dto.collaboration.MemberResponse;
+
+import java.util.List;
+
+/**
+ * Shares tasks with collaborators and manages workspace members, the two ways besides ownership
+ * and assignment that give a user access to a task.
+ *
+ * <p>Every change invalidates the affected user's permission index once committed, so the next
+ * access check sees it.</p>
+ */
+public interface MembershipService {
+
+    List<MemberResponse> getTaskCollaborators(Long taskId, Long userId);
+
+    /**
+     * Adds a collaborator or changes the role of an existing one. Only the task owner can share.
+     */
+    MemberResponse shareTask(Long taskId, Long userId, Long collaboratorId, String role);
+
+    /**
+     * Removes a collaborator. The task owner can remove anyone; a collaborator can remove themself.
+     */
+    void unshareTask(Long taskId, Long userId, Long collaboratorId);
+
+    List<MemberResponse> getWorkspaceMembers(Long workspaceId, Long userId);
+
+    /**
+     * Adds a member or changes the role of an existing one. Requires the workspace owner or an admin member.
+     */
+    MemberResponse putWorkspaceMember(Long workspaceId, Long userId, Long memberId, String role);
+
+    /**
+     * Removes a member. Requires the workspace owner or an admin member, unless members remove themselves.
+     */
+    void removeWorkspaceMember(Long workspaceId, Long userId, Long memberId);
+}
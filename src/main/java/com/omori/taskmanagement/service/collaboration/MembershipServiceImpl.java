@@ -0,0 +1,236 @@
+package com.omori.taskmanagement.service.collaboration;
+
+import com.omori.taskmanagement.dto.collaboration.MemberResponse;
+import com.omori.taskmanagement.exceptions.UserNotFoundException;
+import com.omori.taskmanagement.exceptions.task.TaskAccessDeniedException;
+import com.omori.taskmanagement.exceptions.task.TaskNotFoundException;
+import com.omori.taskmanagement.exceptions.task.TaskValidationException;
+import com.omori.taskmanagement.exceptions.task.WorkspaceNotFoundException;
+import com.omori.taskmanagement.model.collaboration.TaskCollaborator;
+import com.omori.taskmanagement.model.events.AccessRevokedEvent;
+import com.omori.taskmanagement.model.project.Task;
+import com.omori.taskmanagement.model.project.Workspace;
+import com.omori.taskmanagement.model.project.WorkspaceMember;
+import com.omori.taskmanagement.model.usermgmt.User;
+import com.omori.taskmanagement.repository.collaboration.TaskCollaboratorRepository;
+import com.omori.taskmanagement.repository.project.TaskRepository;
+import com.omori.taskmanagement.repository.project.WorkspaceMemberRepository;
+import com.omori.taskmanagement.repository.project.WorkspaceRepository;
+import com.omori.taskmanagement.repository.usermgmt.UserRepository;
+import com.omori.taskmanagement.service.task.utils.AccessLevel;
+import com.omori.taskmanagement.service.task.utils.TaskAccessControlService;
+import com.omori.taskmanagement.service.task.utils.TaskPermissionIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class MembershipServiceImpl implements MembershipService {
+
+    private static final Set<String> COLLABORATOR_ROLES = Set.of("viewer", "editor");
+
+    private static final Set<String> WORKSPACE_ROLES = Set.of("viewer", "member", "admin");
+
+    private final TaskCollaboratorRepository taskCollaboratorRepository;
+    private final WorkspaceMemberRepository workspaceMemberRepository;
+    private final WorkspaceRepository workspaceRepository;
+    private final TaskRepository taskRepository;
+    private final UserRepository userRepository;
+    private final TaskAccessControlService taskAccessControlService;
+    private final TaskPermissionIndex permissionIndex;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<MemberResponse> getTaskCollaborators(Long taskId, Long userId) {
+        taskAccessControlService.validateTaskAccess(loadTask(taskId), userId);
+        return taskCollaboratorRepository.findTaskCollaborators(taskId);
+    }
+
+    @Override
+    @Transactional
+    public MemberResponse shareTask(Long taskId, Long userId, Long collaboratorId, String role) {
+        Task task = loadTask(taskId);
+        if (!isOwner(task, userId)) {
+            throw new TaskAccessDeniedException("Only the owner can share task " + taskId);
+        }
+        if (isOwner(task, collaboratorId)) {
+            throw new TaskValidationException("The task owner cannot be added as a collaborator");
+        }
+        String normalizedRole = normalizeRole(role, COLLABORATOR_ROLES);
+        User collaborator = loadUser(collaboratorId);
+
+        LocalDateTime now = LocalDateTime.now();
+        TaskCollaborator row = taskCollaboratorRepository.findByTaskIdAndUserId(taskId, collaboratorId)
+                .orElseGet(() -> TaskCollaborator.builder()
+                        .task(task)
+                        .user(collaborator)
+                        .createdAt(now)
+                        .build());
+        if (row.getId() == null || row.getDeletedAt() != null) {
+            // New or previously removed: treat as a fresh invitation
+            row.setDeletedAt(null);
+            row.setInviter(userRepository.getReferenceById(userId));
+            row.setInvitedAt(now);
+        }
+        row.setRole(normalizedRole);
+        row.setUpdatedAt(now);
+        taskCollaboratorRepository.save(row);
+
+        afterCommit(() -> permissionIndex.invalidate(List.of(collaboratorId)));
+        log.info("User {} shared task {} with user {} as {}", userId, taskId, collaboratorId, normalizedRole);
+        return new MemberResponse(collaboratorId, collaborator.getUsername(), normalizedRole, row.getInvitedAt());
+    }
+
+    @Override
+    @Transactional
+    public void unshareTask(Long taskId, Long userId, Long collaboratorId) {
+        Task task = loadTask(taskId);
+        if (!isOwner(task, userId) && !userId.equals(collaboratorId)) {
+            throw new TaskAccessDeniedException("Only the owner can remove collaborators of task " + taskId);
+        }
+        taskCollaboratorRepository.findByTaskIdAndUserId(taskId, collaboratorId)
+                .filter(row -> row.getDeletedAt() == null)
+                .ifPresent(row -> {
+                    LocalDateTime now = LocalDateTime.now();
+                    row.setDeletedAt(now);
+                    row.setUpdatedAt(now);
+                    taskCollaboratorRepository.save(row);
+                    afterCommit(() -> revoked(collaboratorId));
+                    log.info("User {} removed user {} from task {}", userId, collaboratorId, taskId);
+                });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<MemberResponse> getWorkspaceMembers(Long workspaceId, Long userId) {
+        Workspace workspace = loadWorkspace(workspaceId);
+        if (!isOwner(workspace, userId) && workspaceMemberRepository.findByWorkspaceIdAndUserId(workspaceId, userId).isEmpty()) {
+            throw new TaskAccessDeniedException("User " + userId + " is not a member of workspace " + workspaceId);
+        }
+        return workspaceMemberRepository.findWorkspaceMembers(workspaceId);
+    }
+
+    @Override
+    @Transactional
+    public MemberResponse putWorkspaceMember(Long workspaceId, Long userId, Long memberId, String role) {
+        Workspace workspace = loadWorkspace(workspaceId);
+        requireManager(workspace, userId);
+        if (isOwner(workspace, memberId)) {
+            throw new TaskValidationException("The workspace owner cannot be added as a member");
+        }
+        String normalizedRole = normalizeRole(role, WORKSPACE_ROLES);
+        User member = loadUser(memberId);
+
+        WorkspaceMember row = workspaceMemberRepository.findByWorkspaceIdAndUserId(workspaceId, memberId)
+                .orElseGet(() -> WorkspaceMember.builder()
+                        .workspace(workspace)
+                        .user(member)
+                        .inviter(userRepository.getReferenceById(userId))
+                        .joinedAt(Timestamp.valueOf(LocalDateTime.now()))
+                        .build());
+        boolean downgraded = row.getId() != null && !AccessLevel.ofWorkspaceRole(normalizedRole)
+                .allows(AccessLevel.ofWorkspaceRole(row.getRole()));
+        row.setRole(normalizedRole);
+        workspaceMemberRepository.save(row);
+
+        afterCommit(() -> {
+            if (downgraded) {
+                revoked(memberId);
+            } else {
+                permissionIndex.invalidate(List.of(memberId));
+            }
+        });
+        log.info("User {} set user {} as {} of workspace {}", userId, memberId, normalizedRole, workspaceId);
+        return new MemberResponse(memberId, member.getUsername(), normalizedRole, row.getJoinedAt());
+    }
+
+    @Override
+    @Transactional
+    public void removeWorkspaceMember(Long workspaceId, Long userId, Long memberId) {
+        Workspace workspace = loadWorkspace(workspaceId);
+        if (!userId.equals(memberId)) {
+            requireManager(workspace, userId);
+        }
+        if (workspaceMemberRepository.deleteByWorkspaceIdAndUserId(workspaceId, memberId) > 0) {
+            afterCommit(() -> revoked(memberId));
+            log.info("User {} removed user {} from workspace {}", userId, memberId, workspaceId);
+        }
+    }
+
+    private Task loadTask(Long taskId) {
+        return taskRepository.findByIdAndDeletedAtIsNull(taskId)
+                .orElseThrow(() -> new TaskNotFoundException("Task not found with id: " + taskId));
+    }
+
+    private Workspace loadWorkspace(Long workspaceId) {
+        return workspaceRepository.findByIdAndDeletedAtIsNull(workspaceId)
+                .orElseThrow(() -> new WorkspaceNotFoundException("Workspace not found with id: " + workspaceId));
+    }
+
+    private User loadUser(Long userId) {
+        return userRepository.findById(userId)
+                .orElseThrow(() -> new UserNotFoundException("User not found with id: " + userId));
+    }
+
+    private void requireManager(Workspace workspace, Long userId) {
+        if (isOwner(workspace, userId)) {
+            return;
+        }
+        boolean admin = workspaceMemberRepository.findByWorkspaceIdAndUserId(workspace.getId(), userId)
+                .map(member -> "admin".equals(member.getRole()))
+                .orElse(false);
+        if (!admin) {
+            throw new TaskAccessDeniedException("Only the owner or an admin can manage members of workspace " + workspace.getId());
+        }
+    }
+
+    private static boolean isOwner(Task task, Long userId) {
+        return task.getUser() != null && task.getUser().getId().equals(userId);
+    }
+
+    private static boolean isOwner(Workspace workspace, Long userId) {
+        return workspace.getOwner() != null && workspace.getOwner().getId().equals(userId);
+    }
+
+    private static String normalizeRole(String role, Set<String> allowed) {
+        String normalized = role == null ? "" : role.trim().toLowerCase(Locale.ROOT);
+        if (!allowed.contains(normalized)) {
+            throw new TaskValidationException("Role must be one of " + allowed);
+        }
+        return normalized;
+    }
+
+    /**
+     * Cached task details need nothing here: they are keyed by version and only read after the
+     * version query, which checks access against the database.
+     */
+    private void revoked(Long userId) {
+        permissionIndex.invalidate(List.of(userId));
+        // Closes the user's task streams on every node, so revoked tasks stop being pushed
+        eventPublisher.publishEvent(new AccessRevokedEvent(this, userId));
+    }
+
+    private void afterCommit(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        action.run();
+                    }
+                }
+        );
+    }
+}
@@ -0,0 +1,37 @@
+package com.omori.taskmanagement.service.collaboration;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Finds {@code @username} mentions in comment text.
+ */
+final class MentionParser {
+
+    static final int MAX_MENTIONS = 20;
+
+    // Not preceded by a word character, so e-mail addresses are not mentions
+    private static final Pattern MENTION = Pattern.compile("(?<![\\w@])@([A-Za-z0-9_][A-Za-z0-9_.-]{0,49})");
+
+    private MentionParser() {
+    }
+
+    /**
+     * @return distinct mentioned usernames in order of appearance, at most {@link #MAX_MENTIONS}
+     */
+    static Set<String> usernames(String content) {
+        Set<String> usernames = new LinkedHashSet<>();
+        Matcher matcher = MENTION.matcher(content);
+        while (matcher.find() && usernames.size() < MAX_MENTIONS) {
+            String username = matcher.group(1);
+            // A sentence may end right after the mention
+            while (username.endsWith(".") || username.endsWith("-")) {
+                username = username.substring(0, username.length() - 1);
+            }
+            usernames.add(username);
+        }
+        return usernames;
+    }
+}
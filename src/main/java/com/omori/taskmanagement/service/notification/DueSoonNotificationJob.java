@@ -0,0 +1,68 @@
+package com.omori.taskmanagement.service.notification;
+
+import com.omori.taskmanagement.model.notification.OutboxEventType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Writes a {@link OutboxEventType#TASK_DUE_SOON} outbox event for every open task whose due date
+ * enters the {@code app.notifications.due-soon-window}.
+ *
+ * <p>The scan, the "already announced" bookkeeping in {@code notification.due_soon_notices} and
+ * the outbox insert are one statement, so concurrent nodes cannot announce the same deadline
+ * twice. Moving a task's due date makes it eligible again.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DueSoonNotificationJob {
+
+    private static final String ANNOUNCE_DUE_SOON = """
+            WITH due AS (
+                SELECT task_id, due_date FROM project.tasks
+                WHERE deleted_at IS NULL
+                  AND due_date > ? AND due_date <= ?
+                  AND status NOT IN ('completed', 'cancelled')
+            ), announced AS (
+                INSERT INTO notification.due_soon_notices (task_id, due_date)
+                SELECT task_id, due_date FROM due
+                ON CONFLICT DO NOTHING
+                RETURNING task_id
+            )
+            INSERT INTO notification.outbox (event_type, task_id)
+            SELECT CAST(? AS varchar), task_id FROM announced
+            """;
+
+    private static final String DELETE_PAST_NOTICES = "DELETE FROM notification.due_soon_notices WHERE due_date < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.notifications.due-soon-window:24h}")
+    private Duration dueSoonWindow;
+
+    @Scheduled(fixedDelayString = "${app.notifications.due-soon-scan-ms:60000}")
+    public void announceDueSoon() {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            int announced = jdbcTemplate.update(ANNOUNCE_DUE_SOON,
+                    Timestamp.valueOf(now),
+                    Timestamp.valueOf(now.plus(dueSoonWindow)),
+                    OutboxEventType.TASK_DUE_SOON.name());
+            int purged = jdbcTemplate.update(DELETE_PAST_NOTICES, Timestamp.valueOf(now.minusDays(1)));
+            if (announced > 0 || purged > 0) {
+                log.debug("Announced {} tasks due soon, purged {} past notices", announced, purged);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Due-soon scan failed: {}", e.getMessage());
+        }
+    }
+}
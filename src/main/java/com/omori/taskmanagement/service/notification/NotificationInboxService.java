@@ -0,0 +1,46 @@
+package com.omori.taskmanagement.service.notification;
+
+import com.omori.taskmanagement.dto.notification.NotificationPageResponse;
+
+import java.util.List;
+
+/**
+ * A user's notification inbox: unread counts served from Redis, keyset-paginated listings and
+ * set-based read marking.
+ */
+public interface NotificationInboxService {
+
+    /**
+     * @param userId the user
+     * @return the user's unread notification count
+     */
+    long getUnreadCount(Long userId);
+
+    /**
+     * Lists notifications newest first.
+     *
+     * @param userId     the user
+     * @param unreadOnly only unread notifications
+     * @param cursor     {@code nextCursor} of the previous page, or null for the first page
+     * @param limit      page size
+     * @return one page and the cursor of the next one
+     */
+    NotificationPageResponse getNotifications(Long userId, boolean unreadOnly, String cursor, int limit);
+
+    /**
+     * Marks the given notifications of the user as read.
+     *
+     * @param userId the user
+     * @param ids    notification IDs; other users' notifications are ignored
+     * @return the number of notifications that were unread
+     */
+    int markRead(Long userId, List<Long> ids);
+
+    /**
+     * Marks all of the user's notifications as read.
+     *
+     * @param userId the user
+     * @return the number of notifications that were unread
+     */
+    int markAllRead(Long userId);
+}
@@ -0,0 +1,87 @@
+package com.omori.taskmanagement.service.notification;
+
+import com.omori.taskmanagement.dto.notification.NotificationPageResponse;
+import com.omori.taskmanagement.dto.notification.NotificationResponse;
+import com.omori.taskmanagement.model.notification.Notification;
+import com.omori.taskmanagement.repository.notification.NotificationRepository;
+import com.omori.taskmanagement.utils.KeysetCursor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class NotificationInboxServiceImpl implements NotificationInboxService {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private final NotificationRepository notificationRepository;
+    private final UnreadCounterStore unreadCounterStore;
+
+    @Override
+    public long getUnreadCount(Long userId) {
+        return unreadCounterStore.get(userId, () -> notificationRepository.countUnread(userId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public NotificationPageResponse getNotifications(Long userId, boolean unreadOnly, String cursor, int limit) {
+        int pageSize = Math.clamp(limit, 1, MAX_PAGE_SIZE);
+        KeysetCursor position = KeysetCursor.decode(cursor, false);
+
+        // One row more than the page tells whether there is a next page without counting
+        Limit fetch = Limit.of(pageSize + 1);
+        List<Notification> rows = unreadOnly
+                ? notificationRepository.findUnreadBefore(userId, position.createdAt(), position.id(), fetch)
+                : notificationRepository.findBefore(userId, position.createdAt(), position.id(), fetch);
+
+        boolean hasMore = rows.size() > pageSize;
+        List<Notification> page = hasMore ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            Notification last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return NotificationPageResponse.builder()
+                .items(page.stream().map(NotificationResponse::from).toList())
+                .nextCursor(nextCursor)
+                .unreadCount(getUnreadCount(userId))
+                .build();
+    }
+
+    @Override
+    @Transactional
+    public int markRead(Long userId, List<Long> ids) {
+        int marked = notificationRepository.markRead(userId, ids, LocalDateTime.now());
+        adjustUnreadAfterCommit(userId, -marked);
+        log.debug("Marked {} notifications read for user {}", marked, userId);
+        return marked;
+    }
+
+    @Override
+    @Transactional
+    public int markAllRead(Long userId) {
+        int marked = notificationRepository.markAllRead(userId, LocalDateTime.now());
+        adjustUnreadAfterCommit(userId, -marked);
+        log.debug("Marked all {} unread notifications read for user {}", marked, userId);
+        return marked;
+    }
+
+    /**
+     * Applies the delta of rows this transaction actually changed, so concurrent inserts by the
+     * relay are never lost from the counter.
+     */
+    private void adjustUnreadAfterCommit(Long userId, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        unreadCounterStore.addAfterCommit(Map.of(userId, delta));
+    }
+}
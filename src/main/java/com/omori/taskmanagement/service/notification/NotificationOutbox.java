@@ -0,0 +1,57 @@
+package com.omori.taskmanagement.service.notification;
+
+import com.omori.taskmanagement.model.notification.OutboxEventType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+
+/**
+ * Writes task events to {@code notification.outbox} inside the caller's transaction, so an event
+ * exists exactly when the change that caused it commits. Rendering and fan-out to recipients
+ * happen later in {@link NotificationRelay}; writing an event is a single insert regardless of
+ * how many notifications it turns into.
+ */
+@Service
+@RequiredArgsConstructor
+public class NotificationOutbox {
+
+    private static final String INSERT_EVENT = "INSERT INTO notification.outbox (event_type, task_id, actor_id) "
+            + "VALUES (?, ?, ?)";
+
+    private static final String INSERT_EVENTS_FOR_TASKS = "INSERT INTO notification.outbox (event_type, task_id, actor_id) "
+            + "SELECT CAST(? AS varchar), task_id, CAST(? AS bigint) "
+            + "FROM unnest(CAST(? AS bigint[])) AS task_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Records one event for a task.
+     *
+     * @param type    the event
+     * @param taskId  the task it is about
+     * @param actorId the user who caused it, not notified about their own action; may be null
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(OutboxEventType type, Long taskId, Long actorId) {
+        jdbcTemplate.update(INSERT_EVENT, type.name(), taskId, actorId);
+    }
+
+    /**
+     * Records the same event for many tasks with one statement, for bulk operations.
+     *
+     * @param type    the event
+     * @param taskIds the tasks it is about
+     * @param actorId the user who caused it; may be null
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void appendForTasks(OutboxEventType type, Collection<Long> taskIds, Long actorId) {
+        if (taskIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(INSERT_EVENTS_FOR_TASKS, type.name(), actorId, taskIds.toArray(Long[]::new));
+    }
+}
@@ -0,0 +1,199 @@
+package com.omori.taskmanagement.service.notification;
+
+import com.omori.taskmanagement.model.audit.JsonbConverter;
+import com.omori.taskmanagement.model.notification.OutboxEventType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Moves events from {@code notification.outbox} into {@code notification.notifications}.
+ *
+ * <p>Each batch is taken with {@code DELETE ... RETURNING} over rows locked with
+ * {@code FOR UPDATE SKIP LOCKED}, rendered from the cached templates, and inserted as JDBC
+ * batches in the same transaction, so an event becomes notifications exactly once even with
+ * several nodes relaying. Recipients and template variables are read from the task at relay
+ * time with one query per batch. Unread counters are adjusted after the batch commits.</p>
+ */
+@Slf4j
+@Component
+public class NotificationRelay {
+
+    private static final String CLAIM_EVENTS = "DELETE FROM notification.outbox WHERE outbox_id IN ("
+            + "SELECT outbox_id FROM notification.outbox ORDER BY outbox_id LIMIT ? FOR UPDATE SKIP LOCKED) "
+            + "RETURNING outbox_id, event_type, task_id, actor_id";
+
+    private static final String FIND_TASKS = "SELECT task_id, title, user_id, assigned_to, due_date "
+            + "FROM project.tasks WHERE task_id = ANY(CAST(? AS bigint[])) AND deleted_at IS NULL";
+
+    private static final String INSERT_NOTIFICATION = "INSERT INTO notification.notifications "
+            + "(user_id, type, title, message, data, is_read, created_at) "
+            + "VALUES (?, ?, ?, ?, CAST(? AS jsonb), false, ?)";
+
+    private static final int MAX_VARCHAR = 255;
+
+    private static final DateTimeFormatter DUE_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final NotificationTemplateStore templateStore;
+    private final UnreadCounterStore unreadCounterStore;
+    private final JsonbConverter jsonbConverter = new JsonbConverter();
+
+    private final Counter relayedEvents;
+    private final Counter createdNotifications;
+
+    @Value("${app.notifications.relay-batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.notifications.relay-max-batches:20}")
+    private int maxBatches;
+
+    public NotificationRelay(JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             NotificationTemplateStore templateStore,
+                             UnreadCounterStore unreadCounterStore,
+                             MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.templateStore = templateStore;
+        this.unreadCounterStore = unreadCounterStore;
+        this.relayedEvents = Counter.builder("notifications.outbox.relayed")
+                .description("Outbox events turned into notifications")
+                .register(meterRegistry);
+        this.createdNotifications = Counter.builder("notifications.created")
+                .description("Notification rows created from outbox events")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.notifications.relay-interval-ms:500}")
+    public void relay() {
+        try {
+            for (int i = 0; i < maxBatches; i++) {
+                if (relayBatch() < batchSize) {
+                    return;
+                }
+            }
+        } catch (DataAccessException e) {
+            // The batch rolled back; its events are still in the outbox for the next run
+            log.warn("Notification relay failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * @return the number of outbox events taken
+     */
+    private int relayBatch() {
+        Integer taken = transactionTemplate.execute(status -> {
+            List<OutboxEvent> events = jdbcTemplate.query(CLAIM_EVENTS, (rs, rowNum) -> new OutboxEvent(
+                    rs.getLong("outbox_id"),
+                    OutboxEventType.valueOf(rs.getString("event_type")),
+                    rs.getLong("task_id"),
+                    (Long) rs.getObject("actor_id")), batchSize);
+            if (events.isEmpty()) {
+                return 0;
+            }
+            Map<Long, TaskInfo> tasks = findTasks(events);
+            Map<Long, Long> unreadDeltas = new HashMap<>();
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            List<Object[]> rows = new ArrayList<>();
+            for (OutboxEvent event : events) {
+                TaskInfo task = tasks.get(event.taskId());
+                if (task == null) {
+                    continue; // Task deleted since the event was written
+                }
+                Optional<NotificationTemplateStore.CompiledTemplate> template =
+                        templateStore.find(event.type().getTemplateName());
+                if (template.isEmpty()) {
+                    continue;
+                }
+                Map<String, String> variables = task.variables();
+                String title = truncate(template.get().renderSubject(variables));
+                String message = truncate(template.get().renderBody(variables));
+                String data = jsonbConverter.convertToDatabaseColumn(Map.of(
+                        "taskId", event.taskId(),
+                        "event", event.type().name()));
+                for (Long recipient : recipients(event, task)) {
+                    rows.add(new Object[] { recipient, event.type().getNotificationType().name(),
+                            title, message, data, now });
+                    unreadDeltas.merge(recipient, 1L, Long::sum);
+                }
+            }
+            if (!rows.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_NOTIFICATION, rows);
+                unreadCounterStore.addAfterCommit(unreadDeltas);
+            }
+            relayedEvents.increment(events.size());
+            createdNotifications.increment(rows.size());
+            return events.size();
+        });
+        return taken != null ? taken : 0;
+    }
+
+    private Map<Long, TaskInfo> findTasks(List<OutboxEvent> events) {
+        Long[] taskIds = events.stream().map(OutboxEvent::taskId).distinct().toArray(Long[]::new);
+        Map<Long, TaskInfo> tasks = new HashMap<>();
+        jdbcTemplate.query(FIND_TASKS, rs -> {
+            Timestamp dueDate = rs.getTimestamp("due_date");
+            tasks.put(rs.getLong("task_id"), new TaskInfo(
+                    rs.getString("title"),
+                    (Long) rs.getObject("user_id"),
+                    (Long) rs.getObject("assigned_to"),
+                    dueDate != null ? dueDate.toLocalDateTime() : null));
+        }, (Object) taskIds);
+        return tasks;
+    }
+
+    private static Set<Long> recipients(OutboxEvent event, TaskInfo task) {
+        Set<Long> recipients = new LinkedHashSet<>(2);
+        switch (event.type()) {
+            case TASK_ASSIGNED -> recipients.add(task.assigneeId());
+            case TASK_COMPLETED -> {
+                recipients.add(task.ownerId());
+                recipients.add(task.assigneeId());
+            }
+            case TASK_DUE_SOON -> recipients.add(task.assigneeId() != null ? task.assigneeId() : task.ownerId());
+        }
+        recipients.remove(null);
+        // Nobody is notified about their own action
+        recipients.removeIf(recipient -> Objects.equals(recipient, event.actorId()));
+        return recipients;
+    }
+
+    private static String truncate(String value) {
+        return value.length() > MAX_VARCHAR ? value.substring(0, MAX_VARCHAR - 1) + "…" : value;
+    }
+
+    private record OutboxEvent(Long id, OutboxEventType type, Long taskId, Long actorId) {
+    }
+
+    private record TaskInfo(String title, Long ownerId, Long assigneeId, LocalDateTime dueDate) {
+
+        Map<String, String> variables() {
+            Map<String, String> variables = new LinkedHashMap<>(4);
+            variables.put("task_title", title);
+            variables.put("due_date", dueDate != null ? dueDate.format(DUE_DATE_FORMAT) : "");
+            return variables;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.omori.taskmanagement.service.notification;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Active templates from {@code notification.templates}, parsed once into literal and
+ * {@code {{variable}}} segments and kept in memory, so rendering a notification is a single
+ * pass over the segments. The cache is dropped every {@code app.notifications.template-refresh-ms}
+ * to pick up edited templates.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationTemplateStore {
+
+    private static final String FIND_ACTIVE_TEMPLATE = "SELECT subject_template, body_template "
+            + "FROM notification.templates WHERE name = ? AND is_active AND deleted_at IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Map<String, Optional<CompiledTemplate>> templates = new ConcurrentHashMap<>();
+
+    /**
+     * @param name the template name
+     * @return the compiled template, or empty if there is no active template with that name
+     */
+    public Optional<CompiledTemplate> find(String name) {
+        return templates.computeIfAbsent(name, this::load);
+    }
+
+    @Scheduled(fixedDelayString = "${app.notifications.template-refresh-ms:300000}")
+    public void refresh() {
+        templates.clear();
+    }
+
+    private Optional<CompiledTemplate> load(String name) {
+        List<CompiledTemplate> found = jdbcTemplate.query(FIND_ACTIVE_TEMPLATE,
+                (rs, rowNum) -> new CompiledTemplate(
+                        Segments.parse(rs.getString("subject_template")),
+                        Segments.parse(rs.getString("body_template"))),
+                name);
+        if (found.isEmpty()) {
+            log.warn("No active notification template named '{}'", name);
+            return Optional.empty();
+        }
+        return Optional.of(found.get(0));
+    }
+
+    /**
+     * A template split into segments; renders subject and body against a variable map.
+     * Unknown variables render as empty strings.
+     */
+    public record CompiledTemplate(Segments subject, Segments body) {
+
+        public String renderSubject(Map<String, String> variables) {
+            return subject.render(variables);
+        }
+
+        public String renderBody(Map<String, String> variables) {
+            return body.render(variables);
+        }
+    }
+
+    /**
+     * Alternating literal text and variable names; even indexes are literals.
+     */
+    public record Segments(String[] parts, int length) {
+
+        private static final Segments EMPTY = new Segments(new String[] { "" }, 0);
+
+        static Segments parse(String template) {
+            if (template == null || template.isEmpty()) {
+                return EMPTY;
+            }
+            List<String> parts = new ArrayList<>();
+            int position = 0;
+            while (true) {
+                int open = template.indexOf("{{", position);
+                int close = open < 0 ? -1 : template.indexOf("}}", open + 2);
+                if (close < 0) {
+                    parts.add(template.substring(position));
+                    break;
+                }
+                parts.add(template.substring(position, open));
+                parts.add(template.substring(open + 2, close).trim());
+                position = close + 2;
+            }
+            return new Segments(parts.toArray(String[]::new), template.length());
+        }
+
+        String render(Map<String, String> variables) {
+            StringBuilder out = new StringBuilder(length + 32);
+            for (int i = 0; i < parts.length; i++) {
+                if (i % 2 == 0) {
+                    out.append(parts[i]);
+                } else {
+                    String value = variables.get(parts[i]);
+                    if (value != null) {
+                        out.append(value);
+                    }
+                }
+            }
+            return out.toString();
+        }
+    }
+}
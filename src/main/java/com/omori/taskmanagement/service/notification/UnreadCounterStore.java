@@ -0,0 +1,197 @@
+package com.omori.taskmanagement.service.notification;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-user unread notification counters in Redis.
+ *
+ * <p>A counter is seeded from the database the first time it is read and afterwards only
+ * adjusted by deltas. A seed must not race a delta: the count it writes may already include a
+ * committed change whose delta has not been applied yet, or may miss one applied while it
+ * counted. Deltas are therefore registered inside the transaction that changes the
+ * notifications: before the commit the user is marked as having a delta in flight, and after it
+ * the delta is applied, the mark cleared and a per-user generation bumped. A seed only writes if
+ * no delta is in flight and the generation it read before counting is unchanged; otherwise it
+ * gives up and the next read seeds again. Deltas for users without a counter are not applied,
+ * since a counter created from zero would undercount. When Redis cannot be updated the affected
+ * counters are deleted so they are re-seeded instead of drifting.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UnreadCounterStore {
+
+    private static final String KEY_PREFIX = "notifications:unread:";
+
+    private static final String GENERATION_PREFIX = "notifications:unread-generation:";
+
+    private static final String PENDING_PREFIX = "notifications:unread-pending:";
+
+    private static final Duration TTL = Duration.ofDays(1);
+
+    // Only has to outlive the count between reading a generation and seeding under it
+    private static final Duration GENERATION_TTL = Duration.ofHours(1);
+
+    // Must outlive the transaction; a mark left by a crashed node blocks seeding until it expires
+    private static final Duration PENDING_TTL = Duration.ofMinutes(5);
+
+    // Ends an in-flight delta: bump the generation, clear the mark, then adjust the counter if it
+    // exists, never going below zero
+    private static final RedisScript<Long> APPLY = new DefaultRedisScript<>(
+            "redis.call('INCR', KEYS[2]) redis.call('EXPIRE', KEYS[2], ARGV[2]) "
+                    + "if redis.call('DECR', KEYS[3]) <= 0 then redis.call('DEL', KEYS[3]) end "
+                    + "if redis.call('EXISTS', KEYS[1]) == 0 then return nil end "
+                    + "local value = redis.call('INCRBY', KEYS[1], ARGV[1]) "
+                    + "if value < 0 then redis.call('SET', KEYS[1], 0, 'KEEPTTL') return 0 end "
+                    + "return value",
+            Long.class);
+
+    // Clears the in-flight mark of a rolled back delta
+    private static final RedisScript<Long> RELEASE = new DefaultRedisScript<>(
+            "if redis.call('DECR', KEYS[1]) <= 0 then redis.call('DEL', KEYS[1]) end return 1",
+            Long.class);
+
+    // Create the counter only if no delta is in flight and none was applied since ARGV[1] was read
+    private static final RedisScript<Long> SEED = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[3]) == 1 then return 0 end "
+                    + "if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then return 0 end "
+                    + "if redis.call('SET', KEYS[1], ARGV[2], 'EX', ARGV[3], 'NX') then return 1 end "
+                    + "return 0",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * @param userId the user
+     * @param loader counts the user's unread notifications in the database, used on a cache miss
+     * @return the user's unread count
+     */
+    public long get(Long userId, LongSupplier loader) {
+        String key = KEY_PREFIX + userId;
+        try {
+            String cached = redisTemplate.opsForValue().get(key);
+            if (cached != null) {
+                return Long.parseLong(cached);
+            }
+            String generation = redisTemplate.opsForValue().get(GENERATION_PREFIX + userId);
+            long count = loader.getAsLong();
+            redisTemplate.execute(SEED, keys(userId),
+                    generation == null ? "0" : generation, Long.toString(count), Long.toString(TTL.toSeconds()));
+            return count;
+        } catch (DataAccessException e) {
+            log.warn("Unread counter unavailable for user {}: {}", userId, e.getMessage());
+            return loader.getAsLong();
+        }
+    }
+
+    /**
+     * Applies unread deltas (positive for new notifications, negative for read ones) once the
+     * current transaction commits. Must be called inside the transaction that changes the
+     * notifications, before it commits.
+     *
+     * @param deltas delta per user ID
+     */
+    public void addAfterCommit(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        boolean marked = markPending(deltas.keySet());
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    release(deltas.keySet());
+                } else if (marked) {
+                    apply(deltas);
+                } else {
+                    // A seed may have counted this change already, so the delta cannot be trusted
+                    evict(deltas.keySet());
+                }
+            }
+        });
+    }
+
+    /**
+     * Drops counters so they are re-seeded from the database on the next read.
+     */
+    public void evict(Collection<Long> userIds) {
+        try {
+            redisTemplate.delete(userIds.stream().map(userId -> KEY_PREFIX + userId).toList());
+        } catch (DataAccessException e) {
+            log.warn("Could not reset unread counters: {}", e.getMessage());
+        }
+    }
+
+    private boolean markPending(Collection<Long> userIds) {
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) {
+                    for (Long userId : userIds) {
+                        operations.opsForValue().increment(PENDING_PREFIX + userId);
+                        operations.expire(PENDING_PREFIX + userId, PENDING_TTL);
+                    }
+                    return null;
+                }
+            });
+            return true;
+        } catch (DataAccessException e) {
+            log.warn("Could not mark unread deltas of {} users: {}", userIds.size(), e.getMessage());
+            return false;
+        }
+    }
+
+    private void apply(Map<Long, Long> deltas) {
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) {
+                    deltas.forEach((userId, delta) -> operations.execute(APPLY, keys(userId),
+                            Long.toString(delta), Long.toString(GENERATION_TTL.toSeconds())));
+                    return null;
+                }
+            });
+        } catch (DataAccessException e) {
+            log.warn("Could not update unread counters of {} users, resetting them: {}", deltas.size(), e.getMessage());
+            evict(deltas.keySet());
+        }
+    }
+
+    private void release(Collection<Long> userIds) {
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) {
+                    userIds.forEach(userId -> operations.execute(RELEASE, List.of(PENDING_PREFIX + userId)));
+                    return null;
+                }
+            });
+        } catch (DataAccessException e) {
+            // The marks expire after PENDING_TTL; until then reads skip seeding
+            log.warn("Could not release unread delta marks of {} users: {}", userIds.size(), e.getMessage());
+        }
+    }
+
+    private static List<String> keys(Long userId) {
+        return List.of(KEY_PREFIX + userId, GENERATION_PREFIX + userId, PENDING_PREFIX + userId);
+    }
+}
@@ -0,0 +1,26 @@
+package com.omori.taskmanagement.service.reminder;
+
+import com.omori.taskmanagement.model.notification.Reminder;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * A reminder claimed by this node for delivery.
+ *
+ * @param id             the reminder ID
+ * @param taskId         the task the reminder is about
+ * @param userId         the user to remind
+ * @param remindAt       the occurrence being delivered
+ * @param repeatAnchor   the first occurrence, which later occurrences are counted from
+ * @param repeatInterval how the reminder repeats after this occurrence
+ * @param channels       channels to deliver on
+ */
+public record DueReminder(Long id,
+                          Long taskId,
+                          Long userId,
+                          LocalDateTime remindAt,
+                          LocalDateTime repeatAnchor,
+                          Reminder.RepeatInterval repeatInterval,
+                          Set<Reminder.NotificationType> channels) {
+}
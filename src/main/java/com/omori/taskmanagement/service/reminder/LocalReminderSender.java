@@ -0,0 +1,51 @@
+package com.omori.taskmanagement.service.reminder;
+
+import com.omori.taskmanagement.model.notification.Reminder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Stand-in sender that logs the reminder and keeps the most recent deliveries in memory,
+ * for local runs and tests where no real email, push or SMS provider is configured.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class LocalReminderSender implements ReminderSender {
+
+    private static final int RECENT_LIMIT = 1000;
+
+    private final Reminder.NotificationType channel;
+
+    private final Deque<DueReminder> recent = new ArrayDeque<>();
+
+    @Override
+    public Reminder.NotificationType channel() {
+        return channel;
+    }
+
+    @Override
+    public void send(DueReminder reminder) {
+        log.info("[{}] Reminder {} for task {} to user {} (due {})",
+                channel, reminder.id(), reminder.taskId(), reminder.userId(), reminder.remindAt());
+        synchronized (recent) {
+            if (recent.size() == RECENT_LIMIT) {
+                recent.removeFirst();
+            }
+            recent.addLast(reminder);
+        }
+    }
+
+    /**
+     * @return the most recent deliveries, oldest first
+     */
+    public List<DueReminder> deliveries() {
+        synchronized (recent) {
+            return new ArrayList<>(recent);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.omori.taskmanagement.service.reminder;
+
+import com.omori.taskmanagement.model.notification.Reminder;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Next-occurrence arithmetic for repeating reminders.
+ */
+public final class ReminderRecurrence {
+
+    private ReminderRecurrence() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Computes the first occurrence of a repeating reminder strictly after {@code now}.
+     *
+     * <p>Occurrences are counted from {@code anchor} rather than stepped one at a time, so
+     * monthly and yearly reminders keep their day of month (a reminder on the 31st falls on the
+     * 30th in short months and back on the 31st after), and occurrences missed while no node was
+     * running are skipped instead of being delivered one after another.</p>
+     *
+     * @param anchor   the reminder's first occurrence, not the (possibly clamped) one just delivered
+     * @param interval the repeat interval
+     * @param now      the current time
+     * @return the next occurrence, or {@code null} if the reminder does not repeat
+     */
+    public static LocalDateTime nextOccurrence(LocalDateTime anchor, Reminder.RepeatInterval interval,
+                                               LocalDateTime now) {
+        ChronoUnit unit = unitOf(interval);
+        if (unit == null) {
+            return null;
+        }
+        long steps = Math.max(1, unit.between(anchor, now));
+        LocalDateTime next = anchor.plus(steps, unit);
+        while (!next.isAfter(now)) {
+            next = anchor.plus(++steps, unit);
+        }
+        return next;
+    }
+
+    private static ChronoUnit unitOf(Reminder.RepeatInterval interval) {
+        if (interval == null) {
+            return null;
+        }
+        return switch (interval) {
+            case DAILY -> ChronoUnit.DAYS;
+            case WEEKLY -> ChronoUnit.WEEKS;
+            case MONTHLY -> ChronoUnit.MONTHS;
+            case YEARLY -> ChronoUnit.YEARS;
+            case NONE -> null;
+        };
+    }
+}
@@ -0,0 +1,226 @@
+package com.omori.taskmanagement.service.reminder;
+
+import com.omori.taskmanagement.config.ReminderProperties;
+import com.omori.taskmanagement.model.notification.Reminder;
+import com.omori.taskmanagement.utils.HierarchicalTimingWheel;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Delivers due reminders from {@code notification.reminders}.
+ *
+ * <p>Every {@code app.reminders.poll-interval} the node claims the reminders due within the
+ * lookahead window ({@link ReminderStore#claimDue}) and parks them in a
+ * {@link HierarchicalTimingWheel}; each tick fires the ones that are due and hands them to the
+ * {@link ReminderSender} of each channel on a virtual thread. Delivered reminders are completed
+ * in one batch on the next tick: one-shot reminders are marked sent, repeating ones move to
+ * their next occurrence. The database is only read through the due-time index, never polled in
+ * full, and any number of nodes can run the scheduler side by side.</p>
+ *
+ * <p>Delivery is at least once: a reminder whose send fails, or whose node dies before
+ * completing it, is claimed again once its lease expires.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.reminders.enabled", havingValue = "true", matchIfMissing = true)
+public class ReminderScheduler {
+
+    private final ReminderStore reminderStore;
+    private final ReminderProperties properties;
+    private final Map<Reminder.NotificationType, ReminderSender> senders;
+    private final String nodeId;
+
+    private final HierarchicalTimingWheel<DueReminder> wheel;
+    private final Deque<DueReminder> fired = new ArrayDeque<>();
+    private final Queue<ReminderStore.Completion> completions = new ConcurrentLinkedQueue<>();
+    private final ExecutorService deliveryExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore inFlight;
+    private long nextPollAt;
+
+    private final Counter claimed;
+    private final Counter delivered;
+    private final Counter failed;
+
+    public ReminderScheduler(ReminderStore reminderStore,
+                             ReminderProperties properties,
+                             List<ReminderSender> senders,
+                             MeterRegistry meterRegistry) {
+        if (properties.getLease().compareTo(properties.getLookahead()) <= 0) {
+            throw new IllegalStateException("app.reminders.lease must be longer than app.reminders.lookahead");
+        }
+        this.reminderStore = reminderStore;
+        this.properties = properties;
+        this.senders = new EnumMap<>(Reminder.NotificationType.class);
+        for (ReminderSender sender : senders) {
+            ReminderSender previous = this.senders.put(sender.channel(), sender);
+            if (previous != null) {
+                throw new IllegalStateException("More than one ReminderSender for channel " + sender.channel());
+            }
+        }
+        this.nodeId = properties.getNodeId() != null ? properties.getNodeId() : defaultNodeId();
+        this.wheel = new HierarchicalTimingWheel<>(properties.getTickMs(), properties.getWheelSize(),
+                System.currentTimeMillis());
+        this.inFlight = new Semaphore(properties.getMaxInFlight());
+
+        this.claimed = Counter.builder("reminders.claimed")
+                .description("Reminders claimed for delivery by this node")
+                .register(meterRegistry);
+        this.delivered = Counter.builder("reminders.delivered")
+                .description("Reminders delivered on all of their channels")
+                .register(meterRegistry);
+        this.failed = Counter.builder("reminders.failed")
+                .description("Reminder deliveries that failed and will be retried after the lease")
+                .register(meterRegistry);
+        Gauge.builder("reminders.scheduled", wheel, HierarchicalTimingWheel::size)
+                .description("Claimed reminders waiting in the timing wheel")
+                .register(meterRegistry);
+
+        log.info("Reminder scheduler started as node '{}' with channels {}", nodeId, this.senders.keySet());
+    }
+
+    @Scheduled(fixedDelayString = "${app.reminders.tick-ms:1000}")
+    public void tick() {
+        try {
+            completeDelivered();
+            long now = System.currentTimeMillis();
+            if (now >= nextPollAt) {
+                claimDue();
+                nextPollAt = now + properties.getPollInterval().toMillis();
+            }
+            wheel.advanceTo(System.currentTimeMillis(), fired::addLast);
+            dispatchFired();
+        } catch (DataAccessException e) {
+            // Claimed reminders stay leased to this node and in the wheel; the next tick retries
+            log.warn("Reminder scheduler tick failed: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        deliveryExecutor.shutdown();
+        try {
+            if (!deliveryExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+                log.warn("Reminder deliveries still running at shutdown");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            completeDelivered();
+            int released = reminderStore.releaseClaims(nodeId);
+            log.info("Released {} reminder claims of node '{}'", released, nodeId);
+        } catch (DataAccessException e) {
+            log.warn("Could not release reminder claims of node '{}': {}", nodeId, e.getMessage());
+        }
+    }
+
+    private void claimDue() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime horizon = now.plus(properties.getLookahead());
+        LocalDateTime leaseUntil = now.plus(properties.getLease());
+        for (int i = 0; i < properties.getMaxBatchesPerPoll(); i++) {
+            List<DueReminder> batch = reminderStore.claimDue(nodeId, horizon, now, leaseUntil,
+                    properties.getBatchSize());
+            claimed.increment(batch.size());
+            for (DueReminder reminder : batch) {
+                long deadline = reminder.remindAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+                if (!wheel.add(reminder, deadline)) {
+                    fired.addLast(reminder);
+                }
+            }
+            if (batch.size() < properties.getBatchSize()) {
+                return;
+            }
+        }
+        log.warn("Reminder backlog exceeds {} per poll; remaining due reminders are claimed on the next poll",
+                properties.getBatchSize() * properties.getMaxBatchesPerPoll());
+    }
+
+    private void dispatchFired() {
+        DueReminder reminder;
+        while ((reminder = fired.peekFirst()) != null && inFlight.tryAcquire()) {
+            fired.removeFirst();
+            DueReminder toDeliver = reminder;
+            deliveryExecutor.execute(() -> {
+                try {
+                    deliver(toDeliver);
+                } finally {
+                    inFlight.release();
+                }
+            });
+        }
+    }
+
+    private void deliver(DueReminder reminder) {
+        try {
+            for (Reminder.NotificationType channel : reminder.channels()) {
+                ReminderSender sender = senders.get(channel);
+                if (sender == null) {
+                    log.warn("No sender for channel {}, skipping it for reminder {}", channel, reminder.id());
+                    continue;
+                }
+                sender.send(reminder);
+            }
+        } catch (RuntimeException e) {
+            failed.increment();
+            log.warn("Delivery of reminder {} failed, retrying after its lease: {}", reminder.id(), e.getMessage());
+            return;
+        }
+        delivered.increment();
+        completions.add(new ReminderStore.Completion(reminder.id(),
+                ReminderRecurrence.nextOccurrence(reminder.repeatAnchor(), reminder.repeatInterval(), LocalDateTime.now())));
+    }
+
+    private void completeDelivered() {
+        if (completions.isEmpty()) {
+            return;
+        }
+        List<ReminderStore.Completion> batch = new ArrayList<>();
+        ReminderStore.Completion completion;
+        while ((completion = completions.poll()) != null) {
+            batch.add(completion);
+        }
+        try {
+            reminderStore.complete(nodeId, batch);
+        } catch (DataAccessException e) {
+            // Keep them for the next tick rather than re-sending after the lease
+            completions.addAll(batch);
+            throw e;
+        }
+    }
+
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "node";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
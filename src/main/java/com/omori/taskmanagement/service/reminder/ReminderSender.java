@@ -0,0 +1,23 @@
+package com.omori.taskmanagement.service.reminder;
+
+import com.omori.taskmanagement.model.notification.Reminder;
+
+/**
+ * Delivers reminders on one channel. Every bean of this type is picked up by the
+ * {@link ReminderScheduler}; at most one sender per channel.
+ */
+public interface ReminderSender {
+
+    /**
+     * @return the channel this sender delivers on
+     */
+    Reminder.NotificationType channel();
+
+    /**
+     * Delivers one reminder. Throwing leaves the reminder claimed; it is retried once the
+     * claim expires.
+     *
+     * @param reminder the due reminder
+     */
+    void send(DueReminder reminder);
+}
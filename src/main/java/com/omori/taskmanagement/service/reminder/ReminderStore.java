@@ -0,0 +1,168 @@
+package com.omori.taskmanagement.service.reminder;
+
+import com.omori.taskmanagement.model.notification.Reminder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Claims and completes reminders in {@code notification.reminders} with plain JDBC.
+ *
+ * <p>A claim takes the earliest pending reminders with {@code FOR UPDATE SKIP LOCKED} and stamps
+ * them with the node ID and a lease in the same statement, so concurrent nodes never claim the
+ * same row and the row lock is held only for that statement. The due-time scan runs on the
+ * partial index {@code idx_reminders_due}.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class ReminderStore {
+
+    private static final String CLAIM_DUE = """
+            WITH due AS (
+                SELECT reminder_id FROM notification.reminders
+                WHERE is_active AND NOT is_sent AND deleted_at IS NULL
+                  AND remind_at <= ?
+                  AND (claim_expires_at IS NULL OR claim_expires_at < ?)
+                ORDER BY remind_at
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            )
+            UPDATE notification.reminders r
+            SET claimed_by = ?, claim_expires_at = ?
+            FROM due
+            WHERE r.reminder_id = due.reminder_id
+            RETURNING r.reminder_id, r.task_id, r.user_id, r.remind_at,
+                      COALESCE(r.repeat_anchor, r.remind_at) AS repeat_anchor,
+                      r.repeat_interval::text AS repeat_interval,
+                      r.notification_types::text[] AS notification_types,
+                      ARRAY(SELECT t.notification_type FROM notification.reminder_notification_types t
+                            WHERE t.reminder_id = r.reminder_id) AS channel_ordinals
+            """;
+
+    private static final String COMPLETE_ONCE = "UPDATE notification.reminders "
+            + "SET is_sent = true, sent_at = ?, updated_at = ?, claimed_by = NULL, claim_expires_at = NULL "
+            + "WHERE reminder_id = ? AND claimed_by = ?";
+
+    // Pins the anchor to the first occurrence before remind_at moves on (SET reads the old row)
+    private static final String COMPLETE_REPEATING = "UPDATE notification.reminders "
+            + "SET repeat_anchor = COALESCE(repeat_anchor, remind_at), remind_at = ?, sent_at = ?, updated_at = ?, claimed_by = NULL, claim_expires_at = NULL "
+            + "WHERE reminder_id = ? AND claimed_by = ?";
+
+    private static final String RELEASE_CLAIMS = "UPDATE notification.reminders "
+            + "SET claimed_by = NULL, claim_expires_at = NULL WHERE claimed_by = ? AND NOT is_sent";
+
+    private static final Set<Reminder.NotificationType> DEFAULT_CHANNELS = EnumSet.of(Reminder.NotificationType.PUSH);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Claims up to {@code limit} pending reminders due at or before {@code horizon}.
+     *
+     * @param nodeId     this node's claim ID
+     * @param horizon    latest due time to claim
+     * @param now        current time; expired claims of other nodes are taken over
+     * @param leaseUntil end of the claim
+     * @param limit      maximum number of reminders
+     * @return the claimed reminders
+     */
+    public List<DueReminder> claimDue(String nodeId, LocalDateTime horizon, LocalDateTime now,
+                                      LocalDateTime leaseUntil, int limit) {
+        return jdbcTemplate.query(CLAIM_DUE, (rs, rowNum) -> toDueReminder(rs),
+                Timestamp.valueOf(horizon), Timestamp.valueOf(now), limit,
+                nodeId, Timestamp.valueOf(leaseUntil));
+    }
+
+    /**
+     * Marks delivered reminders: one-shot reminders as sent, repeating ones moved to their next
+     * occurrence. Only rows still claimed by {@code nodeId} are touched.
+     *
+     * @param nodeId      this node's claim ID
+     * @param completions delivered reminders with their next occurrence ({@code null} if none)
+     */
+    public void complete(String nodeId, List<Completion> completions) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> once = new ArrayList<>();
+        List<Object[]> repeating = new ArrayList<>();
+        for (Completion completion : completions) {
+            if (completion.nextOccurrence() == null) {
+                once.add(new Object[] { now, now, completion.reminderId(), nodeId });
+            } else {
+                repeating.add(new Object[] { Timestamp.valueOf(completion.nextOccurrence()), now, now,
+                        completion.reminderId(), nodeId });
+            }
+        }
+        if (!once.isEmpty()) {
+            jdbcTemplate.batchUpdate(COMPLETE_ONCE, once);
+        }
+        if (!repeating.isEmpty()) {
+            jdbcTemplate.batchUpdate(COMPLETE_REPEATING, repeating);
+        }
+    }
+
+    /**
+     * Hands this node's undelivered claims back so other nodes can pick them up immediately.
+     *
+     * @return the number of released reminders
+     */
+    public int releaseClaims(String nodeId) {
+        return jdbcTemplate.update(RELEASE_CLAIMS, nodeId);
+    }
+
+    private static DueReminder toDueReminder(ResultSet rs) throws SQLException {
+        String interval = rs.getString("repeat_interval");
+        return new DueReminder(
+                rs.getLong("reminder_id"),
+                rs.getLong("task_id"),
+                rs.getLong("user_id"),
+                rs.getTimestamp("remind_at").toLocalDateTime(),
+                rs.getTimestamp("repeat_anchor").toLocalDateTime(),
+                interval != null
+                        ? Reminder.RepeatInterval.valueOf(interval.toUpperCase(Locale.ROOT))
+                        : Reminder.RepeatInterval.NONE,
+                channels(rs.getArray("channel_ordinals"), rs.getArray("notification_types")));
+    }
+
+    /**
+     * Channels written through the entity live in {@code reminder_notification_types} (by ordinal);
+     * rows inserted with SQL only carry the {@code notification_types} array column.
+     */
+    private static Set<Reminder.NotificationType> channels(Array ordinals, Array names) throws SQLException {
+        Set<Reminder.NotificationType> channels = EnumSet.noneOf(Reminder.NotificationType.class);
+        Reminder.NotificationType[] values = Reminder.NotificationType.values();
+        if (ordinals != null) {
+            for (Object ordinal : (Object[]) ordinals.getArray()) {
+                if (ordinal != null) {
+                    channels.add(values[((Number) ordinal).intValue()]);
+                }
+            }
+        }
+        if (channels.isEmpty() && names != null) {
+            for (Object name : (Object[]) names.getArray()) {
+                if (name != null) {
+                    channels.add(Reminder.NotificationType.valueOf(name.toString().toUpperCase(Locale.ROOT)));
+                }
+            }
+        }
+        return channels.isEmpty() ? DEFAULT_CHANNELS : channels;
+    }
+
+    /**
+     * A delivered reminder and the occurrence it moves to.
+     *
+     * @param reminderId     the reminder ID
+     * @param nextOccurrence next due time, or {@code null} for a one-shot reminder
+     */
+    public record Completion(Long reminderId, LocalDateTime nextOccurrence) {
+    }
+}
@@ -0,0 +1,99 @@
+package com.omori.taskmanagement.service.stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.omori.taskmanagement.model.events.AccessRevokedEvent;
+import com.omori.taskmanagement.model.events.TaskChangedEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Fans {@link TaskChangedEvent}s out to the task streams of every node.
+ *
+ * <p>Committed events are published on a Redis pub/sub channel; each node, including the
+ * publishing one, receives them and hands them to its {@link TaskStreamRegistry}. If Redis cannot
+ * be reached the event is still delivered to the streams connected to this node.
+ * {@link AccessRevokedEvent}s travel the same way on a second channel, so every node closes the
+ * revoked user's watching streams.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskEventBroadcaster {
+
+    private static final String CHANNEL = "tasks:changes";
+
+    private static final String REVOCATION_CHANNEL = "tasks:revocations";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final TaskStreamRegistry registry;
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener((message, pattern) -> receive(message.getBody()),
+                new ChannelTopic(CHANNEL));
+        listenerContainer.addMessageListener((message, pattern) -> receiveRevocation(message.getBody()),
+                new ChannelTopic(REVOCATION_CHANNEL));
+    }
+
+    // Fallback: progress is recalculated after the subtask transaction has already completed
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        TaskStreamMessage message = TaskStreamMessage.from(event);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(message));
+        } catch (JsonProcessingException e) {
+            log.warn("Could not serialize change of task {}: {}", event.getTaskId(), e.getMessage());
+        } catch (DataAccessException e) {
+            log.warn("Could not publish change of task {}, delivering on this node only: {}",
+                    event.getTaskId(), e.getMessage());
+            registry.dispatch(message);
+        }
+    }
+
+    // Published from an after-commit callback, so the revocation is already committed
+    @EventListener
+    public void onAccessRevoked(AccessRevokedEvent event) {
+        try {
+            redisTemplate.convertAndSend(REVOCATION_CHANNEL, event.getUserId().toString());
+        } catch (DataAccessException e) {
+            log.warn("Could not publish access revocation of user {}, closing streams on this node only: {}",
+                    event.getUserId(), e.getMessage());
+            registry.closeWatching(event.getUserId());
+        }
+    }
+
+    private void receive(byte[] body) {
+        try {
+            registry.dispatch(objectMapper.readValue(body, TaskStreamMessage.class));
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable task change message: {}", e.getMessage());
+        }
+    }
+
+    private void receiveRevocation(byte[] body) {
+        try {
+            Long userId = Long.valueOf(new String(body, StandardCharsets.UTF_8));
+            int closed = registry.closeWatching(userId);
+            if (closed > 0) {
+                log.debug("Closed {} task streams of user {} after an access revocation", closed, userId);
+            }
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring unreadable access revocation message: {}", e.getMessage());
+        }
+    }
+}
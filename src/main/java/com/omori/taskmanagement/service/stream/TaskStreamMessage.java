@@ -0,0 +1,34 @@
+package com.omori.taskmanagement.service.stream;
+
+import com.omori.taskmanagement.model.events.TaskChangedEvent;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A {@link TaskChangedEvent} as published to the other nodes: who receives it and the payload
+ * pushed to their streams.
+ *
+ * @param event        SSE event name
+ * @param recipientIds users whose own tasks changed (owner and assignee)
+ * @param payload      data sent to the client
+ */
+public record TaskStreamMessage(String event, Set<Long> recipientIds, Payload payload) {
+
+    public record Payload(Long taskId,
+                          List<Long> ancestorIds,
+                          Integer progress,
+                          String status,
+                          Set<String> changedFields,
+                          LocalDateTime occurredAt) {
+    }
+
+    public static TaskStreamMessage from(TaskChangedEvent event) {
+        return new TaskStreamMessage(
+                event.getKind().name(),
+                event.getRecipientIds(),
+                new Payload(event.getTaskId(), event.getAncestorIds(), event.getProgress(), event.getStatus(),
+                        event.getChangedFields(), LocalDateTime.now()));
+    }
+}
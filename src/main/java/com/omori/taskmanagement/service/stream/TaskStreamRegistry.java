@@ -0,0 +1,282 @@
+package com.omori.taskmanagement.service.stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The task streams (SSE connections) open on this node.
+ *
+ * <p>An idle stream is an asynchronous servlet request and holds no thread. Events are written
+ * by a virtual thread per stream that only exists while the stream has queued events, so a slow
+ * client never delays the others. A stream is indexed by its user and by the tasks it watches,
+ * so routing an event costs a few map lookups regardless of how many streams are open. Streams
+ * whose client falls {@code app.stream.send-queue-capacity} events behind are closed, and so are
+ * watching streams of a user whose access was revoked; clients reconnect and re-read the current
+ * state.</p>
+ */
+@Slf4j
+@Component
+public class TaskStreamRegistry {
+
+    private static final Set<ResponseBodyEmitter.DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("ping").build();
+
+    private final Map<Long, Set<Connection>> byUser = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Connection>> byWatchedTask = new ConcurrentHashMap<>();
+    private final AtomicInteger openConnections = new AtomicInteger();
+    private final ExecutorService writers = Executors.newVirtualThreadPerTaskExecutor();
+    private final ObjectMapper objectMapper;
+
+    private final Counter sentEvents;
+    private final Counter slowClients;
+
+    @Value("${app.stream.timeout:30m}")
+    private Duration timeout;
+
+    @Value("${app.stream.max-connections-per-user:5}")
+    private int maxConnectionsPerUser;
+
+    @Value("${app.stream.send-queue-capacity:256}")
+    private int sendQueueCapacity;
+
+    public TaskStreamRegistry(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        Gauge.builder("stream.connections", openConnections, AtomicInteger::get)
+                .description("Task streams open on this node")
+                .register(meterRegistry);
+        this.sentEvents = Counter.builder("stream.events.sent")
+                .description("Task change events written to streams")
+                .register(meterRegistry);
+        this.slowClients = Counter.builder("stream.connections.dropped")
+                .description("Task streams closed because the client did not keep up")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Opens a stream for the user. Beyond {@code app.stream.max-connections-per-user} the user's
+     * oldest stream is closed, which is usually a tab that went away without closing it.
+     *
+     * @param userId         receives changes of the tasks the user owns or is assigned to
+     * @param watchedTaskIds also receives changes of these tasks and everything below them
+     */
+    public SseEmitter open(Long userId, Set<Long> watchedTaskIds) {
+        Set<Connection> own = byUser.getOrDefault(userId, Set.of());
+        own.stream()
+                .sorted(Comparator.comparingLong(Connection::openedAt))
+                .limit(Math.max(0, own.size() - maxConnectionsPerUser + 1))
+                .toList()
+                .forEach(Connection::close);
+
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Connection connection = new Connection(userId, Set.copyOf(watchedTaskIds), emitter);
+        emitter.onCompletion(connection::unregister);
+        emitter.onTimeout(connection::close);
+        emitter.onError(error -> connection.unregister());
+
+        add(byUser, userId, connection);
+        for (Long taskId : connection.watchedTaskIds()) {
+            add(byWatchedTask, taskId, connection);
+        }
+        openConnections.incrementAndGet();
+        // Commits the response headers so the client sees the stream open right away
+        connection.enqueue(SseEmitter.event().comment("connected").build());
+        return emitter;
+    }
+
+    /**
+     * Queues the message on every stream of its recipients and of the watchers of the task or
+     * one of its ancestors.
+     */
+    public void dispatch(TaskStreamMessage message) {
+        Set<Connection> targets = new HashSet<>();
+        for (Long userId : message.recipientIds()) {
+            addAll(targets, byUser.get(userId));
+        }
+        addAll(targets, byWatchedTask.get(message.payload().taskId()));
+        for (Long ancestorId : message.payload().ancestorIds()) {
+            addAll(targets, byWatchedTask.get(ancestorId));
+        }
+        if (targets.isEmpty()) {
+            return;
+        }
+
+        Set<ResponseBodyEmitter.DataWithMediaType> event;
+        try {
+            event = SseEmitter.event()
+                    .name(message.event())
+                    .data(objectMapper.writeValueAsString(message.payload()), MediaType.APPLICATION_JSON)
+                    .build();
+        } catch (JsonProcessingException e) {
+            log.warn("Could not serialize change of task {}: {}", message.payload().taskId(), e.getMessage());
+            return;
+        }
+        for (Connection connection : targets) {
+            connection.enqueue(event);
+        }
+    }
+
+    /**
+     * Closes the user's streams that watch tasks, after the user lost access that may have covered
+     * them. Clients reconnect, and the watched tasks are checked again.
+     *
+     * @return number of closed streams
+     */
+    public int closeWatching(Long userId) {
+        List<Connection> watching = byUser.getOrDefault(userId, Set.of()).stream()
+                .filter(connection -> !connection.watchedTaskIds().isEmpty())
+                .toList();
+        watching.forEach(Connection::close);
+        return watching.size();
+    }
+
+    /**
+     * Keeps idle streams from being cut by proxies and detects clients that went away.
+     */
+    @Scheduled(fixedDelayString = "${app.stream.heartbeat-ms:25000}")
+    public void heartbeat() {
+        for (Set<Connection> connections : byUser.values()) {
+            for (Connection connection : connections) {
+                connection.enqueue(HEARTBEAT);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        byUser.values().forEach(connections -> connections.forEach(Connection::close));
+        writers.shutdown();
+    }
+
+    private static void addAll(Set<Connection> targets, Set<Connection> connections) {
+        if (connections != null) {
+            targets.addAll(connections);
+        }
+    }
+
+    // Under the map's lock so a concurrent removal of the last connection cannot orphan the set
+    private static void add(Map<Long, Set<Connection>> index, Long key, Connection connection) {
+        index.compute(key, (id, connections) -> {
+            Set<Connection> set = connections != null ? connections : ConcurrentHashMap.newKeySet();
+            set.add(connection);
+            return set;
+        });
+    }
+
+    private static void remove(Map<Long, Set<Connection>> index, Long key, Connection connection) {
+        index.computeIfPresent(key, (id, connections) -> {
+            connections.remove(connection);
+            return connections.isEmpty() ? null : connections;
+        });
+    }
+
+    private final class Connection {
+
+        private final Long userId;
+        private final Set<Long> watchedTaskIds;
+        private final SseEmitter emitter;
+        private final long openedAt = System.nanoTime();
+
+        private final Queue<Set<ResponseBodyEmitter.DataWithMediaType>> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean registered = new AtomicBoolean(true);
+
+        Connection(Long userId, Set<Long> watchedTaskIds, SseEmitter emitter) {
+            this.userId = userId;
+            this.watchedTaskIds = watchedTaskIds;
+            this.emitter = emitter;
+        }
+
+        long openedAt() {
+            return openedAt;
+        }
+
+        Set<Long> watchedTaskIds() {
+            return watchedTaskIds;
+        }
+
+        void enqueue(Set<ResponseBodyEmitter.DataWithMediaType> event) {
+            if (!registered.get()) {
+                return;
+            }
+            if (queued.incrementAndGet() > sendQueueCapacity) {
+                slowClients.increment();
+                log.debug("Closing task stream of user {}: {} events behind", userId, sendQueueCapacity);
+                close();
+                return;
+            }
+            queue.add(event);
+            if (draining.compareAndSet(false, true)) {
+                writers.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                Set<ResponseBodyEmitter.DataWithMediaType> event;
+                while ((event = queue.poll()) != null) {
+                    queued.decrementAndGet();
+                    emitter.send(event);
+                    sentEvents.increment();
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Client gone or stream already completed; the container completes the request
+                unregister();
+                return;
+            } finally {
+                draining.set(false);
+            }
+            // An event queued between the last poll and clearing the flag found it still set
+            if (!queue.isEmpty() && draining.compareAndSet(false, true)) {
+                writers.execute(this::drain);
+            }
+        }
+
+        void close() {
+            if (unregister()) {
+                emitter.complete();
+            }
+        }
+
+        /**
+         * @return false if the stream had already been removed
+         */
+        boolean unregister() {
+            if (!registered.compareAndSet(true, false)) {
+                return false;
+            }
+            remove(byUser, userId, this);
+            for (Long taskId : watchedTaskIds) {
+                remove(byWatchedTask, taskId, this);
+            }
+            queue.clear();
+            openConnections.decrementAndGet();
+            return true;
+        }
+    }
+}
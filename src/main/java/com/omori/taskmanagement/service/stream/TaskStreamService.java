@@ -0,0 +1,21 @@
+package com.omori.taskmanagement.service.stream;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+/**
+ * Server-sent event streams of task and progress changes.
+ */
+public interface TaskStreamService {
+
+    /**
+     * Opens a stream of changes to the user's own and assigned tasks, plus the given tasks
+     * (typically epics) and everything below them.
+     *
+     * @param userId         the user
+     * @param watchedTaskIds tasks to watch; the user must have access to each of them
+     * @return the open stream
+     */
+    SseEmitter subscribe(Long userId, List<Long> watchedTaskIds);
+}
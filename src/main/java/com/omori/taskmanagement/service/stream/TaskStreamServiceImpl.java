@@ -0,0 +1,57 @@
+package com.omori.taskmanagement.service.stream;
+
+import com.omori.taskmanagement.exceptions.task.TaskNotFoundException;
+import com.omori.taskmanagement.exceptions.task.TaskValidationException;
+import com.omori.taskmanagement.model.project.Task;
+import com.omori.taskmanagement.repository.project.TaskRepository;
+import com.omori.taskmanagement.service.task.utils.TaskAccessControlService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class TaskStreamServiceImpl implements TaskStreamService {
+
+    private final TaskRepository taskRepository;
+    private final TaskAccessControlService taskAccessControlService;
+    private final TaskStreamRegistry taskStreamRegistry;
+
+    @Value("${app.stream.max-watched-tasks:50}")
+    private int maxWatchedTasks;
+
+    @Override
+    @Transactional(readOnly = true)
+    public SseEmitter subscribe(Long userId, List<Long> watchedTaskIds) {
+        Set<Long> watched = watchedTaskIds != null ? new LinkedHashSet<>(watchedTaskIds) : Set.of();
+        if (watched.size() > maxWatchedTasks) {
+            throw new TaskValidationException("Too many watched tasks",
+                    Map.of("watch", "At most " + maxWatchedTasks + " tasks can be watched per stream"));
+        }
+        if (!watched.isEmpty()) {
+            validateWatchedTasks(userId, watched);
+        }
+        log.debug("Opening task stream for user {} watching {}", userId, watched);
+        return taskStreamRegistry.open(userId, watched);
+    }
+
+    private void validateWatchedTasks(Long userId, Set<Long> watched) {
+        List<Task> tasks = taskRepository.findAllById(watched);
+        for (Long taskId : watched) {
+            Task task = tasks.stream()
+                    .filter(candidate -> candidate.getId().equals(taskId) && candidate.getDeletedAt() == null)
+                    .findFirst()
+                    .orElseThrow(() -> new TaskNotFoundException("Task not found with id: " + taskId));
+            taskAccessControlService.validateTaskAccess(task, userId);
+        }
+    }
+}
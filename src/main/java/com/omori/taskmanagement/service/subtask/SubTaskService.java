@@ -5,6 +5,7 @@ import java.util.List;
 import com.omori.taskmanagement.dto.project.subtask.SubtaskCreateRequest;
 import com.omori.taskmanagement.dto.project.subtask.SubtaskRequest;
 import com.omori.taskmanagement.dto.project.subtask.SubtaskUpdateRequest;
+import com.omori.taskmanagement.exceptions.task.TaskAccessDeniedException;
 import com.omori.taskmanagement.exceptions.task.TaskNotFoundException;
 import com.omori.taskmanagement.exceptions.task.TaskValidationException;
 import com.omori.taskmanagement.model.project.Subtask;
@@ -26,62 +27,100 @@ public interface SubTaskService {
      * Creates a new subtask with all properties.
      *
      * @param request the subtask to create
+     * @param userId  the user creating it, who needs edit access to the task
      * @return the created subtask
+     * @throws TaskAccessDeniedException if the user cannot edit the task
      */
-    Subtask createSubtask(SubtaskRequest request);
+    Subtask createSubtask(SubtaskRequest request, Long userId);
 
     /**
      * Creates multiple subtasks for a task in a single operation.
      *
      * @param taskId the ID of the task to add subtasks to
+     * @param userId the user adding them, who needs edit access to the task
      * @param subtaskTitles the list of subtask titles to create
      * @return the list of created subtasks
      * @throws TaskNotFoundException if no task exists with the given ID
      * @throws TaskValidationException if any subtask title is null or empty
+     * @throws TaskAccessDeniedException if the user cannot edit the task
      */
-    List<Subtask> addSubtasksToTask(Long taskId, List<String> subtaskTitles);
+    List<Subtask> addSubtasksToTask(Long taskId, Long userId, List<String> subtaskTitles);
 
     /**
      * Updates an existing subtask.
      *
      * @param subtaskId the subtask to update
+     * @param userId    the user updating it, who needs edit access to its task
      * @return the updated subtask
+     * @throws TaskAccessDeniedException if the user cannot edit the task
      */
-    Subtask updateSubtask(Long subtaskId, SubtaskUpdateRequest request);
+    Subtask updateSubtask(Long subtaskId, Long userId, SubtaskUpdateRequest request);
 
     /**
      * Toggles the completion status of a subtask.
      *
      * @param subtaskId the ID of the subtask to toggle
+     * @param userId    the user toggling it, who needs edit access to its task
      * @return the updated subtask with toggled completion status
+     * @throws TaskAccessDeniedException if the user cannot edit the task
      */
-    Subtask toggleSubtaskCompletion(Long subtaskId);
+    Subtask toggleSubtaskCompletion(Long subtaskId, Long userId);
 
     /**
-     * Retrieves a subtask by its ID.
+     * Retrieves the active subtasks of a task without an access check, for callers acting on
+     * behalf of the system such as progress rollups.
      *
-     * @param taskId the ID of the subtask to retrieve
-     * @return the retrieved subtask, or null if not found
+     * @param taskId the ID of the owning task
+     * @return the task's subtasks in sort order
      */
     List<Subtask> getSubtasksByTaskId(Long taskId);
 
     /**
-     * Retrieves a subtask by its ID.
+     * Retrieves the active subtasks of a task the user can see.
      *
-     * @param taskId the ID of the subtask to retrieve
-     * @return the retrieved subtask, or null if not found
+     * @param taskId the ID of the owning task
+     * @param userId the requesting user
+     * @return the task's subtasks in sort order
+     * @throws TaskAccessDeniedException if the user cannot see the task
      */
-    List<Subtask> reorderSubtasks(Long taskId, List<Long> subtaskIds);
+    List<Subtask> getSubtasksByTaskId(Long taskId, Long userId);
 
     /**
-     * Retrieves a subtask by its ID.
+     * Reorders subtasks of a task.
      *
-     * @param taskId the ID of the subtask to retrieve
-     * @return the retrieved subtask, or null if not found
+     * <p>The listed subtasks take over the positions they currently occupy, in the given order;
+     * subtasks not listed keep their place. Only subtasks whose key breaks the new order are
+     * rewritten, each with a key between its fixed neighbours.</p>
+     *
+     * @param taskId     the ID of the owning task
+     * @param userId     the user reordering, who needs edit access to the task
+     * @param subtaskIds subtask IDs in the desired order
+     * @return all active subtasks of the task in their new order
+     * @throws TaskAccessDeniedException if the user cannot edit the task
+     */
+    List<Subtask> reorderSubtasks(Long taskId, Long userId, List<Long> subtaskIds);
+
+    /**
+     * Moves a single subtask directly after another subtask of the same task.
+     * Only the moved row is written unless the neighbours need rebalancing.
+     *
+     * @param subtaskId         the ID of the subtask to move
+     * @param userId            the user moving it, who needs edit access to its task
+     * @param previousSubtaskId the subtask that should precede it, or null to move it first
+     * @return the moved subtask
+     * @throws TaskAccessDeniedException if the user cannot edit the task
+     */
+    Subtask moveSubtask(Long subtaskId, Long userId, Long previousSubtaskId);
+
+    /**
+     * Reserves the sort order for a new subtask appended to a task.
+     *
+     * @param taskId the ID of the owning task
+     * @return the reserved sort order
      */
     Integer getNextSortOrder(Long taskId);
 
-    void deleteSubtask(Long subtaskId);
+    void deleteSubtask(Long subtaskId, Long userId);
 
-    void softDeleteSubtask(Long subtaskId);
+    void softDeleteSubtask(Long subtaskId, Long userId);
 }
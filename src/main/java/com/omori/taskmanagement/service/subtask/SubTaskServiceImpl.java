@@ -3,16 +3,23 @@ package com.omori.taskmanagement.service.subtask;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 
 import com.omori.taskmanagement.dto.project.subtask.SubtaskCreateRequest;
 import com.omori.taskmanagement.dto.project.subtask.SubtaskRequest;
+import com.omori.taskmanagement.dto.project.subtask.SubtaskResponse;
 import com.omori.taskmanagement.dto.project.subtask.SubtaskUpdateRequest;
 import com.omori.taskmanagement.exceptions.task.SubtaskNotFoundException;
+import com.omori.taskmanagement.exceptions.task.TaskConflictException;
 import com.omori.taskmanagement.exceptions.task.TaskNotFoundException;
 import com.omori.taskmanagement.exceptions.task.TaskValidationException;
 import com.omori.taskmanagement.model.events.TaskProgressUpdateEvent;
@@ -20,6 +27,11 @@ import com.omori.taskmanagement.model.project.Subtask;
 import com.omori.taskmanagement.model.project.Task;
 import com.omori.taskmanagement.repository.project.SubtaskRepository;
 import com.omori.taskmanagement.repository.project.TaskRepository;
+import com.omori.taskmanagement.service.task.utils.AccessLevel;
+import com.omori.taskmanagement.service.task.utils.OptimisticLockSupport;
+import com.omori.taskmanagement.service.task.utils.SortOrderService;
+import com.omori.taskmanagement.service.task.utils.TaskAccessControlService;
+import com.omori.taskmanagement.utils.SortKeyUtils;
 
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -34,6 +46,9 @@ public class SubTaskServiceImpl implements SubTaskService {
     private final SubtaskRepository subTaskRepository;
     private final TaskRepository taskRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final SortOrderService sortOrderService;
+    private final OptimisticLockSupport optimisticLockSupport;
+    private final TaskAccessControlService taskAccessControlService;
 
     // may combine 2 createSubtask function
     @Override
@@ -67,13 +82,9 @@ public class SubTaskServiceImpl implements SubTaskService {
     }
 
     @Override
-    public Subtask createSubtask(SubtaskRequest request) {
+    public Subtask createSubtask(SubtaskRequest request, Long userId) {
         log.info("Creating subtask with title: {} for task ID: {}", request.getTitle(), request.getTaskId());
-        Task task = taskRepository.findById(request.getTaskId())
-                .orElseThrow(() -> {
-                    log.warn("Task not found with ID: {}", request.getTaskId());
-                    return new TaskNotFoundException("Task not found with id: " + request.getTaskId());
-                });
+        Task task = loadAccessibleTask(request.getTaskId(), userId, AccessLevel.EDIT);
         Integer sortOrder = request.getSortOrder() != null ? request.getSortOrder()
                 : getNextSortOrder(request.getTaskId());
 
@@ -100,7 +111,7 @@ public class SubTaskServiceImpl implements SubTaskService {
     }
 
     @Override
-    public List<Subtask> addSubtasksToTask(Long taskId, List<String> subtaskTitles) {
+    public List<Subtask> addSubtasksToTask(Long taskId, Long userId, List<String> subtaskTitles) {
         if(subtaskTitles == null ) {
             throw new TaskValidationException("Subtask titles list must not be null",
                     Map.of("subtaskTitles", "Subtask titles list must not be null"));
@@ -116,10 +127,10 @@ public class SubTaskServiceImpl implements SubTaskService {
                     Map.of("invalidTitle", "Found null or empty title"));
         }
         
-        Task task = taskRepository.findById(taskId)
-                .orElseThrow(() -> new TaskNotFoundException("Task not found with ID: " + taskId));
+        Task task = loadAccessibleTask(taskId, userId, AccessLevel.EDIT);
 
-        final int startSortOrder = getNextSortOrder(taskId);
+        // One counter update reserves keys for the whole batch
+        List<Integer> sortOrders = sortOrderService.nextSubtaskSortOrders(taskId, subtaskTitles.size());
 
         List<Subtask> subtasks = new ArrayList<>();
 
@@ -128,7 +139,7 @@ public class SubTaskServiceImpl implements SubTaskService {
             Subtask subtask = Subtask.builder()
                     .task(task)
                     .title(subtaskTitle)
-                    .sortOrder(Integer.valueOf(startSortOrder + i))
+                    .sortOrder(sortOrders.get(i))
                     .isCompleted(false)
                     .createdAt(LocalDateTime.now())
                     .updatedAt(LocalDateTime.now())
@@ -143,9 +154,14 @@ public class SubTaskServiceImpl implements SubTaskService {
     }
 
     @Override
-    public Subtask updateSubtask(Long subtaskId, SubtaskUpdateRequest request) {
+    public Subtask updateSubtask(Long subtaskId, Long userId, SubtaskUpdateRequest request) {
         Subtask subtask = subTaskRepository.findByIdAndDeletedAtIsNull(subtaskId)
                 .orElseThrow(() -> new SubtaskNotFoundException("Subtask not found with id: " + subtaskId));
+        taskAccessControlService.validateTaskAccess(subtask.getTask(), userId, AccessLevel.EDIT);
+        if (request.getVersion() != null && !request.getVersion().equals(subtask.getVersion())) {
+            throw new TaskConflictException("Subtask " + subtaskId + " was modified by someone else (version "
+                    + request.getVersion() + " is no longer current)", SubtaskResponse.from(subtask));
+        }
 
         if (request.getTitle() != null) {
             subtask.setTitle(request.getTitle());
@@ -158,7 +174,7 @@ public class SubTaskServiceImpl implements SubTaskService {
         }
         subtask.setUpdatedAt(LocalDateTime.now());
 
-        Subtask saved = subTaskRepository.save(subtask);
+        Subtask saved = saveAndFlush(subtask);
         
         // Publish event to update parent task progress after update
         eventPublisher.publishEvent(new TaskProgressUpdateEvent(
@@ -171,9 +187,10 @@ public class SubTaskServiceImpl implements SubTaskService {
     }
 
     @Override
-    public Subtask toggleSubtaskCompletion(Long subtaskId) {
+    public Subtask toggleSubtaskCompletion(Long subtaskId, Long userId) {
         Subtask subtask = subTaskRepository.findByIdAndDeletedAtIsNull(subtaskId)
                 .orElseThrow(() -> new SubtaskNotFoundException("Subtask not found with id: " + subtaskId));
+        taskAccessControlService.validateTaskAccess(subtask.getTask(), userId, AccessLevel.EDIT);
 
         subtask.setIsCompleted(!subtask.getIsCompleted());
         subtask.setUpdatedAt(LocalDateTime.now());
@@ -184,7 +201,7 @@ public class SubTaskServiceImpl implements SubTaskService {
             subtask.setCompletedAt(null);
         }
         log.info("Toggling completion status for subtask with ID: {} " , subtaskId);
-        Subtask saved = subTaskRepository.save(subtask);
+        Subtask saved = saveAndFlush(subtask);
         
         // Publish event to update parent task progress
         eventPublisher.publishEvent(new TaskProgressUpdateEvent(
@@ -195,6 +212,21 @@ public class SubTaskServiceImpl implements SubTaskService {
         return saved;
     }
 
+    /**
+     * Saves a user's edit, turning a concurrent write into a conflict carrying the subtask's current state.
+     */
+    private Subtask saveAndFlush(Subtask subtask) {
+        try {
+            return subTaskRepository.saveAndFlush(subtask);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            Long subtaskId = subtask.getId();
+            throw new TaskConflictException("Subtask " + subtaskId + " was modified concurrently",
+                    optimisticLockSupport.readCurrent(() -> subTaskRepository.findByIdAndDeletedAtIsNull(subtaskId)
+                            .map(SubtaskResponse::from)
+                            .orElse(null)), e);
+        }
+    }
+
     @Override
     public List<Subtask> getSubtasksByTaskId(Long taskId) {
         log.info("Retrieving subtasks for task with ID: {}", taskId);
@@ -211,47 +243,109 @@ public class SubTaskServiceImpl implements SubTaskService {
     }
 
     @Override
-    public List<Subtask> reorderSubtasks(Long taskId, List<Long> subtaskIds) {
+    public List<Subtask> getSubtasksByTaskId(Long taskId, Long userId) {
+        Task task = loadAccessibleTask(taskId, userId, AccessLevel.VIEW);
+        return subTaskRepository.findByTaskIdAndDeletedAtIsNullOrderBySortOrder(task.getId());
+    }
+
+    @Override
+    public List<Subtask> reorderSubtasks(Long taskId, Long userId, List<Long> subtaskIds) {
         log.info("Reordering {} subtasks for task ID {}", subtaskIds.size(), taskId);
-        List<Subtask> subtasks = new ArrayList<>();
 
         if (subtaskIds.isEmpty()) {
             log.warn("Attempted to reorder subtasks with empty subtask ID list for task {}", taskId);
             return Collections.emptyList();
         }
+        if (new HashSet<>(subtaskIds).size() != subtaskIds.size()) {
+            throw new TaskValidationException("Subtask IDs must not contain duplicates",
+                    Map.of("subtaskIds", "Duplicate subtask ID in reorder request"));
+        }
+        loadAccessibleTask(taskId, userId, AccessLevel.EDIT);
+        // Serialize ordering changes for this task (row lock on the task only)
+        if (taskRepository.lockForSortOrdering(taskId) == null) {
+            throw new TaskNotFoundException("Task not found with id: " + taskId);
+        }
 
-        for (int i = 0; i < subtaskIds.size(); i++) {
-            Long subtaskId = subtaskIds.get(i);
-            Subtask subtask = subTaskRepository.findById(subtaskId)
-                    .orElseThrow(() -> new SubtaskNotFoundException("Subtask not found with id: " + subtaskId));
-            if (!subtask.getTask().getId().equals(taskId)) {
+        List<Subtask> siblings = subTaskRepository.findByTaskIdAndDeletedAtIsNullOrderBySortOrder(taskId);
+        Map<Long, Integer> positionById = new HashMap<>();
+        for (int i = 0; i < siblings.size(); i++) {
+            positionById.put(siblings.get(i).getId(), i);
+        }
+
+        // Requested subtasks take over the slots they currently occupy, in the requested order;
+        // subtasks not listed keep their position.
+        List<Integer> slots = new ArrayList<>();
+        for (Long subtaskId : subtaskIds) {
+            Integer position = positionById.get(subtaskId);
+            if (position == null) {
                 log.warn("Subtask ID {} does not belong to task ID {}", subtaskId, taskId);
                 throw new TaskNotFoundException(
                         "Subtask with id " + subtaskId + " does not belong to task with id " + taskId);
             }
-            subtask.setSortOrder(i);
-            subtask.setUpdatedAt(LocalDateTime.now());
-            subtasks.add(subtask);
+            slots.add(position);
         }
-        return subTaskRepository.saveAll(subtasks);
+        Collections.sort(slots);
+        Map<Long, Subtask> byId = siblings.stream()
+                .collect(Collectors.toMap(Subtask::getId, Function.identity()));
+        List<Subtask> ordered = new ArrayList<>(siblings);
+        for (int i = 0; i < slots.size(); i++) {
+            ordered.set(slots.get(i), byId.get(subtaskIds.get(i)));
+        }
+
+        List<Integer> currentKeys = ordered.stream().map(Subtask::getSortOrder).toList();
+        Integer[] plan = SortKeyUtils.planReorder(currentKeys,
+                count -> sortOrderService.nextSubtaskSortOrders(taskId, count));
+
+        LocalDateTime now = LocalDateTime.now();
+        int changed = 0;
+        if (plan != null) {
+            for (int i = 0; i < ordered.size(); i++) {
+                if (plan[i] != null) {
+                    ordered.get(i).setSortOrder(plan[i]);
+                    ordered.get(i).setUpdatedAt(now);
+                    changed++;
+                }
+            }
+        } else {
+            // No room between some neighbours: rewrite the whole list with fresh gaps
+            List<Integer> spaced = SortKeyUtils.spaced(ordered.size());
+            for (int i = 0; i < ordered.size(); i++) {
+                ordered.get(i).setSortOrder(spaced.get(i));
+                ordered.get(i).setUpdatedAt(now);
+            }
+            changed = ordered.size();
+            subTaskRepository.saveAll(ordered);
+            taskRepository.resetSortSeq(taskId);
+        }
+        log.debug("Reordered subtasks for task ID {}: {} of {} rows rewritten", taskId, changed, ordered.size());
+        return ordered;
+    }
+
+    @Override
+    public Subtask moveSubtask(Long subtaskId, Long userId, Long previousSubtaskId) {
+        Long taskId = subTaskRepository.findTaskIdById(subtaskId)
+                .orElseThrow(() -> new SubtaskNotFoundException("Subtask not found with id: " + subtaskId));
+        loadAccessibleTask(taskId, userId, AccessLevel.EDIT);
+
+        Integer sortOrder = sortOrderService.moveSubtaskAfter(taskId, subtaskId, previousSubtaskId);
+        log.info("Moved subtask {} after {} in task {} (sort order {})", subtaskId, previousSubtaskId, taskId, sortOrder);
+
+        return subTaskRepository.findByIdAndDeletedAtIsNull(subtaskId)
+                .orElseThrow(() -> new SubtaskNotFoundException("Subtask not found with id: " + subtaskId));
     }
 
     @Override
     public Integer getNextSortOrder(Long taskId) {
-        Long maxSortOrder = subTaskRepository.findMaxSortOrderByTaskId(taskId);
-        /*
-         * Casting from Long to int could cause overflow if maxSortOrder exceeds Integer.MAX_VALUE. 
-         * Consider using Integer throughout or adding overflow protection.
-         */
-        Integer nextSortOrder = (maxSortOrder != null) ? (int) (maxSortOrder + 1) : 0;
+        Integer nextSortOrder = sortOrderService.nextSubtaskSortOrder(taskId);
         log.debug("Next sort order for task ID {} is {}", taskId, nextSortOrder);
         return nextSortOrder;
     }
 
     @Override
-    public void deleteSubtask(Long subtaskId) {
+    public void deleteSubtask(Long subtaskId, Long userId) {
         Subtask subtask = subTaskRepository.findById(subtaskId)
                 .orElseThrow(() -> new SubtaskNotFoundException("Subtask not found with id: " + subtaskId));
+        taskAccessControlService.validateTaskAccess(subtask.getTask(), userId, AccessLevel.EDIT);
         
         Long taskId = subtask.getTask().getId();
         subTaskRepository.delete(subtask);
@@ -266,9 +360,10 @@ public class SubTaskServiceImpl implements SubTaskService {
     }
 
     @Override
-    public void softDeleteSubtask(Long subtaskId) {
+    public void softDeleteSubtask(Long subtaskId, Long userId) {
         Subtask subtask = subTaskRepository.findByIdAndDeletedAtIsNull(subtaskId)
                 .orElseThrow(() -> new SubtaskNotFoundException("Subtask not found with id: " + subtaskId));
+        taskAccessControlService.validateTaskAccess(subtask.getTask(), userId, AccessLevel.EDIT);
 
         Long taskId = subtask.getTask().getId();
         subtask.setDeletedAt(LocalDateTime.now());
@@ -283,4 +378,13 @@ public class SubTaskServiceImpl implements SubTaskService {
         ));
     }
 
+    private Task loadAccessibleTask(Long taskId, Long userId, AccessLevel required) {
+        Task task = taskRepository.findById(taskId)
+                .orElseThrow(() -> {
+                    log.warn("Task not found with ID: {}", taskId);
+                    return new TaskNotFoundException("Task not found with id: " + taskId);
+                });
+        taskAccessControlService.validateTaskAccess(task, userId, required);
+        return task;
+    }
 }
@@ -5,6 +5,7 @@ import com.omori.taskmanagement.exceptions.UserNotFoundException;
 import com.omori.taskmanagement.exceptions.task.InvalidTaskTypeException;
 import com.omori.taskmanagement.exceptions.task.TaskValidationException;
 import com.omori.taskmanagement.model.project.Task;
+import com.omori.taskmanagement.model.usermgmt.User;
 
 public interface BaseCreationService {
 
@@ -31,4 +32,19 @@ public interface BaseCreationService {
      * @since 1.0.0
      */
     Task createTask(Long userId, Task.TaskType type, BaseTaskCreateRequest request, boolean ignoreParent);
+
+    /**
+     * Maps a creation request onto a new, unsaved Task with the standard defaults
+     * (pending status, medium priority, 7-day due date, zero progress).
+     *
+     * <p>No validation, reference lookups or persistence happen here; callers that
+     * create many tasks at once resolve shared references a single time and persist
+     * the resulting entities in bulk.</p>
+     *
+     * @param user the owner of the task
+     * @param type the task type to create
+     * @param request the task creation request
+     * @return a transient Task entity
+     */
+    Task newTaskEntity(User user, Task.TaskType type, BaseTaskCreateRequest request);
 }
@@ -8,8 +8,8 @@ import com.omori.taskmanagement.exceptions.task.TaskNotFoundException;
 import com.omori.taskmanagement.model.project.Task;
 import com.omori.taskmanagement.model.usermgmt.User;
 import com.omori.taskmanagement.repository.project.TaskRepository;
-import com.omori.taskmanagement.repository.usermgmt.UserRepository;
-import com.omori.taskmanagement.service.task.hierarchy.TaskHierarchyService;
+import com.omori.taskmanagement.service.task.utils.ReferenceResolver;
+import com.omori.taskmanagement.service.task.utils.SortOrderService;
 import com.omori.taskmanagement.service.task.utils.TaskRelationsService;
 import com.omori.taskmanagement.service.task.utils.TaskValidationService;
 import lombok.RequiredArgsConstructor;
@@ -28,9 +28,9 @@ public class BaseCreationServiceImpl implements BaseCreationService{
 
     private final TaskValidationService taskValidationService;
     private final TaskRelationsService taskRelationsService;
-    private final TaskHierarchyService taskHierarchyService;
+    private final ReferenceResolver referenceResolver;
+    private final SortOrderService sortOrderService;
 
-    private final UserRepository userRepository;
     private final TaskRepository taskRepository;
 
     private static final Double DEFAULT_ACTUAL_HOURS = 0.0;
@@ -52,28 +52,10 @@ public class BaseCreationServiceImpl implements BaseCreationService{
 
         taskValidationService.validateCreateTaskRequest(request, userId);
 
-        User user = userRepository.findById(userId)
+        User user = referenceResolver.findUser(userId)
                 .orElseThrow(() -> new UserNotFoundException("User " + userId + " not found"));
 
-        Task task = Task.builder()
-                .title(request.getTitle())
-                .description(request.getDescription())
-                .startDate(Optional.ofNullable(request.getStartDate()).orElseGet(LocalDateTime::now))
-                .dueDate(Optional.ofNullable(request.getDueDate()).orElseGet(
-                        () -> Optional.ofNullable(request.getStartDate())
-                                .orElseGet(LocalDateTime::now).plusDays(DEFAULT_DUE_IN_DAYS)))
-                .priority(Optional.ofNullable(request.getPriority()).orElse(Task.TaskPriority.medium))
-                .status(Task.TaskStatus.pending)
-                .taskType(type)
-                .estimatedHours(Optional.ofNullable(request.getEstimatedHours()).orElse(DEFAULT_ESTIMATED_HOURS))
-                .actualHours(DEFAULT_ACTUAL_HOURS)
-                .progress(DEFAULT_PROGRESS)
-                .user(user)
-                .sortOrder(Optional.ofNullable(request.getSortOrder()).orElse(DEFAULT_SORT_ORDER))
-                .isRecurring(Optional.ofNullable(request.getIsRecurring()).orElse(false))
-                .recurrencePattern(request.getRecurrencePattern())
-                .metadata(request.getMetadata())
-                .build();
+        Task task = newTaskEntity(user, type, request);
 
         taskRelationsService.setTaskRelations(task,
                 request.getCategoryId(),
@@ -93,11 +75,12 @@ public class BaseCreationServiceImpl implements BaseCreationService{
                 );
             }
             task.setParentTask(parentTask);
-            task.setSortOrder(taskHierarchyService.getNextSortOrderForParent(request.getParentId()));
+            task.setSortOrder(sortOrderService.nextChildSortOrder(request.getParentId()));
         }
 
         try {
-            Task savedTask = taskRepository.save(task);
+            // Flush so constraint violations surface here (ids come from a pooled sequence, inserts are deferred)
+            Task savedTask = taskRepository.saveAndFlush(task);
             log.debug("Task created successfully with ID {} for user {}",
                     savedTask.getId(), userId);
             return savedTask;
@@ -106,4 +89,27 @@ public class BaseCreationServiceImpl implements BaseCreationService{
             throw new TaskBusinessException("Failed to create task", e);
         }
     }
+
+    @Override
+    public Task newTaskEntity(User user, Task.TaskType type, BaseTaskCreateRequest request) {
+        return Task.builder()
+                .title(request.getTitle())
+                .description(request.getDescription())
+                .startDate(Optional.ofNullable(request.getStartDate()).orElseGet(LocalDateTime::now))
+                .dueDate(Optional.ofNullable(request.getDueDate()).orElseGet(
+                        () -> Optional.ofNullable(request.getStartDate())
+                                .orElseGet(LocalDateTime::now).plusDays(DEFAULT_DUE_IN_DAYS)))
+                .priority(Optional.ofNullable(request.getPriority()).orElse(Task.TaskPriority.medium))
+                .status(Task.TaskStatus.pending)
+                .taskType(type)
+                .estimatedHours(Optional.ofNullable(request.getEstimatedHours()).orElse(DEFAULT_ESTIMATED_HOURS))
+                .actualHours(DEFAULT_ACTUAL_HOURS)
+                .progress(DEFAULT_PROGRESS)
+                .user(user)
+                .sortOrder(Optional.ofNullable(request.getSortOrder()).orElse(DEFAULT_SORT_ORDER))
+                .isRecurring(Optional.ofNullable(request.getIsRecurring()).orElse(false))
+                .recurrencePattern(request.getRecurrencePattern())
+                .metadata(request.getMetadata())
+                .build();
+    }
 }
@@ -107,8 +107,14 @@ public interface EpicCreationService {
      *   <li>Have its {@code taskType} automatically set to {@code STORY}</li>
      *   <li>Inherit the Epic's workspace and category if not specified</li>
      *   <li>Be assigned sort orders automatically</li>
+     *   <li>Optionally carry {@code tasks}, each with optional subtask titles</li>
      * </ul></p>
      *
+     * <p><strong>Batched Creation:</strong> The whole tree is validated up front, the user,
+     * category and workspace are resolved once and shared by every node, sort orders are
+     * assigned in memory, and the Epic, Stories, Tasks and Subtasks are persisted level by
+     * level as JDBC batch inserts. Query count no longer grows with the number of stories.</p>
+     *
      * <h3>Usage Example:</h3>
      * <pre>{@code
      * TaskCreateRequest epicRequest = new TaskCreateRequest();
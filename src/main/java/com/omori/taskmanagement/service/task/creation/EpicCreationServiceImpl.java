@@ -3,16 +3,31 @@ package com.omori.taskmanagement.service.task.creation;
 import com.omori.taskmanagement.dto.project.task.creation.EpicCreateRequest;
 import com.omori.taskmanagement.dto.project.task.creation.EpicWithStoriesRequest;
 import com.omori.taskmanagement.dto.project.task.creation.InitialStoryRequest;
+import com.omori.taskmanagement.dto.project.task.creation.InitialTaskRequest;
 import com.omori.taskmanagement.dto.project.task.creation.BaseTaskCreateRequest;
+import com.omori.taskmanagement.exceptions.UserNotFoundException;
+import com.omori.taskmanagement.exceptions.task.TaskBusinessException;
 import com.omori.taskmanagement.exceptions.task.TaskValidationException;
+import com.omori.taskmanagement.model.project.Subtask;
 import com.omori.taskmanagement.model.project.Task;
+import com.omori.taskmanagement.model.usermgmt.User;
+import com.omori.taskmanagement.repository.project.SubtaskRepository;
+import com.omori.taskmanagement.repository.project.TaskRepository;
+import com.omori.taskmanagement.service.task.utils.ReferenceResolver;
+import com.omori.taskmanagement.service.task.utils.TaskRelationsService;
 import com.omori.taskmanagement.service.task.utils.TaskValidationService;
+import com.omori.taskmanagement.utils.SortKeyUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -21,9 +36,15 @@ public class EpicCreationServiceImpl implements EpicCreationService{
 
     private final BaseCreationService baseCreationService;
     private final TaskValidationService validationService;
+    private final TaskRelationsService taskRelationsService;
+    private final ReferenceResolver referenceResolver;
+
+    private final TaskRepository taskRepository;
+    private final SubtaskRepository subtaskRepository;
 
     private final Task.TaskType EPIC_TYPE = Task.TaskType.EPIC;
     private final Task.TaskType STORY_TYPE = Task.TaskType.STORY;
+    private final Task.TaskType TASK_TYPE = Task.TaskType.TASK;
 
     @Override
     public Task createEpicTask(Long userId, EpicCreateRequest request) {
@@ -42,23 +63,162 @@ public class EpicCreationServiceImpl implements EpicCreationService{
         if(request.getParentId() != null){
             throw new TaskValidationException("Epic Task cannot have a parent task ID");
         }
-        Task epicTask = baseCreationService.createTask(userId, EPIC_TYPE, request, true);
-        List<InitialStoryRequest> initialStories = request.getInitialStories();
-        if(initialStories != null && !initialStories.isEmpty()){
-            for(InitialStoryRequest story : initialStories){
-                // Convert to TaskCreateRequest
-                BaseTaskCreateRequest fullStoryRequest = story.toTaskCreateRequest();
-                // Set and get inherit from this epic task
-                fullStoryRequest.setParentId(epicTask.getId());
-                if( fullStoryRequest.getCategoryId() == null && epicTask.getCategory() != null){
-                    fullStoryRequest.setCategoryId(epicTask.getCategory().getId());
-                }
-                if( fullStoryRequest.getWorkspaceId() == null && epicTask.getWorkspace() != null){
-                    fullStoryRequest.setWorkspaceId(epicTask.getWorkspace().getId());
-                }
-                baseCreationService.createTask(userId, STORY_TYPE, fullStoryRequest, false);
+        List<InitialStoryRequest> initialStories = request.getInitialStories() != null
+                ? request.getInitialStories()
+                : List.of();
+
+        // Validate the whole tree up front: references once (epic), dates for every node in memory
+        validationService.validateCreateTaskRequest(request, userId);
+        validateInitialStories(initialStories);
+
+        // Resolve shared references a single time; stories and tasks inherit them unless they set their own
+        User user = referenceResolver.findUser(userId)
+                .orElseThrow(() -> new UserNotFoundException("User " + userId + " not found"));
+        Task epicTask = baseCreationService.newTaskEntity(user, EPIC_TYPE, request);
+        taskRelationsService.setTaskRelations(epicTask,
+                request.getCategoryId(),
+                request.getAssignedToId(),
+                request.getWorkspaceId());
+
+        // Build the tree in memory; sort keys are assigned positionally since every parent is new
+        List<Task> stories = new ArrayList<>();
+        List<Task> tasks = new ArrayList<>();
+        List<Subtask> subtasks = new ArrayList<>();
+        for (int i = 0; i < initialStories.size(); i++) {
+            InitialStoryRequest storyRequest = initialStories.get(i);
+            BaseTaskCreateRequest fullStoryRequest = storyRequest.toTaskCreateRequest();
+            Task story = newChild(user, STORY_TYPE, fullStoryRequest, epicTask, i);
+            stories.add(story);
+
+            List<InitialTaskRequest> taskRequests = storyRequest.getTasks() != null
+                    ? storyRequest.getTasks()
+                    : List.of();
+            for (int j = 0; j < taskRequests.size(); j++) {
+                InitialTaskRequest taskRequest = taskRequests.get(j);
+                BaseTaskCreateRequest fullTaskRequest =
+                        taskRequest.toTaskCreateRequest(story.getStartDate(), story.getDueDate());
+                Task task = newChild(user, TASK_TYPE, fullTaskRequest, story, j);
+                tasks.add(task);
+                subtasks.addAll(newSubtasks(task, taskRequest.getSubtasks()));
             }
         }
+
+        try {
+            // Persist parents before children; ids come from pooled sequences so each level is
+            // written as JDBC batches on flush instead of one round-trip per row
+            taskRepository.save(epicTask);
+            taskRepository.saveAll(stories);
+            taskRepository.saveAll(tasks);
+            subtaskRepository.saveAll(subtasks);
+            taskRepository.flush();
+
+            seedSortCounters(epicTask, stories, tasks);
+        } catch (DataAccessException e) {
+            log.error("Failed to create epic tree for user {}: {}", userId, e.getMessage());
+            throw new TaskBusinessException("Failed to create epic with initial stories", e);
+        }
+
+        log.info("Created epic {} with {} stories, {} tasks and {} subtasks for user {}",
+                epicTask.getId(), stories.size(), tasks.size(), subtasks.size(), userId);
         return epicTask;
     }
+
+    /*
+    ========== HELPER METHODS ==========
+    */
+
+    private void validateInitialStories(List<InitialStoryRequest> initialStories) {
+        // Children may override the epic's category and workspace; load all of them in one go
+        List<Long> categoryIds = new ArrayList<>();
+        List<Long> workspaceIds = new ArrayList<>();
+        for (InitialStoryRequest storyRequest : initialStories) {
+            categoryIds.add(storyRequest.getCategoryId());
+            workspaceIds.add(storyRequest.getWorkspaceId());
+            if (storyRequest.getTasks() != null) {
+                storyRequest.getTasks().forEach(task -> {
+                    categoryIds.add(task.getCategoryId());
+                    workspaceIds.add(task.getWorkspaceId());
+                });
+            }
+        }
+        referenceResolver.prefetch(List.of(), categoryIds, workspaceIds);
+
+        Map<String, String> errors = new HashMap<>();
+        for (int i = 0; i < initialStories.size(); i++) {
+            InitialStoryRequest storyRequest = initialStories.get(i);
+            BaseTaskCreateRequest story = storyRequest.toTaskCreateRequest();
+            String storyPath = "initialStories[" + i + "]";
+            validationService.validateDateRange(story.getStartDate(), story.getDueDate())
+                    .forEach((field, message) -> errors.put(storyPath + "." + field, message));
+            validateReferences(story, storyPath, errors);
+
+            List<InitialTaskRequest> taskRequests = storyRequest.getTasks();
+            if (taskRequests == null) {
+                continue;
+            }
+            for (int j = 0; j < taskRequests.size(); j++) {
+                BaseTaskCreateRequest task = taskRequests.get(j)
+                        .toTaskCreateRequest(story.getStartDate(), story.getDueDate());
+                String taskPath = storyPath + ".tasks[" + j + "]";
+                validationService.validateDateRange(task.getStartDate(), task.getDueDate())
+                        .forEach((field, message) -> errors.put(taskPath + "." + field, message));
+                validateReferences(task, taskPath, errors);
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw new TaskValidationException("Task validation failed", errors);
+        }
+    }
+
+    private void validateReferences(BaseTaskCreateRequest request, String path, Map<String, String> errors) {
+        if (request.getCategoryId() != null && referenceResolver.findCategory(request.getCategoryId()).isEmpty()) {
+            errors.put(path + ".categoryId", "Category not found with id: " + request.getCategoryId());
+        }
+        if (request.getWorkspaceId() != null && referenceResolver.findWorkspace(request.getWorkspaceId()).isEmpty()) {
+            errors.put(path + ".workspaceId", "Workspace not found with id: " + request.getWorkspaceId());
+        }
+    }
+
+    private Task newChild(User user, Task.TaskType type, BaseTaskCreateRequest request, Task parent, int position) {
+        Task child = baseCreationService.newTaskEntity(user, type, request);
+        child.setParentTask(parent);
+        // Inherit from the parent unless the request names its own; those were resolved during validation
+        child.setCategory(parent.getCategory());
+        child.setWorkspace(parent.getWorkspace());
+        taskRelationsService.setTaskRelations(child, request.getCategoryId(), null, request.getWorkspaceId());
+        child.setSortOrder((position + 1) * SortKeyUtils.GAP);
+        return child;
+    }
+
+    private List<Subtask> newSubtasks(Task task, List<String> titles) {
+        if (titles == null || titles.isEmpty()) {
+            return List.of();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<Subtask> subtasks = new ArrayList<>(titles.size());
+        for (int k = 0; k < titles.size(); k++) {
+            subtasks.add(Subtask.builder()
+                    .task(task)
+                    .title(titles.get(k))
+                    .description("")
+                    .sortOrder((k + 1) * SortKeyUtils.GAP)
+                    .isCompleted(false)
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build());
+        }
+        return subtasks;
+    }
+
+    private void seedSortCounters(Task epicTask, List<Task> stories, List<Task> tasks) {
+        if (stories.isEmpty()) {
+            return;
+        }
+        // One statement moves every new parent's allocation counter past the keys assigned above
+        List<Long> parentIds = new ArrayList<>(1 + stories.size() + tasks.size());
+        parentIds.add(epicTask.getId());
+        stories.forEach(story -> parentIds.add(story.getId()));
+        tasks.forEach(task -> parentIds.add(task.getId()));
+        taskRepository.resetSortSeqIn(parentIds);
+    }
 }
@@ -32,9 +32,8 @@ public interface TaskDeletionService {
 
     /**
      * Checks if user has permission to delete the specified task.
-     * Users can delete if they are:
-     * - The task owner
-     * - Assigned to the task
+     * Users can delete if they:
+     * - Have {@code AccessLevel.EDIT} on the task (owner, assignee, editors, workspace members above viewer)
      * - Have ROLE_ADMIN authority
      */
     boolean canDeleteTask(Task task, Long userId, Collection<? extends GrantedAuthority> authorities);
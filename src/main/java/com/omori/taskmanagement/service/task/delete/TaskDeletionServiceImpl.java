@@ -4,6 +4,8 @@ import com.omori.taskmanagement.exceptions.task.TaskAccessDeniedException;
 import com.omori.taskmanagement.exceptions.task.TaskNotFoundException;
 import com.omori.taskmanagement.model.project.Task;
 import com.omori.taskmanagement.repository.project.TaskRepository;
+import com.omori.taskmanagement.service.task.utils.AccessLevel;
+import com.omori.taskmanagement.service.task.utils.TaskAccessControlService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.GrantedAuthority;
@@ -21,6 +23,7 @@ import java.util.List;
 public class TaskDeletionServiceImpl implements TaskDeletionService {
 
     private final TaskRepository taskRepository;
+    private final TaskAccessControlService taskAccessControlService;
 
     /**
      * Validates a single taskId parameter.
@@ -82,11 +85,7 @@ public class TaskDeletionServiceImpl implements TaskDeletionService {
             );
         }
 
-        if(!canDeleteTask(task, userId, authorities)){
-            throw new TaskAccessDeniedException(
-                    String.format("User %d does not have permission to delete task %d", userId, taskId)
-            );
-        }
+        validateDeleteAccess(task, userId, authorities);
 
         task.setDeletedAt(LocalDateTime.now());
         taskRepository.save(task);
@@ -152,11 +151,7 @@ public class TaskDeletionServiceImpl implements TaskDeletionService {
             );
         }
 
-        if(!canDeleteTask(task, userId, authorities)){
-            throw new TaskAccessDeniedException(
-                    String.format("User %d does not have permission to restore task %d", userId, taskId)
-            );
-        }
+        validateDeleteAccess(task, userId, authorities);
 
         task.setDeletedAt(null);
         taskRepository.save(task);
@@ -206,19 +201,19 @@ public class TaskDeletionServiceImpl implements TaskDeletionService {
     @Override
     public boolean canDeleteTask(Task task, Long userId,
                                     Collection<? extends GrantedAuthority> authorities) {
-        // Check if user has ROLE_ADMIN
-        boolean isAdmin = authorities.stream()
-                .anyMatch(auth -> "ROLE_ADMIN".equals(auth.getAuthority()));
+        return isAdmin(authorities)
+                || taskAccessControlService.accessLevel(task, userId).allows(AccessLevel.EDIT);
+    }
 
-        if (isAdmin) {
-            return true;
+    private void validateDeleteAccess(Task task, Long userId,
+                                      Collection<? extends GrantedAuthority> authorities) {
+        if (!isAdmin(authorities)) {
+            taskAccessControlService.validateTaskAccess(task, userId, AccessLevel.EDIT);
         }
+    }
 
-        // Check if user is owner or assignee
-        boolean isOwner = task.getUser() != null &&
-                task.getUser().getId().equals(userId);
-        boolean isAssignee = task.getAssignedTo() != null &&
-                task.getAssignedTo().getId().equals(userId);
-        return isOwner || isAssignee;
+    private static boolean isAdmin(Collection<? extends GrantedAuthority> authorities) {
+        return authorities.stream()
+                .anyMatch(auth -> "ROLE_ADMIN".equals(auth.getAuthority()));
     }
 }
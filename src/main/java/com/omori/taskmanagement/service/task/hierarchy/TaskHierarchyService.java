@@ -3,6 +3,7 @@ package com.omori.taskmanagement.service.task.hierarchy;
 import com.omori.taskmanagement.dto.project.task.HierarchyEpicDto;
 import com.omori.taskmanagement.dto.project.task.TaskResponse;
 import com.omori.taskmanagement.exceptions.task.InvalidTaskTypeException;
+import com.omori.taskmanagement.exceptions.task.TaskAccessDeniedException;
 import com.omori.taskmanagement.exceptions.task.TaskNotFoundException;
 import com.omori.taskmanagement.exceptions.task.TaskValidationException;
 import com.omori.taskmanagement.model.project.Task;
@@ -42,28 +43,32 @@ public interface TaskHierarchyService {
      * </pre>
      *
      * @param epicId the ID of the Epic task to retrieve hierarchy for
+     * @param userId the requesting user, who needs view access to the task
      * @return complete hierarchy structure with Epic, Stories, Tasks, and Subtasks
      * @throws TaskNotFoundException if no Epic task exists with the given ID
+     * @throws TaskAccessDeniedException if the user lacks the required access
      * @throws TaskValidationException if the task with given ID is not an EPIC type
      * @since 1.0.0
      */
-    HierarchyEpicDto getFullHierarchy(Long epicId);
+    HierarchyEpicDto getFullHierarchy(Long epicId, Long userId);
 
     /**
      * Retrieves the complete hierarchy structure for an Epic task by UUID.
      *
-     * <p>Same functionality as {@link #getFullHierarchy(Long)} but uses UUID
+     * <p>Same functionality as {@link #getFullHierarchy(Long, Long)} but uses UUID
      * for identification. Useful for external API calls where UUIDs are preferred
      * over internal database IDs for security and consistency.</p>
      *
      * @param uuid the UUID of the Epic task to retrieve hierarchy for
+     * @param userId the requesting user, who needs view access to the task
      * @return complete hierarchy structure with Epic, Stories, Tasks, and Subtasks
      * @throws TaskNotFoundException if no Epic task exists with the given UUID
+     * @throws TaskAccessDeniedException if the user lacks the required access
      * @throws TaskValidationException if the UUID format is invalid or task is not EPIC type
      * @since 1.0.0
-     * @see #getFullHierarchy(Long)
+     * @see #getFullHierarchy(Long, Long)
      */
-    HierarchyEpicDto getFullHierarchyByUuid(String uuid);
+    HierarchyEpicDto getFullHierarchyByUuid(String uuid, Long userId);
 
     /**
      * Retrieves the direct child tasks of a parent task.
@@ -77,11 +82,13 @@ public interface TaskHierarchyService {
      * </ul></p>
      *
      * @param parentTaskId the ID of the parent task
+     * @param userId the requesting user, who needs view access to the parent task
      * @return list of direct child tasks, empty if no children exist
      * @throws TaskNotFoundException if no task exists with the given parent ID
+     * @throws TaskAccessDeniedException if the user lacks the required access
      * @since 1.0.0
      */
-    List<TaskResponse> getChildTasks(Long parentTaskId);
+    List<TaskResponse> getChildTasks(Long parentTaskId, Long userId);
 
     /**
      * Retrieves all descendant tasks of a parent task recursively.
@@ -95,11 +102,13 @@ public interface TaskHierarchyService {
      * </pre>
      *
      * @param parentTaskId the ID of the parent task
+     * @param userId the requesting user, who needs view access to the parent task
      * @return list of all descendant tasks (flattened hierarchy), empty if no descendants
      * @throws TaskNotFoundException if no task exists with the given parent ID
+     * @throws TaskAccessDeniedException if the user lacks the required access
      * @since 1.0.0
      */
-    List<TaskResponse> getAllChildTasks(Long parentTaskId);
+    List<TaskResponse> getAllChildTasks(Long parentTaskId, Long userId);
 
     /**
      * Retrieves the parent task of the specified task.
@@ -112,11 +121,13 @@ public interface TaskHierarchyService {
      * </ul></p>
      *
      * @param taskId the ID of the task to find parent for
+     * @param userId the requesting user, who needs view access to the task
      * @return the parent task, or null if task is at top level (Epic) or standalone
      * @throws TaskNotFoundException if no task exists with the given ID
+     * @throws TaskAccessDeniedException if the user lacks the required access
      * @since 1.0.0
      */
-    TaskResponse getParentTask(Long taskId);
+    TaskResponse getParentTask(Long taskId, Long userId);
 
     /**
      * Moves a task to a new parent, maintaining hierarchy rules.
@@ -138,13 +149,31 @@ public interface TaskHierarchyService {
      * </ul>
      *
      * @param taskId the ID of the task to move
+     * @param userId the user moving it, who needs edit access to the task and the new parent
      * @param newParentId the ID of the new parent task, or null for top-level
      * @throws TaskNotFoundException if task or new parent doesn't exist
+     * @throws TaskAccessDeniedException if the user lacks the required access
      * @throws InvalidTaskTypeException if hierarchy rules would be violated
      * @throws TaskValidationException if move would create circular reference
      * @since 1.0.0
      */
-    void moveTaskToParent(Long taskId, Long newParentId);
+    void moveTaskToParent(Long taskId, Long userId, Long newParentId);
+
+    /**
+     * Repositions a task among its siblings under the same parent.
+     *
+     * <p>Only the moved task's row is written: it receives the midpoint key between
+     * its new neighbours. If the neighbours have no free key between them, the
+     * siblings are rebalanced first (see {@code SortOrderService}).</p>
+     *
+     * @param taskId the ID of the task to reposition
+     * @param userId the user making the change, who needs edit access to the task
+     * @param afterTaskId the sibling that should directly precede the task, or null to move it first
+     * @throws TaskNotFoundException if the task or the anchor sibling doesn't exist under the same parent
+     * @throws TaskAccessDeniedException if the user lacks the required access
+     * @throws TaskValidationException if the task has no parent
+     */
+    void repositionTask(Long taskId, Long userId, Long afterTaskId);
 
     /**
      * Calculates the depth of a task within the hierarchy structure.
@@ -159,26 +188,30 @@ public interface TaskHierarchyService {
      * <p>Standalone tasks (without parents) return their natural depth based on type.</p>
      *
      * @param taskId the ID of the task to calculate depth for
+     * @param userId the requesting user, who needs view access to the task
      * @return the depth level (0-2), where 0 is top level
      * @throws TaskNotFoundException if no task exists with the given ID
+     * @throws TaskAccessDeniedException if the user lacks the required access
      * @since 1.0.0
      */
-    int getHierarchyDepth(Long taskId);
+    int getHierarchyDepth(Long taskId, Long userId);
 
     /**
      * Calculates the next available sort order for tasks under a parent.
      *
-     * <p>Determines the appropriate sort order value for a new task being
-     * added to a parent. This ensures consistent ordering and prevents
-     * conflicts with existing child tasks.</p>
+     * <p>Previews the sort order a new child would receive when appended to a parent.
+     * Sort orders are sparse keys spaced {@code SortKeyUtils.GAP} apart and are reserved
+     * atomically at creation time, so this value is informational only.</p>
      *
-     * <p>The sort order is calculated as: {@code max(existing_sort_orders) + 1}</p>
+     * <p>The sort order is calculated as: {@code parent.child_sort_seq + GAP}</p>
      *
      * @param parentTaskId the ID of the parent task to calculate sort order for
-     * @return the next available sort order value, starting from 0 if no children exist
+     * @param userId the requesting user, who needs view access to the parent task
+     * @return the sort order the next appended child would receive
      * @throws TaskNotFoundException if no parent task exists with the given ID
+     * @throws TaskAccessDeniedException if the user lacks the required access
      * @since 1.0.0
      */
-    Integer getNextSortOrderForParent(Long parentTaskId);
+    Integer getNextSortOrderForParent(Long parentTaskId, Long userId);
 
 }
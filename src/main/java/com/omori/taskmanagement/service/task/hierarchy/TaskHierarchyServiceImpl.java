@@ -12,6 +12,10 @@ import com.omori.taskmanagement.model.project.Task;
 import com.omori.taskmanagement.repository.project.SubtaskRepository;
 import com.omori.taskmanagement.repository.project.TaskRepository;
 import com.omori.taskmanagement.service.task.update.TaskProgressService;
+import com.omori.taskmanagement.service.task.utils.AccessLevel;
+import com.omori.taskmanagement.service.task.utils.SortOrderService;
+import com.omori.taskmanagement.service.task.utils.TaskAccessControlService;
+import com.omori.taskmanagement.utils.SortKeyUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -32,6 +36,8 @@ public class TaskHierarchyServiceImpl implements TaskHierarchyService{
 
     private final TaskHierarchyValidationService taskHierarchyValidationService;
     private final TaskProgressService taskProgressService;
+    private final SortOrderService sortOrderService;
+    private final TaskAccessControlService taskAccessControlService;
 
     private static final Task.TaskType EPIC = Task.TaskType.EPIC;
     private static final Task.TaskType STORY = Task.TaskType.STORY;
@@ -39,7 +45,7 @@ public class TaskHierarchyServiceImpl implements TaskHierarchyService{
 
     @Override
     @Transactional(readOnly = true)
-    public HierarchyEpicDto getFullHierarchy(Long epicId) {
+    public HierarchyEpicDto getFullHierarchy(Long epicId, Long userId) {
         log.debug("Getting full hierarchy for epic task with ID {} ", epicId);
 
         // Single query to get all tasks in hierarchy
@@ -49,6 +55,7 @@ public class TaskHierarchyServiceImpl implements TaskHierarchyService{
                 .filter( t -> t.getId().equals(epicId))
                 .findFirst()
                 .orElseThrow(() -> new TaskNotFoundException("Task not found with ID: " + epicId));
+        taskAccessControlService.validateTaskAccess(epic, userId);
 
         if (epic.getTaskType() != EPIC) {
             throw new TaskValidationException("Task with id " + epicId + " is not an EPIC task",
@@ -83,7 +90,7 @@ public class TaskHierarchyServiceImpl implements TaskHierarchyService{
 
     @Override
     @Transactional(readOnly = true)
-    public HierarchyEpicDto getFullHierarchyByUuid(String epicUuid) {
+    public HierarchyEpicDto getFullHierarchyByUuid(String epicUuid, Long userId) {
         log.debug("Getting full hierarchy for epic task with Uuid {} ", epicUuid);
         UUID uuid;
 
@@ -100,6 +107,7 @@ public class TaskHierarchyServiceImpl implements TaskHierarchyService{
                 .filter( t -> t.getUuid().equals(uuid))
                 .findFirst()
                 .orElseThrow( () -> new TaskNotFoundException("Task not found with uuid: " + epicUuid) );
+        taskAccessControlService.validateTaskAccess(epic, userId);
 
         if(epic.getTaskType() != EPIC){
             throw new TaskValidationException("Task with id " + epicUuid + " is not an EPIC task",
@@ -131,9 +139,10 @@ public class TaskHierarchyServiceImpl implements TaskHierarchyService{
 
     @Override
     @Transactional(readOnly = true)
-    public TaskResponse getParentTask(Long taskId) {
+    public TaskResponse getParentTask(Long taskId, Long userId) {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new TaskNotFoundException("Task not found with ID: " + taskId));
+        taskAccessControlService.validateTaskAccess(task, userId);
         Long parentId = taskRepository.findParentTaskIdByTaskId(taskId);
         if( parentId == null ) {
             log.debug("Task {} has no parent", taskId);
@@ -146,10 +155,11 @@ public class TaskHierarchyServiceImpl implements TaskHierarchyService{
 
     @Override
     @Transactional(readOnly = true)
-    public List<TaskResponse> getChildTasks(Long parentTaskId) {
+    public List<TaskResponse> getChildTasks(Long parentTaskId, Long userId) {
         log.debug("Getting children for task with ID {} ", parentTaskId);
         Task parentTask = taskRepository.findById(parentTaskId)
                 .orElseThrow(() -> new TaskNotFoundException("Task not found with ID: " + parentTaskId));
+        taskAccessControlService.validateTaskAccess(parentTask, userId);
 
         return switch (parentTask.getTaskType()) {
             case EPIC -> {
@@ -177,10 +187,11 @@ public class TaskHierarchyServiceImpl implements TaskHierarchyService{
 
     @Override
     @Transactional(readOnly = true)
-    public List<TaskResponse> getAllChildTasks(Long parentTaskId) {
+    public List<TaskResponse> getAllChildTasks(Long parentTaskId, Long userId) {
         log.debug("Getting all descendant tasks for parent task with ID {}", parentTaskId);
         Task parentTask = taskRepository.findById(parentTaskId)
                 .orElseThrow(() -> new TaskNotFoundException("Task not found with ID: " + parentTaskId));
+        taskAccessControlService.validateTaskAccess(parentTask, userId);
 
         return switch (parentTask.getTaskType()) {
             case EPIC -> {
@@ -210,15 +221,17 @@ public class TaskHierarchyServiceImpl implements TaskHierarchyService{
 
     @Override
     @Transactional
-    public void moveTaskToParent(Long taskId, Long parentId) {
+    public void moveTaskToParent(Long taskId, Long userId, Long parentId) {
         log.debug("Moving task with ID {} to parent with ID {}", taskId, parentId);
         Task task = taskRepository.findByIdAndDeletedAtIsNull(taskId)
                 .orElseThrow( () -> new TaskNotFoundException("Task not found with ID: " + taskId) );
+        taskAccessControlService.validateTaskAccess(task, userId, AccessLevel.EDIT);
 
         Task newParent = null;
         if(parentId != null) {
             newParent = taskRepository.findByIdAndDeletedAtIsNull(parentId)
                     .orElseThrow( () -> new TaskNotFoundException("Task not found with ID: " + parentId) );
+            taskAccessControlService.validateTaskAccess(newParent, userId, AccessLevel.EDIT);
         }
 
         Task oldParent = task.getParentTask();
@@ -227,8 +240,7 @@ public class TaskHierarchyServiceImpl implements TaskHierarchyService{
         preventInfiniteLoop(taskId, parentId);
 
         if(parentId != null ) {
-            int currentParentDepth = getHierarchyDepth(parentId);
-            int taskSubtreeDepth = getHierarchyDepth(taskId);
+            int currentParentDepth = depthOf(newParent);
             // Check if move would exceed depth limit
             if(currentParentDepth + 1 > 3) {
                 throw new TaskValidationException("Moving task would exceed maximum allowed depth of 3");
@@ -237,7 +249,7 @@ public class TaskHierarchyServiceImpl implements TaskHierarchyService{
 
         task.setParentTask(newParent);
         if( newParent != null ) {
-            task.setSortOrder(getNextSortOrderForParent(newParent.getId()));
+            task.setSortOrder(sortOrderService.nextChildSortOrder(newParent.getId()));
         }
         task.setUpdatedAt(LocalDateTime.now());
         taskRepository.save(task);
@@ -250,9 +262,14 @@ public class TaskHierarchyServiceImpl implements TaskHierarchyService{
 
     @Override
     @Transactional(readOnly = true)
-    public int getHierarchyDepth(Long taskId) {
+    public int getHierarchyDepth(Long taskId, Long userId) {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new TaskNotFoundException("Task not found with ID: " + taskId));
+        taskAccessControlService.validateTaskAccess(task, userId);
+        return depthOf(task);
+    }
+
+    private int depthOf(Task task) {
         int depth = 0;
         final int MAX_DEPTH = 10;
         while(task.getParentTask() != null && depth < MAX_DEPTH) {
@@ -262,13 +279,31 @@ public class TaskHierarchyServiceImpl implements TaskHierarchyService{
         return depth;
     }
 
+    @Override
+    @Transactional
+    public void repositionTask(Long taskId, Long userId, Long afterTaskId) {
+        log.debug("Repositioning task with ID {} after sibling {}", taskId, afterTaskId);
+        Task task = taskRepository.findByIdAndDeletedAtIsNull(taskId)
+                .orElseThrow( () -> new TaskNotFoundException("Task not found with ID: " + taskId) );
+        taskAccessControlService.validateTaskAccess(task, userId, AccessLevel.EDIT);
+        if (task.getParentTask() == null) {
+            throw new TaskValidationException("Only tasks with a parent can be repositioned among siblings");
+        }
+        Long parentId = task.getParentTask().getId();
+        Integer sortOrder = sortOrderService.moveChildTaskAfter(parentId, taskId, afterTaskId);
+        log.info("Task {} repositioned under parent {} with sort order {}", taskId, parentId, sortOrder);
+    }
+
     @Override
     @Transactional(readOnly = true)
-    public Integer getNextSortOrderForParent(Long parentTaskId) {
-        // Implementation to get next sort order
-        return taskRepository.findMaxSortOrderByParentTaskId(parentTaskId)
-                .map(max -> (Integer) (max + 1))
-                .orElse(0);
+    public Integer getNextSortOrderForParent(Long parentTaskId, Long userId) {
+        Task parentTask = taskRepository.findByIdAndDeletedAtIsNull(parentTaskId)
+                .orElseThrow(() -> new TaskNotFoundException("Task not found with ID: " + parentTaskId));
+        taskAccessControlService.validateTaskAccess(parentTask, userId);
+        // Peek at the parent's allocation counter; the key itself is reserved at creation time
+        return taskRepository.findChildSortSeq(parentTaskId)
+                .map(last -> last + SortKeyUtils.GAP)
+                .orElseThrow(() -> new TaskNotFoundException("Task not found with ID: " + parentTaskId));
     }
 
     /*
@@ -79,8 +79,9 @@ public interface TaskHierarchyValidationService {
      * <ul>
      *   <li><strong>Uniqueness:</strong> No duplicate sort orders within same parent group</li>
      *   <li><strong>Non-negative:</strong> All sort order values must be ≥ 0</li>
-     *   <li><strong>Consistency:</strong> Sort orders should form logical sequence</li>
-     *   <li><strong>Completeness:</strong> No missing sort orders causing gaps</li>
+     *   <li><strong>Completeness:</strong> Every task in a parent group has a sort order</li>
+     *   <li><strong>Sparse keys:</strong> Gaps between sort orders are allowed (keys are spaced by
+     *       {@code SortKeyUtils.GAP} so moves only rewrite the moved row)</li>
      * </ul>
      *
      * <h3>Parent Grouping:</h3>
@@ -93,12 +94,11 @@ public interface TaskHierarchyValidationService {
      *
      * <h3>Example Valid Sort Orders:</h3>
      * <pre>
-     * Epic1 → Story1 (sort: 0), Story2 (sort: 1), Story3 (sort: 2) ✅
-     * Story1 → Task1 (sort: 0), Task2 (sort: 1) ✅
+     * Epic1 → Story1 (sort: 1024), Story2 (sort: 2048), Story3 (sort: 3072) ✅
+     * Story1 → Task1 (sort: 1024), Task2 (sort: 1536) ✅
      *
      * Epic1 → Story1 (sort: 0), Story2 (sort: 0) ❌ Duplicate
      * Story1 → Task1 (sort: -1) ❌ Negative value
-     * Epic1 → Story1 (sort: 0), Story2 (sort: 5) ❌ Large gap
      * </pre>
      *
      * @param tasks the collection of tasks to validate sort orders for
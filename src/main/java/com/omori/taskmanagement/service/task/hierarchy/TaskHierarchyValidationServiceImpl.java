@@ -129,7 +129,7 @@ public class TaskHierarchyValidationServiceImpl implements TaskHierarchyValidati
                 continue;
             }
             List<Task> tasksInGroup = entry.getValue();
-            // - No huge gaps in sequence
+            // Gaps between keys are expected: sort orders are sparse (see SortKeyUtils.GAP)
             List<Integer> sortOrdersRaw = tasksInGroup.stream()
                     .map(Task::getSortOrder)
                     .toList();
@@ -150,10 +150,6 @@ public class TaskHierarchyValidationServiceImpl implements TaskHierarchyValidati
                 if( curr < 0 ){
                     violations.add("Negative sort order for parent task " + entry.getKey());
                 }
-                // Check gaps (skip for the first element)
-                if( i > 0 && curr - sortOrders.get(i-1) > 1 ){
-                    violations.add("Gap in sort order sequence for parent task " + entry.getKey());
-                }
             }
         }
         if(!violations.isEmpty()){
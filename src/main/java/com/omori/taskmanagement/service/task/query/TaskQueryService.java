@@ -39,14 +39,14 @@ import java.util.UUID;
  * <h3>Performance Considerations:</h3>
  * <ul>
  *   <li>All paginated queries support configurable page sizes and sorting</li>
- *   <li>Individual task retrievals utilize caching for frequently accessed data</li>
+ *   <li>Individual task retrievals are cached under the task's version tag</li>
  *   <li>Complex queries leverage database indexes for optimal performance</li>
  * </ul>
  *
  * <h3>Usage Examples:</h3>
  * <pre>{@code
  * // Get a specific task
- * TaskResponse task = taskQueryService.getTaskById(123L, userId);
+ * TaskResponse task = taskQueryService.getTaskById(123L, userId, taskVersionService.taskETag(123L, userId).orElse(null));
  *
  * // Get user's overdue tasks
  * Page<TaskResponse> overdueTasks = taskQueryService.getOverdueTasks(userId);
@@ -75,19 +75,25 @@ public interface TaskQueryService {
      * <p><strong>Access Control:</strong> The user must either be the task owner or assigned to the task.
      * If the user lacks access, a {@link TaskAccessDeniedException} is thrown.</p>
      *
+     * <p><strong>Caching:</strong> The response is cached in {@code task-details} under
+     * {@code version}, which is shared by every user allowed to see that version of the task. A
+     * task that changed since has a new tag and is never served from the cache.</p>
+     *
      * @param taskId the unique identifier of the task to retrieve
      * @param userId the ID of the user requesting the task data
+     * @param version the tag from {@link TaskVersionService#taskETag(Long, Long)}, which is only
+     *                returned to users who can access the task; null loads the task uncached
      * @return a {@link TaskResponse} containing the task data and relationships
      * @throws TaskNotFoundException if no task exists with the given ID
      * @throws TaskAccessDeniedException if the user lacks permission to access the task
      * @since 1.0.0
      */
-    TaskResponse getTaskById(Long taskId, Long userId);
+    TaskResponse getTaskById(Long taskId, Long userId, String version);
 
     /**
      * Retrieves a task by its UUID with access control validation.
      *
-     * <p>Similar to {@link #getTaskById(Long, Long)} but uses the task's UUID instead of
+     * <p>Similar to {@link #getTaskById(Long, Long, String)} but uses the task's UUID instead of
      * the database ID. UUIDs are typically used in API responses and external integrations
      * to avoid exposing internal database identifiers.</p>
      *
@@ -96,12 +102,14 @@ public interface TaskQueryService {
      *
      * @param uuid the UUID of the task to retrieve
      * @param userId the ID of the user requesting the task data
+     * @param version the tag from {@link TaskVersionService#taskETag(UUID, Long)}, or null; tags
+     *                do not depend on the lookup, so both lookups share cache entries
      * @return a {@link TaskResponse} containing the task data and relationships
      * @throws TaskNotFoundException if no task exists with the given UUID
      * @throws TaskAccessDeniedException if the user lacks permission to access the task
      * @since 1.0.0
      */
-    TaskResponse getTaskByUuid(UUID uuid, Long userId);
+    TaskResponse getTaskByUuid(UUID uuid, Long userId, String version);
 
     /**
      * Retrieves a paginated list of tasks for a specific user with optional filtering and sorting.
@@ -126,6 +134,19 @@ public interface TaskQueryService {
      */
     Page<TaskResponse> getTasksByUserId(Long userId, @Nullable TaskFilterRequest filter);
 
+    /**
+     * Retrieves a paginated list of every task the user can access.
+     *
+     * <p>Besides owned and assigned tasks this includes tasks shared with the user as a
+     * collaborator and tasks in workspaces the user is a member or owner of.</p>
+     *
+     * @param userId the ID of the user
+     * @param filter the filtering and pagination criteria, or null for defaults
+     * @return a {@link Page} of {@link TaskResponse} objects the user can access
+     * @see com.omori.taskmanagement.service.task.utils.TaskAccessControlService
+     */
+    Page<TaskResponse> getAccessibleTasks(Long userId, @Nullable TaskFilterRequest filter);
+
     /**
      * Retrieves a paginated list of overdue tasks for a specific user.
      *
@@ -67,11 +67,11 @@ public class TaskQueryServiceImpl implements TaskQueryService{
     @Override
     @Cacheable(
             value = "task-details",
-            key = "#taskId + ':' + #userId",
-            condition = "#taskId != null",
+            key = "#version",
+            condition = "#version != null",
             unless = "#result == null"
     )
-    public TaskResponse getTaskById(Long taskId, Long userId) {
+    public TaskResponse getTaskById(Long taskId, Long userId, String version) {
         return getSingleTask(
                 () -> taskRepository.findByIdWithRelations(taskId),
                 String.format("Task not found with id: %d", taskId),
@@ -82,11 +82,11 @@ public class TaskQueryServiceImpl implements TaskQueryService{
     @Override
     @Cacheable(
             value = "task-details",
-            key = "#uuid + ':' + #userId",
-            condition = "#uuid != null",
+            key = "#version",
+            condition = "#version != null",
             unless = "#result == null"
     )
-    public TaskResponse getTaskByUuid(UUID uuid, Long userId) {
+    public TaskResponse getTaskByUuid(UUID uuid, Long userId, String version) {
         return getSingleTask(
                 () -> taskRepository.findByUuidWithRelations(uuid),
                 String.format("Task not found with uuid: %s", uuid),
@@ -104,6 +104,16 @@ public class TaskQueryServiceImpl implements TaskQueryService{
         );
     }
 
+    @Override
+    public Page<TaskResponse> getAccessibleTasks(Long userId, TaskFilterRequest filter) {
+        return getPaginatedTasks(
+                "Getting accessible tasks",
+                userId,
+                filter,
+                taskRepository::findAccessibleByUserId
+        );
+    }
+
     @Override
     public Page<TaskResponse> getOverdueTasks(Long userId, TaskFilterRequest filter) {
         return getPaginatedTasks(
@@ -0,0 +1,49 @@
+package com.omori.taskmanagement.service.task.query;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Strong entity tags for task read endpoints, computed from {@code updated_at} with one indexed
+ * query and without loading entities.
+ *
+ * <p>A tag changes whenever a task or subtask in the response is updated, created or deleted. Renaming a
+ * category, workspace or user does not change the tags of the tasks that show the name.
+ * An empty result means no tag could be derived (for example the task does not exist or the
+ * user has no access); callers then serve the request normally, which reports the error.</p>
+ */
+public interface TaskVersionService {
+
+    /**
+     * @return tag of the task as returned to the user, if the user can access it
+     */
+    Optional<String> taskETag(Long taskId, Long userId);
+
+    /**
+     * @return tag of the task as returned to the user, if the user can access it
+     */
+    Optional<String> taskETag(UUID uuid, Long userId);
+
+    /**
+     * Tag of a task together with its children and grandchildren, which covers the epic
+     * hierarchy, children and descendants views.
+     *
+     * @return the tag, if the user can access the task
+     */
+    Optional<String> hierarchyETag(Long taskId, Long userId);
+
+    /**
+     * @see #hierarchyETag(Long, Long)
+     */
+    Optional<String> hierarchyETag(UUID uuid, Long userId);
+
+    /**
+     * Tag of all active tasks owned by the user, which covers every list filtered from them.
+     */
+    String ownedTasksETag(Long userId);
+
+    /**
+     * Tag of all active tasks in the workspace, which covers its board.
+     */
+    String workspaceBoardETag(Long workspaceId);
+}
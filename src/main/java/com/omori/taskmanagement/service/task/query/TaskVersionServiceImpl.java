@@ -0,0 +1,147 @@
+package com.omori.taskmanagement.service.task.query;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class TaskVersionServiceImpl implements TaskVersionService {
+
+    // SQL form of TaskRepository.ACCESSIBLE_BY_USER; binds the user ID five times
+    private static final String ACCESSIBLE_BY_USER = "(t.user_id = ? OR t.assigned_to = ? "
+            + "OR EXISTS (SELECT 1 FROM collaboration.task_collaborators c "
+            + "WHERE c.task_id = t.task_id AND c.user_id = ? AND c.deleted_at IS NULL) "
+            + "OR EXISTS (SELECT 1 FROM project.workspace_members m "
+            + "WHERE m.workspace_id = t.workspace_id AND m.user_id = ?) "
+            + "OR EXISTS (SELECT 1 FROM project.workspaces w "
+            + "WHERE w.workspace_id = t.workspace_id AND w.owner_id = ? AND w.deleted_at IS NULL))";
+
+    // The parent's title and the task's subtasks are part of TaskResponse; the subtasks are
+    // counted on idx_subtasks_task_sort_order
+    private static final String TASK_VERSION = "SELECT t.task_id, t.updated_at, p.updated_at AS parent_updated_at, "
+            + "s.updated_at AS subtask_updated_at, s.subtask_count "
+            + "FROM project.tasks t LEFT JOIN project.tasks p ON p.task_id = t.parent_task_id "
+            + "CROSS JOIN LATERAL (SELECT MAX(updated_at) AS updated_at, COUNT(*) AS subtask_count "
+            + "FROM project.subtasks WHERE task_id = t.task_id AND deleted_at IS NULL) s "
+            + "WHERE %s AND t.deleted_at IS NULL AND " + ACCESSIBLE_BY_USER;
+
+    private static final String TASK_VERSION_BY_ID = TASK_VERSION.formatted("t.task_id = ?");
+
+    private static final String TASK_VERSION_BY_UUID = TASK_VERSION.formatted("t.uuid = ?");
+
+    // Same rows as TaskRepository.findAllTasksUnderEpic (a superset of the by-UUID variant),
+    // plus the subtasks of all of them, which the hierarchy views include. The root must be
+    // accessible to the user, as the views check
+    private static final String HIERARCHY_VERSION = """
+            WITH root AS (SELECT t.task_id FROM project.tasks t WHERE %s AND t.deleted_at IS NULL AND %s),
+            tree AS (
+                SELECT t.task_id, t.updated_at
+                FROM project.tasks t
+                WHERE (t.task_id = (SELECT task_id FROM root)
+                       OR t.parent_task_id = (SELECT task_id FROM root)
+                       OR t.parent_task_id IN (SELECT s.task_id FROM project.tasks s
+                                               WHERE s.parent_task_id = (SELECT task_id FROM root)))
+                  AND t.deleted_at IS NULL
+            )
+            SELECT (SELECT task_id FROM root) AS task_id, t.updated_at, t.task_count,
+                   s.updated_at AS subtask_updated_at, s.subtask_count
+            FROM (SELECT MAX(updated_at) AS updated_at, COUNT(*) AS task_count FROM tree) t
+            CROSS JOIN (SELECT MAX(updated_at) AS updated_at, COUNT(*) AS subtask_count
+                        FROM project.subtasks
+                        WHERE task_id IN (SELECT task_id FROM tree) AND deleted_at IS NULL) s
+            """;
+
+    private static final String HIERARCHY_VERSION_BY_ID = HIERARCHY_VERSION.formatted("t.task_id = ?", ACCESSIBLE_BY_USER);
+
+    private static final String HIERARCHY_VERSION_BY_UUID = HIERARCHY_VERSION.formatted("t.uuid = ?", ACCESSIBLE_BY_USER);
+
+    private static final String OWNED_TASKS_VERSION = "SELECT MAX(updated_at) AS updated_at, COUNT(*) AS task_count "
+            + "FROM project.tasks WHERE user_id = ? AND deleted_at IS NULL";
+
+    // Index-only on idx_tasks_workspace_board
+    private static final String WORKSPACE_TASKS_VERSION = "SELECT MAX(updated_at) AS updated_at, COUNT(*) AS task_count "
+            + "FROM project.tasks WHERE workspace_id = ? AND deleted_at IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<String> taskETag(Long taskId, Long userId) {
+        return first(jdbcTemplate.query(TASK_VERSION_BY_ID, TaskVersionServiceImpl::taskTag,
+                taskId, userId, userId, userId, userId, userId));
+    }
+
+    @Override
+    public Optional<String> taskETag(UUID uuid, Long userId) {
+        return first(jdbcTemplate.query(TASK_VERSION_BY_UUID, TaskVersionServiceImpl::taskTag,
+                uuid, userId, userId, userId, userId, userId));
+    }
+
+    @Override
+    public Optional<String> hierarchyETag(Long taskId, Long userId) {
+        return first(jdbcTemplate.query(HIERARCHY_VERSION_BY_ID, TaskVersionServiceImpl::hierarchyTag,
+                taskId, userId, userId, userId, userId, userId));
+    }
+
+    @Override
+    public Optional<String> hierarchyETag(UUID uuid, Long userId) {
+        return first(jdbcTemplate.query(HIERARCHY_VERSION_BY_UUID, TaskVersionServiceImpl::hierarchyTag,
+                uuid, userId, userId, userId, userId, userId));
+    }
+
+    @Override
+    public String ownedTasksETag(Long userId) {
+        return jdbcTemplate.queryForObject(OWNED_TASKS_VERSION, (rs, rowNum) -> tag("tasks-u" + userId,
+                micros(rs.getTimestamp("updated_at")), rs.getLong("task_count")), userId);
+    }
+
+    @Override
+    public String workspaceBoardETag(Long workspaceId) {
+        return jdbcTemplate.queryForObject(WORKSPACE_TASKS_VERSION, (rs, rowNum) -> tag("board-w" + workspaceId,
+                micros(rs.getTimestamp("updated_at")), rs.getLong("task_count")), workspaceId);
+    }
+
+    private static String taskTag(ResultSet rs, int rowNum) throws SQLException {
+        return tag("task-" + rs.getLong("task_id"),
+                micros(rs.getTimestamp("updated_at")), micros(rs.getTimestamp("parent_updated_at")),
+                micros(rs.getTimestamp("subtask_updated_at")), rs.getLong("subtask_count"));
+    }
+
+    private static String hierarchyTag(ResultSet rs, int rowNum) throws SQLException {
+        long count = rs.getLong("task_count");
+        // No root: let the query report the missing task
+        return count == 0 ? null : tag("hierarchy-" + rs.getLong("task_id"),
+                micros(rs.getTimestamp("updated_at")), count,
+                micros(rs.getTimestamp("subtask_updated_at")), rs.getLong("subtask_count"));
+    }
+
+    private static String tag(String resource, long... parts) {
+        StringBuilder tag = new StringBuilder(64).append('"').append(resource);
+        for (long part : parts) {
+            tag.append('-').append(Long.toHexString(part));
+        }
+        return tag.append('"').toString();
+    }
+
+    private static long micros(Timestamp timestamp) {
+        if (timestamp == null) {
+            return 0;
+        }
+        Instant instant = timestamp.toInstant();
+        return instant.getEpochSecond() * 1_000_000 + instant.getNano() / 1_000;
+    }
+
+    private static Optional<String> first(List<String> tags) {
+        return tags.isEmpty() ? Optional.empty() : Optional.ofNullable(tags.get(0));
+    }
+}
@@ -0,0 +1,33 @@
+package com.omori.taskmanagement.service.task.query;
+
+import com.omori.taskmanagement.dto.project.task.WorkspaceBoardResponse;
+
+/**
+ * Board view of a workspace: per-status counts and the first cards of every column, loaded with
+ * one statement and cached in {@code task-counts} under the board's version tag.
+ */
+public interface WorkspaceBoardService {
+
+    /**
+     * Cards returned per column.
+     */
+    int CARDS_PER_COLUMN = 25;
+
+    /**
+     * Checks that the user can see the workspace and returns the board's current tag.
+     *
+     * @see TaskVersionService#workspaceBoardETag(Long)
+     */
+    String boardETag(Long workspaceId, Long userId);
+
+    /**
+     * @param version the tag from {@link #boardETag(Long, Long)}; part of the cache key, so a board
+     *                that changed since is never served from the cache
+     */
+    WorkspaceBoardResponse getBoard(Long workspaceId, Long userId, String version);
+
+    /**
+     * Loads the board without checking access; use {@link #getBoard(Long, Long, String)}.
+     */
+    WorkspaceBoardResponse loadBoard(Long workspaceId, String version);
+}
@@ -0,0 +1,99 @@
+package com.omori.taskmanagement.service.task.query;
+
+import com.omori.taskmanagement.dto.project.task.WorkspaceBoardResponse;
+import com.omori.taskmanagement.model.project.Task;
+import com.omori.taskmanagement.service.task.utils.TaskAccessControlService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class WorkspaceBoardServiceImpl implements WorkspaceBoardService {
+
+    // Counts per status from one GROUP BY, then the head of each non-empty column through a
+    // LIMIT-ed lateral range scan of idx_tasks_workspace_board; one row per card
+    private static final String BOARD = """
+            WITH board_columns AS (
+                SELECT status, COUNT(*) AS task_count
+                FROM project.tasks
+                WHERE workspace_id = ? AND deleted_at IS NULL
+                GROUP BY status
+            )
+            SELECT c.status, c.task_count, h.task_id, h.uuid, h.title, h.priority, h.task_type,
+                   h.progress, h.due_date, h.assigned_to, h.updated_at
+            FROM board_columns c
+            CROSS JOIN LATERAL (
+                SELECT t.task_id, t.uuid, t.title, t.priority, t.task_type, t.progress, t.due_date,
+                       t.assigned_to, t.updated_at
+                FROM project.tasks t
+                WHERE t.workspace_id = ? AND t.status = c.status AND t.deleted_at IS NULL
+                ORDER BY t.updated_at DESC, t.task_id DESC
+                LIMIT ?
+            ) h
+            ORDER BY c.status, h.updated_at DESC, h.task_id DESC
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TaskVersionService taskVersionService;
+    private final TaskAccessControlService taskAccessControlService;
+    private final ApplicationContext applicationContext;
+
+    @Override
+    public String boardETag(Long workspaceId, Long userId) {
+        taskAccessControlService.validateWorkspaceAccess(workspaceId, userId);
+        return taskVersionService.workspaceBoardETag(workspaceId);
+    }
+
+    @Override
+    public WorkspaceBoardResponse getBoard(Long workspaceId, Long userId, String version) {
+        taskAccessControlService.validateWorkspaceAccess(workspaceId, userId);
+        return getProxiedSelf().loadBoard(workspaceId, version);
+    }
+
+    @Override
+    @Cacheable(value = "task-counts", key = "'board:' + #workspaceId + ':' + #version")
+    public WorkspaceBoardResponse loadBoard(Long workspaceId, String version) {
+        log.debug("Loading board of workspace {}", workspaceId);
+        Map<Task.TaskStatus, WorkspaceBoardResponse.Column> columns = new EnumMap<>(Task.TaskStatus.class);
+        for (Task.TaskStatus status : Task.TaskStatus.values()) {
+            columns.put(status, new WorkspaceBoardResponse.Column(status, 0, new ArrayList<>()));
+        }
+        jdbcTemplate.query(BOARD, rs -> {
+            WorkspaceBoardResponse.Column column = columns.get(Task.TaskStatus.valueOf(rs.getString("status")));
+            column.setCount(rs.getLong("task_count"));
+            column.getTasks().add(new WorkspaceBoardResponse.Card(
+                    rs.getLong("task_id"),
+                    rs.getObject("uuid", UUID.class),
+                    rs.getString("title"),
+                    Task.TaskPriority.valueOf(rs.getString("priority")),
+                    Task.TaskType.valueOf(rs.getString("task_type")),
+                    rs.getInt("progress"),
+                    rs.getObject("due_date", LocalDateTime.class),
+                    rs.getObject("assigned_to", Long.class),
+                    rs.getObject("updated_at", LocalDateTime.class)));
+        }, workspaceId, workspaceId, CARDS_PER_COLUMN);
+
+        List<WorkspaceBoardResponse.Column> board = new ArrayList<>(columns.values());
+        long total = board.stream().mapToLong(WorkspaceBoardResponse.Column::getCount).sum();
+        return new WorkspaceBoardResponse(workspaceId, total, board);
+    }
+
+    /**
+     * Get the proxied self so the cache on {@link #loadBoard} applies.
+     */
+    private WorkspaceBoardService getProxiedSelf() {
+        return applicationContext.getBean(WorkspaceBoardService.class);
+    }
+}
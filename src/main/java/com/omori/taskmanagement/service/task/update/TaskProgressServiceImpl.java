@@ -3,13 +3,16 @@ package com.omori.taskmanagement.service.task.update;
 import com.omori.taskmanagement.exceptions.task.TaskBusinessException;
 import com.omori.taskmanagement.exceptions.task.TaskNotFoundException;
 import com.omori.taskmanagement.exceptions.task.TaskValidationException;
+import com.omori.taskmanagement.model.events.TaskChangedEvent;
 import com.omori.taskmanagement.model.events.TaskProgressUpdateEvent;
 import com.omori.taskmanagement.model.project.Subtask;
 import com.omori.taskmanagement.model.project.Task;
 import com.omori.taskmanagement.repository.project.TaskRepository;
 import com.omori.taskmanagement.service.subtask.SubTaskService;
+import com.omori.taskmanagement.service.task.utils.OptimisticLockSupport;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,6 +22,7 @@ import org.springframework.transaction.event.TransactionalEventListener;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -29,6 +33,8 @@ public class TaskProgressServiceImpl implements TaskProgressService{
 
     private final TaskRepository taskRepository;
     private final SubTaskService subTaskService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OptimisticLockSupport optimisticLockSupport;
 
     private final Task.TaskType EPIC = Task.TaskType.EPIC;
     private final Task.TaskType STORY = Task.TaskType.STORY;
@@ -72,12 +78,14 @@ public class TaskProgressServiceImpl implements TaskProgressService{
                 taskId, completedCount, subtasks.size(), progressPercent);
 
         // Update task progress based on subtask completion
+        Integer previousProgress = task.getProgress();
         task.setProgress(progressPercent);
         task.setUpdatedAt(LocalDateTime.now());
 
         try {
             taskRepository.save(task);
             log.debug("Successfully updated progress for task with ID {} ", taskId);
+            publishProgressChange(task, previousProgress);
         } catch (DataAccessException e) {
             log.error("Failed to update progress for task with ID {}: {}", taskId, e.getMessage());
             throw new TaskBusinessException("Failed to update progress", e);
@@ -128,9 +136,11 @@ public class TaskProgressServiceImpl implements TaskProgressService{
             finalProgress = calculateWeightedProgress(avgSubtaskProgress, avgChildProgress);
         }
 
+        Integer previousProgress = story.getProgress();
         story.setProgress(finalProgress);
         story.setUpdatedAt(LocalDateTime.now());
         taskRepository.save(story);
+        publishProgressChange(story, previousProgress);
         if(story.getParentTask() != null && story.getParentTask().getId() != null ) {
             updateHierarchyProgress(story.getParentTask().getId());
         }
@@ -158,9 +168,11 @@ public class TaskProgressServiceImpl implements TaskProgressService{
             finalProgress = calculateWeightedProgress(ownProgress, childrenProgress);
         }
 
+        Integer previousProgress = epic.getProgress();
         epic.setProgress(finalProgress);
         epic.setUpdatedAt(LocalDateTime.now());
         taskRepository.save(epic);
+        publishProgressChange(epic, previousProgress);
         log.debug("Updated progress for epic task with ID {} ", epicTaskId);
     }
 
@@ -181,6 +193,13 @@ public class TaskProgressServiceImpl implements TaskProgressService{
                 .orElse(0.0);
     }
 
+    private void publishProgressChange(Task task, Integer previousProgress) {
+        // Pushed to the task streams of the owner, the assignee and watchers of the task or its epic
+        if (!Objects.equals(previousProgress, task.getProgress())) {
+            eventPublisher.publishEvent(TaskChangedEvent.progressChanged(this, task));
+        }
+    }
+
     private int calculateWeightedProgress(int ownProgress, double childrenProgress) {
         // Apply 50/50 weighted formula
         return (int) ((ownProgress * 0.5) + (childrenProgress * 0.5));
@@ -189,12 +208,15 @@ public class TaskProgressServiceImpl implements TaskProgressService{
     /**
      * Event listener that handles task progress updates triggered by subtask changes.
      * This breaks the circular dependency between SubTaskService and TaskHybridService.
+     * The rollup runs in its own transaction and is retried when a concurrent write to the task
+     * or one of its ancestors bumped their version first.
      */
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handleTaskProgressUpdateEvent(TaskProgressUpdateEvent event) {
         log.debug("Handling task progress update event for task ID: {} - Reason: {}",
                 event.getTaskId(), event.getReason());
-        updateProgressFromSubtasks(event.getTaskId());
+        optimisticLockSupport.retry("Progress rollup of task " + event.getTaskId(),
+                () -> updateProgressFromSubtasks(event.getTaskId()));
     }
 
 }
@@ -20,7 +20,6 @@ import com.omori.taskmanagement.exceptions.task.WorkspaceNotFoundException;
  *   <li><strong>Task Field Updates:</strong> Modify basic task properties with partial update strategy</li>
  *   <li><strong>Relationship Management:</strong> Update task associations (category, assignee, workspace)</li>
  *   <li><strong>Business Logic:</strong> Handle status transitions and completion date management</li>
- *   <li><strong>Cache Management:</strong> Maintain cache consistency after modifications</li>
  * </ul>
  *
  * <h3>Access Control:</h3>
@@ -69,7 +68,7 @@ public interface TaskUpdateService {
      *
      * <p>Performs a comprehensive task update operation that includes loading and validating
      * the task with access control, updating basic fields and relationships, applying business
-     * logic, and maintaining cache consistency. Only non-null fields in the request are applied
+     * logic, and recording the change. Only non-null fields in the request are applied
      * to the task entity, allowing for granular updates without affecting unchanged fields.</p>
      *
      * <p><strong>Business Rules Applied:</strong> Status transitions automatically adjust progress
@@ -91,23 +90,4 @@ public interface TaskUpdateService {
      * @since 1.0.0
      */
     TaskResponse updateTask(Long taskId, Long userId, TaskUpdateRequest request);
-
-    /**
-     * Updates the cached task data with the provided response.
-     *
-     * <p>This method maintains cache consistency after task modifications using a cache-aside
-     * pattern where the application explicitly manages cache updates after data modifications.
-     * The cache key is constructed using the task ID and user ID to ensure proper cache
-     * isolation between users.</p>
-     *
-     * <p><strong>Cache Strategy:</strong> Uses {@code @CachePut} to ensure the cache is updated
-     * with the latest task data after modification operations.</p>
-     *
-     * @param taskId the unique identifier of the task being cached
-     * @param userId the ID of the user associated with this cache entry
-     * @param response the task response data to store in cache
-     * @return the same {@link TaskResponse} that was passed in (for method chaining)
-     * @since 1.0.0
-     */
-    TaskResponse cacheUpdatedTask(Long taskId, Long userId, TaskResponse response);
 }
@@ -4,43 +4,54 @@ import com.omori.taskmanagement.dto.project.task.TaskResponse;
 import com.omori.taskmanagement.dto.project.task.update.TaskUpdateRequest;
 import com.omori.taskmanagement.exceptions.UserNotFoundException;
 import com.omori.taskmanagement.exceptions.task.TaskBusinessException;
+import com.omori.taskmanagement.exceptions.task.TaskConflictException;
 import com.omori.taskmanagement.exceptions.task.TaskNotFoundException;
 import com.omori.taskmanagement.exceptions.task.WorkspaceNotFoundException;
+import com.omori.taskmanagement.model.audit.ActionType;
+import com.omori.taskmanagement.model.events.TaskChangedEvent;
+import com.omori.taskmanagement.model.notification.OutboxEventType;
 import com.omori.taskmanagement.model.project.Category;
 import com.omori.taskmanagement.model.project.Task;
 import com.omori.taskmanagement.model.project.Workspace;
 import com.omori.taskmanagement.model.usermgmt.User;
-import com.omori.taskmanagement.repository.project.CategoryRepository;
 import com.omori.taskmanagement.repository.project.TaskRepository;
-import com.omori.taskmanagement.repository.project.WorkspaceRepository;
-import com.omori.taskmanagement.repository.usermgmt.UserRepository;
+import com.omori.taskmanagement.service.audit.ActivityAuditWriter;
+import com.omori.taskmanagement.service.audit.TaskChangeEvent;
+import com.omori.taskmanagement.service.notification.NotificationOutbox;
+import com.omori.taskmanagement.service.task.utils.AccessLevel;
+import com.omori.taskmanagement.service.task.utils.OptimisticLockSupport;
+import com.omori.taskmanagement.service.task.utils.ReferenceResolver;
 import com.omori.taskmanagement.service.task.utils.TaskAccessControlService;
+import com.omori.taskmanagement.utils.RequestMetadataHolder;
+import com.omori.taskmanagement.utils.diff.ChangeSet;
+import com.omori.taskmanagement.utils.diff.ObjectDiffer;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.CachePut;
-import org.springframework.cache.annotation.Caching;
-import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Map;
 
 @Service
 @Slf4j
 @lombok.RequiredArgsConstructor
 public class TaskUpdateServiceImpl implements TaskUpdateService{
 
-    private final UserRepository userRepository;
     private final TaskRepository taskRepository;
-    private final CategoryRepository categoryRepository;
-    private final WorkspaceRepository workspaceRepository;
-    private final ApplicationContext applicationContext;
+    private final ReferenceResolver referenceResolver;
     private final TaskAccessControlService taskAccessControlService;
+    private final ActivityAuditWriter activityAuditWriter;
+    private final NotificationOutbox notificationOutbox;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OptimisticLockSupport optimisticLockSupport;
 
     @Override
     @Transactional
@@ -48,36 +59,47 @@ public class TaskUpdateServiceImpl implements TaskUpdateService{
         log.info("Updating task with id: {} for user {}", taskId, userId);
 
         Task task = loadAndValidateTask(taskId, userId);
+        if (request.getVersion() != null && !request.getVersion().equals(task.getVersion())) {
+            throw new TaskConflictException("Task " + taskId + " was modified by someone else (version "
+                    + request.getVersion() + " is no longer current)", TaskResponse.from(task));
+        }
+        // Field values only; the diff below needs no second load or copy of the entity graph
+        Object[] beforeImage = ObjectDiffer.snapshot(task);
 
         validateUpdateRequest(request);
 
-        updateBasicFields(task, request);
-        updateRelatedEntities(task, request);
-        updateBusinessLogic(task, request);
-
-
-        Task updatedTask = taskRepository.save(task);
+        Task updatedTask;
+        try {
+            updateBasicFields(task, request);
+            updateRelatedEntities(task, request);
+            updateBusinessLogic(task, request);
+
+            // Flushed here so a concurrent write surfaces as a conflict rather than at commit
+            updatedTask = taskRepository.saveAndFlush(task);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            throw new TaskConflictException("Task " + taskId + " was modified concurrently",
+                    currentState(taskId), e);
+        }
         log.info("Task updated successfully: {}", taskId);
 
         TaskResponse response = TaskResponse.from(updatedTask);
-        runAfterCommit(() -> getProxiedSelf().cacheUpdatedTask(taskId, userId, response));
+        ChangeSet changes = ObjectDiffer.diffSnapshot(beforeImage, updatedTask);
+        triggerWorkflowEvents(updatedTask, changes, userId);
+        if (!changes.isEmpty()) {
+            // Pushed to task streams once the update commits
+            eventPublisher.publishEvent(TaskChangedEvent.updated(this, updatedTask, changes.newValues().keySet()));
+        }
+        TaskChangeEvent changeEvent = changeEvent(changes, updatedTask, userId);
+        // Cached task details are keyed by version, so the update needs no cache write
+        if (changeEvent != null) {
+            runAfterCommit(() -> activityAuditWriter.enqueue(changeEvent));
+        }
         return response;
     }
 
     /**
-     * Get the proxied self to ensure cache annotations work properly.
-     * This avoids circular dependency while maintaining AOP functionality.
-     */
-    private TaskUpdateService getProxiedSelf() {
-        return applicationContext.getBean(TaskUpdateService.class);
-    }
-
-    /**
-     * Register a callback that updates the cache only after a successful transaction commit.
-     * <p>
-     * This prevents dirty cache issues:
-     * - If the transaction rolls back → no cache update
-     * - If the transaction commits → cache is safely updated
+     * Register a callback that runs only after a successful transaction commit, so a rolled back
+     * update is never audited.
      */
     private void runAfterCommit(Runnable action) {
         TransactionSynchronizationManager.registerSynchronization(
@@ -90,29 +112,26 @@ public class TaskUpdateServiceImpl implements TaskUpdateService{
         );
     }
 
-    @Caching(put = {
-            @CachePut(
-                    value = "task-details",
-                    key = "#taskId + ':' + #userId"),
-            @CachePut(
-                    value = "task-details",
-                    key = "#response.uuid + ':' + #userId")},
-            evict = {
-            @CacheEvict(
-                    value = "tasks",
-                    allEntries = true)}
-    )
-    @Override
-    public TaskResponse cacheUpdatedTask(Long taskId, Long userId, TaskResponse response) {
-        log.debug("Caching updated task: {} for user: {}", taskId, userId);
-        return response;
+    private TaskChangeEvent changeEvent(ChangeSet changes, Task task, Long userId) {
+        if (changes.isEmpty()) {
+            return null;
+        }
+        Long workspaceId = task.getWorkspace() != null ? task.getWorkspace().getId() : null;
+        return TaskChangeEvent.of(userId, task.getId(), workspaceId, ActionType.UPDATE, changes,
+                RequestMetadataHolder.getMetadata());
+    }
+
+    private TaskResponse currentState(Long taskId) {
+        return optimisticLockSupport.readCurrent(() -> taskRepository.findByIdWithRelations(taskId)
+                .map(TaskResponse::from)
+                .orElse(null));
     }
 
     private Task loadAndValidateTask(Long taskId, Long userId) {
         Task task = taskRepository.findByIdWithRelations(taskId)
                 .orElseThrow(() -> new TaskNotFoundException("Task not found with id: " + taskId));
 
-        taskAccessControlService.validateTaskAccess(task, userId);
+        taskAccessControlService.validateTaskAccess(task, userId, AccessLevel.EDIT);
         return task;
     }
 
@@ -134,6 +153,11 @@ public class TaskUpdateServiceImpl implements TaskUpdateService{
     }
 
     private void updateRelatedEntities(Task task, TaskUpdateRequest request) {
+        // One query per referenced type instead of one findById per relation
+        referenceResolver.prefetch(
+                Collections.singletonList(request.getAssignedToId()),
+                Collections.singletonList(request.getCategoryId()),
+                Collections.singletonList(request.getWorkspaceId()));
         updateTaskCategory(task, request.getCategoryId());
         updateAssignedUser(task, request.getAssignedToId());
         updateWorkspace(task, request.getWorkspaceId());
@@ -141,7 +165,7 @@ public class TaskUpdateServiceImpl implements TaskUpdateService{
 
     private void updateTaskCategory(Task task, Long categoryId) {
         if (categoryId != null) {
-            Category category = categoryRepository.findById(categoryId)
+            Category category = referenceResolver.findCategory(categoryId)
                     .orElseThrow(() -> new TaskBusinessException("Category not found with id: " + categoryId));
             task.setCategory(category);
         }
@@ -149,7 +173,7 @@ public class TaskUpdateServiceImpl implements TaskUpdateService{
 
     private void updateAssignedUser(Task task, Long assignedToId) {
         if (assignedToId != null) {
-            User assignedTo = userRepository.findById(assignedToId)
+            User assignedTo = referenceResolver.findUser(assignedToId)
                     .orElseThrow(() -> new UserNotFoundException("Assigned user not found with id: " + assignedToId));
             task.setAssignedTo(assignedTo);
         }
@@ -157,7 +181,7 @@ public class TaskUpdateServiceImpl implements TaskUpdateService{
 
     private void updateWorkspace(Task task, Long workspaceId) {
         if (workspaceId != null) {
-            Workspace workspace = workspaceRepository.findById(workspaceId)
+            Workspace workspace = referenceResolver.findWorkspace(workspaceId)
                     .orElseThrow(() -> new WorkspaceNotFoundException("Workspace not found with id: " + workspaceId));
             task.setWorkspace(workspace);
         }
@@ -166,18 +190,20 @@ public class TaskUpdateServiceImpl implements TaskUpdateService{
     private void updateBusinessLogic(Task task, TaskUpdateRequest request) {
         updateCompletionDate(task, request.getStatus());
         updateProgressConsistency(task, request.getStatus(), request.getProgress());
-        triggerWorkflowEvents(task, request); // For future workflow integration (automation feature)
     }
 
-    private void triggerWorkflowEvents(Task task, TaskUpdateRequest request) {
-//        if (request.getStatus() == TaskStatus.completed) {
-//            eventPublisher.publishEvent(new TaskCompletedEvent(task));
-//            notificationService.notifyTaskCompletion(task);
-//        }
-//
-//        if (request.getAssignedToId() != null) {
-//            notificationService.notifyAssignment(task);
-//        }
+    /**
+     * Records notification events in the outbox within the update transaction; they are
+     * delivered by the relay only if the update commits.
+     */
+    private void triggerWorkflowEvents(Task task, ChangeSet changes, Long userId) {
+        Map<String, Object> changed = changes.newValues();
+        if (changed.containsKey("status") && task.getStatus() == Task.TaskStatus.completed) {
+            notificationOutbox.append(OutboxEventType.TASK_COMPLETED, task.getId(), userId);
+        }
+        if (changed.containsKey("assignedTo") && task.getAssignedTo() != null) {
+            notificationOutbox.append(OutboxEventType.TASK_ASSIGNED, task.getId(), userId);
+        }
     }
 
     private void updateProgressConsistency(Task task,
@@ -0,0 +1,33 @@
+package com.omori.taskmanagement.service.task.utils;
+
+/**
+ * What a user may do with a task, in increasing order of rights.
+ */
+public enum AccessLevel {
+    NONE,
+    VIEW,
+    EDIT,
+    OWNER;
+
+    public boolean allows(AccessLevel required) {
+        return compareTo(required) >= 0;
+    }
+
+    public static AccessLevel max(AccessLevel a, AccessLevel b) {
+        return a.compareTo(b) >= 0 ? a : b;
+    }
+
+    /**
+     * Maps a {@code task_collaborators} role ({@code viewer}, {@code editor}).
+     */
+    public static AccessLevel ofCollaboratorRole(String role) {
+        return "editor".equalsIgnoreCase(role) ? EDIT : VIEW;
+    }
+
+    /**
+     * Maps a {@code workspace_members} role ({@code viewer}, {@code member}, {@code admin}).
+     */
+    public static AccessLevel ofWorkspaceRole(String role) {
+        return "viewer".equalsIgnoreCase(role) ? VIEW : EDIT;
+    }
+}
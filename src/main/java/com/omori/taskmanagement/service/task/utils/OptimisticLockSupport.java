@@ -0,0 +1,102 @@
+package com.omori.taskmanagement.service.task.utils;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Transactions around optimistic writes to versioned tasks and subtasks.
+ *
+ * <p>{@link #retry} is for writes the system makes on its own behalf, such as progress rollups:
+ * each attempt re-reads and writes in a new transaction, and a version conflict is retried after
+ * a short randomized backoff instead of being reported. {@link #readCurrent} reads the committed
+ * state in a new transaction, for conflict responses built while the failed transaction is
+ * still open.</p>
+ */
+@Slf4j
+@Component
+public class OptimisticLockSupport {
+
+    private final TransactionTemplate writeTransaction;
+    private final TransactionTemplate readTransaction;
+
+    private final Counter retried;
+    private final Counter exhausted;
+
+    @Value("${app.concurrency.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${app.concurrency.retry-backoff:20ms}")
+    private Duration retryBackoff;
+
+    public OptimisticLockSupport(PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTransaction.setReadOnly(true);
+        this.retried = Counter.builder("optimistic_lock.retries")
+                .description("System writes retried after a version conflict")
+                .register(meterRegistry);
+        this.exhausted = Counter.builder("optimistic_lock.exhausted")
+                .description("System writes that still conflicted after the last attempt")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs {@code work} in a new transaction, retrying it on version conflicts.
+     *
+     * @param operation described in logs
+     * @throws OptimisticLockingFailureException if the last attempt still conflicts
+     */
+    public <T> T retry(String operation, Supplier<T> work) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return writeTransaction.execute(status -> work.get());
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    exhausted.increment();
+                    log.warn("{} still conflicted after {} attempts: {}", operation, attempt, e.getMessage());
+                    throw e;
+                }
+                retried.increment();
+                log.debug("{} conflicted on attempt {}, retrying", operation, attempt);
+                backoff(attempt);
+            }
+        }
+    }
+
+    public void retry(String operation, Runnable work) {
+        retry(operation, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    /**
+     * Reads in a new read-only transaction, independent of any transaction in progress.
+     */
+    public <T> T readCurrent(Supplier<T> read) {
+        return readTransaction.execute(status -> read.get());
+    }
+
+    private void backoff(int attempt) {
+        // Randomized so writers that collided once do not collide again in lockstep
+        long bound = retryBackoff.toMillis() * attempt;
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(bound / 2, bound + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.omori.taskmanagement.service.task.utils;
+
+import com.omori.taskmanagement.model.project.Category;
+import com.omori.taskmanagement.model.project.Workspace;
+import com.omori.taskmanagement.model.usermgmt.User;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Resolves the users, categories and workspaces referenced by a write request.
+ *
+ * <p>IDs are batch-loaded with one {@code IN} query per type and memoised for the
+ * current transaction, including IDs that were not found. Validation and relation
+ * setting therefore share one lookup instead of issuing {@code existsById} and
+ * {@code findById} for the same row. Outside a transaction nothing is memoised.</p>
+ */
+public interface ReferenceResolver {
+
+    /**
+     * Loads every not-yet-resolved ID in one query per type. Null IDs are ignored.
+     *
+     * @param userIds      referenced user IDs
+     * @param categoryIds  referenced category IDs
+     * @param workspaceIds referenced workspace IDs
+     */
+    void prefetch(Collection<Long> userIds, Collection<Long> categoryIds, Collection<Long> workspaceIds);
+
+    /**
+     * Finds a user, loading it only if it has not been resolved in this transaction.
+     *
+     * @param userId the user ID
+     * @return the user, or empty if it does not exist
+     */
+    Optional<User> findUser(Long userId);
+
+    /**
+     * Finds a category, loading it only if it has not been resolved in this transaction.
+     *
+     * @param categoryId the category ID
+     * @return the category, or empty if it does not exist
+     */
+    Optional<Category> findCategory(Long categoryId);
+
+    /**
+     * Finds a workspace, loading it only if it has not been resolved in this transaction.
+     *
+     * @param workspaceId the workspace ID
+     * @return the workspace, or empty if it does not exist
+     */
+    Optional<Workspace> findWorkspace(Long workspaceId);
+}
@@ -0,0 +1,115 @@
+package com.omori.taskmanagement.service.task.utils;
+
+import com.omori.taskmanagement.model.project.Category;
+import com.omori.taskmanagement.model.project.Workspace;
+import com.omori.taskmanagement.model.usermgmt.User;
+import com.omori.taskmanagement.repository.project.CategoryRepository;
+import com.omori.taskmanagement.repository.project.WorkspaceRepository;
+import com.omori.taskmanagement.repository.usermgmt.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReferenceResolverImpl implements ReferenceResolver {
+
+    private final UserRepository userRepository;
+    private final CategoryRepository categoryRepository;
+    private final WorkspaceRepository workspaceRepository;
+
+    /**
+     * Per-transaction memo; a missing ID is stored as {@code Optional.empty()} so it is not queried twice.
+     */
+    private static final class References {
+        private final Map<Long, Optional<User>> users = new HashMap<>();
+        private final Map<Long, Optional<Category>> categories = new HashMap<>();
+        private final Map<Long, Optional<Workspace>> workspaces = new HashMap<>();
+    }
+
+    @Override
+    public void prefetch(Collection<Long> userIds, Collection<Long> categoryIds, Collection<Long> workspaceIds) {
+        References references = currentReferences();
+        load(references.users, userIds, userRepository::findAllById, User::getId);
+        load(references.categories, categoryIds, categoryRepository::findAllById, Category::getId);
+        load(references.workspaces, workspaceIds, workspaceRepository::findAllById, Workspace::getId);
+    }
+
+    @Override
+    public Optional<User> findUser(Long userId) {
+        return find(currentReferences().users, userId, userRepository::findAllById, User::getId);
+    }
+
+    @Override
+    public Optional<Category> findCategory(Long categoryId) {
+        return find(currentReferences().categories, categoryId, categoryRepository::findAllById, Category::getId);
+    }
+
+    @Override
+    public Optional<Workspace> findWorkspace(Long workspaceId) {
+        return find(currentReferences().workspaces, workspaceId, workspaceRepository::findAllById, Workspace::getId);
+    }
+
+    /*
+    ========== HELPER METHODS ==========
+    */
+
+    private <T> Optional<T> find(Map<Long, Optional<T>> memo, Long id,
+                                 Function<Set<Long>, List<T>> loader, Function<T, Long> idOf) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        load(memo, List.of(id), loader, idOf);
+        return memo.get(id);
+    }
+
+    private <T> void load(Map<Long, Optional<T>> memo, Collection<Long> ids,
+                          Function<Set<Long>, List<T>> loader, Function<T, Long> idOf) {
+        if (ids == null || ids.isEmpty()) {
+            return;
+        }
+        Set<Long> missing = ids.stream()
+                .filter(Objects::nonNull)
+                .filter(id -> !memo.containsKey(id))
+                .collect(Collectors.toSet());
+        if (missing.isEmpty()) {
+            return;
+        }
+        Map<Long, T> loaded = loader.apply(missing).stream()
+                .collect(Collectors.toMap(idOf, Function.identity()));
+        missing.forEach(id -> memo.put(id, Optional.ofNullable(loaded.get(id))));
+        log.debug("Resolved {} of {} referenced ids in one query", loaded.size(), missing.size());
+    }
+
+    private References currentReferences() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return new References();
+        }
+        References references = (References) TransactionSynchronizationManager.getResource(this);
+        if (references == null) {
+            References bound = new References();
+            TransactionSynchronizationManager.bindResource(this, bound);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ReferenceResolverImpl.this);
+                }
+            });
+            references = bound;
+        }
+        return references;
+    }
+}
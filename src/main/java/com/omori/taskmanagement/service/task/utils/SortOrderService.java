@@ -0,0 +1,86 @@
+package com.omori.taskmanagement.service.task.utils;
+
+import java.util.List;
+
+/**
+ * Allocates and maintains gap-based sort keys for child tasks and subtasks.
+ *
+ * <p>Keys are handed out from per-parent counters stored on the parent row
+ * ({@code child_sort_seq} / {@code subtask_sort_seq}) with a single atomic
+ * {@code UPDATE ... RETURNING}, so concurrent creates never read {@code MAX()}
+ * and never receive the same key. Moves write only the moved row, using the
+ * midpoint between its new neighbours; when no key is left between them, the
+ * siblings are rebalanced under a row lock on the parent.</p>
+ */
+public interface SortOrderService {
+
+    /**
+     * Reserves the sort key for a new child appended under a parent task.
+     *
+     * @param parentTaskId the parent task ID
+     * @return the reserved key
+     */
+    Integer nextChildSortOrder(Long parentTaskId);
+
+    /**
+     * Reserves {@code count} increasing sort keys for children appended under a parent task.
+     *
+     * @param parentTaskId the parent task ID
+     * @param count        number of keys to reserve
+     * @return reserved keys in ascending order
+     */
+    List<Integer> nextChildSortOrders(Long parentTaskId, int count);
+
+    /**
+     * Reserves the sort key for a new subtask appended to a task.
+     *
+     * @param taskId the owning task ID
+     * @return the reserved key
+     */
+    Integer nextSubtaskSortOrder(Long taskId);
+
+    /**
+     * Reserves {@code count} increasing sort keys for subtasks appended to a task.
+     *
+     * @param taskId the owning task ID
+     * @param count  number of keys to reserve
+     * @return reserved keys in ascending order
+     */
+    List<Integer> nextSubtaskSortOrders(Long taskId, int count);
+
+    /**
+     * Moves a child task directly after {@code previousTaskId} (or to the head when null),
+     * writing only the moved row unless a rebalance is needed.
+     *
+     * @param parentTaskId   the parent task ID
+     * @param taskId         the child task being moved
+     * @param previousTaskId the sibling that should precede it, or null for the first position
+     * @return the new sort key of the moved task
+     */
+    Integer moveChildTaskAfter(Long parentTaskId, Long taskId, Long previousTaskId);
+
+    /**
+     * Moves a subtask directly after {@code previousSubtaskId} (or to the head when null),
+     * writing only the moved row unless a rebalance is needed.
+     *
+     * @param taskId            the owning task ID
+     * @param subtaskId         the subtask being moved
+     * @param previousSubtaskId the sibling that should precede it, or null for the first position
+     * @return the new sort key of the moved subtask
+     */
+    Integer moveSubtaskAfter(Long taskId, Long subtaskId, Long previousSubtaskId);
+
+    /**
+     * Re-spaces the children of a parent task to evenly gapped keys and resets its counter.
+     *
+     * @param parentTaskId the parent task ID
+     */
+    void rebalanceChildTasks(Long parentTaskId);
+
+    /**
+     * Re-spaces the subtasks of a task to evenly gapped keys and resets its counter.
+     *
+     * @param taskId the owning task ID
+     */
+    void rebalanceSubtasks(Long taskId);
+}
@@ -0,0 +1,210 @@
+package com.omori.taskmanagement.service.task.utils;
+
+import com.omori.taskmanagement.exceptions.task.SubtaskNotFoundException;
+import com.omori.taskmanagement.exceptions.task.TaskBusinessException;
+import com.omori.taskmanagement.exceptions.task.TaskNotFoundException;
+import com.omori.taskmanagement.exceptions.task.TaskValidationException;
+import com.omori.taskmanagement.repository.project.SubtaskRepository;
+import com.omori.taskmanagement.repository.project.TaskRepository;
+import com.omori.taskmanagement.utils.SortKeyUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class SortOrderServiceImpl implements SortOrderService {
+
+    private final TaskRepository taskRepository;
+    private final SubtaskRepository subtaskRepository;
+
+    // Keep a single reservation well below the integer range so the counter guard cannot overflow
+    private static final int MAX_KEYS_PER_RESERVATION = 10_000;
+
+    @FunctionalInterface
+    private interface KeyReservation {
+        Integer reserve(Long parentId, int span, int limit);
+    }
+
+    @Override
+    @Transactional
+    public Integer nextChildSortOrder(Long parentTaskId) {
+        return nextChildSortOrders(parentTaskId, 1).get(0);
+    }
+
+    @Override
+    @Transactional
+    public List<Integer> nextChildSortOrders(Long parentTaskId, int count) {
+        return reserve(parentTaskId, count, taskRepository::reserveChildSortKeys, this::rebalanceChildTasks);
+    }
+
+    @Override
+    @Transactional
+    public Integer nextSubtaskSortOrder(Long taskId) {
+        return nextSubtaskSortOrders(taskId, 1).get(0);
+    }
+
+    @Override
+    @Transactional
+    public List<Integer> nextSubtaskSortOrders(Long taskId, int count) {
+        return reserve(taskId, count, taskRepository::reserveSubtaskSortKeys, this::rebalanceSubtasks);
+    }
+
+    @Override
+    @Transactional
+    public Integer moveChildTaskAfter(Long parentTaskId, Long taskId, Long previousTaskId) {
+        lockParent(parentTaskId);
+        if (Objects.equals(taskId, previousTaskId)) {
+            throw new TaskValidationException("Task cannot be placed after itself");
+        }
+        Integer currentKey = taskRepository.findSortOrderByIdAndParentTaskId(taskId, parentTaskId)
+                .orElseThrow(() -> new TaskNotFoundException(
+                        "Task " + taskId + " is not a child of task " + parentTaskId));
+
+        Integer newKey = childKeyAfter(parentTaskId, taskId, previousTaskId, currentKey);
+        if (newKey == null) {
+            rebalanceChildTasks(parentTaskId);
+            currentKey = taskRepository.findSortOrderByIdAndParentTaskId(taskId, parentTaskId).orElse(null);
+            newKey = childKeyAfter(parentTaskId, taskId, previousTaskId, currentKey);
+            if (newKey == null) {
+                throw new TaskBusinessException("Unable to allocate sort order under parent task " + parentTaskId);
+            }
+        }
+
+        if (!newKey.equals(currentKey)) {
+            taskRepository.updateSortOrder(taskId, newKey, LocalDateTime.now());
+        }
+        log.debug("Placed task {} after {} under parent {} with sort order {}",
+                taskId, previousTaskId, parentTaskId, newKey);
+        return newKey;
+    }
+
+    @Override
+    @Transactional
+    public Integer moveSubtaskAfter(Long taskId, Long subtaskId, Long previousSubtaskId) {
+        lockParent(taskId);
+        if (Objects.equals(subtaskId, previousSubtaskId)) {
+            throw new TaskValidationException("Subtask cannot be placed after itself");
+        }
+        Integer currentKey = subtaskRepository.findSortOrderByIdAndTaskId(subtaskId, taskId)
+                .orElseThrow(() -> new SubtaskNotFoundException(
+                        "Subtask " + subtaskId + " does not belong to task " + taskId));
+
+        Integer newKey = subtaskKeyAfter(taskId, subtaskId, previousSubtaskId, currentKey);
+        if (newKey == null) {
+            rebalanceSubtasks(taskId);
+            currentKey = subtaskRepository.findSortOrderByIdAndTaskId(subtaskId, taskId).orElse(null);
+            newKey = subtaskKeyAfter(taskId, subtaskId, previousSubtaskId, currentKey);
+            if (newKey == null) {
+                throw new TaskBusinessException("Unable to allocate subtask sort order for task " + taskId);
+            }
+        }
+
+        if (!newKey.equals(currentKey)) {
+            subtaskRepository.updateSortOrder(subtaskId, newKey, LocalDateTime.now());
+        }
+        log.debug("Placed subtask {} after {} in task {} with sort order {}",
+                subtaskId, previousSubtaskId, taskId, newKey);
+        return newKey;
+    }
+
+    @Override
+    @Transactional
+    public void rebalanceChildTasks(Long parentTaskId) {
+        lockParent(parentTaskId);
+        int respaced = taskRepository.respaceChildSortKeys(parentTaskId, SortKeyUtils.GAP, LocalDateTime.now());
+        taskRepository.resetSortSeq(parentTaskId);
+        log.info("Rebalanced sort order of {} child tasks under parent {}", respaced, parentTaskId);
+    }
+
+    @Override
+    @Transactional
+    public void rebalanceSubtasks(Long taskId) {
+        lockParent(taskId);
+        int respaced = taskRepository.respaceSubtaskSortKeys(taskId, SortKeyUtils.GAP, LocalDateTime.now());
+        taskRepository.resetSortSeq(taskId);
+        log.info("Rebalanced sort order of {} subtasks for task {}", respaced, taskId);
+    }
+
+    /*
+    ========== HELPER METHODS ==========
+    */
+
+    private List<Integer> reserve(Long parentId, int count, KeyReservation reservation,
+                                  Consumer<Long> rebalance) {
+        if (count <= 0) {
+            return List.of();
+        }
+        if (count > MAX_KEYS_PER_RESERVATION) {
+            throw new TaskValidationException("Cannot reserve more than " + MAX_KEYS_PER_RESERVATION
+                    + " sort orders at once");
+        }
+        int span = SortKeyUtils.GAP * count;
+        int limit = Integer.MAX_VALUE - span;
+
+        Integer last = reservation.reserve(parentId, span, limit);
+        if (last == null) {
+            // Either the parent row is missing (rebalance throws) or the key space is exhausted
+            rebalance.accept(parentId);
+            last = reservation.reserve(parentId, span, limit);
+            if (last == null) {
+                throw new TaskBusinessException("Sort order space exhausted for task " + parentId);
+            }
+        }
+
+        List<Integer> keys = new ArrayList<>(count);
+        for (int i = count - 1; i >= 0; i--) {
+            keys.add(last - SortKeyUtils.GAP * i);
+        }
+        return keys;
+    }
+
+    private Integer childKeyAfter(Long parentTaskId, Long taskId, Long previousTaskId, Integer currentKey) {
+        Integer previousKey = previousTaskId == null ? null
+                : taskRepository.findSortOrderByIdAndParentTaskId(previousTaskId, parentTaskId)
+                        .orElseThrow(() -> new TaskNotFoundException(
+                                "Task " + previousTaskId + " is not a child of task " + parentTaskId));
+        Integer nextKey = taskRepository.findNextChildSortOrderAfter(parentTaskId,
+                previousKey != null ? previousKey : Integer.MIN_VALUE, taskId);
+        return keyBetween(previousKey, nextKey, currentKey, () -> nextChildSortOrder(parentTaskId));
+    }
+
+    private Integer subtaskKeyAfter(Long taskId, Long subtaskId, Long previousSubtaskId, Integer currentKey) {
+        Integer previousKey = previousSubtaskId == null ? null
+                : subtaskRepository.findSortOrderByIdAndTaskId(previousSubtaskId, taskId)
+                        .orElseThrow(() -> new SubtaskNotFoundException(
+                                "Subtask " + previousSubtaskId + " does not belong to task " + taskId));
+        Integer nextKey = subtaskRepository.findNextSortOrderAfter(taskId,
+                previousKey != null ? previousKey : Integer.MIN_VALUE, subtaskId);
+        return keyBetween(previousKey, nextKey, currentKey, () -> nextSubtaskSortOrder(taskId));
+    }
+
+    private Integer keyBetween(Integer previousKey, Integer nextKey, Integer currentKey,
+                               Supplier<Integer> appendKey) {
+        boolean afterPrevious = currentKey != null && (previousKey == null || currentKey > previousKey);
+        boolean beforeNext = currentKey != null && (nextKey == null || currentKey < nextKey);
+        if (afterPrevious && beforeNext) {
+            // Already in place, nothing to write
+            return currentKey;
+        }
+        if (nextKey == null) {
+            return appendKey.get();
+        }
+        return SortKeyUtils.between(previousKey, nextKey);
+    }
+
+    private void lockParent(Long taskId) {
+        if (taskRepository.lockForSortOrdering(taskId) == null) {
+            throw new TaskNotFoundException("Task not found with ID: " + taskId);
+        }
+    }
+}
@@ -2,7 +2,27 @@ package com.omori.taskmanagement.service.task.utils;
 
 import com.omori.taskmanagement.model.project.Task;
 
+/**
+ * Decides what a user may do with a task. The owner has {@link AccessLevel#OWNER} and the
+ * assignee {@link AccessLevel#EDIT}; collaborators and members or owners of the task's workspace
+ * get the level of their role, looked up in the {@link TaskPermissionIndex}.
+ */
 public interface TaskAccessControlService {
 
+    /**
+     * Requires at least {@link AccessLevel#VIEW}.
+     */
     void validateTaskAccess(Task task, Long userId);
+
+    void validateTaskAccess(Task task, Long userId, AccessLevel required);
+
+    boolean canAccess(Task task, Long userId);
+
+    AccessLevel accessLevel(Task task, Long userId);
+
+    /**
+     * Requires the user to own the workspace or be one of its members, which grants at least
+     * {@link AccessLevel#VIEW} on all of its tasks.
+     */
+    void validateWorkspaceAccess(Long workspaceId, Long userId);
 }
@@ -2,7 +2,6 @@ package com.omori.taskmanagement.service.task.utils;
 
 import com.omori.taskmanagement.exceptions.task.TaskAccessDeniedException;
 import com.omori.taskmanagement.model.project.Task;
-import com.omori.taskmanagement.repository.project.TaskRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -12,19 +11,54 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class TaskAccessControlServiceImpl implements TaskAccessControlService{
 
-    private final TaskRepository taskRepository;
+    private final TaskPermissionIndex permissionIndex;
 
     @Override
     public void validateTaskAccess(Task task, Long userId) {
+        validateTaskAccess(task, userId, AccessLevel.VIEW);
+    }
+
+    @Override
+    public void validateTaskAccess(Task task, Long userId, AccessLevel required) {
         if(task == null){
             return;
         }
         if( userId == null ){
             throw new IllegalArgumentException("User ID must be provided to validate access");
         }
-        if((task.getUser() == null || !task.getUser().getId().equals(userId)) &&
-                (task.getAssignedTo() == null || !task.getAssignedTo().getId().equals(userId))) {
-            throw new TaskAccessDeniedException("Access denied user" + userId + " with task id: " + task);
+        if(!accessLevel(task, userId).allows(required)) {
+            throw new TaskAccessDeniedException("Access denied user" + userId + " with task id: " + task.getId());
+        }
+    }
+
+    @Override
+    public boolean canAccess(Task task, Long userId) {
+        return accessLevel(task, userId).allows(AccessLevel.VIEW);
+    }
+
+    @Override
+    public AccessLevel accessLevel(Task task, Long userId) {
+        if (task == null || userId == null) {
+            return AccessLevel.NONE;
+        }
+        // Owner and assignee are on the task row itself, no lookup needed
+        if (task.getUser() != null && userId.equals(task.getUser().getId())) {
+            return AccessLevel.OWNER;
+        }
+        if (task.getAssignedTo() != null && userId.equals(task.getAssignedTo().getId())) {
+            return AccessLevel.EDIT;
+        }
+        Long workspaceId = task.getWorkspace() != null ? task.getWorkspace().getId() : null;
+        return permissionIndex.grantedLevel(userId, task.getId(), workspaceId);
+    }
+
+    @Override
+    public void validateWorkspaceAccess(Long workspaceId, Long userId) {
+        if( userId == null ){
+            throw new IllegalArgumentException("User ID must be provided to validate access");
+        }
+        if (!permissionIndex.grantedWorkspaceLevel(userId, workspaceId).allows(AccessLevel.VIEW)) {
+            throw new TaskAccessDeniedException("Access denied user" + userId + " with workspace id: " + workspaceId);
         }
     }
 }
@@ -0,0 +1,227 @@
+package com.omori.taskmanagement.service.task.utils;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-user index of the tasks shared with a user and the workspaces the user belongs to or owns,
+ * kept as one Redis hash per user.
+ *
+ * <p>The hash holds a field per shared task ({@code t:<taskId>}) and per workspace
+ * ({@code w:<workspaceId>}) with the granted {@link AccessLevel}, plus a marker field so an empty
+ * index is distinguishable from a missing one. A check is a single {@code HMGET}; a miss seeds the
+ * whole index from one database query.</p>
+ *
+ * <p>Membership changes call {@link #invalidate(Collection)}, which bumps a per-user generation
+ * and drops the index. A seed only writes if the generation it read before querying the database
+ * is still current, so a seed racing a revocation cannot bring the revoked grant back. When Redis
+ * is unavailable checks go straight to the database.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskPermissionIndex {
+
+    private static final String KEY_PREFIX = "access:index:";
+
+    private static final String GENERATION_PREFIX = "access:generation:";
+
+    private static final String SEEDED = "_";
+
+    private static final Duration TTL = Duration.ofHours(1);
+
+    // Must outlive any index seeded under it, see SEED
+    private static final Duration GENERATION_TTL = Duration.ofDays(1);
+
+    // Users shared on more than this are checked against the database instead of cached
+    private static final int MAX_ENTRIES = 10_000;
+
+    private static final String GRANTS = """
+            SELECT 't' AS kind, tc.task_id AS target_id, tc.role
+            FROM collaboration.task_collaborators tc
+            WHERE tc.user_id = ? AND tc.deleted_at IS NULL %s
+            UNION ALL
+            SELECT 'w', wm.workspace_id, wm.role
+            FROM project.workspace_members wm
+            WHERE wm.user_id = ? %s
+            UNION ALL
+            SELECT 'o', w.workspace_id, NULL
+            FROM project.workspaces w
+            WHERE w.owner_id = ? AND w.deleted_at IS NULL %s
+            """;
+
+    private static final String LOAD_GRANTS = GRANTS.formatted("", "", "");
+
+    private static final String FIND_GRANTS = GRANTS.formatted(
+            "AND tc.task_id = ?", "AND wm.workspace_id = ?", "AND w.workspace_id = ?");
+
+    // Replace the index only if no invalidation happened since ARGV[1] was read
+    private static final RedisScript<Long> SEED = new DefaultRedisScript<>(
+            "if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then return 0 end "
+                    + "redis.call('DEL', KEYS[1]) "
+                    + "redis.call('HSET', KEYS[1], unpack(ARGV, 3)) "
+                    + "redis.call('EXPIRE', KEYS[1], ARGV[2]) "
+                    + "return 1",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Access granted to a user on a task through sharing or workspace membership. Ownership and
+     * assignment are not part of the index; callers check those on the task itself.
+     *
+     * @param userId      the user
+     * @param taskId      the task
+     * @param workspaceId the task's workspace, or null
+     * @return the highest level granted by the task's collaborators or its workspace
+     */
+    public AccessLevel grantedLevel(Long userId, Long taskId, Long workspaceId) {
+        return lookup(userId, taskId, workspaceId);
+    }
+
+    /**
+     * Access granted to a user on a workspace as its owner or a member.
+     */
+    public AccessLevel grantedWorkspaceLevel(Long userId, Long workspaceId) {
+        return lookup(userId, null, workspaceId);
+    }
+
+    private AccessLevel lookup(Long userId, Long taskId, Long workspaceId) {
+        String key = KEY_PREFIX + userId;
+        List<Object> fields = new ArrayList<>(3);
+        fields.add(SEEDED);
+        if (taskId != null) {
+            fields.add(taskField(taskId));
+        }
+        if (workspaceId != null) {
+            fields.add(workspaceField(workspaceId));
+        }
+
+        String generation;
+        try {
+            List<Object> values = redisTemplate.opsForHash().multiGet(key, fields);
+            if (values.get(0) != null) {
+                AccessLevel level = AccessLevel.NONE;
+                for (int i = 1; i < values.size(); i++) {
+                    level = AccessLevel.max(level, parse(values.get(i)));
+                }
+                return level;
+            }
+            generation = redisTemplate.opsForValue().get(GENERATION_PREFIX + userId);
+        } catch (DataAccessException e) {
+            log.warn("Permission index unavailable for user {}: {}", userId, e.getMessage());
+            return findGrantedLevel(userId, taskId, workspaceId);
+        }
+
+        Map<String, AccessLevel> grants = loadGrants(userId);
+        if (grants.size() <= MAX_ENTRIES) {
+            seed(userId, generation == null ? "0" : generation, grants);
+        }
+        AccessLevel level = taskId == null ? AccessLevel.NONE : grants.getOrDefault(taskField(taskId), AccessLevel.NONE);
+        return workspaceId == null
+                ? level
+                : AccessLevel.max(level, grants.getOrDefault(workspaceField(workspaceId), AccessLevel.NONE));
+    }
+
+    /**
+     * Drops the indexes of users whose memberships changed. Call after the change is committed.
+     */
+    public void invalidate(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) {
+                    for (Long userId : userIds) {
+                        operations.opsForValue().increment(GENERATION_PREFIX + userId);
+                        operations.expire(GENERATION_PREFIX + userId, GENERATION_TTL);
+                        operations.delete(KEY_PREFIX + userId);
+                    }
+                    return null;
+                }
+            });
+        } catch (DataAccessException e) {
+            // Entries still expire after TTL; nothing else can be done without Redis
+            log.error("Could not invalidate permission index of users {}: {}", userIds, e.getMessage());
+        }
+    }
+
+    private Map<String, AccessLevel> loadGrants(Long userId) {
+        Map<String, AccessLevel> grants = new HashMap<>();
+        jdbcTemplate.query(LOAD_GRANTS, rs -> {
+            String field = field(rs.getString("kind"), rs.getLong("target_id"));
+            grants.merge(field, level(rs.getString("kind"), rs.getString("role")), AccessLevel::max);
+        }, userId, userId, userId);
+        return grants;
+    }
+
+    private AccessLevel findGrantedLevel(Long userId, Long taskId, Long workspaceId) {
+        // ID -1 matches nothing, keeping a single statement when there is no task or workspace
+        long task = taskId == null ? -1L : taskId;
+        long workspace = workspaceId == null ? -1L : workspaceId;
+        List<AccessLevel> levels = jdbcTemplate.query(FIND_GRANTS,
+                (rs, rowNum) -> level(rs.getString("kind"), rs.getString("role")),
+                userId, task, userId, workspace, userId, workspace);
+        return levels.stream().reduce(AccessLevel.NONE, AccessLevel::max);
+    }
+
+    private void seed(Long userId, String generation, Map<String, AccessLevel> grants) {
+        List<String> args = new ArrayList<>(grants.size() * 2 + 4);
+        args.add(generation);
+        args.add(Long.toString(TTL.toSeconds()));
+        args.add(SEEDED);
+        args.add("1");
+        grants.forEach((field, level) -> {
+            args.add(field);
+            args.add(level.name());
+        });
+        try {
+            redisTemplate.execute(SEED, List.of(KEY_PREFIX + userId, GENERATION_PREFIX + userId), args.toArray());
+        } catch (DataAccessException e) {
+            log.warn("Could not seed permission index for user {}: {}", userId, e.getMessage());
+        }
+    }
+
+    private static AccessLevel level(String kind, String role) {
+        return switch (kind) {
+            case "t" -> AccessLevel.ofCollaboratorRole(role);
+            case "w" -> AccessLevel.ofWorkspaceRole(role);
+            default -> AccessLevel.EDIT; // workspace owner
+        };
+    }
+
+    private static AccessLevel parse(Object value) {
+        return value == null ? AccessLevel.NONE : AccessLevel.valueOf(value.toString());
+    }
+
+    private static String field(String kind, long id) {
+        return "t".equals(kind) ? taskField(id) : workspaceField(id);
+    }
+
+    private static String taskField(long taskId) {
+        return "t:" + taskId;
+    }
+
+    private static String workspaceField(long workspaceId) {
+        return "w:" + workspaceId;
+    }
+}
@@ -4,9 +4,20 @@ import com.omori.taskmanagement.dto.project.task.creation.BaseTaskCreateRequest;
 import com.omori.taskmanagement.exceptions.task.TaskValidationException;
 import com.omori.taskmanagement.model.project.Task;
 
+import java.time.LocalDateTime;
+import java.util.Map;
+
 public interface TaskValidationService {
 
     void validateCreateTaskRequest(BaseTaskCreateRequest request, Long userId);
+
+    /**
+     * Checks start/due dates without touching the database.
+     * @param startDate the start date, may be null
+     * @param dueDate the due date, may be null
+     * @return map of field name to error message, empty when the dates are valid
+     */
+    Map<String, String> validateDateRange(LocalDateTime startDate, LocalDateTime dueDate);
     void validateTaskStatusUpdate(Task.TaskStatus currentStatus, Task.TaskStatus newStatus);
     void validateTaskProgress(Integer currentProgress, Integer newProgress, Task.TaskStatus status);
     void validateHierarchyRules(Long epicId, Long storyId);
@@ -3,14 +3,13 @@ package com.omori.taskmanagement.service.task.utils;
 import com.omori.taskmanagement.dto.project.task.creation.BaseTaskCreateRequest;
 import com.omori.taskmanagement.exceptions.task.TaskValidationException;
 import com.omori.taskmanagement.model.project.Task;
-import com.omori.taskmanagement.repository.project.CategoryRepository;
-import com.omori.taskmanagement.repository.project.WorkspaceRepository;
-import com.omori.taskmanagement.repository.usermgmt.UserRepository;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -21,9 +20,7 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class TaskValidationServiceImpl implements TaskValidationService{
     
-    private final UserRepository userRepository;
-    private final CategoryRepository categoryRepository;
-    private final WorkspaceRepository workspaceRepository;
+    private final ReferenceResolver referenceResolver;
 
     public void validateCreateTaskRequest(BaseTaskCreateRequest request, Long userId) {
         log.debug("Validating create task request for user {}", userId);
@@ -33,9 +30,15 @@ public class TaskValidationServiceImpl implements TaskValidationService{
         }
 
         Map<String,String> errors = new HashMap<>();
-        
+
+        // Load every referenced row once; relation setting reuses the same results
+        referenceResolver.prefetch(
+                Arrays.asList(userId, request.getAssignedToId()),
+                Collections.singletonList(request.getCategoryId()),
+                Collections.singletonList(request.getWorkspaceId()));
+
         // Validate user exists
-        if (!userRepository.existsById(userId)){
+        if (referenceResolver.findUser(userId).isEmpty()){
             errors.put("userId", "User not found");
         }
 
@@ -46,17 +49,17 @@ public class TaskValidationServiceImpl implements TaskValidationService{
         // validateStatusProgressConsistency(request.getStatus(), request.getProgress(), errors);
 
         // Validate category
-        if( request.getCategoryId() != null && !categoryRepository.existsById(request.getCategoryId()) ) {
+        if( request.getCategoryId() != null && referenceResolver.findCategory(request.getCategoryId()).isEmpty() ) {
             errors.put("categoryId", "Category not found with id: " + request.getCategoryId());
         }
 
         // Validate assigned user
-        if(request.getAssignedToId() != null && !userRepository.existsById(request.getAssignedToId()) ) {
+        if(request.getAssignedToId() != null && referenceResolver.findUser(request.getAssignedToId()).isEmpty() ) {
             errors.put("assignedToId", "User not found with id: " + request.getAssignedToId());
         }
 
         // Validate workspace
-        if(request.getWorkspaceId() != null && !workspaceRepository.existsById(request.getWorkspaceId()) ) {
+        if(request.getWorkspaceId() != null && referenceResolver.findWorkspace(request.getWorkspaceId()).isEmpty() ) {
             errors.put("workspaceId", "Workspace not found with id: " + request.getWorkspaceId());
         }
 
@@ -82,6 +85,13 @@ public class TaskValidationServiceImpl implements TaskValidationService{
         log.debug("Task validation successfully for user {}", userId);
     }
 
+    @Override
+    public Map<String, String> validateDateRange(LocalDateTime startDate, LocalDateTime dueDate) {
+        Map<String, String> errors = new HashMap<>();
+        validateDates(startDate, dueDate, errors);
+        return errors;
+    }
+
     public void validateTaskStatusUpdate(Task.TaskStatus currentStatus, Task.TaskStatus newStatus) {
         log.debug("Validating status update from {} to {}", currentStatus, newStatus);
         
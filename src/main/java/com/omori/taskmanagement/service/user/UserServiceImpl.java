@@ -10,11 +10,9 @@ import com.omori.taskmanagement.model.usermgmt.User;
 import com.omori.taskmanagement.model.usermgmt.UserStatus;
 import com.omori.taskmanagement.model.usermgmt.Role;
 import com.omori.taskmanagement.model.usermgmt.Profile;
-import com.omori.taskmanagement.model.usermgmt.Session;
 import com.omori.taskmanagement.repository.usermgmt.RoleRepository;
 import com.omori.taskmanagement.repository.usermgmt.UserRepository;
 import com.omori.taskmanagement.repository.usermgmt.ProfileRepository;
-import com.omori.taskmanagement.repository.usermgmt.UserSessionRepository;
 import org.springframework.transaction.annotation.Transactional;
 import com.omori.taskmanagement.security.dto.AuthenticatedUserDto;
 import com.omori.taskmanagement.dto.usermgmt.RegistrationRequest;
@@ -34,7 +32,6 @@ public class UserServiceImpl implements UserService {
 	private final RoleRepository roleRepository;
 	private final UserMapper mapper;
 	private final ProfileRepository profileRepository;
-	private final UserSessionRepository sessionRepository;
 
 	@Override
 	public User findByUsername(String username) {
@@ -75,15 +72,6 @@ public class UserServiceImpl implements UserService {
 		user.setProfile(profile);
 		userRepository.save(user);
 
-		// Create and save Session for the new user
-		Session session = Session.builder()
-			.sessionId(java.util.UUID.randomUUID().toString())
-			.user(user)
-			.expiresAt(java.time.LocalDateTime.now().plusDays(1)) // 1 day expiry, adjust as needed
-			.createdAt(java.time.LocalDateTime.now())
-			.build();
-		sessionRepository.save(session);
-
 		final String username = registrationRequest.getUsername();
 		final String registrationSuccessMessage = generalMessageAccessor.getMessage(null, REGISTRATION_SUCCESSFUL, username);
 
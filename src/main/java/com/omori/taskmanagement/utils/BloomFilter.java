@@ -0,0 +1,76 @@
+package com.omori.taskmanagement.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe Bloom filter over strings.
+ *
+ * <p>{@link #mightContain} never returns {@code false} for a value that was added, so a
+ * negative answer can skip a remote lookup entirely. Values cannot be removed; callers
+ * that need entries to age out rebuild a fresh filter and swap it in.</p>
+ */
+public final class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final int bitCount;
+    private final int hashCount;
+
+    /**
+     * @param expectedInsertions number of values the filter is sized for
+     * @param falsePositiveRate  target false-positive probability at that size, e.g. {@code 0.01}
+     */
+    public BloomFilter(int expectedInsertions, double falsePositiveRate) {
+        int n = Math.max(1, expectedInsertions);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitCount = (int) Math.max(64, Math.min(m, Integer.MAX_VALUE - 63));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+        this.bits = new AtomicLongArray((bitCount + 63) / 64);
+    }
+
+    public void put(String value) {
+        long hash = hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            int bit = Math.floorMod(h1 + i * h2, bitCount);
+            int word = bit >>> 6;
+            long mask = 1L << bit;
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    public boolean mightContain(String value) {
+        long hash = hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            int bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((bits.get(bit >>> 6) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 64-bit FNV-1a followed by a murmur3 finaliser for better bit dispersion
+    private static long hash64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb93fe53aa34fL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
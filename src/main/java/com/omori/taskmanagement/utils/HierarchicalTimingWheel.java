@@ -0,0 +1,147 @@
+package com.omori.taskmanagement.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel for many timers with coarse (tick-sized) precision.
+ *
+ * <p>Adding a timer and expiring a tick's worth of timers cost O(1) regardless of how many
+ * timers are pending. The first wheel has {@code wheelSize} slots of {@code tickMillis};
+ * deadlines past its span go to an overflow wheel whose tick is the span of the wheel below,
+ * created on demand. When the clock reaches an overflow slot, its timers cascade down to the
+ * finer wheels.</p>
+ *
+ * <p>Deadlines are rounded up to the next tick, so a timer never fires before its deadline
+ * and at most one tick after it (plus however late {@link #advanceTo} is called).
+ * Not thread-safe: one thread adds and advances.</p>
+ *
+ * @param <T> the scheduled item
+ */
+public final class HierarchicalTimingWheel<T> {
+
+    private final long tickMillis;
+    private final Wheel<T> wheel;
+    private long currentTime;
+    private int size;
+
+    /**
+     * @param tickMillis  precision of the wheel
+     * @param wheelSize   slots per wheel level
+     * @param startMillis initial clock time
+     */
+    public HierarchicalTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0 || wheelSize <= 1) {
+            throw new IllegalArgumentException("tickMillis must be positive and wheelSize greater than 1");
+        }
+        this.tickMillis = tickMillis;
+        this.currentTime = startMillis - Math.floorMod(startMillis, tickMillis);
+        this.wheel = new Wheel<>(tickMillis, wheelSize);
+    }
+
+    /**
+     * Schedules {@code item} for {@code deadlineMillis}.
+     *
+     * @return false if the deadline has already been reached, in which case the caller
+     *         should handle the item immediately
+     */
+    public boolean add(T item, long deadlineMillis) {
+        long expiration = roundUp(deadlineMillis);
+        if (expiration <= currentTime) {
+            return false;
+        }
+        wheel.add(new Entry<>(item, expiration), currentTime);
+        size++;
+        return true;
+    }
+
+    /**
+     * Moves the clock forward to {@code nowMillis}, handing every timer that expires on the way
+     * to {@code expired} in deadline order (by tick).
+     */
+    public void advanceTo(long nowMillis, Consumer<T> expired) {
+        while (currentTime + tickMillis <= nowMillis) {
+            currentTime += tickMillis;
+            List<Entry<T>> due = new ArrayList<>();
+            wheel.expire(currentTime, due);
+            for (Entry<T> entry : due) {
+                if (entry.expiration <= currentTime) {
+                    size--;
+                    expired.accept(entry.item);
+                } else {
+                    // Cascaded from a coarser wheel, not due yet at this precision
+                    wheel.add(entry, currentTime);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the number of scheduled timers
+     */
+    public int size() {
+        return size;
+    }
+
+    private long roundUp(long millis) {
+        long remainder = Math.floorMod(millis, tickMillis);
+        return remainder == 0 ? millis : millis - remainder + tickMillis;
+    }
+
+    private record Entry<T>(T item, long expiration) {
+    }
+
+    private static final class Wheel<T> {
+
+        private final long tick;
+        private final long span;
+        private final List<Entry<T>>[] slots;
+        private Wheel<T> overflow;
+
+        @SuppressWarnings("unchecked")
+        Wheel(long tick, int wheelSize) {
+            this.tick = tick;
+            this.span = tick > Long.MAX_VALUE / wheelSize ? Long.MAX_VALUE : tick * wheelSize;
+            this.slots = new List[wheelSize];
+        }
+
+        void add(Entry<T> entry, long now) {
+            long start = now - Math.floorMod(now, tick);
+            if (span != Long.MAX_VALUE && entry.expiration - start >= span) {
+                if (overflow == null) {
+                    overflow = new Wheel<>(span, slots.length);
+                }
+                overflow.add(entry, now);
+                return;
+            }
+            int index = slot(entry.expiration);
+            if (slots[index] == null) {
+                slots[index] = new ArrayList<>();
+            }
+            slots[index].add(entry);
+        }
+
+        /**
+         * Collects the slot of every level that starts exactly at {@code now}, coarsest first.
+         */
+        void expire(long now, List<Entry<T>> due) {
+            if (Math.floorMod(now, tick) != 0) {
+                return;
+            }
+            if (overflow != null) {
+                overflow.expire(now, due);
+            }
+            int index = slot(now);
+            List<Entry<T>> slot = slots[index];
+            if (slot != null && !slot.isEmpty()) {
+                due.addAll(slot);
+                slots[index] = null;
+            }
+        }
+
+        private int slot(long time) {
+            return (int) Math.floorMod(Math.floorDiv(time, tick), (long) slots.length);
+        }
+    }
+}
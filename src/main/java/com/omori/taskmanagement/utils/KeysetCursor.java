@@ -0,0 +1,46 @@
+package com.omori.taskmanagement.utils;
+
+import com.omori.taskmanagement.exceptions.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position after the last row of a keyset page ordered by creation time and ID, encoded for
+ * clients as URL-safe Base64 of {@code createdAt|id}.
+ *
+ * @param createdAt creation time of the last row of the previous page
+ * @param id        ID of the last row of the previous page
+ */
+public record KeysetCursor(LocalDateTime createdAt, Long id) {
+
+    // Sort after / before every real row, so the first page needs no separate query
+    private static final KeysetCursor NEWEST = new KeysetCursor(LocalDateTime.of(9999, 12, 31, 23, 59), Long.MAX_VALUE);
+    private static final KeysetCursor OLDEST = new KeysetCursor(LocalDateTime.of(1, 1, 1, 0, 0), 0L);
+
+    /**
+     * @param cursor    the client's cursor, or null/blank for the first page
+     * @param ascending whether the pages run oldest first
+     * @throws InvalidCursorException if the cursor cannot be decoded
+     */
+    public static KeysetCursor decode(String cursor, boolean ascending) {
+        if (cursor == null || cursor.isBlank()) {
+            return ascending ? OLDEST : NEWEST;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            return new KeysetCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new InvalidCursorException("Invalid page cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,131 @@
+package com.omori.taskmanagement.utils;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * SQL statements executed on behalf of one {@link RequestContext}.
+ *
+ * <p>Statements are counted and timed as a whole, per repository method that issued them
+ * (see {@link #enterRepository}) and per statement shape. The shape is the SQL with literals
+ * and {@code IN} lists collapsed, so the same query issued once per row of a result shows up as
+ * one shape with a high count, which is the signature of an N+1 access pattern.</p>
+ */
+public final class QueryStats {
+
+    public static final String UNATTRIBUTED = "none";
+
+    private static final int MAX_SHAPES = 256;
+    private static final int MAX_CACHED_SHAPES = 2_048;
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    // Hibernate reuses a small set of SQL strings, so normalising each one once is enough
+    private static final Map<String, String> SHAPE_CACHE = new ConcurrentHashMap<>();
+
+    private static final ThreadLocal<String> REPOSITORY_METHOD = new ThreadLocal<>();
+
+    private final LongAdder statements = new LongAdder();
+    private final LongAdder nanos = new LongAdder();
+    private final Map<String, LongAdder> shapes = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> repositoryMethods = new ConcurrentHashMap<>();
+
+    /**
+     * Attributes statements run by the current thread to {@code repositoryMethod} until the
+     * returned value is passed back to {@link #exitRepository}.
+     *
+     * @return the previous attribution
+     */
+    public static String enterRepository(String repositoryMethod) {
+        String previous = REPOSITORY_METHOD.get();
+        REPOSITORY_METHOD.set(repositoryMethod);
+        return previous;
+    }
+
+    public static void exitRepository(String previous) {
+        if (previous != null) {
+            REPOSITORY_METHOD.set(previous);
+        } else {
+            REPOSITORY_METHOD.remove();
+        }
+    }
+
+    public void record(String sql, long elapsedNanos) {
+        statements.increment();
+        nanos.add(elapsedNanos);
+        String repositoryMethod = REPOSITORY_METHOD.get();
+        repositoryMethods.computeIfAbsent(repositoryMethod != null ? repositoryMethod : UNATTRIBUTED,
+                key -> new LongAdder()).increment();
+        if (sql != null) {
+            String shape = shapeOf(sql);
+            LongAdder count = shapes.get(shape);
+            if (count == null && shapes.size() < MAX_SHAPES) {
+                count = shapes.computeIfAbsent(shape, key -> new LongAdder());
+            }
+            if (count != null) {
+                count.increment();
+            }
+        }
+    }
+
+    public long getStatementCount() {
+        return statements.sum();
+    }
+
+    public long getTotalNanos() {
+        return nanos.sum();
+    }
+
+    /**
+     * @return statement count per repository method, {@link #UNATTRIBUTED} for statements issued
+     *         outside a repository call (flushes, JdbcTemplate)
+     */
+    public Map<String, Long> byRepositoryMethod() {
+        Map<String, Long> snapshot = new LinkedHashMap<>();
+        repositoryMethods.forEach((method, count) -> snapshot.put(method, count.sum()));
+        return snapshot;
+    }
+
+    /**
+     * @return shapes executed at least {@code threshold} times, most repeated first
+     */
+    public Map<String, Long> repeatedShapes(int threshold) {
+        Map<String, Long> repeated = new LinkedHashMap<>();
+        shapes.entrySet().stream()
+                .map(entry -> Map.entry(entry.getKey(), entry.getValue().sum()))
+                .filter(entry -> entry.getValue() >= threshold)
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()))
+                .forEach(entry -> repeated.put(entry.getKey(), entry.getValue()));
+        return repeated;
+    }
+
+    /**
+     * @return how often the most repeated shape was executed
+     */
+    public long maxRepeat() {
+        return shapes.values().stream().mapToLong(LongAdder::sum).max().orElse(0L);
+    }
+
+    static String shapeOf(String sql) {
+        String cached = SHAPE_CACHE.get(sql);
+        if (cached != null) {
+            return cached;
+        }
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("(?...)");
+        shape = WHITESPACE.matcher(shape).replaceAll(" ").trim();
+        if (SHAPE_CACHE.size() >= MAX_CACHED_SHAPES) {
+            SHAPE_CACHE.clear();
+        }
+        SHAPE_CACHE.put(sql, shape);
+        return shape;
+    }
+}
@@ -0,0 +1,201 @@
+package com.omori.taskmanagement.utils;
+
+import com.omori.taskmanagement.dto.common.RequestMetadata;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Context of the request (or async task) the current thread is working for.
+ *
+ * <p>A context is bound for a bounded scope with {@link #runWith}, {@link #callWith} or
+ * {@link #open} and is unbound when the scope ends, restoring whatever was bound before.
+ * This is the {@code ScopedValue} model; the binding is stored in a {@link ThreadLocal}
+ * because {@code ScopedValue} is still a preview API on Java 21, and all access goes through
+ * this class so the carrier can be switched without touching callers. Async executors
+ * re-bind the submitting thread's context through the application {@code TaskDecorator}.</p>
+ *
+ * <p>The context carries the trace id, client details, the authenticated user once known,
+ * the start time, named timing marks ({@link #mark}), per-phase durations and the SQL
+ * statements ({@link #queryStats}) recorded along the way.</p>
+ */
+public final class RequestContext {
+
+    private static final ThreadLocal<RequestContext> CURRENT = new ThreadLocal<>();
+
+    private final String traceId;
+    private final String ipAddress;
+    private final String userAgent;
+    private final long startTimeMillis;
+    private final long startNanos;
+    private final Map<String, Long> marks = new LinkedHashMap<>();
+    private final Map<String, LongAdder> phaseNanos = new ConcurrentHashMap<>();
+    private final QueryStats queryStats = new QueryStats();
+
+    private volatile long handlerReturnedNanos;
+
+    private volatile Long userId;
+    private volatile String username;
+
+    private RequestContext(String traceId, String ipAddress, String userAgent) {
+        this.traceId = traceId;
+        this.ipAddress = ipAddress;
+        this.userAgent = userAgent;
+        this.startTimeMillis = System.currentTimeMillis();
+        this.startNanos = System.nanoTime();
+    }
+
+    public static RequestContext create(String traceId, String ipAddress, String userAgent) {
+        return new RequestContext(Objects.requireNonNullElseGet(traceId, () -> UUID.randomUUID().toString()),
+                ipAddress, userAgent);
+    }
+
+    /**
+     * A context for work that does not originate from an HTTP request (scheduled jobs, startup).
+     */
+    public static RequestContext background(String name) {
+        return new RequestContext(UUID.randomUUID().toString(), null, name);
+    }
+
+    /**
+     * @return the bound context, or null outside any request or task scope
+     */
+    public static RequestContext current() {
+        return CURRENT.get();
+    }
+
+    public static void runWith(RequestContext context, Runnable action) {
+        try (Scope ignored = open(context)) {
+            action.run();
+        }
+    }
+
+    public static <T> T callWith(RequestContext context, Callable<T> action) throws Exception {
+        try (Scope ignored = open(context)) {
+            return action.call();
+        }
+    }
+
+    /**
+     * Binds {@code context} until the returned scope is closed; use with try-with-resources.
+     */
+    public static Scope open(RequestContext context) {
+        RequestContext previous = CURRENT.get();
+        CURRENT.set(context);
+        return () -> {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        };
+    }
+
+    /**
+     * Records the time elapsed since the start of the request under {@code phase}.
+     */
+    public void mark(String phase) {
+        long elapsedMicros = (System.nanoTime() - startNanos) / 1_000;
+        synchronized (marks) {
+            marks.putIfAbsent(phase, elapsedMicros);
+        }
+    }
+
+    /**
+     * @return timing marks in recording order, as microseconds since the start of the request
+     */
+    public Map<String, Long> marks() {
+        synchronized (marks) {
+            return new LinkedHashMap<>(marks);
+        }
+    }
+
+    /**
+     * Adds {@code nanos} to the accumulated time of {@code phase} (auth, controller, service, ...).
+     */
+    public void recordPhase(String phase, long nanos) {
+        phaseNanos.computeIfAbsent(phase, key -> new LongAdder()).add(nanos);
+    }
+
+    /**
+     * @return accumulated nanoseconds per phase
+     */
+    public Map<String, Long> phaseNanos() {
+        Map<String, Long> snapshot = new LinkedHashMap<>();
+        phaseNanos.forEach((phase, total) -> snapshot.put(phase, total.sum()));
+        return snapshot;
+    }
+
+    /**
+     * Notes the moment the controller method returned; response serialization starts here.
+     */
+    public void handlerReturned() {
+        handlerReturnedNanos = System.nanoTime();
+    }
+
+    public long getHandlerReturnedNanos() {
+        return handlerReturnedNanos;
+    }
+
+    /**
+     * @return SQL statements executed on behalf of this context so far
+     */
+    public QueryStats queryStats() {
+        return queryStats;
+    }
+
+    public long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    public long elapsedMillis() {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    public void authenticated(Long userId, String username) {
+        this.userId = userId;
+        this.username = username;
+    }
+
+    public String getTraceId() {
+        return traceId;
+    }
+
+    public String getIpAddress() {
+        return ipAddress;
+    }
+
+    public String getUserAgent() {
+        return userAgent;
+    }
+
+    public long getStartTimeMillis() {
+        return startTimeMillis;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    /**
+     * Snapshot in the legacy {@link RequestMetadata} shape.
+     */
+    public RequestMetadata toMetadata() {
+        return new RequestMetadata(userAgent, ipAddress, traceId, startTimeMillis, elapsedMillis());
+    }
+
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
@@ -1,17 +0,0 @@
-package com.omori.taskmanagement.utils;
-
-import org.springframework.stereotype.Component;
-import org.springframework.web.context.annotation.RequestScope;
-
-import com.omori.taskmanagement.dto.common.RequestMetadata;
-
-import lombok.Getter;
-import lombok.Setter;
-
-@Component
-@RequestScope
-@Getter
-@Setter
-public class RequestMetadataContext {
-    private RequestMetadata metadata;   
-}
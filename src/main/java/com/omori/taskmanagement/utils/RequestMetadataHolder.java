@@ -2,18 +2,16 @@ package com.omori.taskmanagement.utils;
 
 import com.omori.taskmanagement.dto.common.RequestMetadata;
 
+/**
+ * Read-only view of the current {@link RequestContext} in the {@link RequestMetadata} shape.
+ */
 public class RequestMetadataHolder {
-    private static final ThreadLocal<RequestMetadata> CONTEXT =  new ThreadLocal<>();
 
-    public static void setMetadata(RequestMetadata metadata) {
-        CONTEXT.set(metadata);
+    private RequestMetadataHolder() {
     }
 
     public static RequestMetadata getMetadata() {
-        return CONTEXT.get();
-    }
-
-    public static void clear() {
-        CONTEXT.remove();
+        RequestContext context = RequestContext.current();
+        return context != null ? context.toMetadata() : null;
     }
 }
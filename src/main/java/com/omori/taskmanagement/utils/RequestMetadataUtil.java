@@ -1,14 +1,15 @@
 package com.omori.taskmanagement.utils;
 
-import org.jboss.logging.MDC;
-
-import com.omori.taskmanagement.dto.common.RequestMetadata;
-
 import jakarta.servlet.http.HttpServletRequest;
 
 public class RequestMetadataUtil {
 
-    public static RequestMetadata from(HttpServletRequest request) {
+    public static final String TRACE_ID_HEADER = "X-Trace-Id";
+
+    /**
+     * Creates the context for an incoming request, reusing the caller's trace id when one is sent.
+     */
+    public static RequestContext from(HttpServletRequest request) {
         String userAgent = request.getHeader("User-Agent");
 
         // Try to get the real IP address behind a proxy
@@ -20,17 +21,11 @@ public class RequestMetadataUtil {
             ipAddress = ipAddress.split(",")[0].trim();
         }
 
-        // Get the trace ID from MDC, if not present, generate a new one
-        String traceId = (String) MDC.get("traceId");
-        if (traceId == null) {
-            traceId = "no-trace-id"; // Fallback if no trace ID is set
+        String traceId = request.getHeader(TRACE_ID_HEADER);
+        if (traceId != null && (traceId.isBlank() || traceId.length() > 64)) {
+            traceId = null; // Generate our own rather than trust a malformed header
         }
 
-        return new RequestMetadata(
-                ipAddress,
-                userAgent,
-                traceId,
-                System.currentTimeMillis(),
-                0);
+        return RequestContext.create(traceId, ipAddress, userAgent);
     }
 }
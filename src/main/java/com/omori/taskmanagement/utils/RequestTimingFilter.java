@@ -1,43 +1,100 @@
 package com.omori.taskmanagement.utils;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
+import org.slf4j.MDC;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
 
-import com.omori.taskmanagement.dto.common.RequestMetadata;
+import com.omori.taskmanagement.config.QueryStatsRecorder;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * First filter in the chain: binds a {@link RequestContext} for the whole request, so every
+ * later filter, the security chain, controllers and decorated async tasks see the same trace id.
+ *
+ * <p>When the request completes, the per-phase totals collected in the context (auth,
+ * controller, service, repository, serialization) are recorded in the {@code http.server.phase}
+ * timer, tagged with the route template. Overall latency per route and status is already
+ * recorded by Spring's {@code http.server.requests} observation, and the request's SQL statements
+ * are handed to {@link QueryStatsRecorder} when statement inspection is enabled. Only requests slower than
+ * {@code app.request-timing.slow-threshold} are logged, sampled at
+ * {@code app.request-timing.slow-log-sample-rate}.</p>
+ */
 @Component
 @Slf4j
+@RequiredArgsConstructor
+@Order(Ordered.HIGHEST_PRECEDENCE)
 public class RequestTimingFilter extends OncePerRequestFilter {
 
+    private static final String UNKNOWN_ROUTE = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+    private final ObjectProvider<QueryStatsRecorder> queryStatsRecorder;
+
+    @Value("${app.request-timing.slow-threshold:1s}")
+    private Duration slowThreshold;
+
+    @Value("${app.request-timing.slow-log-sample-rate:1.0}")
+    private double slowLogSampleRate;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request,
             HttpServletResponse response,
             FilterChain filterChain) throws ServletException, IOException {
-        // Start timing the request
-        long startTime = System.currentTimeMillis();
-        try {
-            RequestMetadata metadata = RequestMetadataHolder.getMetadata();
-            if (metadata != null) {
-                metadata.setStartTimeMillis(startTime);
-            }
+        RequestContext context = RequestMetadataUtil.from(request);
+        response.setHeader(RequestMetadataUtil.TRACE_ID_HEADER, context.getTraceId());
+        MDC.put("traceId", context.getTraceId());
 
+        try (RequestContext.Scope ignored = RequestContext.open(context)) {
             filterChain.doFilter(request, response);
         } finally {
-            long duration = System.currentTimeMillis() - startTime;
+            long elapsedNanos = context.elapsedNanos();
+            String route = routeOf(request);
+            Map<String, Long> phases = context.phaseNanos();
+            phases.forEach((phase, nanos) -> Timer.builder("http.server.phase")
+                    .description("Time spent per request phase")
+                    .tag("uri", route)
+                    .tag("phase", phase)
+                    .register(meterRegistry)
+                    .record(nanos, TimeUnit.NANOSECONDS));
+            queryStatsRecorder.ifAvailable(recorder -> recorder.record(route, context));
 
-            RequestMetadata metadata = RequestMetadataHolder.getMetadata();
-            if (metadata != null) {
-                metadata.setDurationMillis(duration);
+            if (elapsedNanos >= slowThreshold.toNanos()
+                    && ThreadLocalRandom.current().nextDouble() < slowLogSampleRate) {
+                log.warn("Slow request {} {} -> {} took {}ms, {} statements, phases(ms)={}, marks(us)={}",
+                        request.getMethod(), route, response.getStatus(),
+                        TimeUnit.NANOSECONDS.toMillis(elapsedNanos), context.queryStats().getStatementCount(),
+                        toMillis(phases), context.marks());
             }
-
-            log.info("Request processed in {}ms", duration);
+            MDC.remove("traceId");
         }
     }
+
+    private static String routeOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : UNKNOWN_ROUTE;
+    }
+
+    private static Map<String, Long> toMillis(Map<String, Long> phases) {
+        phases.replaceAll((phase, nanos) -> TimeUnit.NANOSECONDS.toMillis(nanos));
+        return phases;
+    }
 }
@@ -0,0 +1,143 @@
+package com.omori.taskmanagement.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.IntFunction;
+
+/**
+ * Key arithmetic for sparse (gap-based) sort orders.
+ *
+ * <p>Siblings are spaced {@link #GAP} apart so that a task or subtask can be moved
+ * between two neighbours by writing a single row with the midpoint key. Only when
+ * two neighbours are adjacent integers does the sibling list need to be rebalanced.</p>
+ */
+public final class SortKeyUtils {
+
+    public static final int GAP = 1024;
+
+    private SortKeyUtils() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns a key strictly between {@code before} and {@code after}.
+     *
+     * @param before key of the previous sibling, {@code null} when inserting at the head
+     * @param after  key of the next sibling, must not be {@code null}
+     * @return the midpoint key, or {@code null} when the gap is exhausted and a rebalance is needed
+     */
+    public static Integer between(Integer before, int after) {
+        long low = before != null ? before : -1L;
+        if (after - low < 2) {
+            return null;
+        }
+        return (int) (low + (after - low) / 2);
+    }
+
+    /**
+     * Evenly spaced keys for a freshly rebalanced list of {@code count} siblings.
+     */
+    public static List<Integer> spaced(int count) {
+        List<Integer> keys = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            keys.add(i * GAP);
+        }
+        return keys;
+    }
+
+    /**
+     * Plans the minimum set of key changes needed to put siblings in a new order.
+     *
+     * <p>The longest run of siblings whose current keys are already increasing in the
+     * requested order keeps its keys; every other sibling gets a key squeezed between
+     * its fixed neighbours. Siblings that end up after the last fixed key are given
+     * keys from {@code appendAllocator}, so the parent's allocation counter stays ahead
+     * of every key in use.</p>
+     *
+     * @param currentKeys     current keys, listed in the requested new order
+     * @param appendAllocator allocates {@code n} increasing keys past the current maximum
+     * @return new key per position ({@code null} = unchanged), or {@code null} if some gap
+     *         is too small and the whole list has to be rebalanced
+     */
+    public static Integer[] planReorder(List<Integer> currentKeys, IntFunction<List<Integer>> appendAllocator) {
+        if (currentKeys.stream().anyMatch(Objects::isNull)) {
+            return null;
+        }
+        int n = currentKeys.size();
+        Integer[] planned = new Integer[n];
+        boolean[] fixed = longestIncreasingRun(currentKeys);
+
+        int i = 0;
+        Integer lastFixedKey = null;
+        while (i < n) {
+            if (fixed[i]) {
+                lastFixedKey = currentKeys.get(i);
+                i++;
+                continue;
+            }
+            int runStart = i;
+            while (i < n && !fixed[i]) {
+                i++;
+            }
+            int runLength = i - runStart;
+
+            if (i == n) {
+                List<Integer> appended = appendAllocator.apply(runLength);
+                for (int k = 0; k < runLength; k++) {
+                    planned[runStart + k] = appended.get(k);
+                }
+                break;
+            }
+
+            long low = lastFixedKey != null ? lastFixedKey : -1L;
+            long step = (currentKeys.get(i) - low) / (runLength + 1);
+            if (step < 1) {
+                return null;
+            }
+            for (int k = 0; k < runLength; k++) {
+                planned[runStart + k] = (int) (low + step * (k + 1));
+            }
+        }
+        return planned;
+    }
+
+    private static boolean[] longestIncreasingRun(List<Integer> keys) {
+        int n = keys.size();
+        boolean[] fixed = new boolean[n];
+        if (n == 0) {
+            return fixed;
+        }
+        int[] tailIndex = new int[n];
+        int[] previous = new int[n];
+        Arrays.fill(previous, -1);
+        int length = 0;
+
+        for (int i = 0; i < n; i++) {
+            int key = keys.get(i);
+            int lo = 0;
+            int hi = length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (keys.get(tailIndex[mid]) < key) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            if (lo > 0) {
+                previous[i] = tailIndex[lo - 1];
+            }
+            tailIndex[lo] = i;
+            if (lo == length) {
+                length++;
+            }
+        }
+
+        for (int i = tailIndex[length - 1]; i >= 0; i = previous[i]) {
+            fixed[i] = true;
+        }
+        return fixed;
+    }
+}
@@ -0,0 +1,67 @@
+package com.omori.taskmanagement.utils.diff;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The fields that differ between two versions of an object, in declaration order.
+ */
+public final class ChangeSet {
+
+    private static final ChangeSet EMPTY = new ChangeSet(List.of());
+
+    private final List<FieldChange> changes;
+
+    private ChangeSet(List<FieldChange> changes) {
+        this.changes = changes;
+    }
+
+    static ChangeSet of(List<FieldChange> changes) {
+        return changes == null || changes.isEmpty() ? EMPTY : new ChangeSet(Collections.unmodifiableList(changes));
+    }
+
+    public static ChangeSet empty() {
+        return EMPTY;
+    }
+
+    public boolean isEmpty() {
+        return changes.isEmpty();
+    }
+
+    public int size() {
+        return changes.size();
+    }
+
+    public List<FieldChange> changes() {
+        return changes;
+    }
+
+    /**
+     * @return changed field to its previous value, e.g. for {@code ActivityLog.oldValues}
+     */
+    public Map<String, Object> oldValues() {
+        Map<String, Object> values = new LinkedHashMap<>(capacity());
+        changes.forEach(change -> values.put(change.field(), change.oldValue()));
+        return values;
+    }
+
+    /**
+     * @return changed field to its new value, e.g. for {@code ActivityLog.newValues}
+     */
+    public Map<String, Object> newValues() {
+        Map<String, Object> values = new LinkedHashMap<>(capacity());
+        changes.forEach(change -> values.put(change.field(), change.newValue()));
+        return values;
+    }
+
+    private int capacity() {
+        return (int) (changes.size() / 0.75f) + 1;
+    }
+
+    @Override
+    public String toString() {
+        return "ChangeSet" + changes;
+    }
+}
@@ -0,0 +1,16 @@
+package com.omori.taskmanagement.utils.diff;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Leaves a field out of object diffs and audit change sets (secrets, bookkeeping columns).
+ */
+@Documented
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface DiffIgnore {
+}
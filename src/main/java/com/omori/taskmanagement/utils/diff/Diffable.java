@@ -0,0 +1,25 @@
+package com.omori.taskmanagement.utils.diff;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Chooses which fields of a class take part in diffs.
+ *
+ * <p>Without this annotation every instance field is diffed except the
+ * {@link ObjectDiffer#DEFAULT_EXCLUDES default excludes}. With it, {@link #include} (when not
+ * empty) lists the only fields diffed, and {@link #exclude} replaces the default excludes.
+ * {@link DiffIgnore} on a field always wins.</p>
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Diffable {
+
+    String[] include() default {};
+
+    String[] exclude() default {};
+}
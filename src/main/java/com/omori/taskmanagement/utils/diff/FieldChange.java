@@ -0,0 +1,8 @@
+package com.omori.taskmanagement.utils.diff;
+
+/**
+ * One changed field. Values are as stored on the object, except references to other entities,
+ * which are represented by their id.
+ */
+public record FieldChange(String field, Object oldValue, Object newValue) {
+}
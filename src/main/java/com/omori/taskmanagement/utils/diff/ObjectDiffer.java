@@ -0,0 +1,203 @@
+package com.omori.taskmanagement.utils.diff;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToMany;
+import jakarta.persistence.OneToMany;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.proxy.HibernateProxy;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Field-by-field diff of two objects of the same class.
+ *
+ * <p>The fields of each class are resolved once into a {@link Schema} of {@link MethodHandle}
+ * getters (cached in a {@link ClassValue}), so a diff is a loop over prepared accessors with no
+ * reflective scan and no intermediate maps; nothing is allocated unless a field changed.</p>
+ *
+ * <p>Collections mapped with {@code @OneToMany}, {@code @ManyToMany} or {@code @ElementCollection}
+ * are never diffed, so a diff cannot trigger lazy loading. References to other entities are
+ * compared and reported by id, read from the Hibernate proxy when the reference is not loaded.</p>
+ */
+@Slf4j
+public final class ObjectDiffer {
+
+    /**
+     * Fields skipped in classes without {@link Diffable}.
+     */
+    public static final Set<String> DEFAULT_EXCLUDES = Set.of("password", "createdAt", "updatedAt", "deletedAt");
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final ClassValue<Schema> SCHEMAS = new ClassValue<>() {
+        @Override
+        protected Schema computeValue(Class<?> type) {
+            return Schema.of(type);
+        }
+    };
+
+    private ObjectDiffer() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Captures the diffable fields of {@code object} as a before-image for {@link #diffSnapshot}.
+     * Only the field values are copied, not the object graph.
+     */
+    public static Object[] snapshot(Object object) {
+        Schema schema = SCHEMAS.get(object.getClass());
+        Object[] values = new Object[schema.accessors.length];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = schema.accessors[i].read(object);
+        }
+        return values;
+    }
+
+    /**
+     * Diffs a snapshot taken with {@link #snapshot} against the current state of the same object.
+     */
+    public static ChangeSet diffSnapshot(Object[] before, Object after) {
+        Schema schema = SCHEMAS.get(after.getClass());
+        List<FieldChange> changes = null;
+        for (int i = 0; i < schema.accessors.length; i++) {
+            Accessor accessor = schema.accessors[i];
+            Object newValue = accessor.read(after);
+            if (!Objects.equals(before[i], newValue)) {
+                if (changes == null) {
+                    changes = new ArrayList<>(4);
+                }
+                changes.add(new FieldChange(accessor.name, before[i], newValue));
+            }
+        }
+        return ChangeSet.of(changes);
+    }
+
+    /**
+     * Diffs two objects; a null side is treated as having every field null.
+     */
+    public static ChangeSet diff(Object before, Object after) {
+        if (before == null && after == null) {
+            return ChangeSet.empty();
+        }
+        Schema schema = SCHEMAS.get(after != null ? after.getClass() : before.getClass());
+        List<FieldChange> changes = null;
+        for (Accessor accessor : schema.accessors) {
+            Object oldValue = before != null ? accessor.read(before) : null;
+            Object newValue = after != null ? accessor.read(after) : null;
+            if (!Objects.equals(oldValue, newValue)) {
+                if (changes == null) {
+                    changes = new ArrayList<>(4);
+                }
+                changes.add(new FieldChange(accessor.name, oldValue, newValue));
+            }
+        }
+        return ChangeSet.of(changes);
+    }
+
+    /**
+     * @return the diffable fields of {@code object} by name
+     */
+    public static Map<String, Object> toMap(Object object) {
+        if (object == null) {
+            return new LinkedHashMap<>();
+        }
+        Schema schema = SCHEMAS.get(object.getClass());
+        Map<String, Object> values = new LinkedHashMap<>((int) (schema.accessors.length / 0.75f) + 1);
+        for (Accessor accessor : schema.accessors) {
+            values.put(accessor.name, accessor.read(object));
+        }
+        return values;
+    }
+
+    private static Object referenceId(Object value) {
+        if (value instanceof HibernateProxy proxy) {
+            return proxy.getHibernateLazyInitializer().getIdentifier();
+        }
+        Accessor id = SCHEMAS.get(value.getClass()).id;
+        return id != null ? id.read(value) : value;
+    }
+
+    private record Accessor(String name, MethodHandle getter, boolean reference) {
+
+        Object read(Object target) {
+            Object value;
+            try {
+                value = getter.invokeExact(target);
+            } catch (Throwable e) {
+                throw new IllegalStateException("Cannot read field " + name + " of " + target.getClass(), e);
+            }
+            return reference && value != null ? referenceId(value) : value;
+        }
+    }
+
+    private record Schema(Accessor[] accessors, Accessor id) {
+
+        static Schema of(Class<?> type) {
+            Diffable diffable = type.getAnnotation(Diffable.class);
+            Set<String> include = diffable != null ? new HashSet<>(Arrays.asList(diffable.include())) : Set.of();
+            Set<String> exclude = diffable != null ? new HashSet<>(Arrays.asList(diffable.exclude())) : DEFAULT_EXCLUDES;
+
+            List<Accessor> accessors = new ArrayList<>();
+            Accessor id = null;
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            // Superclass fields first, so change sets follow the declaration order of the hierarchy
+            List<Class<?>> hierarchy = new ArrayList<>();
+            for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+                hierarchy.add(0, c);
+            }
+            for (Class<?> declaring : hierarchy) {
+                for (Field field : declaring.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
+                        continue;
+                    }
+                    boolean isId = field.isAnnotationPresent(Id.class);
+                    boolean diffed = !field.isAnnotationPresent(DiffIgnore.class)
+                            && !isLazyCollection(field)
+                            && (include.isEmpty() || include.contains(field.getName()))
+                            && !exclude.contains(field.getName());
+                    if (!diffed && !isId) {
+                        continue;
+                    }
+                    Accessor accessor = new Accessor(field.getName(), getter(lookup, declaring, field),
+                            field.getType().isAnnotationPresent(Entity.class));
+                    if (isId) {
+                        id = accessor;
+                    }
+                    if (diffed) {
+                        accessors.add(accessor);
+                    }
+                }
+            }
+            log.debug("Diff schema for {}: {} fields", type.getSimpleName(), accessors.size());
+            return new Schema(accessors.toArray(Accessor[]::new), id);
+        }
+
+        private static boolean isLazyCollection(Field field) {
+            return field.isAnnotationPresent(OneToMany.class)
+                    || field.isAnnotationPresent(ManyToMany.class)
+                    || field.isAnnotationPresent(ElementCollection.class);
+        }
+
+        private static MethodHandle getter(MethodHandles.Lookup lookup, Class<?> declaring, Field field) {
+            try {
+                return MethodHandles.privateLookupIn(declaring, lookup).unreflectGetter(field).asType(GETTER_TYPE);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Cannot access field " + field.getName() + " of " + declaring, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+-- V10__Reminder_dispatch.sql
+-- Supports the reminder dispatch engine (ReminderScheduler):
+--   * claimed_by / claim_expires_at lease a due reminder to one node, so several nodes can claim
+--     batches with SELECT ... FOR UPDATE SKIP LOCKED and a crashed node's claims are retried
+--     once the lease runs out
+--   * repeat_anchor keeps the first occurrence of a repeating reminder, so later occurrences are
+--     counted from it and a monthly reminder on the 31st returns to the 31st after short months;
+--     it is set on the first repeat and read as remind_at while null
+--   * idx_reminders_due lets each claim read only the pending reminders that are due next,
+--     instead of scanning every reminder ever created
+
+DO $$
+BEGIN
+    RAISE NOTICE 'Starting V10 migration: reminder dispatch';
+
+    IF NOT EXISTS (
+        SELECT 1 FROM information_schema.tables
+        WHERE table_schema = 'notification'
+        AND table_name = 'reminders'
+    ) THEN
+        RAISE EXCEPTION 'Table notification.reminders does not exist';
+    END IF;
+
+    ALTER TABLE notification.reminders
+        ADD COLUMN IF NOT EXISTS claimed_by character varying(128),
+        ADD COLUMN IF NOT EXISTS claim_expires_at timestamp(6) without time zone,
+        ADD COLUMN IF NOT EXISTS repeat_anchor timestamp(6) without time zone;
+
+    -- Rows inserted before the defaults were enforced must still match the partial index predicate
+    UPDATE notification.reminders SET is_active = true WHERE is_active IS NULL;
+    UPDATE notification.reminders SET is_sent = false WHERE is_sent IS NULL;
+    ALTER TABLE notification.reminders
+        ALTER COLUMN is_active SET NOT NULL,
+        ALTER COLUMN is_sent SET NOT NULL;
+
+    CREATE INDEX IF NOT EXISTS idx_reminders_due
+    ON notification.reminders (remind_at)
+    WHERE is_active AND NOT is_sent;
+
+    RAISE NOTICE 'V10 migration completed successfully!';
+END $$;
+
+COMMENT ON INDEX notification.idx_reminders_due IS
+'Pending reminders by due time. Used by ReminderStore.claimDue() with FOR UPDATE SKIP LOCKED.';
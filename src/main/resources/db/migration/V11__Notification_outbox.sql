@@ -0,0 +1,57 @@
+-- V11__Notification_outbox.sql
+-- Transactional outbox for notifications:
+--   * notification.outbox receives one row per task event (completed, assigned, due soon) in the
+--     same transaction as the task change; NotificationRelay turns the rows into
+--     notification.notifications in the background and deletes them
+--   * notification.due_soon_notices remembers which (task, due date) pairs were already announced,
+--     so the due-soon scan announces each deadline once, and again only if the due date moves
+--   * templates for the completed and due-soon events next to the existing task_assigned one
+
+DO $$
+BEGIN
+    RAISE NOTICE 'Starting V11 migration: notification outbox';
+
+    CREATE TABLE IF NOT EXISTS notification.outbox (
+        outbox_id bigserial PRIMARY KEY,
+        event_type character varying(64) NOT NULL,
+        task_id bigint NOT NULL,
+        actor_id bigint,
+        payload jsonb,
+        created_at timestamp without time zone NOT NULL DEFAULT CURRENT_TIMESTAMP
+    );
+
+    CREATE TABLE IF NOT EXISTS notification.due_soon_notices (
+        task_id bigint NOT NULL,
+        due_date timestamp without time zone NOT NULL,
+        created_at timestamp without time zone NOT NULL DEFAULT CURRENT_TIMESTAMP,
+        PRIMARY KEY (task_id, due_date)
+    );
+
+    -- Due-soon scan: open tasks by due date
+    CREATE INDEX IF NOT EXISTS idx_tasks_due_date_open
+    ON project.tasks (due_date)
+    WHERE deleted_at IS NULL AND due_date IS NOT NULL;
+
+    -- Inbox listing and unread counts per user. Both walk (created_at, notification_id)
+    -- backwards for keyset pagination; the unread one only holds unread rows, so it stays small
+    -- however many notifications a user has read. notification_id breaks ties between
+    -- notifications created in the same instant.
+    CREATE INDEX IF NOT EXISTS idx_notifications_unread_inbox
+    ON notification.notifications (user_id, created_at DESC, notification_id DESC)
+    WHERE is_read = false;
+
+    CREATE INDEX IF NOT EXISTS idx_notifications_inbox
+    ON notification.notifications (user_id, created_at DESC, notification_id DESC);
+
+    INSERT INTO notification.templates (name, type, subject_template, body_template, variables, is_active)
+    SELECT v.name, v.type, v.subject_template, v.body_template, v.variables::jsonb, true
+    FROM (VALUES
+        ('task_completed', 'push', 'Task completed',
+         'The task "{{task_title}}" has been completed.', '["task_title"]'),
+        ('task_due_soon', 'push', 'Task due soon: {{task_title}}',
+         'Your task "{{task_title}}" is due on {{due_date}}.', '["task_title", "due_date"]')
+    ) AS v(name, type, subject_template, body_template, variables)
+    WHERE NOT EXISTS (SELECT 1 FROM notification.templates t WHERE t.name = v.name);
+
+    RAISE NOTICE 'V11 migration completed successfully!';
+END $$;
@@ -0,0 +1,14 @@
+-- V12__Notification_read_flag_not_null.sql
+-- Keyset pagination for the notification inbox (NotificationRepository): the inbox indexes
+-- created in V11 filter unread rows with is_read = false, so is_read becomes NOT NULL and
+-- notifications that never had it set count as unread, as the entity already assumes.
+
+DO $$
+BEGIN
+    RAISE NOTICE 'Starting V12 migration: notification read flag';
+
+    UPDATE notification.notifications SET is_read = false WHERE is_read IS NULL;
+    ALTER TABLE notification.notifications ALTER COLUMN is_read SET NOT NULL;
+
+    RAISE NOTICE 'V12 migration completed successfully!';
+END $$;
@@ -0,0 +1,15 @@
+-- V13__Index_tasks_owner_version.sql
+-- Conditional GETs on the task lists tag a user's tasks with MAX(updated_at) and COUNT(*) of
+-- their active tasks (TaskVersionServiceImpl). This index answers both from the index alone,
+-- so a 304 costs one small index scan instead of the list query.
+
+DO $$
+BEGIN
+    RAISE NOTICE 'Starting V13 migration: owner version index on project.tasks';
+
+    CREATE INDEX IF NOT EXISTS idx_tasks_user_updated_active
+    ON project.tasks (user_id, updated_at)
+    WHERE deleted_at IS NULL;
+
+    RAISE NOTICE 'V13 migration completed successfully!';
+END $$;
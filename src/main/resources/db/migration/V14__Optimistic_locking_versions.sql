@@ -0,0 +1,19 @@
+-- V14__Optimistic_locking_versions.sql
+-- Optimistic locking for tasks and subtasks: every JPA update runs
+-- UPDATE ... SET version = version + 1 WHERE id = ? AND version = ?, so a write based on a stale
+-- read fails instead of silently overwriting a concurrent one. No row is locked while a user
+-- edits or while progress rolls up through stories and epics.
+
+DO $$
+BEGIN
+    RAISE NOTICE 'Starting V14 migration: version columns on project.tasks and project.subtasks';
+
+    -- Constant default: existing rows get version 0 without a table rewrite
+    ALTER TABLE project.tasks
+        ADD COLUMN IF NOT EXISTS version bigint NOT NULL DEFAULT 0;
+
+    ALTER TABLE project.subtasks
+        ADD COLUMN IF NOT EXISTS version bigint NOT NULL DEFAULT 0;
+
+    RAISE NOTICE 'V14 migration completed successfully!';
+END $$;
@@ -0,0 +1,68 @@
+-- V15__Comment_threads.sql
+-- Comment threads (CommentRepository):
+--   * top-level comments of a task are paged by (created_at, comment_id) newest first, replies of
+--     a comment oldest first, each from a partial index over live comments
+--   * comments.reply_count and collaboration.task_comment_counts are kept up to date by the
+--     service, so pages and task detail views show counts without COUNT(*)
+--   * comments.mentions mirrors comment_mentions as an array with a GIN index, so
+--     "comments mentioning me" is one index lookup (mentions @> ARRAY[user_id])
+
+DO $$
+BEGIN
+    RAISE NOTICE 'Starting V15 migration: comment threads';
+
+    ALTER TABLE collaboration.comments
+        ADD COLUMN IF NOT EXISTS reply_count integer NOT NULL DEFAULT 0;
+
+    UPDATE collaboration.comments SET is_edited = false WHERE is_edited IS NULL;
+    ALTER TABLE collaboration.comments ALTER COLUMN is_edited SET NOT NULL;
+
+    UPDATE collaboration.comments c
+    SET reply_count = r.replies
+    FROM (SELECT parent_comment_id, COUNT(*) AS replies
+          FROM collaboration.comments
+          WHERE parent_comment_id IS NOT NULL AND deleted_at IS NULL
+          GROUP BY parent_comment_id) r
+    WHERE c.comment_id = r.parent_comment_id;
+
+    UPDATE collaboration.comments c
+    SET mentions = m.user_ids
+    FROM (SELECT comment_id, array_agg(DISTINCT user_id) AS user_ids
+          FROM collaboration.comment_mentions
+          WHERE user_id IS NOT NULL
+          GROUP BY comment_id) m
+    WHERE c.comment_id = m.comment_id;
+
+    CREATE TABLE IF NOT EXISTS collaboration.task_comment_counts (
+        task_id bigint PRIMARY KEY REFERENCES project.tasks (task_id) ON DELETE CASCADE,
+        comment_count integer NOT NULL DEFAULT 0
+    );
+
+    INSERT INTO collaboration.task_comment_counts (task_id, comment_count)
+    SELECT task_id, COUNT(*)
+    FROM collaboration.comments
+    WHERE deleted_at IS NULL
+    GROUP BY task_id
+    ON CONFLICT (task_id) DO UPDATE SET comment_count = EXCLUDED.comment_count;
+
+    CREATE INDEX IF NOT EXISTS idx_comments_task_top_level
+    ON collaboration.comments (task_id, created_at DESC, comment_id DESC)
+    WHERE parent_comment_id IS NULL AND deleted_at IS NULL;
+
+    CREATE INDEX IF NOT EXISTS idx_comments_replies
+    ON collaboration.comments (parent_comment_id, created_at, comment_id)
+    WHERE parent_comment_id IS NOT NULL AND deleted_at IS NULL;
+
+    CREATE INDEX IF NOT EXISTS idx_comments_mentions
+    ON collaboration.comments USING gin (mentions)
+    WHERE deleted_at IS NULL;
+
+    -- Loading a comment's mention collection
+    CREATE INDEX IF NOT EXISTS idx_comment_mentions_comment
+    ON collaboration.comment_mentions (comment_id);
+
+    RAISE NOTICE 'V15 migration completed successfully!';
+END $$;
+
+COMMENT ON INDEX collaboration.idx_comments_mentions IS
+    'Comments mentioning a user: WHERE mentions @> ARRAY[user_id] AND deleted_at IS NULL';
@@ -0,0 +1,22 @@
+-- V16__Attachment_storage.sql
+-- Attachment files are stored content-addressed by SHA-256 (AttachmentStore); file_path holds
+-- the store key and content_hash the hash, so identical uploads share one file.
+-- Listing a task's attachments reads a partial index over live rows, newest first.
+
+DO $$
+BEGIN
+    RAISE NOTICE 'Starting V16 migration: attachment storage';
+
+    ALTER TABLE collaboration.attachments
+        ADD COLUMN IF NOT EXISTS content_hash character varying(64);
+
+    CREATE INDEX IF NOT EXISTS idx_attachments_task_created
+    ON collaboration.attachments (task_id, created_at DESC, attachment_id DESC)
+    WHERE deleted_at IS NULL;
+
+    CREATE INDEX IF NOT EXISTS idx_attachments_content_hash
+    ON collaboration.attachments (content_hash)
+    WHERE content_hash IS NOT NULL;
+
+    RAISE NOTICE 'V16 migration completed successfully!';
+END $$;
@@ -0,0 +1,31 @@
+-- V17__Task_access_index.sql
+-- Task access beyond owner and assignee (TaskAccessControlService): collaborators of a task and
+-- members or owners of its workspace.
+--   * per-task checks probe the primary keys (task_id, user_id) and (workspace_id, user_id)
+--   * building a user's permission index and listing the tasks a user can see start from the
+--     user, so both membership tables get a user-first index
+--   * tasks.assigned_to is indexed for the assignee branch of the accessible-task predicate
+--   * the workspace branch is served by idx_tasks_workspace_board (V18), whose leading column is
+--     workspace_id
+
+DO $$
+BEGIN
+    RAISE NOTICE 'Starting V17 migration: task access indexes';
+
+    CREATE INDEX IF NOT EXISTS idx_task_collaborators_user
+    ON collaboration.task_collaborators (user_id, task_id)
+    WHERE deleted_at IS NULL;
+
+    CREATE INDEX IF NOT EXISTS idx_workspace_members_user
+    ON project.workspace_members (user_id, workspace_id);
+
+    CREATE INDEX IF NOT EXISTS idx_workspaces_owner_active
+    ON project.workspaces (owner_id)
+    WHERE deleted_at IS NULL;
+
+    CREATE INDEX IF NOT EXISTS idx_tasks_assigned_to_active
+    ON project.tasks (assigned_to)
+    WHERE deleted_at IS NULL AND assigned_to IS NOT NULL;
+
+    RAISE NOTICE 'V17 migration completed successfully!';
+END $$;
@@ -0,0 +1,18 @@
+-- V18__Workspace_board_index.sql
+-- Workspace board (WorkspaceBoardService): per-status counts and the most recently updated tasks
+-- of each status, loaded in one statement.
+--   * the GROUP BY and the board's version tag (MAX(updated_at), COUNT(*)) read only this index
+--   * each column head is a LIMIT-ed range scan of one (workspace_id, status) prefix, already in
+--     board order, so no sort
+--   * also serves the workspace branch of the accessible-task predicate (see V17)
+
+DO $$
+BEGIN
+    RAISE NOTICE 'Starting V18 migration: workspace board index';
+
+    CREATE INDEX IF NOT EXISTS idx_tasks_workspace_board
+    ON project.tasks (workspace_id, status, updated_at DESC, task_id DESC)
+    WHERE deleted_at IS NULL AND workspace_id IS NOT NULL;
+
+    RAISE NOTICE 'V18 migration completed successfully!';
+END $$;
@@ -0,0 +1,98 @@
+-- V6__Gap_based_sort_keys.sql
+-- Switches task and subtask ordering from dense MAX()+1 numbering to sparse gap-based keys.
+--
+-- Each parent task carries two allocation counters:
+--   child_sort_seq   -> last sort key handed out to a child task (STORY under EPIC, TASK under STORY)
+--   subtask_sort_seq -> last sort key handed out to a subtask
+-- New keys are allocated with a single atomic UPDATE ... RETURNING on the parent row, which only
+-- takes a row lock on that parent (no table locks, no MAX() read before insert).
+
+DO $$
+BEGIN
+    RAISE NOTICE 'Starting V6 migration: gap-based sort keys';
+
+    -- =====================================================
+    -- STEP 1: Allocation counters on the parent row
+    -- =====================================================
+
+    ALTER TABLE project.tasks ADD COLUMN IF NOT EXISTS child_sort_seq INTEGER NOT NULL DEFAULT 0;
+    ALTER TABLE project.tasks ADD COLUMN IF NOT EXISTS subtask_sort_seq INTEGER NOT NULL DEFAULT 0;
+
+    -- =====================================================
+    -- STEP 2: Re-space existing keys (gap = 1024)
+    -- =====================================================
+
+    UPDATE project.tasks t
+    SET sort_order = r.rn * 1024
+    FROM (
+        SELECT task_id,
+               ROW_NUMBER() OVER (PARTITION BY parent_task_id ORDER BY sort_order, task_id) AS rn
+        FROM project.tasks
+        WHERE parent_task_id IS NOT NULL
+    ) r
+    WHERE t.task_id = r.task_id;
+
+    UPDATE project.subtasks s
+    SET sort_order = r.rn * 1024
+    FROM (
+        SELECT subtask_id,
+               ROW_NUMBER() OVER (PARTITION BY task_id ORDER BY sort_order, subtask_id) AS rn
+        FROM project.subtasks
+    ) r
+    WHERE s.subtask_id = r.subtask_id;
+
+    -- =====================================================
+    -- STEP 3: Seed counters from the re-spaced keys
+    -- =====================================================
+
+    UPDATE project.tasks p
+    SET child_sort_seq = c.max_key
+    FROM (
+        SELECT parent_task_id, MAX(sort_order) AS max_key
+        FROM project.tasks
+        WHERE parent_task_id IS NOT NULL
+        GROUP BY parent_task_id
+    ) c
+    WHERE p.task_id = c.parent_task_id;
+
+    UPDATE project.tasks p
+    SET subtask_sort_seq = c.max_key
+    FROM (
+        SELECT task_id, MAX(sort_order) AS max_key
+        FROM project.subtasks
+        GROUP BY task_id
+    ) c
+    WHERE p.task_id = c.task_id;
+
+    RAISE NOTICE 'Re-spaced existing sort keys and seeded allocation counters';
+
+    -- =====================================================
+    -- STEP 4: Ordered sibling indexes
+    -- =====================================================
+
+    CREATE INDEX IF NOT EXISTS idx_tasks_parent_sort_order
+    ON project.tasks (parent_task_id, sort_order)
+    WHERE deleted_at IS NULL;
+
+    CREATE INDEX IF NOT EXISTS idx_subtasks_task_sort_order
+    ON project.subtasks (task_id, sort_order)
+    WHERE deleted_at IS NULL;
+
+    RAISE NOTICE 'V6 migration completed successfully!';
+
+END $$;
+
+COMMENT ON COLUMN project.tasks.child_sort_seq IS
+'Last sort key allocated to a child task. Advanced atomically by SortOrderService; reset by the rebalancer.';
+
+COMMENT ON COLUMN project.tasks.subtask_sort_seq IS
+'Last sort key allocated to a subtask. Advanced atomically by SortOrderService; reset by the rebalancer.';
+
+COMMENT ON INDEX project.idx_tasks_parent_sort_order IS
+'Ordered sibling scan for child tasks; serves neighbour lookups when moving a task between two siblings.';
+
+COMMENT ON INDEX project.idx_subtasks_task_sort_order IS
+'Ordered sibling scan for subtasks; serves findByTaskIdAndDeletedAtIsNullOrderBySortOrder and neighbour lookups.';
+
+ANALYZE project.tasks;
+ANALYZE project.subtasks;
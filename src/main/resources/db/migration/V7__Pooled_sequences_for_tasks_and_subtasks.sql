@@ -0,0 +1,24 @@
+-- V7__Pooled_sequences_for_tasks_and_subtasks.sql
+-- Task and Subtask ids move from IDENTITY to SEQUENCE generation with pooled-lo allocation
+-- (allocationSize = 50), which lets Hibernate batch inserts (hibernate.jdbc.batch_size).
+-- With pooled-lo, each nextval() hands the application a block [value, value + 49], so the
+-- sequence increment must match the allocation size. Column defaults (nextval) keep working
+-- for inserts made outside Hibernate: they simply consume a whole block.
+
+DO $$
+BEGIN
+    RAISE NOTICE 'Starting V7 migration: pooled sequences for tasks and subtasks';
+
+    ALTER SEQUENCE project.tasks_task_id_seq INCREMENT BY 50;
+    ALTER SEQUENCE project.subtasks_subtask_id_seq INCREMENT BY 50;
+
+    -- Make sure the next block starts above every existing id
+    PERFORM setval('project.tasks_task_id_seq',
+                   GREATEST((SELECT COALESCE(MAX(task_id), 0) FROM project.tasks),
+                            (SELECT last_value FROM project.tasks_task_id_seq)));
+    PERFORM setval('project.subtasks_subtask_id_seq',
+                   GREATEST((SELECT COALESCE(MAX(subtask_id), 0) FROM project.subtasks),
+                            (SELECT last_value FROM project.subtasks_subtask_id_seq)));
+
+    RAISE NOTICE 'V7 migration completed successfully!';
+END $$;
@@ -0,0 +1,55 @@
+-- V8__Pooled_sequences_for_remaining_entities.sql
+-- Every remaining entity moves from IDENTITY to SEQUENCE generation with pooled-lo allocation,
+-- so saveAll() and cascaded inserts are sent as JDBC batches (hibernate.jdbc.batch_size).
+-- allocationSize is tuned per entity: high-volume append-only tables (activity logs,
+-- notifications, comments, task tags) reserve larger blocks, rarely inserted rows
+-- (users, workspaces, templates, ...) small ones so restarts waste few values.
+-- Each sequence increment below must equal the allocationSize on the matching @SequenceGenerator.
+
+DO $$
+DECLARE
+    seq RECORD;
+BEGIN
+    RAISE NOTICE 'Starting V8 migration: pooled sequences for remaining entities';
+
+    FOR seq IN
+        SELECT * FROM (VALUES
+            ('audit',         'activity_logs',      'log_id',          'activity_logs_log_id_seq',            100, false),
+            ('audit',         'error_logs',         'error_id',        'error_logs_error_id_seq',              20, false),
+            ('notification',  'notifications',      'notification_id', 'notifications_notification_id_seq',    50, false),
+            ('notification',  'reminders',          'reminder_id',     'reminders_reminder_id_seq',             20, false),
+            ('notification',  'templates',          'template_id',     'templates_template_id_seq',             10, false),
+            ('project',       'tags',               'tag_id',          'tags_tag_id_seq',                       10, false),
+            ('project',       'task_tags',          'id',              'task_tags_id_seq',                      50, true),
+            ('project',       'workspaces',         'workspace_id',    'workspaces_workspace_id_seq',           10, false),
+            ('project',       'workspace_members',  'id',              'workspace_members_id_seq',              20, true),
+            ('project',       'categories',         'category_id',     'categories_category_id_seq',            10, false),
+            ('user_mgmt',     'users',              'user_id',         'users_user_id_seq',                     10, false),
+            ('user_mgmt',     'profiles',           'profile_id',      'profiles_profile_id_seq',               10, false),
+            ('collaboration', 'task_collaborators', 'id',              'task_collaborators_id_seq',             20, true),
+            ('collaboration', 'invitations',        'invitation_id',   'invitations_invitation_id_seq',         10, false),
+            ('collaboration', 'comments',           'comment_id',      'comments_comment_id_seq',               50, false),
+            ('collaboration', 'attachments',        'attachment_id',   'attachments_attachment_id_seq',         20, false)
+        ) AS t(schema_name, table_name, id_column, sequence_name, increment, is_identity)
+    LOOP
+        IF seq.is_identity THEN
+            -- Identity sequences can only be altered through their owning column
+            EXECUTE format('ALTER TABLE %I.%I ALTER COLUMN %I SET INCREMENT BY %s',
+                           seq.schema_name, seq.table_name, seq.id_column, seq.increment);
+        ELSE
+            EXECUTE format('ALTER SEQUENCE %I.%I INCREMENT BY %s',
+                           seq.schema_name, seq.sequence_name, seq.increment);
+        END IF;
+
+        -- Make sure the next block starts above every existing id
+        EXECUTE format('SELECT setval(%L, GREATEST((SELECT COALESCE(MAX(%I), 0) FROM %I.%I), '
+                           || '(SELECT last_value FROM %I.%I)))',
+                       seq.schema_name || '.' || seq.sequence_name,
+                       seq.id_column, seq.schema_name, seq.table_name,
+                       seq.schema_name, seq.sequence_name);
+
+        RAISE NOTICE 'Sequence %.% now increments by %', seq.schema_name, seq.sequence_name, seq.increment;
+    END LOOP;
+
+    RAISE NOTICE 'V8 migration completed successfully!';
+END $$;
@@ -0,0 +1,27 @@
+-- V9__Index_activity_logs_task_history.sql
+-- Task updates now write field-level change rows into audit.activity_logs with task_id and
+-- entity_id populated. This index serves ActivityLogRepository.findByTaskId() and per-task
+-- history views (newest first) without scanning the whole audit table.
+
+DO $$
+BEGIN
+    RAISE NOTICE 'Starting V9 migration: task history index on audit.activity_logs';
+
+    IF NOT EXISTS (
+        SELECT 1 FROM information_schema.tables
+        WHERE table_schema = 'audit'
+        AND table_name = 'activity_logs'
+    ) THEN
+        RAISE EXCEPTION 'Table audit.activity_logs does not exist';
+    END IF;
+
+    -- Rows without a task (login, register, ...) are never looked up by task
+    CREATE INDEX IF NOT EXISTS idx_activity_logs_task_created
+    ON audit.activity_logs (task_id, created_at DESC)
+    WHERE task_id IS NOT NULL;
+
+    RAISE NOTICE 'V9 migration completed successfully!';
+END $$;
+
+COMMENT ON INDEX audit.idx_activity_logs_task_created IS
+'Per-task audit history, newest first. Used by ActivityLogRepository.findByTaskId().';
@@ -0,0 +1,58 @@
+package com.omori.taskmanagement.controller.collaboration;
+
+import com.omori.taskmanagement.controller.collaboration.AttachmentController.ByteRange;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class AttachmentControllerTest {
+
+    private static final long SIZE = 1_000;
+
+    private static final ByteRange WHOLE_FILE = new ByteRange(0, SIZE - 1, false);
+
+    @Test
+    void sendsTheWholeFileWithoutRange() {
+        assertEquals(WHOLE_FILE, AttachmentController.byteRange(null, SIZE));
+        assertEquals(WHOLE_FILE, AttachmentController.byteRange("", SIZE));
+        assertEquals(SIZE, WHOLE_FILE.length());
+    }
+
+    @Test
+    void servesASingleRangeAsPartialContent() {
+        ByteRange first = AttachmentController.byteRange("bytes=0-99", SIZE);
+
+        assertEquals(new ByteRange(0, 99, true), first);
+        assertEquals(100, first.length());
+        assertEquals(new ByteRange(500, 999, true), AttachmentController.byteRange("bytes=500-", SIZE));
+        assertEquals(new ByteRange(900, 999, true), AttachmentController.byteRange("bytes=-100", SIZE));
+    }
+
+    @Test
+    void clampsRangesToTheFile() {
+        assertEquals(new ByteRange(990, 999, true), AttachmentController.byteRange("bytes=990-5000", SIZE));
+        assertEquals(new ByteRange(0, 999, true), AttachmentController.byteRange("bytes=-5000", SIZE));
+    }
+
+    @Test
+    void rejectsRangesStartingPastTheEnd() {
+        assertNull(AttachmentController.byteRange("bytes=1000-", SIZE));
+        assertNull(AttachmentController.byteRange("bytes=2000-2100", SIZE));
+    }
+
+    @Test
+    void ignoresMultipleAndMalformedRanges() {
+        assertEquals(WHOLE_FILE, AttachmentController.byteRange("bytes=0-9,20-29", SIZE));
+        assertEquals(WHOLE_FILE, AttachmentController.byteRange("items=0-9", SIZE));
+        assertEquals(WHOLE_FILE, AttachmentController.byteRange("bytes=9-5", SIZE));
+    }
+
+    @Test
+    void sendsEmptyFilesWhole() {
+        ByteRange empty = AttachmentController.byteRange("bytes=0-99", 0);
+
+        assertEquals(new ByteRange(0, -1, false), empty);
+        assertEquals(0, empty.length());
+    }
+}
@@ -0,0 +1,138 @@
+package com.omori.taskmanagement.security.service;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.omori.taskmanagement.security.jwt.JwtProperties;
+import com.omori.taskmanagement.security.jwt.JwtTokenManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TokenRevocationServiceTest {
+
+	private static final Duration TOKEN_LIFETIME = Duration.ofMinutes(60);
+
+	private static final String USERNAME = "alice";
+
+	// Redis strings with TTLs, evaluated against the test clock
+	private final Map<String, String> values = new HashMap<>();
+
+	private final Map<String, Instant> expiries = new HashMap<>();
+
+	private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+	private TokenRevocationService tokenRevocationService;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+
+		final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+		final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(valueOperations.get(anyString())).thenAnswer(invocation -> read(invocation.getArgument(0)));
+		when(valueOperations.increment(anyString())).thenAnswer(invocation -> {
+			final String key = invocation.getArgument(0);
+			final String current = read(key);
+			final long next = (current == null ? 0 : Long.parseLong(current)) + 1;
+			values.put(key, Long.toString(next));
+			return next;
+		});
+		when(valueOperations.getAndExpire(anyString(), any(Duration.class))).thenAnswer(invocation -> {
+			final String key = invocation.getArgument(0);
+			final String current = read(key);
+			if (current != null) {
+				expiries.put(key, now.plus(invocation.<Duration>getArgument(1)));
+			}
+			return current;
+		});
+		when(redisTemplate.expire(anyString(), any(Duration.class))).thenAnswer(invocation -> {
+			final String key = invocation.getArgument(0);
+			if (read(key) == null) {
+				return false;
+			}
+			expiries.put(key, now.plus(invocation.<Duration>getArgument(1)));
+			return true;
+		});
+
+		final JwtProperties jwtProperties = new JwtProperties();
+		jwtProperties.setExpirationMinute(TOKEN_LIFETIME.toMinutes());
+		tokenRevocationService = new TokenRevocationService(redisTemplate, mock(RedisMessageListenerContainer.class),
+				jwtProperties, mock(ApplicationEventPublisher.class));
+		tokenRevocationService.subscribe();
+	}
+
+	@Test
+	void logoutEverywhereRevokesEarlierTokensOnly() {
+
+		final DecodedJWT before = issueToken();
+		tokenRevocationService.revokeAllSessions(USERNAME);
+		final DecodedJWT after = issueToken();
+
+		assertTrue(tokenRevocationService.isRevoked(before));
+		assertFalse(tokenRevocationService.isRevoked(after));
+	}
+
+	@Test
+	void logoutEverywhereStillWorksAfterThePreviousOneWouldHaveExpired() {
+
+		tokenRevocationService.revokeAllSessions(USERNAME);
+		now = now.plus(TOKEN_LIFETIME).minusSeconds(60);
+		final DecodedJWT lateToken = issueToken();
+
+		// Past the TTL the first revocation set; the late token is still valid
+		now = now.plusSeconds(120);
+		assertFalse(tokenRevocationService.isRevoked(lateToken));
+
+		tokenRevocationService.revokeAllSessions(USERNAME);
+		assertTrue(tokenRevocationService.isRevoked(lateToken));
+	}
+
+	@Test
+	void generationExpiresOnceNoTokenCanCarryIt() {
+
+		tokenRevocationService.revokeAllSessions(USERNAME);
+		now = now.plus(TOKEN_LIFETIME).plusSeconds(1);
+		final DecodedJWT token = issueToken();
+
+		assertEquals(0, token.getClaim(JwtTokenManager.GENERATION_CLAIM).asLong());
+		tokenRevocationService.revokeAllSessions(USERNAME);
+		assertTrue(tokenRevocationService.isRevoked(token));
+	}
+
+	private DecodedJWT issueToken() {
+
+		final long generation = tokenRevocationService.currentGeneration(USERNAME);
+		return JWT.decode(JWT.create()
+				.withSubject(USERNAME)
+				.withClaim(JwtTokenManager.GENERATION_CLAIM, generation)
+				.sign(Algorithm.HMAC256("test-secret")));
+	}
+
+	private String read(String key) {
+
+		final Instant expiry = expiries.get(key);
+		if (expiry != null && !now.isBefore(expiry)) {
+			values.remove(key);
+			expiries.remove(key);
+		}
+		return values.get(key);
+	}
+}
@@ -0,0 +1,53 @@
+package com.omori.taskmanagement.service.collaboration;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MentionParserTest {
+
+    @Test
+    void findsDistinctMentionsInOrder() {
+        Set<String> usernames = MentionParser.usernames("@bob can you check with @alice? cc @bob");
+
+        assertEquals(List.of("bob", "alice"), List.copyOf(usernames));
+    }
+
+    @Test
+    void ignoresEmailAddressesAndDoubledAt() {
+        assertTrue(MentionParser.usernames("send it to bob@example.com").isEmpty());
+        assertTrue(MentionParser.usernames("@@alice").isEmpty());
+    }
+
+    @Test
+    void dropsSentencePunctuationButKeepsInnerDots() {
+        Set<String> usernames = MentionParser.usernames("Thanks @alice. Also @j.doe- and @team_lead");
+
+        assertEquals(List.of("alice", "j.doe", "team_lead"), List.copyOf(usernames));
+    }
+
+    @Test
+    void truncatesLongUsernames() {
+        String username = "a".repeat(60);
+
+        assertEquals(Set.of("a".repeat(50)), MentionParser.usernames("@" + username));
+    }
+
+    @Test
+    void keepsAtMostMaxMentions() {
+        String content = IntStream.range(0, MentionParser.MAX_MENTIONS + 5)
+                .mapToObj(i -> "@user" + i)
+                .collect(Collectors.joining(" "));
+
+        List<String> usernames = List.copyOf(MentionParser.usernames(content));
+
+        assertEquals(MentionParser.MAX_MENTIONS, usernames.size());
+        assertEquals("user0", usernames.get(0));
+    }
+}
@@ -0,0 +1,71 @@
+package com.omori.taskmanagement.service.reminder;
+
+import com.omori.taskmanagement.model.notification.Reminder.RepeatInterval;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ReminderRecurrenceTest {
+
+    private static final LocalDateTime MONDAY_NINE = LocalDateTime.of(2024, 1, 1, 9, 0);
+
+    @Test
+    void doesNotRepeatWithoutInterval() {
+        assertNull(ReminderRecurrence.nextOccurrence(MONDAY_NINE, RepeatInterval.NONE, MONDAY_NINE));
+        assertNull(ReminderRecurrence.nextOccurrence(MONDAY_NINE, null, MONDAY_NINE));
+    }
+
+    @Test
+    void nextOccurrenceIsStrictlyAfterNow() {
+        assertEquals(LocalDateTime.of(2024, 1, 2, 9, 0),
+                ReminderRecurrence.nextOccurrence(MONDAY_NINE, RepeatInterval.DAILY, MONDAY_NINE));
+        assertEquals(LocalDateTime.of(2024, 1, 15, 9, 0),
+                ReminderRecurrence.nextOccurrence(MONDAY_NINE, RepeatInterval.WEEKLY,
+                        LocalDateTime.of(2024, 1, 8, 9, 0)));
+    }
+
+    @Test
+    void skipsOccurrencesMissedWhileDown() {
+        assertEquals(LocalDateTime.of(2024, 1, 11, 9, 0),
+                ReminderRecurrence.nextOccurrence(MONDAY_NINE, RepeatInterval.DAILY,
+                        LocalDateTime.of(2024, 1, 10, 12, 0)));
+        assertEquals(LocalDateTime.of(2024, 2, 5, 9, 0),
+                ReminderRecurrence.nextOccurrence(MONDAY_NINE, RepeatInterval.WEEKLY,
+                        LocalDateTime.of(2024, 1, 31, 0, 0)));
+    }
+
+    @Test
+    void monthlyKeepsTheDayOfMonthAfterShortMonths() {
+        // Delivered on time each month, always counted from the anchor as the scheduler does
+        LocalDateTime anchor = LocalDateTime.of(2024, 1, 31, 9, 0);
+        List<LocalDateTime> occurrences = new ArrayList<>();
+        LocalDateTime delivered = anchor;
+        for (int i = 0; i < 4; i++) {
+            delivered = ReminderRecurrence.nextOccurrence(anchor, RepeatInterval.MONTHLY, delivered);
+            occurrences.add(delivered);
+        }
+
+        assertEquals(List.of(
+                LocalDateTime.of(2024, 2, 29, 9, 0),
+                LocalDateTime.of(2024, 3, 31, 9, 0),
+                LocalDateTime.of(2024, 4, 30, 9, 0),
+                LocalDateTime.of(2024, 5, 31, 9, 0)), occurrences);
+    }
+
+    @Test
+    void yearlyFromLeapDayFallsOnTheLastDayOfFebruary() {
+        LocalDateTime leapDay = LocalDateTime.of(2024, 2, 29, 9, 0);
+
+        assertEquals(LocalDateTime.of(2025, 2, 28, 9, 0),
+                ReminderRecurrence.nextOccurrence(leapDay, RepeatInterval.YEARLY,
+                        LocalDateTime.of(2024, 3, 1, 0, 0)));
+        assertEquals(LocalDateTime.of(2028, 2, 29, 9, 0),
+                ReminderRecurrence.nextOccurrence(leapDay, RepeatInterval.YEARLY,
+                        LocalDateTime.of(2027, 6, 1, 0, 0)));
+    }
+}
@@ -0,0 +1,41 @@
+package com.omori.taskmanagement.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BloomFilterTest {
+
+    private static final int INSERTIONS = 10_000;
+
+    @Test
+    void neverMissesAnAddedValue() {
+        BloomFilter filter = new BloomFilter(INSERTIONS, 0.01);
+        IntStream.range(0, INSERTIONS).forEach(i -> filter.put("token-" + i));
+
+        IntStream.range(0, INSERTIONS)
+                .forEach(i -> assertTrue(filter.mightContain("token-" + i), "missed token-" + i));
+    }
+
+    @Test
+    void emptyFilterContainsNothing() {
+        BloomFilter filter = new BloomFilter(INSERTIONS, 0.01);
+
+        assertFalse(filter.mightContain("token-0"));
+    }
+
+    @Test
+    void falsePositiveRateStaysNearTheTarget() {
+        BloomFilter filter = new BloomFilter(INSERTIONS, 0.01);
+        IntStream.range(0, INSERTIONS).forEach(i -> filter.put("token-" + i));
+
+        long falsePositives = IntStream.range(0, INSERTIONS)
+                .filter(i -> filter.mightContain("other-" + i))
+                .count();
+
+        assertTrue(falsePositives < INSERTIONS * 0.02, falsePositives + " false positives");
+    }
+}
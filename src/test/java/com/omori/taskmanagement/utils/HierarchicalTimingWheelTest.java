@@ -0,0 +1,89 @@
+package com.omori.taskmanagement.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HierarchicalTimingWheelTest {
+
+    @Test
+    void rejectsInvalidGeometry() {
+        assertThrows(IllegalArgumentException.class, () -> new HierarchicalTimingWheel<String>(0, 8, 0));
+        assertThrows(IllegalArgumentException.class, () -> new HierarchicalTimingWheel<String>(10, 1, 0));
+    }
+
+    @Test
+    void refusesDeadlinesAlreadyReached() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 8, 1_000);
+
+        assertFalse(wheel.add("past", 990));
+        assertFalse(wheel.add("now", 1_000));
+        assertTrue(wheel.add("next tick", 1_001));
+        assertEquals(1, wheel.size());
+    }
+
+    @Test
+    void firesOnTheTickAfterTheDeadlineNeverBefore() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 8, 0);
+        List<String> expired = new ArrayList<>();
+        wheel.add("a", 25);
+
+        wheel.advanceTo(29, expired::add);
+        assertTrue(expired.isEmpty());
+
+        wheel.advanceTo(30, expired::add);
+        assertEquals(List.of("a"), expired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void expiresInDeadlineOrder() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 8, 0);
+        List<String> expired = new ArrayList<>();
+        wheel.add("c", 50);
+        wheel.add("a", 10);
+        wheel.add("b", 30);
+
+        wheel.advanceTo(100, expired::add);
+
+        assertEquals(List.of("a", "b", "c"), expired);
+    }
+
+    @Test
+    void cascadesTimersBeyondTheFirstWheel() {
+        // Spans 80 ms per level 0 rotation, 640 ms per level 1, 5120 ms per level 2
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(10, 8, 0);
+        long[] deadlines = {75, 81, 639, 1_000, 5_121, 50_000};
+        for (long deadline : deadlines) {
+            wheel.add(deadline, deadline);
+        }
+
+        for (long deadline : deadlines) {
+            long fireAt = (deadline + 9) / 10 * 10;
+            List<Long> expired = new ArrayList<>();
+            wheel.advanceTo(fireAt - 1, expired::add);
+            assertTrue(expired.isEmpty(), "fired before " + deadline);
+
+            wheel.advanceTo(fireAt, expired::add);
+            assertEquals(List.of(deadline), expired);
+        }
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void alignsAnUnalignedStartToTheTick() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 8, 1_005);
+        List<String> expired = new ArrayList<>();
+        wheel.add("a", 1_009);
+
+        wheel.advanceTo(1_010, expired::add);
+
+        assertEquals(List.of("a"), expired);
+    }
+}
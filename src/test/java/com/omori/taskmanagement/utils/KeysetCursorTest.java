@@ -0,0 +1,57 @@
+package com.omori.taskmanagement.utils;
+
+import com.omori.taskmanagement.exceptions.InvalidCursorException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class KeysetCursorTest {
+
+    @Test
+    void decodesWhatItEncodes() {
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2024, 3, 15, 10, 30, 12, 345_000_000), 42L);
+
+        assertEquals(cursor, KeysetCursor.decode(cursor.encode(), false));
+    }
+
+    @Test
+    void encodesUrlSafeWithoutPadding() {
+        String encoded = new KeysetCursor(LocalDateTime.of(2024, 1, 1, 0, 0), 7L).encode();
+
+        assertFalse(encoded.contains("="));
+        assertFalse(encoded.contains("+"));
+        assertFalse(encoded.contains("/"));
+    }
+
+    @Test
+    void missingCursorStartsBeforeEveryRowInPageOrder() {
+        LocalDateTime now = LocalDateTime.now();
+
+        KeysetCursor newestFirst = KeysetCursor.decode(null, false);
+        KeysetCursor oldestFirst = KeysetCursor.decode(" ", true);
+
+        assertTrue(newestFirst.createdAt().isAfter(now));
+        assertEquals(Long.MAX_VALUE, newestFirst.id());
+        assertTrue(oldestFirst.createdAt().isBefore(now));
+        assertEquals(0L, oldestFirst.id());
+    }
+
+    @Test
+    void rejectsMalformedCursors() {
+        assertThrows(InvalidCursorException.class, () -> KeysetCursor.decode("not base64!", false));
+        assertThrows(InvalidCursorException.class, () -> KeysetCursor.decode(encodeRaw("no-separator"), false));
+        assertThrows(InvalidCursorException.class, () -> KeysetCursor.decode(encodeRaw("yesterday|1"), false));
+        assertThrows(InvalidCursorException.class, () -> KeysetCursor.decode(encodeRaw("2024-01-01T00:00|abc"), false));
+    }
+
+    private static String encodeRaw(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,64 @@
+package com.omori.taskmanagement.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class QueryStatsTest {
+
+    @Test
+    void shapeReplacesLiterals() {
+        assertEquals("select * from tasks where title = ? and priority > ?",
+                QueryStats.shapeOf("select * from tasks where title = 'it''s done' and priority > 2.5"));
+    }
+
+    @Test
+    void shapeCollapsesInListsOfAnyLength() {
+        String shape = "select * from subtasks where task_id in (?...)";
+
+        assertEquals(shape, QueryStats.shapeOf("select * from subtasks where task_id in (?, ?)"));
+        assertEquals(shape, QueryStats.shapeOf("select * from subtasks where task_id in ( ?,?,? )"));
+        assertEquals(shape, QueryStats.shapeOf("select * from subtasks where task_id in (1, 2, 3, 4)"));
+        assertEquals("select * from subtasks where task_id in (?)",
+                QueryStats.shapeOf("select * from subtasks where task_id in (?)"));
+    }
+
+    @Test
+    void shapeKeepsIdentifiersAndNormalisesWhitespace() {
+        assertEquals("select t1.task_id from tasks t1 where t1.workspace_id = ?",
+                QueryStats.shapeOf("select t1.task_id\n  from tasks t1\twhere t1.workspace_id = ?  "));
+    }
+
+    @Test
+    void groupsRepeatedStatementsByShape() {
+        QueryStats stats = new QueryStats();
+        for (int id = 1; id <= 3; id++) {
+            stats.record("select * from users where user_id = " + id, 1_000);
+        }
+        stats.record("select * from tasks where task_id = ?", 1_000);
+
+        assertEquals(4, stats.getStatementCount());
+        assertEquals(4_000, stats.getTotalNanos());
+        assertEquals(3, stats.maxRepeat());
+        assertEquals(Map.of("select * from users where user_id = ?", 3L), stats.repeatedShapes(2));
+    }
+
+    @Test
+    void attributesStatementsToTheInnermostRepository() {
+        QueryStats stats = new QueryStats();
+        String outer = QueryStats.enterRepository("TaskRepository.findById");
+        String inner = QueryStats.enterRepository("SubtaskRepository.findByTaskId");
+        stats.record(null, 0);
+        QueryStats.exitRepository(inner);
+        stats.record(null, 0);
+        QueryStats.exitRepository(outer);
+        stats.record(null, 0);
+
+        assertEquals(Map.of(
+                "TaskRepository.findById", 1L,
+                "SubtaskRepository.findByTaskId", 1L,
+                QueryStats.UNATTRIBUTED, 1L), stats.byRepositoryMethod());
+    }
+}
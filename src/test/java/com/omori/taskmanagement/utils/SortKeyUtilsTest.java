@@ -0,0 +1,70 @@
+package com.omori.taskmanagement.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class SortKeyUtilsTest {
+
+    @Test
+    void betweenReturnsTheMidpoint() {
+        assertEquals(1536, SortKeyUtils.between(1024, 2048));
+        assertEquals(511, SortKeyUtils.between(null, 1024));
+        assertEquals(0, SortKeyUtils.between(null, 1));
+    }
+
+    @Test
+    void betweenSignalsAnExhaustedGap() {
+        assertNull(SortKeyUtils.between(5, 6));
+        assertNull(SortKeyUtils.between(null, 0));
+    }
+
+    @Test
+    void spacedKeysAreOneGapApart() {
+        assertEquals(List.of(1024, 2048, 3072), SortKeyUtils.spaced(3));
+    }
+
+    @Test
+    void reorderKeepsKeysAlreadyInOrder() {
+        assertArrayEquals(new Integer[3],
+                SortKeyUtils.planReorder(List.of(1024, 2048, 3072), n -> fail("nothing to append")));
+    }
+
+    @Test
+    void reorderMovesOnlyTheDisplacedSibling() {
+        // Last sibling moved to the front
+        assertArrayEquals(new Integer[]{511, null, null},
+                SortKeyUtils.planReorder(List.of(3072, 1024, 2048), n -> fail("nothing to append")));
+        // First sibling moved to the end takes a fresh key from the parent's counter
+        assertArrayEquals(new Integer[]{null, null, 4096},
+                SortKeyUtils.planReorder(List.of(2048, 3072, 1024), n -> List.of(4096)));
+    }
+
+    @Test
+    void reorderedKeysAreStrictlyIncreasing() {
+        List<Integer> keys = List.of(5120, 1024, 4096, 2048, 3072, 6144);
+        Integer[] planned = SortKeyUtils.planReorder(keys,
+                n -> IntStream.rangeClosed(1, n).mapToObj(i -> 6144 + i * SortKeyUtils.GAP).toList());
+
+        int[] result = IntStream.range(0, keys.size())
+                .map(i -> planned[i] != null ? planned[i] : keys.get(i))
+                .toArray();
+        int[] sorted = result.clone();
+        Arrays.sort(sorted);
+        assertArrayEquals(sorted, result);
+        assertEquals(keys.size(), Arrays.stream(result).distinct().count());
+    }
+
+    @Test
+    void reorderAsksForRebalanceWhenTheGapIsTooSmall() {
+        assertNull(SortKeyUtils.planReorder(List.of(1, 0), n -> fail("nothing to append")));
+        assertNull(SortKeyUtils.planReorder(Arrays.asList(1024, null), n -> fail("nothing to append")));
+    }
+}